@@ -0,0 +1,73 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * The measured cost of evaluating each {@link AnalysisRule}. Budgeted analysis evaluates the cheapest rules of each
+ * severity first when given the costs, and adds the cost of the rules it evaluates (see
+ * {@link JvmOptions#doAnalysis(long, TimeUnit, AnalysisCost)}).
+ * </p>
+ *
+ * <p>
+ * Reuse one instance across analyses to learn the costs. Not thread safe, so keep one instance per thread.
+ * </p>
+ *
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ */
+public final class AnalysisCost {
+
+    /**
+     * The total time of the measured evaluations in nanoseconds, by rule ordinal.
+     */
+    private final long[] nanos = new long[AnalysisRule.values().length];
+
+    /**
+     * The number of measured evaluations, by rule ordinal.
+     */
+    private final long[] samples = new long[AnalysisRule.values().length];
+
+    /**
+     * @param rule
+     *            A rule evaluated.
+     * @param ruleNanos
+     *            The time the evaluation took in nanoseconds.
+     */
+    void add(AnalysisRule rule, long ruleNanos) {
+        nanos[rule.ordinal()] += ruleNanos;
+        samples[rule.ordinal()]++;
+    }
+
+    /**
+     * @param rule
+     *            A rule.
+     * @return The average time of the measured evaluations of the rule in nanoseconds, or 0 if none.
+     */
+    public long getCost(AnalysisRule rule) {
+        long ruleSamples = samples[rule.ordinal()];
+        return ruleSamples == 0 ? 0 : nanos[rule.ordinal()] / ruleSamples;
+    }
+
+    /**
+     * @param rule
+     *            A rule.
+     * @return The number of measured evaluations of the rule.
+     */
+    public long getSamples(AnalysisRule rule) {
+        return samples[rule.ordinal()];
+    }
+}
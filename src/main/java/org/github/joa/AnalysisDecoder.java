@@ -0,0 +1,371 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.github.joa.util.Analysis;
+import org.github.joa.util.AnalysisParameterType;
+import org.github.joa.util.AnalysisSet;
+import org.github.joa.util.AnalysisTemplate;
+import org.github.joa.util.Constants;
+
+/**
+ * <p>
+ * Decoder of the binary analysis records written by {@link AnalysisEncoder}. A decoder is reused for many records and
+ * is not thread safe. Decoding a record allocates nothing: membership, counts, and size arguments are read directly
+ * from the record, so aggregations can run over the binary form without rendering. For example, counting each
+ * <code>Analysis</code> over concatenated records:
+ * </p>
+ * 
+ * <pre>
+ * AnalysisDecoder decoder = new AnalysisDecoder();
+ * int[] counts = new int[Analysis.values().length];
+ * for (int offset = 0; offset &lt; records.length;) {
+ *     offset += decoder.decode(records, offset);
+ *     for (int ordinal = decoder.nextOrdinal(0); ordinal &gt;= 0; ordinal = decoder.nextOrdinal(ordinal + 1)) {
+ *         counts[ordinal]++;
+ *     }
+ * }
+ * </pre>
+ * 
+ * <p>
+ * The text is rendered on demand through the <code>Analysis</code> templates, so it reflects the current property file
+ * wording.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ */
+public class AnalysisDecoder {
+
+    /**
+     * A bit per <code>Analysis</code> ordinal.
+     */
+    private final long[] bitmap = new long[(AnalysisEncoder.ANALYSIS.length + 63) / 64];
+
+    /**
+     * The record.
+     */
+    private byte[] data;
+
+    /**
+     * The offset in {@link #data} of the end of the record.
+     */
+    private int end;
+
+    /**
+     * The offset in {@link #data} of the template arguments of each <code>Analysis</code> with placeholders, by
+     * ordinal.
+     */
+    private final int[] parameterOffsets = new int[AnalysisEncoder.ANALYSIS.length];
+
+    /**
+     * The read position in {@link #data}.
+     */
+    private int position;
+
+    /**
+     * Append the <code>Analysis</code> display literal.
+     * 
+     * @param out
+     *            The output the literal is appended to.
+     * @param item
+     *            The <code>Analysis</code>.
+     * @return The output, unchanged if the <code>Analysis</code> is not in the record.
+     */
+    public StringBuilder appendAnalysisLiteral(StringBuilder out, Analysis item) {
+        if (!contains(item)) {
+            return out;
+        }
+        if (item.getTemplate().isLiteral()) {
+            return out.append(item.getValue());
+        }
+        return item.getTemplate().render(out, getArguments(item));
+    }
+
+    /**
+     * @param item
+     *            The <code>Analysis</code>.
+     * @return true if the <code>Analysis</code> is in the record, false otherwise.
+     */
+    public boolean contains(Analysis item) {
+        return (bitmap[item.ordinal() >>> 6] & (1L << item.ordinal())) != 0;
+    }
+
+    /**
+     * Decode a record.
+     * 
+     * @param data
+     *            The record.
+     * @return The length of the record.
+     */
+    public int decode(byte[] data) {
+        return decode(data, 0);
+    }
+
+    /**
+     * Decode a record. The record is read in place, so must not change while it is in use.
+     * 
+     * @param data
+     *            The records.
+     * @param offset
+     *            The offset of the record in the data.
+     * @return The length of the record.
+     * @throws IllegalArgumentException
+     *             If the record is not valid, or was encoded with a different format version or catalog.
+     */
+    public int decode(byte[] data, int offset) {
+        this.data = data;
+        this.end = data.length;
+        position = offset;
+        int version = readByte();
+        if (version != AnalysisEncoder.VERSION) {
+            throw new IllegalArgumentException("Unsupported format version: " + version);
+        }
+        long catalogId = readVarint();
+        if (catalogId != (AnalysisEncoder.CATALOG_ID & 0xffffffffL)) {
+            throw new IllegalArgumentException("Unexpected catalog id: " + Long.toHexString(catalogId));
+        }
+        long bitmapBytes = readVarint();
+        if (bitmapBytes > bitmap.length * 8L) {
+            throw new IllegalArgumentException("Unexpected bitmap length: " + bitmapBytes);
+        }
+        Arrays.fill(bitmap, 0);
+        for (int i = 0; i < bitmapBytes; i++) {
+            bitmap[i >>> 3] |= (long) readByte() << ((i & 7) * 8);
+        }
+        int ordinals = AnalysisEncoder.ANALYSIS.length;
+        if (ordinals % 64 != 0 && bitmap[bitmap.length - 1] >>> (ordinals % 64) != 0) {
+            throw new IllegalArgumentException("Unexpected Analysis ordinal.");
+        }
+        for (int ordinal = nextOrdinal(0); ordinal >= 0; ordinal = nextOrdinal(ordinal + 1)) {
+            AnalysisTemplate template = AnalysisEncoder.ANALYSIS[ordinal].getTemplate();
+            if (!template.isLiteral()) {
+                parameterOffsets[ordinal] = position;
+                for (int i = 0; i < template.getParameterCount(); i++) {
+                    skip(template.getParameterType(i));
+                }
+            }
+        }
+        end = position;
+        return end - offset;
+    }
+
+    /**
+     * @return The <code>Analysis</code> as a <code>List</code> of String arrays with 2 elements, the first the key, the
+     *         second the display literal (see {@link JvmOptions#getAnalysis()}), in ordinal order.
+     */
+    public List<String[]> getAnalysis() {
+        List<String[]> a = new ArrayList<String[]>();
+        StringBuilder literal = new StringBuilder();
+        for (int ordinal = nextOrdinal(0); ordinal >= 0; ordinal = nextOrdinal(ordinal + 1)) {
+            Analysis item = AnalysisEncoder.ANALYSIS[ordinal];
+            literal.setLength(0);
+            a.add(new String[] { item.getKey(), appendAnalysisLiteral(literal, item).toString() });
+        }
+        return a;
+    }
+
+    /**
+     * @param item
+     *            The <code>Analysis</code>.
+     * @return The <code>Analysis</code> display literal, or null if it is not in the record.
+     */
+    public String getAnalysisLiteral(Analysis item) {
+        return contains(item) ? appendAnalysisLiteral(new StringBuilder(), item).toString() : null;
+    }
+
+    /**
+     * @return The <code>Analysis</code> in the record, in ordinal order.
+     */
+    public AnalysisSet getAnalysisSet() {
+        AnalysisSet analysis = new AnalysisSet();
+        for (int ordinal = nextOrdinal(0); ordinal >= 0; ordinal = nextOrdinal(ordinal + 1)) {
+            analysis.add(AnalysisEncoder.ANALYSIS[ordinal]);
+        }
+        return analysis;
+    }
+
+    /**
+     * @param item
+     *            An <code>Analysis</code> with placeholders in the record.
+     * @return The template arguments, by placeholder index (see
+     *         {@link AnalysisTemplate#render(StringBuilder, Object...)}).
+     */
+    public Object[] getArguments(Analysis item) {
+        AnalysisTemplate template = item.getTemplate();
+        if (!contains(item) || template.isLiteral()) {
+            throw new IllegalArgumentException("No arguments for " + item.name() + ".");
+        }
+        Object[] args = new Object[template.getParameterCount()];
+        position = parameterOffsets[item.ordinal()];
+        for (int i = 0; i < args.length; i++) {
+            AnalysisParameterType type = template.getParameterType(i);
+            if (type == AnalysisParameterType.LIST) {
+                int count = (int) readVarint();
+                List<String> elements = new ArrayList<String>(count);
+                for (int j = 0; j < count; j++) {
+                    elements.add(readText());
+                }
+                args[i] = elements;
+            } else if (type == AnalysisParameterType.SIZE) {
+                long bytes = readSize();
+                args[i] = bytes == Constants.UNKNOWN ? null : Long.valueOf(bytes);
+            } else if (type == AnalysisParameterType.TEXT) {
+                args[i] = readText();
+            }
+        }
+        return args;
+    }
+
+    /**
+     * @param item
+     *            An <code>Analysis</code> in the record.
+     * @param index
+     *            The index of a {@link AnalysisParameterType#SIZE} argument.
+     * @return The bytes, or {@link Constants#UNKNOWN} if unlimited.
+     */
+    public long getSize(Analysis item, int index) {
+        AnalysisTemplate template = item.getTemplate();
+        if (!contains(item) || template.isLiteral() || index >= template.getParameterCount()
+                || template.getParameterType(index) != AnalysisParameterType.SIZE) {
+            throw new IllegalArgumentException("No size argument " + index + " for " + item.name() + ".");
+        }
+        position = parameterOffsets[item.ordinal()];
+        for (int i = 0; i < index; i++) {
+            skip(template.getParameterType(i));
+        }
+        return readSize();
+    }
+
+    /**
+     * @param fromOrdinal
+     *            The ordinal to start from (inclusive).
+     * @return The ordinal of the next <code>Analysis</code> in the record, or -1 if none.
+     */
+    public int nextOrdinal(int fromOrdinal) {
+        int word = fromOrdinal >>> 6;
+        if (word >= bitmap.length) {
+            return -1;
+        }
+        long bits = bitmap[word] & (-1L << fromOrdinal);
+        while (bits == 0) {
+            if (++word == bitmap.length) {
+                return -1;
+            }
+            bits = bitmap[word];
+        }
+        return word * 64 + Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * @return The next byte.
+     */
+    private int readByte() {
+        if (position >= end) {
+            throw new IllegalArgumentException("Record truncated.");
+        }
+        return data[position++] & 0xff;
+    }
+
+    /**
+     * @return The next size argument, or {@link Constants#UNKNOWN} if unlimited.
+     */
+    private long readSize() {
+        long value = readVarint();
+        if (value == 0) {
+            return Constants.UNKNOWN;
+        }
+        value--;
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * @return The next text argument, or null.
+     */
+    private String readText() {
+        long length = readVarint() - 1;
+        if (length < 0) {
+            return null;
+        }
+        if (length > end - position) {
+            throw new IllegalArgumentException("Record truncated.");
+        }
+        String text = new String(data, position, (int) length, StandardCharsets.UTF_8);
+        position += length;
+        return text;
+    }
+
+    /**
+     * @return The next unsigned number.
+     */
+    private long readVarint() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint too long.");
+    }
+
+    /**
+     * @return The number of <code>Analysis</code> in the record.
+     */
+    public int size() {
+        int size = 0;
+        for (long word : bitmap) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    /**
+     * Skip the next argument.
+     * 
+     * @param type
+     *            The argument type.
+     */
+    private void skip(final AnalysisParameterType type) {
+        if (type == AnalysisParameterType.LIST) {
+            long count = readVarint();
+            for (long i = 0; i < count; i++) {
+                skipText();
+            }
+        } else if (type == AnalysisParameterType.SIZE) {
+            readVarint();
+        } else if (type == AnalysisParameterType.TEXT) {
+            skipText();
+        }
+    }
+
+    /**
+     * Skip the next text argument.
+     */
+    private void skipText() {
+        long length = readVarint() - 1;
+        if (length > end - position) {
+            throw new IllegalArgumentException("Record truncated.");
+        }
+        if (length > 0) {
+            position += length;
+        }
+    }
+}
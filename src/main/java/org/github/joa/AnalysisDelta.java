@@ -0,0 +1,102 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.github.joa.util.Analysis;
+import org.github.joa.util.AnalysisSet;
+
+/**
+ * <p>
+ * The difference between the analysis of JVM options and a variant (see {@link JvmOptionsOverlay}).
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ */
+public class AnalysisDelta {
+
+    /**
+     * The <code>Analysis</code> reported for the variant and not the JVM options.
+     */
+    private final List<Analysis> added;
+
+    /**
+     * The <code>Analysis</code> reported for the JVM options and not the variant.
+     */
+    private final List<Analysis> removed;
+
+    /**
+     * The number of rules evaluated to analyze the variant.
+     */
+    private final int rulesEvaluated;
+
+    /**
+     * @param base
+     *            The analysis of the JVM options.
+     * @param variant
+     *            The analysis of the variant.
+     * @param rulesEvaluated
+     *            The number of rules evaluated to analyze the variant.
+     */
+    AnalysisDelta(AnalysisSet base, AnalysisSet variant, int rulesEvaluated) {
+        List<Analysis> variantOnly = new ArrayList<Analysis>();
+        for (Analysis analysis : variant) {
+            if (!base.contains(analysis)) {
+                variantOnly.add(analysis);
+            }
+        }
+        List<Analysis> baseOnly = new ArrayList<Analysis>();
+        for (Analysis analysis : base) {
+            if (!variant.contains(analysis)) {
+                baseOnly.add(analysis);
+            }
+        }
+        this.added = Collections.unmodifiableList(variantOnly);
+        this.removed = Collections.unmodifiableList(baseOnly);
+        this.rulesEvaluated = rulesEvaluated;
+    }
+
+    /**
+     * @return The <code>Analysis</code> reported for the variant and not the JVM options, in the order reported.
+     */
+    public List<Analysis> getAdded() {
+        return added;
+    }
+
+    /**
+     * @return The <code>Analysis</code> reported for the JVM options and not the variant, in the order reported.
+     */
+    public List<Analysis> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * @return The number of rules evaluated to analyze the variant. Rules not affected by the changes are not
+     *         evaluated.
+     */
+    public int getRulesEvaluated() {
+        return rulesEvaluated;
+    }
+
+    /**
+     * @return True if the variant reports the same <code>Analysis</code> as the JVM options, false otherwise.
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty();
+    }
+}
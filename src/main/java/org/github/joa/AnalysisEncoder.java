@@ -0,0 +1,233 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.github.joa.util.Analysis;
+import org.github.joa.util.AnalysisParameterType;
+import org.github.joa.util.AnalysisSet;
+import org.github.joa.util.AnalysisTemplate;
+
+/**
+ * <p>
+ * Encoder of {@link JvmOptions} analysis into a compact binary form that can be stored instead of the rendered text and
+ * rendered later through the <code>Analysis</code> templates (see {@link AnalysisDecoder}). A record is:
+ * </p>
+ * 
+ * <ol>
+ * <li>The format version (1 byte).</li>
+ * <li>The catalog id (varint), a hash of the <code>Analysis</code> keys, in ordinal order, and their template
+ * parameter types. Records can only be decoded with the same catalog, as the ordinals and parameters differ between
+ * catalogs.</li>
+ * <li>The number of bitmap bytes (varint), followed by the bitmap bytes (a bit per <code>Analysis</code> ordinal, least
+ * significant bit first), without trailing zero bytes.</li>
+ * <li>The template arguments of each <code>Analysis</code> with placeholders, in ordinal order (see
+ * {@link AnalysisParameterType}):
+ * <ul>
+ * <li>{@link AnalysisParameterType#TEXT}: 0 if null, otherwise the UTF-8 length + 1 (varint), followed by the UTF-8
+ * bytes.</li>
+ * <li>{@link AnalysisParameterType#LIST}: The number of elements (varint), followed by each element as text.</li>
+ * <li>{@link AnalysisParameterType#SIZE}: 0 if unlimited, otherwise the zigzag encoded bytes + 1 (varint).</li>
+ * </ul>
+ * </li>
+ * </ol>
+ * 
+ * <p>
+ * A varint is an unsigned number in groups of 7 bits, least significant group first, with the high bit set on all but
+ * the last byte. Records are self-delimiting, so can be concatenated. The order the <code>Analysis</code> was found is
+ * not kept. An encoder reuses its buffer and is not thread safe.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ */
+public class AnalysisEncoder {
+
+    /**
+     * All <code>Analysis</code>, by ordinal.
+     */
+    static final Analysis[] ANALYSIS = Analysis.values();
+
+    /**
+     * The catalog id.
+     */
+    static final int CATALOG_ID = catalogId();
+
+    /**
+     * The format version.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * The record being encoded.
+     */
+    private byte[] buffer = new byte[256];
+
+    /**
+     * The length of the record being encoded.
+     */
+    private int length;
+
+    /**
+     * @return A hash of the <code>Analysis</code> keys, in ordinal order, and their template parameter types.
+     */
+    private static int catalogId() {
+        int id = 1;
+        for (Analysis analysis : ANALYSIS) {
+            id = 31 * id + analysis.getKey().hashCode();
+            AnalysisTemplate template = analysis.getTemplate();
+            for (int i = 0; i < template.getParameterCount(); i++) {
+                AnalysisParameterType type = template.getParameterType(i);
+                id = 31 * id + (type == null ? 0 : type.ordinal() + 1);
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Encode the analysis of the JVM options.
+     * 
+     * @param jvmOptions
+     *            The JVM options.
+     * @return The record.
+     */
+    public byte[] encode(JvmOptions jvmOptions) {
+        encodeRecord(jvmOptions);
+        return Arrays.copyOf(buffer, length);
+    }
+
+    /**
+     * Encode the analysis of the JVM options into {@link #buffer}.
+     * 
+     * @param jvmOptions
+     *            The JVM options.
+     */
+    private void encodeRecord(final JvmOptions jvmOptions) {
+        length = 0;
+        AnalysisSet analysis = jvmOptions.getReported();
+        long[] bitmap = analysis.toBitmap();
+        int bitmapBytes = bitmap.length * 8;
+        while (bitmapBytes > 0 && (bitmap[(bitmapBytes - 1) >>> 3] >>> (((bitmapBytes - 1) & 7) * 8) & 0xff) == 0) {
+            bitmapBytes--;
+        }
+        writeByte(VERSION);
+        writeVarint(CATALOG_ID & 0xffffffffL);
+        writeVarint(bitmapBytes);
+        for (int i = 0; i < bitmapBytes; i++) {
+            writeByte((int) (bitmap[i >>> 3] >>> ((i & 7) * 8)));
+        }
+        for (int ordinal = 0; ordinal < ANALYSIS.length; ordinal++) {
+            if ((bitmap[ordinal >>> 6] & (1L << ordinal)) == 0 || ANALYSIS[ordinal].getTemplate().isLiteral()) {
+                continue;
+            }
+            AnalysisTemplate template = ANALYSIS[ordinal].getTemplate();
+            Object[] args = jvmOptions.getTemplateArguments(ANALYSIS[ordinal]);
+            for (int i = 0; i < template.getParameterCount(); i++) {
+                AnalysisParameterType type = template.getParameterType(i);
+                if (type == AnalysisParameterType.LIST) {
+                    int count = 0;
+                    Iterator<?> iterator = ((Iterable<?>) args[i]).iterator();
+                    while (iterator.hasNext()) {
+                        iterator.next();
+                        count++;
+                    }
+                    writeVarint(count);
+                    for (Object element : (Iterable<?>) args[i]) {
+                        writeText(element);
+                    }
+                } else if (type == AnalysisParameterType.SIZE) {
+                    if (args[i] == null) {
+                        writeVarint(0);
+                    } else {
+                        long bytes = ((Long) args[i]).longValue();
+                        writeVarint(((bytes << 1) ^ (bytes >> 63)) + 1);
+                    }
+                } else if (type == AnalysisParameterType.TEXT) {
+                    writeText(args[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Ensure {@link #buffer} can hold more bytes.
+     * 
+     * @param count
+     *            The number of bytes to add.
+     */
+    private void ensureCapacity(final int count) {
+        if (length + count > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(length + count, buffer.length * 2));
+        }
+    }
+
+    /**
+     * Encode the analysis of the JVM options and write the record.
+     * 
+     * @param jvmOptions
+     *            The JVM options.
+     * @param out
+     *            The output.
+     * @throws IOException
+     *             If the output cannot be written.
+     */
+    public void write(JvmOptions jvmOptions, OutputStream out) throws IOException {
+        encodeRecord(jvmOptions);
+        out.write(buffer, 0, length);
+    }
+
+    /**
+     * @param value
+     *            The byte to append (the low 8 bits).
+     */
+    private void writeByte(final int value) {
+        ensureCapacity(1);
+        buffer[length++] = (byte) value;
+    }
+
+    /**
+     * @param value
+     *            The text to append, or null.
+     */
+    private void writeText(final Object value) {
+        if (value == null) {
+            writeVarint(0);
+        } else {
+            byte[] utf8 = value.toString().getBytes(StandardCharsets.UTF_8);
+            writeVarint(utf8.length + 1L);
+            ensureCapacity(utf8.length);
+            System.arraycopy(utf8, 0, buffer, length, utf8.length);
+            length += utf8.length;
+        }
+    }
+
+    /**
+     * @param value
+     *            The unsigned number to append.
+     */
+    private void writeVarint(final long value) {
+        ensureCapacity(10);
+        long remaining = value;
+        while ((remaining & ~0x7fL) != 0) {
+            buffer[length++] = (byte) ((remaining & 0x7f) | 0x80);
+            remaining >>>= 7;
+        }
+        buffer[length++] = (byte) remaining;
+    }
+}
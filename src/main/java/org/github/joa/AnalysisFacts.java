@@ -0,0 +1,233 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.github.joa.domain.CollectorFamily;
+import org.github.joa.domain.GarbageCollector;
+import org.github.joa.domain.JvmContext;
+import org.github.joa.util.Constants;
+import org.github.joa.util.JdkUtil;
+import org.github.joa.util.JvmOption;
+
+/**
+ * <p>
+ * Values derived from the JVM options and {@link JvmContext}, computed once and shared by the {@link AnalysisRule}s
+ * and getters instead of being recomputed on every call (e.g. the max heap size, which involves
+ * <code>BigDecimal</code> math, or the collectors the options select).
+ * </p>
+ *
+ * <p>
+ * The options do not change once parsed, so the facts are only stale if a {@link JvmContext} field they are derived
+ * from changes (see {@link #isCurrent(JvmContext)}).
+ * </p>
+ *
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ */
+final class AnalysisFacts {
+
+    /**
+     * Whether a derived value was read since the last {@link #clearRead()} (see {@link AnalysisRecord}).
+     */
+    private boolean read;
+
+    /**
+     * The family of the garbage collectors in use.
+     */
+    private final CollectorFamily collectorFamily;
+
+    /**
+     * The effective compressed class space size in bytes (<code>-XX:CompressedClassSpaceSize</code>, or the 1g
+     * default).
+     */
+    private final long compressedClassSpaceSize;
+
+    /**
+     * Whether compressed class pointers are enabled (explicitly or by default).
+     */
+    private final boolean compressedClassPointers;
+
+    /**
+     * Whether compressed object references are enabled (explicitly or by default).
+     */
+    private final boolean compressedOops;
+
+    /**
+     * The JVM context garbage collectors the facts are derived from.
+     */
+    private final List<GarbageCollector> contextGarbageCollectors;
+
+    /**
+     * The garbage collectors the JVM options select.
+     */
+    private final List<GarbageCollector> expectedGarbageCollectors;
+
+    /**
+     * The garbage collectors in use: the JVM context collectors (precedence), or the collectors the JVM options
+     * select.
+     */
+    private final List<GarbageCollector> garbageCollectors;
+
+    /**
+     * The heap initial size in bytes, or <code>Long.MIN_VALUE</code> if undetermined.
+     */
+    private final long heapInitialSize;
+
+    /**
+     * The heap max size in bytes, or <code>Long.MIN_VALUE</code> if undetermined.
+     */
+    private final long heapMaxSize;
+
+    /**
+     * The max metaspace size in bytes, or {@link Constants#UNKNOWN} if not set (unlimited).
+     */
+    private final long maxMetaspaceSize;
+
+    /**
+     * The JVM context memory the facts are derived from.
+     */
+    private final long memory;
+
+    /**
+     * The JDK major version the facts are derived from.
+     */
+    private final int versionMajor;
+
+    /**
+     * @param jvmOptions
+     *            The JVM options.
+     */
+    AnalysisFacts(JvmOptions jvmOptions) {
+        JvmContext jvmContext = jvmOptions.getJvmContext();
+        contextGarbageCollectors = new ArrayList<GarbageCollector>(jvmContext.getGarbageCollectors());
+        memory = jvmContext.getMemory();
+        versionMajor = jvmContext.getVersionMajor();
+        expectedGarbageCollectors = jvmOptions.computeExpectedGarbageCollectors();
+        garbageCollectors = contextGarbageCollectors.isEmpty() ? expectedGarbageCollectors
+                : contextGarbageCollectors;
+        collectorFamily = CollectorFamily.of(garbageCollectors);
+        heapInitialSize = jvmOptions.computeHeapInitialSize();
+        heapMaxSize = jvmOptions.computeHeapMaxSize();
+        compressedOops = jvmOptions.computeCompressedOops(heapMaxSize, expectedGarbageCollectors);
+        compressedClassPointers = jvmOptions.computeCompressedClassPointers(compressedOops);
+        maxMetaspaceSize = jvmOptions.getValue(JvmOption.MAX_METASPACE_SIZE);
+        if (jvmOptions.hasOption(JvmOption.COMPRESSED_CLASS_SPACE_SIZE)) {
+            compressedClassSpaceSize = jvmOptions.getValue(JvmOption.COMPRESSED_CLASS_SPACE_SIZE);
+        } else {
+            compressedClassSpaceSize = JdkUtil.convertSize(1, 'G', 'B');
+        }
+    }
+
+    /**
+     * Reset the read indicator (see {@link #isRead()}).
+     */
+    void clearRead() {
+        read = false;
+    }
+
+    CollectorFamily getCollectorFamily() {
+        read = true;
+        return collectorFamily;
+    }
+
+    long getCompressedClassSpaceSize() {
+        read = true;
+        return compressedClassSpaceSize;
+    }
+
+    /**
+     * @return The garbage collectors the JVM options select. Not to be modified.
+     */
+    List<GarbageCollector> getExpectedGarbageCollectors() {
+        read = true;
+        return expectedGarbageCollectors;
+    }
+
+    /**
+     * @return The garbage collectors in use. Not to be modified.
+     */
+    List<GarbageCollector> getGarbageCollectors() {
+        read = true;
+        return garbageCollectors;
+    }
+
+    long getHeapInitialSize() {
+        read = true;
+        return heapInitialSize;
+    }
+
+    long getHeapMaxSize() {
+        read = true;
+        return heapMaxSize;
+    }
+
+    long getMaxMetaspaceSize() {
+        read = true;
+        return maxMetaspaceSize;
+    }
+
+    boolean isCompressedClassPointers() {
+        read = true;
+        return compressedClassPointers;
+    }
+
+    boolean isCompressedOops() {
+        read = true;
+        return compressedOops;
+    }
+
+    /**
+     * @param facts
+     *            Other facts.
+     * @return True if the derived values are the same as the other facts, false otherwise.
+     */
+    boolean hasSameValues(AnalysisFacts facts) {
+        return facts.collectorFamily == collectorFamily && facts.compressedClassSpaceSize == compressedClassSpaceSize
+                && facts.compressedClassPointers == compressedClassPointers && facts.compressedOops == compressedOops
+                && facts.expectedGarbageCollectors.equals(expectedGarbageCollectors)
+                && facts.garbageCollectors.equals(garbageCollectors) && facts.heapInitialSize == heapInitialSize
+                && facts.heapMaxSize == heapMaxSize && facts.maxMetaspaceSize == maxMetaspaceSize;
+    }
+
+    /**
+     * @param jvmContext
+     *            The JVM context.
+     * @return True if the JVM context fields the facts are derived from are unchanged, false otherwise.
+     */
+    boolean isCurrent(JvmContext jvmContext) {
+        return jvmContext.getMemory() == memory && jvmContext.getVersionMajor() == versionMajor
+                && jvmContext.getGarbageCollectors().equals(contextGarbageCollectors);
+    }
+
+    /**
+     * @return True if a derived value was read since the last {@link #clearRead()}, false otherwise.
+     */
+    boolean isRead() {
+        return read;
+    }
+
+    /**
+     * @return True if ZGC is in use according to the JVM context or selected by the JVM options, false otherwise.
+     */
+    boolean usesZgc() {
+        read = true;
+        return contextGarbageCollectors.contains(GarbageCollector.ZGC_GENERATIONAL)
+                || contextGarbageCollectors.contains(GarbageCollector.ZGC_NON_GENERATIONAL)
+                || expectedGarbageCollectors.contains(GarbageCollector.ZGC_GENERATIONAL)
+                || expectedGarbageCollectors.contains(GarbageCollector.ZGC_NON_GENERATIONAL);
+    }
+}
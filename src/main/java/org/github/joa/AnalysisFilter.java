@@ -0,0 +1,119 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.github.joa.util.Analysis;
+import org.github.joa.util.AnalysisSeverity;
+import org.github.joa.util.AnalysisTopic;
+
+/**
+ * <p>
+ * Analysis profile selecting the {@link Analysis} reported by {@link JvmOptions#doAnalysis(AnalysisFilter)} by
+ * severity and topic. For example, only errors and warnings about gc logging and containers:
+ * </p>
+ * 
+ * <pre>
+ * new AnalysisFilter(EnumSet.of(AnalysisSeverity.ERROR, AnalysisSeverity.WARN),
+ *         EnumSet.of(AnalysisTopic.LOGGING, AnalysisTopic.CONTAINER));
+ * </pre>
+ * 
+ * <p>
+ * An {@link AnalysisRule} that cannot report an accepted <code>Analysis</code> is never evaluated, and an
+ * <code>Analysis</code> not accepted is never rendered.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ */
+public class AnalysisFilter {
+
+    /**
+     * The rules that can report an accepted <code>Analysis</code>, a bit per rule ordinal.
+     */
+    private final long[] ruleSet;
+
+    /**
+     * The severities accepted.
+     */
+    private final Set<AnalysisSeverity> severities;
+
+    /**
+     * The topics accepted.
+     */
+    private final Set<AnalysisTopic> topics;
+
+    /**
+     * @param severities
+     *            The severities accepted, or empty to accept any severity.
+     * @param topics
+     *            The topics accepted, or empty to accept any topic.
+     */
+    public AnalysisFilter(Set<AnalysisSeverity> severities, Set<AnalysisTopic> topics) {
+        this.severities = Collections.unmodifiableSet(severities.isEmpty() ? EnumSet.allOf(AnalysisSeverity.class)
+                : EnumSet.copyOf(severities));
+        this.topics = Collections
+                .unmodifiableSet(topics.isEmpty() ? EnumSet.allOf(AnalysisTopic.class) : EnumSet.copyOf(topics));
+        this.ruleSet = AnalysisRule.getRuleSet(this);
+    }
+
+    /**
+     * @param analysis
+     *            The <code>Analysis</code>.
+     * @return True if the <code>Analysis</code> severity and topic are accepted, false otherwise.
+     */
+    public boolean accepts(Analysis analysis) {
+        return severities.contains(analysis.getSeverity()) && topics.contains(analysis.getTopic());
+    }
+
+    /**
+     * @param analysis
+     *            The <code>Analysis</code>.
+     * @return True if any <code>Analysis</code> is accepted, false otherwise.
+     */
+    boolean acceptsAny(Collection<Analysis> analysis) {
+        for (Analysis item : analysis) {
+            if (accepts(item)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The rules that can report an accepted <code>Analysis</code>, a bit per rule ordinal. Not to be
+     *         modified.
+     */
+    long[] getRuleSet() {
+        return ruleSet;
+    }
+
+    /**
+     * @return The severities accepted.
+     */
+    public Set<AnalysisSeverity> getSeverities() {
+        return severities;
+    }
+
+    /**
+     * @return The topics accepted.
+     */
+    public Set<AnalysisTopic> getTopics() {
+        return topics;
+    }
+}
@@ -0,0 +1,376 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.github.joa.domain.JvmContext;
+import org.github.joa.domain.JvmContextField;
+import org.github.joa.util.Analysis;
+import org.github.joa.util.AnalysisSet;
+import org.github.joa.util.JvmOption;
+
+/**
+ * <p>
+ * The record of an analysis: the rules evaluated and, for each, the options and {@link JvmContext} fields it read,
+ * whether it read the derived values ({@link AnalysisFacts}) or the option list as a whole (e.g.
+ * {@link JvmOptions#getDuplicates()}), and the {@link Analysis} it reported, in order. The JVM context fields are
+ * recorded as they were when the analysis was done.
+ * </p>
+ *
+ * <p>
+ * A rule that reads nothing that changed reports the same <code>Analysis</code>, so a recorded analysis can be updated
+ * by evaluating only the rules affected by a change (see {@link JvmOptionsOverlay} and
+ * {@link JvmOptions#updateAnalysis()}).
+ * </p>
+ *
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ */
+final class AnalysisRecord {
+
+    /**
+     * The number of <code>long</code> words in an option bitmap.
+     */
+    private static final int OPTION_WORDS = (JvmOption.values().length + 63) / 64;
+
+    /**
+     * The JVM context field values when the analysis was done, by field ordinal.
+     */
+    private final Object[] context;
+
+    /**
+     * Whether the record of each rule was copied from a previous record instead of the rule being evaluated, by rule
+     * ordinal.
+     */
+    private final boolean[] copied;
+
+    /**
+     * The rules evaluated, a bit per rule ordinal.
+     */
+    private final long[] evaluated;
+
+    /**
+     * The derived values the analysis used.
+     */
+    private final AnalysisFacts facts;
+
+    /**
+     * The <code>Analysis</code> reported by each rule, in order, by rule ordinal (null if not evaluated).
+     */
+    private final List<List<Analysis>> findings;
+
+    /**
+     * The time each rule took to evaluate in nanoseconds, by rule ordinal.
+     */
+    private final long[] nanos;
+
+    /**
+     * Whether each rule read the derived values, by rule ordinal.
+     */
+    private final boolean[] readsFacts;
+
+    /**
+     * The JVM context analyzed, recording the fields read by the rule being evaluated.
+     */
+    private final RecordingJvmContext jvmContext;
+
+    /**
+     * The JVM context fields read by each rule, a bit per field ordinal, by rule ordinal.
+     */
+    private final long[] readsContext;
+
+    /**
+     * The options read by each rule, a bit per option ordinal, by rule ordinal (null if not evaluated).
+     */
+    private final long[][] readsOptions;
+
+    /**
+     * Whether each rule read the option list as a whole, by rule ordinal.
+     */
+    private final boolean[] readsRaw;
+
+    /**
+     * The rule being evaluated, or null if none.
+     */
+    private AnalysisRule rule;
+
+    /**
+     * The {@link System#nanoTime()} the rule being evaluated started.
+     */
+    private long start;
+
+    /**
+     * @param jvmContext
+     *            The JVM context analyzed.
+     * @param facts
+     *            The derived values the analysis uses.
+     */
+    AnalysisRecord(JvmContext jvmContext, AnalysisFacts facts) {
+        int rules = AnalysisRule.values().length;
+        this.jvmContext = new RecordingJvmContext(jvmContext);
+        this.facts = facts;
+        JvmContextField[] fields = JvmContextField.values();
+        context = new Object[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            context[i] = fields[i].getValue(jvmContext);
+        }
+        copied = new boolean[rules];
+        evaluated = new long[(rules + 63) / 64];
+        findings = new ArrayList<List<Analysis>>(rules);
+        for (int i = 0; i < rules; i++) {
+            findings.add(null);
+        }
+        nanos = new long[rules];
+        readsContext = new long[rules];
+        readsFacts = new boolean[rules];
+        readsOptions = new long[rules][];
+        readsRaw = new boolean[rules];
+    }
+
+    /**
+     * Start recording the evaluation of a rule.
+     * 
+     * @param rule
+     *            The rule.
+     */
+    void begin(AnalysisRule rule) {
+        this.rule = rule;
+        evaluated[rule.ordinal() >>> 6] |= 1L << rule.ordinal();
+        findings.set(rule.ordinal(), new ArrayList<Analysis>(2));
+        readsOptions[rule.ordinal()] = new long[OPTION_WORDS];
+        facts.clearRead();
+        jvmContext.clearRead();
+        start = System.nanoTime();
+    }
+
+    /**
+     * @param current
+     *            A JVM context.
+     * @return The JVM context fields with a value different from when the analysis was done, a bit per field ordinal.
+     */
+    long changed(JvmContext current) {
+        long changed = 0;
+        JvmContextField[] fields = JvmContextField.values();
+        for (int i = 0; i < fields.length; i++) {
+            Object value = fields[i].getValue(current);
+            if (value == null ? context[i] != null : !value.equals(context[i])) {
+                changed |= 1L << i;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Copy the record of a rule from another record, for a rule not affected by a change.
+     * 
+     * @param rule
+     *            The rule.
+     * @param record
+     *            The record to copy from.
+     */
+    void copy(AnalysisRule rule, AnalysisRecord record) {
+        int ordinal = rule.ordinal();
+        evaluated[ordinal >>> 6] |= 1L << ordinal;
+        copied[ordinal] = true;
+        findings.set(ordinal, record.findings.get(ordinal));
+        readsContext[ordinal] = record.readsContext[ordinal];
+        readsFacts[ordinal] = record.readsFacts[ordinal];
+        readsOptions[ordinal] = record.readsOptions[ordinal];
+        readsRaw[ordinal] = record.readsRaw[ordinal];
+    }
+
+    /**
+     * Stop recording the evaluation of the current rule.
+     */
+    void end() {
+        nanos[rule.ordinal()] = System.nanoTime() - start;
+        readsContext[rule.ordinal()] = jvmContext.getRead();
+        readsFacts[rule.ordinal()] = facts.isRead();
+        rule = null;
+    }
+
+    /**
+     * @return The <code>Analysis</code> reported, in the order reported.
+     */
+    AnalysisSet getAnalysis() {
+        AnalysisSet analysis = new AnalysisSet();
+        for (List<Analysis> reported : findings) {
+            if (reported != null) {
+                analysis.addAll(reported);
+            }
+        }
+        return analysis;
+    }
+
+    /**
+     * @param rule
+     *            A rule.
+     * @return The JVM context fields read by the rule.
+     */
+    Set<JvmContextField> getContextRead(AnalysisRule rule) {
+        Set<JvmContextField> fields = EnumSet.noneOf(JvmContextField.class);
+        for (JvmContextField field : JvmContextField.values()) {
+            if ((readsContext[rule.ordinal()] & (1L << field.ordinal())) != 0) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * @return The derived values the analysis used.
+     */
+    AnalysisFacts getFacts() {
+        return facts;
+    }
+
+    /**
+     * @param rule
+     *            A rule evaluated.
+     * @return The <code>Analysis</code> reported by the rule, in order.
+     */
+    List<Analysis> getFindings(AnalysisRule rule) {
+        return findings.get(rule.ordinal());
+    }
+
+    /**
+     * @return The JVM context analyzed, to evaluate the rules against so the fields each rule reads are recorded.
+     */
+    JvmContext getJvmContext() {
+        return jvmContext;
+    }
+
+    /**
+     * @param rule
+     *            A rule.
+     * @return The time the rule took to evaluate in nanoseconds, or 0 if not evaluated.
+     */
+    long getNanos(AnalysisRule rule) {
+        return nanos[rule.ordinal()];
+    }
+
+    /**
+     * @param rule
+     *            A rule.
+     * @return The options read by the rule.
+     */
+    Set<JvmOption> getOptionsRead(AnalysisRule rule) {
+        Set<JvmOption> options = EnumSet.noneOf(JvmOption.class);
+        long[] read = readsOptions[rule.ordinal()];
+        for (int word = 0; read != null && word < OPTION_WORDS; word++) {
+            long bits = read[word];
+            while (bits != 0) {
+                options.add(JvmOption.values()[(word << 6) + Long.numberOfTrailingZeros(bits)]);
+                bits &= bits - 1;
+            }
+        }
+        return options;
+    }
+
+    /**
+     * @param rule
+     *            A rule.
+     * @return True if the record of the rule was copied from a previous record instead of the rule being evaluated,
+     *         false otherwise.
+     */
+    boolean isCopied(AnalysisRule rule) {
+        return copied[rule.ordinal()];
+    }
+
+    /**
+     * @param rule
+     *            A rule.
+     * @return True if the rule was evaluated or its record copied, false otherwise.
+     */
+    boolean isRecorded(AnalysisRule rule) {
+        return (evaluated[rule.ordinal() >>> 6] & (1L << rule.ordinal())) != 0;
+    }
+
+    /**
+     * @param rule
+     *            A rule.
+     * @param changed
+     *            The options changed, a bit per option ordinal, or null if none.
+     * @param factsChanged
+     *            Whether the derived values changed.
+     * @param contextChanged
+     *            The JVM context fields changed, a bit per field ordinal.
+     * @return True if the rule was evaluated and read nothing changed (the option list as a whole is assumed to have
+     *         changed if an option changed), false otherwise.
+     */
+    boolean isUnaffected(AnalysisRule rule, long[] changed, boolean factsChanged, long contextChanged) {
+        int ordinal = rule.ordinal();
+        boolean unaffected = (evaluated[ordinal >>> 6] & (1L << ordinal)) != 0
+                && !(changed != null && readsRaw[ordinal]) && !(factsChanged && readsFacts[ordinal])
+                && (readsContext[ordinal] & contextChanged) == 0;
+        for (int word = 0; unaffected && changed != null && word < OPTION_WORDS; word++) {
+            unaffected = (readsOptions[ordinal][word] & changed[word]) == 0;
+        }
+        return unaffected;
+    }
+
+    /**
+     * @param jvmOption
+     *            An option read by the current rule.
+     */
+    void read(JvmOption jvmOption) {
+        if (rule != null) {
+            readsOptions[rule.ordinal()][jvmOption.ordinal() >>> 6] |= 1L << jvmOption.ordinal();
+        }
+    }
+
+    /**
+     * The current rule read the option list as a whole.
+     */
+    void readRaw() {
+        if (rule != null) {
+            readsRaw[rule.ordinal()] = true;
+        }
+    }
+
+    /**
+     * @param rule
+     *            A rule.
+     * @return True if the rule read the derived values, false otherwise.
+     */
+    boolean readsFacts(AnalysisRule rule) {
+        return readsFacts[rule.ordinal()];
+    }
+
+    /**
+     * @param rule
+     *            A rule.
+     * @return True if the rule read the option list as a whole, false otherwise.
+     */
+    boolean readsRaw(AnalysisRule rule) {
+        return readsRaw[rule.ordinal()];
+    }
+
+    /**
+     * @param analysis
+     *            An <code>Analysis</code> reported by the current rule.
+     */
+    void report(Analysis analysis) {
+        if (rule != null) {
+            List<Analysis> reported = findings.get(rule.ordinal());
+            if (!reported.contains(analysis)) {
+                reported.add(analysis);
+            }
+        }
+    }
+}
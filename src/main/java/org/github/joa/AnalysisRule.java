@@ -0,0 +1,2815 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.github.joa.domain.Bit;
+import org.github.joa.domain.CollectorFamily;
+import org.github.joa.domain.GarbageCollector;
+import org.github.joa.domain.JvmContext;
+import org.github.joa.domain.JvmContextField;
+import org.github.joa.domain.Os;
+import org.github.joa.util.Analysis;
+import org.github.joa.util.AnalysisSeverity;
+import org.github.joa.util.Constants;
+import org.github.joa.util.JdkMath;
+import org.github.joa.util.JdkRegEx;
+import org.github.joa.util.JdkUtil;
+import org.github.joa.util.JvmOption;
+import org.github.joa.util.JvmOptionToken;
+
+/**
+ * <p>
+ * JVM options analysis rules, in evaluation order.
+ * </p>
+ *
+ * <p>
+ * Each rule declares the options and {@link JvmContext} fields it reads. A rule is only evaluated if at least one of
+ * its options is present, unless it can fire when none of them are (e.g. {@link #HEAP_DUMP_ON_OOME}, which reports the
+ * option missing, or a rule based only on the context), in which case it is always evaluated. Rules are indexed by
+ * option, so a typical command line only evaluates the few rules triggered by its options plus the rules always
+ * evaluated.
+ * </p>
+ *
+ * <p>
+ * Rules specific to a JDK major version or collector family (see {@link #appliesTo(int, CollectorFamily)}) are
+ * further filtered by a rule set compiled once per (JDK major version, collector family) pair, so e.g. JDK8 gc logging
+ * rules are never evaluated for a JDK17 G1 JVM.
+ * </p>
+ *
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ */
+public enum AnalysisRule {
+
+    /**
+     * Garbage collectors in the JVM context inconsistent with the JVM options.
+     */
+    GARBAGE_COLLECTORS(true, JvmContextField.GARBAGE_COLLECTORS, Analysis.INFO_GC_SERIAL_ELECTED,
+            Analysis.INFO_GC_IGNORED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            List<GarbageCollector> garbageCollectors = facts.getGarbageCollectors();
+            if (!jvmContext.getGarbageCollectors().isEmpty()
+                    && !garbageCollectors.contains(GarbageCollector.UNKNOWN)
+                    && !facts.getExpectedGarbageCollectors().containsAll(jvmContext.getGarbageCollectors())) {
+                if (garbageCollectors.contains(GarbageCollector.SERIAL_NEW)
+                        || garbageCollectors.contains(GarbageCollector.SERIAL_OLD)) {
+                    jvmOptions.addAnalysis(Analysis.INFO_GC_SERIAL_ELECTED);
+                } else {
+                    jvmOptions.addAnalysis(Analysis.INFO_GC_IGNORED);
+                }
+            }
+        }
+    },
+
+    /**
+     * Remote debugging enabled.
+     */
+    REMOTE_DEBUGGING(JvmOption.AGENTLIB, JvmOption.RUNJDWP, Analysis.ERROR_REMOTE_DEBUGGING_ENABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.AGENTLIB)) {
+                Iterator<JvmOptionToken> iterator = jvmOptions.getTokens(JvmOption.AGENTLIB).iterator();
+                while (iterator.hasNext()) {
+                    JvmOptionToken agentlib = iterator.next();
+                    Matcher matcher = AGENTLIB_JDWP.matcher(agentlib);
+                    if (matcher.find()) {
+                        jvmOptions.addAnalysis(Analysis.ERROR_REMOTE_DEBUGGING_ENABLED);
+                        break;
+                    }
+                }
+            }
+            if (!jvmOptions.hasAnalysis(Analysis.ERROR_REMOTE_DEBUGGING_ENABLED)
+                    && jvmOptions.hasOption(JvmOption.RUNJDWP)) {
+                Iterator<JvmOptionToken> iterator = jvmOptions.getTokens(JvmOption.RUNJDWP).iterator();
+                while (iterator.hasNext()) {
+                    JvmOptionToken runjdwp = iterator.next();
+                    Matcher matcher = RUNJDWP.matcher(runjdwp);
+                    if (matcher.find()) {
+                        jvmOptions.addAnalysis(Analysis.ERROR_REMOTE_DEBUGGING_ENABLED);
+                        break;
+                    }
+                }
+            }
+        }
+    },
+
+    /**
+     * Undefined options.
+     */
+    UNDEFINED(true, Analysis.INFO_OPTS_UNDEFINED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (!jvmOptions.getUndefined().isEmpty()) {
+                jvmOptions.addAnalysis(Analysis.INFO_OPTS_UNDEFINED);
+            }
+        }
+    },
+
+    /**
+     * Initial or max metaspace size set.
+     */
+    METASPACE(JvmOption.METASPACE_SIZE, JvmOption.MAX_METASPACE_SIZE, Analysis.INFO_METASPACE) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.METASPACE_SIZE) || jvmOptions.hasOption(JvmOption.MAX_METASPACE_SIZE)) {
+                jvmOptions.addAnalysis(Analysis.INFO_METASPACE);
+            }
+        }
+    },
+
+    /**
+     * Heap prevented from growing beyond the initial heap size.
+     */
+    ADAPTIVE_SIZE_POLICY(JvmOption.INITIAL_HEAP_SIZE, JvmOption.MAX_HEAP_SIZE, JvmOption.MAX_RAM_PERCENTAGE,
+            JvmOption.USE_ADAPTIVE_SIZE_POLICY, JvmContextField.MEMORY, Analysis.WARN_ADAPTIVE_SIZE_POLICY_DISABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.INITIAL_HEAP_SIZE) && facts.getHeapMaxSize() >= 0
+                    && jvmOptions.getValue(JvmOption.INITIAL_HEAP_SIZE) != facts.getHeapMaxSize()
+                    && jvmOptions.isDisabled(JvmOption.USE_ADAPTIVE_SIZE_POLICY)) {
+                jvmOptions.addAnalysis(Analysis.WARN_ADAPTIVE_SIZE_POLICY_DISABLED);
+            }
+        }
+    },
+
+    /**
+     * Permanent generation options on JDK8+.
+     */
+    PERM_GEN(JvmOption.PERM_SIZE, JvmOption.MAX_PERM_SIZE, JvmContextField.VERSION_MAJOR, Analysis.INFO_PERM_SIZE,
+            Analysis.INFO_MAX_PERM_SIZE) {
+        @Override
+        boolean appliesTo(int versionMajor, CollectorFamily family) {
+            return versionMajor >= 8;
+        }
+
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.PERM_SIZE)) {
+                jvmOptions.addAnalysis(Analysis.INFO_PERM_SIZE);
+            }
+            if (jvmOptions.hasOption(JvmOption.MAX_PERM_SIZE)) {
+                jvmOptions.addAnalysis(Analysis.INFO_MAX_PERM_SIZE);
+            }
+        }
+    },
+
+    /**
+     * Heap dump before or after full gc.
+     */
+    HEAP_DUMP_FULL_GC(JvmOption.HEAP_DUMP_AFTER_FULL_GC, JvmOption.HEAP_DUMP_BEFORE_FULL_GC,
+            Analysis.WARN_HEAP_DUMP_AFTER_FULL_GC, Analysis.WARN_HEAP_DUMP_BEFORE_FULL_GC) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.HEAP_DUMP_AFTER_FULL_GC)) {
+                jvmOptions.addAnalysis(Analysis.WARN_HEAP_DUMP_AFTER_FULL_GC);
+            }
+            if (jvmOptions.isEnabled(JvmOption.HEAP_DUMP_BEFORE_FULL_GC)) {
+                jvmOptions.addAnalysis(Analysis.WARN_HEAP_DUMP_BEFORE_FULL_GC);
+            }
+        }
+    },
+
+    /**
+     * Heap dump on out of memory error missing or disabled.
+     */
+    HEAP_DUMP_ON_OOME(true, JvmOption.HEAP_DUMP_ON_OUT_OF_MEMORY_ERROR, Analysis.INFO_HEAP_DUMP_ON_OOME_MISSING,
+            Analysis.WARN_HEAP_DUMP_ON_OOME_DISABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (!jvmOptions.hasOption(JvmOption.HEAP_DUMP_ON_OUT_OF_MEMORY_ERROR)) {
+                jvmOptions.addAnalysis(Analysis.INFO_HEAP_DUMP_ON_OOME_MISSING);
+            } else if (jvmOptions.isDisabled(JvmOption.HEAP_DUMP_ON_OUT_OF_MEMORY_ERROR)) {
+                jvmOptions.addAnalysis(Analysis.WARN_HEAP_DUMP_ON_OOME_DISABLED);
+            }
+        }
+    },
+
+    /**
+     * Heap dump path missing or a file name.
+     */
+    HEAP_DUMP_PATH(true, JvmOption.HEAP_DUMP_PATH, Analysis.INFO_HEAP_DUMP_PATH_MISSING,
+            Analysis.WARN_HEAP_DUMP_PATH_FILENAME) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (!jvmOptions.hasOption(JvmOption.HEAP_DUMP_PATH)) {
+                jvmOptions.addAnalysis(Analysis.INFO_HEAP_DUMP_PATH_MISSING);
+            } else if (JdkRegEx.getFile(
+                    JdkUtil.getFilePathOptionValue(jvmOptions.getToken(JvmOption.HEAP_DUMP_PATH))) != null) {
+                jvmOptions.addAnalysis(Analysis.WARN_HEAP_DUMP_PATH_FILENAME);
+            }
+        }
+    },
+
+    /**
+     * Multi-threaded CMS initial mark or remark disabled.
+     */
+    CMS_PARALLEL_MARK(JvmOption.USE_CONC_MARK_SWEEP_GC, JvmOption.CMS_PARALLEL_INITIAL_MARK_ENABLED,
+            JvmOption.CMS_PARALLEL_REMARK_ENABLED, Analysis.WARN_CMS_PARALLEL_INITIAL_MARK_DISABLED,
+            Analysis.WARN_CMS_PARALLEL_REMARK_DISABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (!jvmOptions.isDisabled(JvmOption.USE_CONC_MARK_SWEEP_GC)
+                    && jvmOptions.isDisabled(JvmOption.CMS_PARALLEL_INITIAL_MARK_ENABLED)) {
+                jvmOptions.addAnalysis(Analysis.WARN_CMS_PARALLEL_INITIAL_MARK_DISABLED);
+            }
+            if (!jvmOptions.isDisabled(JvmOption.USE_CONC_MARK_SWEEP_GC)
+                    && jvmOptions.isDisabled(JvmOption.CMS_PARALLEL_REMARK_ENABLED)) {
+                jvmOptions.addAnalysis(Analysis.WARN_CMS_PARALLEL_REMARK_DISABLED);
+            }
+        }
+    },
+
+    /**
+     * Compressed object and class pointers and metaspace, based on the max heap size.
+     */
+    COMPRESSED_POINTERS(true, JvmOption.USE_COMPRESSED_OOPS, JvmOption.USE_COMPRESSED_CLASS_POINTERS,
+            JvmOption.COMPRESSED_CLASS_SPACE_SIZE, JvmOption.MAX_METASPACE_SIZE, JvmOption.MAX_HEAP_SIZE,
+            JvmOption.MAX_RAM_PERCENTAGE, JvmOption.USE_Z_GC, JvmContextField.GARBAGE_COLLECTORS,
+            JvmContextField.MEMORY, JvmContextField.VERSION_MAJOR,
+            Analysis.INFO_METASPACE_CLASS_METADATA_AND_COMP_CLASS_SPACE, Analysis.INFO_METASPACE_CLASS_METADATA,
+            Analysis.WARN_ZGC_HEAP_32G_LT, Analysis.WARN_COMP_OOPS_DISABLED_HEAP_UNK,
+            Analysis.WARN_COMP_OOPS_DISABLED_HEAP_32G_LT, Analysis.WARN_COMP_CLASS_DISABLED_HEAP_UNK,
+            Analysis.WARN_COMP_CLASS_DISABLED_HEAP_32G_LT, Analysis.WARN_METASPACE_LT_COMP_CLASS,
+            Analysis.INFO_COMP_CLASS_SIZE_COMP_OOPS_DISABLED, Analysis.INFO_COMP_CLASS_SIZE_COMP_CLASS_DISABLED,
+            Analysis.WARN_COMP_OOPS_ENABLED_HEAP_32G_GTE, Analysis.WARN_COMP_CLASS_ENABLED_HEAP_32G_GTE,
+            Analysis.WARN_COMP_CLASS_SIZE_HEAP_32G_GTE) {
+        @Override
+        boolean appliesTo(int versionMajor, CollectorFamily family) {
+            return versionMajor == JvmContext.UNKNOWN || versionMajor >= 8;
+        }
+
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (facts.isCompressedClassPointers()) {
+                jvmOptions.addAnalysis(Analysis.INFO_METASPACE_CLASS_METADATA_AND_COMP_CLASS_SPACE);
+            } else {
+                jvmOptions.addAnalysis(Analysis.INFO_METASPACE_CLASS_METADATA);
+            }
+            long thirtyTwoGigabytes = JdkUtil.convertSize(32, 'G', 'B');
+            if (facts.getHeapMaxSize() <= thirtyTwoGigabytes) {
+                // Max Heap unknown or <= 32g
+                if (facts.usesZgc()) {
+                    jvmOptions.addAnalysis(Analysis.WARN_ZGC_HEAP_32G_LT);
+                } else {
+                    if (!facts.isCompressedOops()) {
+                        if (facts.getHeapMaxSize() < 0) {
+                            jvmOptions.addAnalysis(Analysis.WARN_COMP_OOPS_DISABLED_HEAP_UNK);
+                        } else {
+                            jvmOptions.addAnalysis(Analysis.WARN_COMP_OOPS_DISABLED_HEAP_32G_LT);
+                        }
+                    }
+                    if (!facts.isCompressedClassPointers()) {
+                        if (facts.getHeapMaxSize() < 0) {
+                            jvmOptions.addAnalysis(Analysis.WARN_COMP_CLASS_DISABLED_HEAP_UNK);
+                        } else {
+                            jvmOptions.addAnalysis(Analysis.WARN_COMP_CLASS_DISABLED_HEAP_32G_LT);
+                        }
+                    }
+                    // Check if MaxMetaspaceSize is less than CompressedClassSpaceSize.
+                    if (jvmOptions.hasOption(JvmOption.MAX_METASPACE_SIZE)) {
+                        if (facts.getMaxMetaspaceSize() < facts.getCompressedClassSpaceSize()) {
+                            jvmOptions.addAnalysis(Analysis.WARN_METASPACE_LT_COMP_CLASS);
+                        }
+                    }
+                    // Check for settings being ignored
+                    if (jvmOptions.isDisabled(JvmOption.USE_COMPRESSED_OOPS)
+                            && jvmOptions.hasOption(JvmOption.COMPRESSED_CLASS_SPACE_SIZE)) {
+                        jvmOptions.addAnalysis(Analysis.INFO_COMP_CLASS_SIZE_COMP_OOPS_DISABLED);
+                    }
+                    if (jvmOptions.isDisabled(JvmOption.USE_COMPRESSED_CLASS_POINTERS)
+                            && jvmOptions.hasOption(JvmOption.COMPRESSED_CLASS_SPACE_SIZE)) {
+                        jvmOptions.addAnalysis(Analysis.INFO_COMP_CLASS_SIZE_COMP_CLASS_DISABLED);
+                    }
+                }
+            } else {
+                // Max Heap >= 32g (should not use compressed pointers)
+                if (jvmOptions.isEnabled(JvmOption.USE_COMPRESSED_OOPS)) {
+                    jvmOptions.addAnalysis(Analysis.WARN_COMP_OOPS_ENABLED_HEAP_32G_GTE);
+                }
+                if (jvmOptions.isEnabled(JvmOption.USE_COMPRESSED_CLASS_POINTERS)) {
+                    jvmOptions.addAnalysis(Analysis.WARN_COMP_CLASS_ENABLED_HEAP_32G_GTE);
+                }
+                // Should not be setting class pointer space size
+                if (jvmOptions.hasOption(JvmOption.COMPRESSED_CLASS_SPACE_SIZE)) {
+                    jvmOptions.addAnalysis(Analysis.WARN_COMP_CLASS_SIZE_HEAP_32G_GTE);
+                }
+            }
+        }
+    },
+
+    /**
+     * Verbose class loading/unloading logging.
+     */
+    VERBOSE_CLASS(JvmOption.VERBOSE_CLASS, Analysis.INFO_VERBOSE_CLASS) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.VERBOSE_CLASS)) {
+                jvmOptions.addAnalysis(Analysis.INFO_VERBOSE_CLASS);
+            }
+        }
+    },
+
+    /**
+     * Verbose JNI logging (use of native methods and other JNI activity).
+     */
+    VERBOSE_JNI(JvmOption.VERBOSE_JNI, Analysis.INFO_VERBOSE_JNI) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.VERBOSE_JNI)) {
+                jvmOptions.addAnalysis(Analysis.INFO_VERBOSE_JNI);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:(+|-)TieredCompilation</code>.
+     */
+    TIERED_COMPILATION(JvmOption.TIERED_COMPILATION, Analysis.INFO_TIERED_COMPILATION_ENABLED,
+            Analysis.INFO_TIERED_COMPILATION_DISABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.TIERED_COMPILATION)) {
+                jvmOptions.addAnalysis(Analysis.INFO_TIERED_COMPILATION_ENABLED);
+            } else if (jvmOptions.isDisabled(JvmOption.TIERED_COMPILATION)) {
+                jvmOptions.addAnalysis(Analysis.INFO_TIERED_COMPILATION_DISABLED);
+            }
+        }
+    },
+
+    /**
+     * Biased locking.
+     */
+    BIASED_LOCKING(true, JvmOption.USE_SHENANDOAH_GC, JvmOption.USE_BIASED_LOCKING, JvmContextField.GARBAGE_COLLECTORS,
+            JvmContextField.VERSION_MAJOR, Analysis.WARN_BIASED_LOCKING_ENABLED_SHENANDOAH,
+            Analysis.INFO_BIASED_LOCKING_ENABLED_REDUNDANT, Analysis.INFO_BIASED_LOCKING_ENABLED,
+            Analysis.INFO_BIASED_LOCKING_DISABLED_REDUNDANT, Analysis.INFO_BIASED_LOCKING_DISABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if ((jvmOptions.isEnabled(JvmOption.USE_SHENANDOAH_GC)
+                    || jvmContext.getGarbageCollectors().contains(GarbageCollector.SHENANDOAH_NON_GENERATIONAL)
+                    || jvmContext.getGarbageCollectors().contains(GarbageCollector.SHENANDOAH_GENERATIONAL))
+                    && (jvmOptions.isEnabled(JvmOption.USE_BIASED_LOCKING)
+                            || (!jvmOptions.isDisabled(JvmOption.USE_BIASED_LOCKING)
+                                    && jvmContext.getVersionMajor() != JvmContext.UNKNOWN
+                                    && jvmContext.getVersionMajor() <= 11))) {
+                jvmOptions.addAnalysis(Analysis.WARN_BIASED_LOCKING_ENABLED_SHENANDOAH);
+            } else if (jvmOptions.isEnabled(JvmOption.USE_BIASED_LOCKING)
+                    && jvmContext.getVersionMajor() != JvmContext.UNKNOWN) {
+                if (jvmContext.getVersionMajor() <= 11) {
+                    jvmOptions.addAnalysis(Analysis.INFO_BIASED_LOCKING_ENABLED_REDUNDANT);
+                } else if (jvmContext.getVersionMajor() == 17) {
+                    jvmOptions.addAnalysis(Analysis.INFO_BIASED_LOCKING_ENABLED);
+                }
+            }
+            if (jvmOptions.isDisabled(JvmOption.USE_BIASED_LOCKING)) {
+                if (jvmContext.getVersionMajor() == 17) {
+                    jvmOptions.addAnalysis(Analysis.INFO_BIASED_LOCKING_DISABLED_REDUNDANT);
+                } else {
+                    jvmOptions.addAnalysis(Analysis.INFO_BIASED_LOCKING_DISABLED);
+                }
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:(+|-)PrintGCCause</code>.
+     */
+    PRINT_GC_CAUSE(JvmOption.PRINT_GC_CAUSE, Analysis.WARN_JDK8_PRINT_GC_CAUSE_DISABLED,
+            Analysis.INFO_JDK8_PRINT_GC_CAUSE) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.PRINT_GC_CAUSE)) {
+                if (jvmOptions.isDisabled(JvmOption.PRINT_GC_CAUSE)) {
+                    jvmOptions.addAnalysis(Analysis.WARN_JDK8_PRINT_GC_CAUSE_DISABLED);
+                } else {
+                    jvmOptions.addAnalysis(Analysis.INFO_JDK8_PRINT_GC_CAUSE);
+                }
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:+PrintHeapAtGC</code>.
+     */
+    PRINT_HEAP_AT_GC(JvmOption.PRINT_HEAP_AT_GC, Analysis.INFO_JDK8_PRINT_HEAP_AT_GC) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.PRINT_HEAP_AT_GC)) {
+                jvmOptions.addAnalysis(Analysis.INFO_JDK8_PRINT_HEAP_AT_GC);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:(+|-)PrintTenuringDistribution</code>.
+     */
+    PRINT_TENURING_DISTRIBUTION(JvmOption.PRINT_TENURING_DISTRIBUTION, Analysis.INFO_JDK8_PRINT_TENURING_DISTRIBUTION,
+            Analysis.INFO_JDK8_PRINT_TENURING_DISTRIBUTION_DISABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.PRINT_TENURING_DISTRIBUTION)) {
+                if (jvmOptions.isEnabled(JvmOption.PRINT_TENURING_DISTRIBUTION)) {
+                    jvmOptions.addAnalysis(Analysis.INFO_JDK8_PRINT_TENURING_DISTRIBUTION);
+                } else {
+                    jvmOptions.addAnalysis(Analysis.INFO_JDK8_PRINT_TENURING_DISTRIBUTION_DISABLED);
+                }
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:PrintFLSStatistics=\\d</code>.
+     */
+    PRINT_FLS_STATISTICS(JvmOption.PRINT_FLS_STATISTICS, Analysis.INFO_JDK8_PRINT_FLS_STATISTICS) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.PRINT_FLS_STATISTICS)) {
+                jvmOptions.addAnalysis(Analysis.INFO_JDK8_PRINT_FLS_STATISTICS);
+            }
+        }
+    },
+
+    /**
+     * Experimental options. Always evaluated, as any experimental option triggers it.
+     */
+    EXPERIMENTAL_OPTIONS(true, JvmOption.UNLOCK_EXPERIMENTAL_VM_OPTIONS, JvmOption.USE_G1_GC,
+            JvmOption.G1_MIXED_GC_LIVE_THRESHOLD_PERCENT, JvmContextField.GARBAGE_COLLECTORS,
+            JvmContextField.VERSION_MAJOR, JvmContextField.VERSION_MINOR,
+            Analysis.WARN_EXPERIMENTAL_VM_OPTIONS_ENABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            List<String> experimental = jvmOptions.getExperimental();
+            if (jvmOptions.isEnabled(JvmOption.UNLOCK_EXPERIMENTAL_VM_OPTIONS) || !experimental.isEmpty()) {
+                // JDK8 < u40 G1 -XX:G1MixedGCLiveThresholdPercent=85 is a valid use case
+                if (!((jvmContext.getGarbageCollectors().contains(GarbageCollector.G1)
+                        || jvmOptions.hasOption(JvmOption.USE_G1_GC)) && jvmContext.getVersionMajor() == 8
+                        && jvmContext.getVersionMinor() < 40
+                        && jvmOptions.hasOption(JvmOption.G1_MIXED_GC_LIVE_THRESHOLD_PERCENT)
+                        && experimental.size() == 1 && experimental.get(0).equals(
+                                jvmOptions.getToken(JvmOption.G1_MIXED_GC_LIVE_THRESHOLD_PERCENT).toString()))) {
+                    jvmOptions.addAnalysis(Analysis.WARN_EXPERIMENTAL_VM_OPTIONS_ENABLED);
+                }
+            }
+        }
+    },
+
+    /**
+     * G1 collector on JDK8 &lt; u40.
+     */
+    G1_PRIOR_U40(true, JvmOption.USE_G1_GC, JvmOption.G1_MIXED_GC_LIVE_THRESHOLD_PERCENT,
+            JvmOption.G1_HEAP_WASTE_PERCENT, JvmContextField.GARBAGE_COLLECTORS, JvmContextField.VERSION_MAJOR,
+            JvmContextField.VERSION_MINOR, Analysis.WARN_JDK8_G1_PRIOR_U40, Analysis.WARN_JDK8_G1_PRIOR_U40_RECS) {
+        @Override
+        boolean appliesTo(int versionMajor, CollectorFamily family) {
+            return versionMajor == 8;
+        }
+
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if ((jvmContext.getGarbageCollectors().contains(GarbageCollector.G1)
+                    || jvmOptions.hasOption(JvmOption.USE_G1_GC)) && jvmContext.getVersionMinor() < 40) {
+                jvmOptions.addAnalysis(Analysis.WARN_JDK8_G1_PRIOR_U40);
+                if (!jvmOptions.hasOption(JvmOption.G1_MIXED_GC_LIVE_THRESHOLD_PERCENT)
+                        || jvmOptions.getValue(JvmOption.G1_MIXED_GC_LIVE_THRESHOLD_PERCENT) != 85
+                        || !jvmOptions.hasOption(JvmOption.G1_HEAP_WASTE_PERCENT)
+                        || jvmOptions.getValue(JvmOption.G1_HEAP_WASTE_PERCENT) != 5) {
+                    jvmOptions.addAnalysis(Analysis.WARN_JDK8_G1_PRIOR_U40_RECS);
+                }
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:+UseCGroupMemoryLimitForHeap</code>.
+     */
+    CGROUP_MEMORY_LIMIT(JvmOption.USE_C_GROUP_MEMORY_LIMIT_FOR_HEAP, JvmOption.MAX_HEAP_SIZE,
+            Analysis.WARN_CGROUP_MEMORY_LIMIT_OVERRIDE, Analysis.WARN_CGROUP_MEMORY_LIMIT) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.USE_C_GROUP_MEMORY_LIMIT_FOR_HEAP)) {
+                if (jvmOptions.hasOption(JvmOption.MAX_HEAP_SIZE)) {
+                    jvmOptions.addAnalysis(Analysis.WARN_CGROUP_MEMORY_LIMIT_OVERRIDE);
+                } else {
+                    jvmOptions.addAnalysis(Analysis.WARN_CGROUP_MEMORY_LIMIT);
+                }
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:+UseFastUnorderedTimeStamps</code>.
+     */
+    FAST_UNORDERED_TIMESTAMPS(JvmOption.USE_FAST_UNORDERED_TIME_STAMPS, JvmOption.UNLOCK_EXPERIMENTAL_VM_OPTIONS,
+            Analysis.WARN_FAST_UNORDERED_TIMESTAMPS, Analysis.WARN_EXPERIMENTAL_VM_OPTIONS_ENABLED,
+            Analysis.INFO_FAST_UNORDERED_TIMESTAMPS) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.USE_FAST_UNORDERED_TIME_STAMPS)) {
+                if (jvmOptions.isEnabled(JvmOption.UNLOCK_EXPERIMENTAL_VM_OPTIONS)) {
+                    jvmOptions.addAnalysis(Analysis.WARN_FAST_UNORDERED_TIMESTAMPS);
+                    jvmOptions.addAnalysis(Analysis.WARN_EXPERIMENTAL_VM_OPTIONS_ENABLED);
+                } else {
+                    jvmOptions.addAnalysis(Analysis.INFO_FAST_UNORDERED_TIMESTAMPS);
+                }
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:G1MixedGCLiveThresholdPercent</code>.
+     */
+    G1_MIXED_GC_LIVE_THRESHOLD_PERCENT(JvmOption.G1_MIXED_GC_LIVE_THRESHOLD_PERCENT,
+            Analysis.WARN_G1_MIXED_GC_LIVE_THRSHOLD_PRCNT) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.G1_MIXED_GC_LIVE_THRESHOLD_PERCENT)) {
+                jvmOptions.addAnalysis(Analysis.WARN_G1_MIXED_GC_LIVE_THRSHOLD_PRCNT);
+            }
+        }
+    },
+
+    /**
+     * Diagnostic options. Always evaluated, as any diagnostic option triggers it.
+     */
+    DIAGNOSTIC_OPTIONS(true, JvmOption.UNLOCK_DIAGNOSTIC_VM_OPTIONS, Analysis.INFO_DIAGNOSTIC_VM_OPTIONS_ENABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.UNLOCK_DIAGNOSTIC_VM_OPTIONS)
+                    || !jvmOptions.getDiagnostic().isEmpty()) {
+                jvmOptions.addAnalysis(Analysis.INFO_DIAGNOSTIC_VM_OPTIONS_ENABLED);
+            }
+        }
+    },
+
+    /**
+     * Instrumentation.
+     */
+    INSTRUMENTATION(JvmOption.JAVAAGENT, Analysis.INFO_INSTRUMENTATION) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.JAVAAGENT)) {
+                jvmOptions.addAnalysis(Analysis.INFO_INSTRUMENTATION);
+            }
+        }
+    },
+
+    /**
+     * Explicit gc options when explicit gc is disabled.
+     */
+    EXPLICIT_GC_INVOKES_CONCURRENT_AND_UNLOADS_CLASSES(JvmOption.EXPLICIT_GC_INVOKES_CONCURRENT_AND_UNLOADS_CLASSES,
+            JvmOption.DISABLE_EXPLICIT_GC, Analysis.INFO_CRUFT_EXP_GC_INV_CON_AND_UNL_CLA) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isDisabled(JvmOption.EXPLICIT_GC_INVOKES_CONCURRENT_AND_UNLOADS_CLASSES)
+                    && jvmOptions.isEnabled(JvmOption.DISABLE_EXPLICIT_GC)) {
+                jvmOptions.addAnalysis(Analysis.INFO_CRUFT_EXP_GC_INV_CON_AND_UNL_CLA);
+            }
+        }
+    },
+
+    /**
+     * JDK8 gc log file overwrite.
+     */
+    GC_LOG_FILE_OVERWRITE(JvmOption.LOGGC, JvmOption.USE_GC_LOG_FILE_ROTATION,
+            Analysis.WARN_JDK8_GC_LOG_FILE_OVERWRITE) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if ((!jvmOptions.hasOption(JvmOption.USE_GC_LOG_FILE_ROTATION)
+                    || jvmOptions.isDisabled(JvmOption.USE_GC_LOG_FILE_ROTATION))
+                    && jvmOptions.hasOption(JvmOption.LOGGC)
+                    && !jvmOptions.getToken(JvmOption.LOGGC).contains("%")) {
+                jvmOptions.addAnalysis(Analysis.WARN_JDK8_GC_LOG_FILE_OVERWRITE);
+            }
+        }
+    },
+
+    /**
+     * JDK8 gc log file rotation disabled.
+     */
+    GC_LOG_FILE_ROTATION_DISABLED(JvmOption.USE_GC_LOG_FILE_ROTATION, JvmOption.NUMBER_OF_GC_LOG_FILES,
+            Analysis.WARN_JDK8_GC_LOG_FILE_ROTATION_DISABLED, Analysis.WARN_JDK8_GC_LOG_FILE_ROTATION_DISABLED_NUM) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isDisabled(JvmOption.USE_GC_LOG_FILE_ROTATION)) {
+                jvmOptions.addAnalysis(Analysis.WARN_JDK8_GC_LOG_FILE_ROTATION_DISABLED);
+                if (jvmOptions.hasOption(JvmOption.NUMBER_OF_GC_LOG_FILES)) {
+                    jvmOptions.addAnalysis(Analysis.WARN_JDK8_GC_LOG_FILE_ROTATION_DISABLED_NUM);
+                }
+            }
+        }
+    },
+
+    /**
+     * JDK11 gc log file rotation disabled.
+     */
+    LOG_FILE_ROTATION_DISABLED(JvmOption.LOG, Analysis.WARN_JDK11_GC_LOG_FILE_ROTATION_DISABLED,
+            Analysis.WARN_JDK11_GC_LOG_FILE_OVERWRITE) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.LOG)) {
+                Iterator<JvmOptionToken> iterator = jvmOptions.getTokens(JvmOption.LOG).iterator();
+                while (iterator.hasNext()) {
+                    JvmOptionToken xLog = iterator.next();
+                    Matcher matcher = XLOG_FILE_COUNT_0.matcher(xLog);
+                    if (matcher.find()) {
+                        jvmOptions.addAnalysis(Analysis.WARN_JDK11_GC_LOG_FILE_ROTATION_DISABLED);
+                        if (!matcher.group(1).contains("%")) {
+                            jvmOptions.addAnalysis(Analysis.WARN_JDK11_GC_LOG_FILE_OVERWRITE);
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+    },
+
+    /**
+     * JDK11 automatic gc log file rotation disabled.
+     */
+    LOG_FILE_SIZE_0(JvmOption.LOG, Analysis.WARN_JDK11_GC_LOG_FILE_SIZE_0, Analysis.WARN_JDK11_GC_LOG_FILE_OVERWRITE) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.LOG)) {
+                Iterator<JvmOptionToken> iterator = jvmOptions.getTokens(JvmOption.LOG).iterator();
+                while (iterator.hasNext()) {
+                    JvmOptionToken xLog = iterator.next();
+                    Matcher matcher = XLOG_FILE_SIZE_0.matcher(xLog);
+                    if (matcher.find()) {
+                        jvmOptions.addAnalysis(Analysis.WARN_JDK11_GC_LOG_FILE_SIZE_0);
+                        if (!matcher.group(1).contains("%")) {
+                            jvmOptions.addAnalysis(Analysis.WARN_JDK11_GC_LOG_FILE_OVERWRITE);
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+    },
+
+    /**
+     * JDK8 gc log file size small.
+     */
+    GC_LOG_FILE_SIZE_SMALL(JvmOption.GC_LOG_FILE_SIZE, JvmOption.LOGGC, JvmContextField.VERSION_MAJOR,
+            Analysis.WARN_JDK8_GC_LOG_FILE_SIZE_SMALL) {
+        @Override
+        boolean appliesTo(int versionMajor, CollectorFamily family) {
+            return versionMajor <= 8;
+        }
+
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.GC_LOG_FILE_SIZE)
+                    && (jvmContext.getVersionMajor() > 0 || jvmOptions.hasOption(JvmOption.LOGGC))) {
+                BigDecimal fiveGigabytes = new BigDecimal("5").multiply(Constants.MEGABYTE);
+                if (jvmOptions.getValue(JvmOption.GC_LOG_FILE_SIZE) < fiveGigabytes.longValue()) {
+                    jvmOptions.addAnalysis(Analysis.WARN_JDK8_GC_LOG_FILE_SIZE_SMALL);
+                }
+            }
+        }
+    },
+
+    /**
+     * JDK11 gc log file size small.
+     */
+    LOG_FILE_SIZE_SMALL(JvmOption.LOG, Analysis.WARN_JDK11_GC_LOG_FILE_SIZE_SMALL) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.LOG)) {
+                Iterator<JvmOptionToken> iterator = jvmOptions.getTokens(JvmOption.LOG).iterator();
+                while (iterator.hasNext()) {
+                    JvmOptionToken xLog = iterator.next();
+                    String filesize = null;
+                    Matcher matcher = XLOG_FILE_SIZE.matcher(xLog);
+                    if (matcher.find()) {
+                        filesize = matcher.group(1);
+                        BigDecimal fiveGigabytes = new BigDecimal("5").multiply(Constants.MEGABYTE);
+                        if (JdkUtil.getByteOptionBytes(filesize) < fiveGigabytes.longValue()) {
+                            jvmOptions.addAnalysis(Analysis.WARN_JDK11_GC_LOG_FILE_SIZE_SMALL);
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+    },
+
+    /**
+     * JMX enabled.
+     */
+    JMX(JvmOption.MANAGEMENT_SERVER, JvmOption.SYSTEM_PROPERTY, Analysis.INFO_JMX_ENABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.MANAGEMENT_SERVER) || JvmOptionToken
+                    .indexOf(jvmOptions.getTokens(JvmOption.SYSTEM_PROPERTY), "-Dcom.sun.management.jmxremote") >= 0) {
+                jvmOptions.addAnalysis(Analysis.INFO_JMX_ENABLED);
+            }
+        }
+    },
+
+    /**
+     * Native library being used.
+     */
+    NATIVE_AGENT(JvmOption.AGENTLIB, JvmOption.AGENTPATH, Analysis.INFO_NATIVE_AGENT) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.AGENTLIB) || jvmOptions.hasOption(JvmOption.AGENTPATH)) {
+                jvmOptions.addAnalysis(Analysis.INFO_NATIVE_AGENT);
+            }
+        }
+    },
+
+    /**
+     * Young space &gt;= old space.
+     */
+    NEW_RATIO_INVERTED(JvmOption.NEW_SIZE, JvmOption.MAX_HEAP_SIZE, Analysis.INFO_NEW_RATIO_INVERTED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.NEW_SIZE) && jvmOptions.hasOption(JvmOption.MAX_HEAP_SIZE)
+                    && JdkMath.calcPercent(jvmOptions.getValue(JvmOption.NEW_SIZE),
+                            jvmOptions.getValue(JvmOption.MAX_HEAP_SIZE)) >= 50) {
+                jvmOptions.addAnalysis(Analysis.INFO_NEW_RATIO_INVERTED);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:(+|-)PrintAdaptiveSizePolicy</code>.
+     */
+    PRINT_ADAPTIVE_SIZE_POLICY(JvmOption.PRINT_ADAPTIVE_SIZE_POLICY,
+            Analysis.INFO_JDK8_PRINT_ADAPTIVE_RESIZE_PLCY_DISABLED,
+            Analysis.INFO_JDK8_PRINT_ADAPTIVE_RESIZE_PLCY_ENABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isDisabled(JvmOption.PRINT_ADAPTIVE_SIZE_POLICY)) {
+                jvmOptions.addAnalysis(Analysis.INFO_JDK8_PRINT_ADAPTIVE_RESIZE_PLCY_DISABLED);
+            } else if (jvmOptions.isEnabled(JvmOption.PRINT_ADAPTIVE_SIZE_POLICY)) {
+                jvmOptions.addAnalysis(Analysis.INFO_JDK8_PRINT_ADAPTIVE_RESIZE_PLCY_ENABLED);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:+PrintPromotionFailure</code>.
+     */
+    PRINT_PROMOTION_FAILURE(JvmOption.PRINT_PROMOTION_FAILURE, Analysis.INFO_JDK8_PRINT_PROMOTION_FAILURE) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.PRINT_PROMOTION_FAILURE)) {
+                jvmOptions.addAnalysis(Analysis.INFO_JDK8_PRINT_PROMOTION_FAILURE);
+            }
+        }
+    },
+
+    /**
+     * Background compilation disabled.
+     */
+    BACKGROUND_COMPILATION(JvmOption.BATCH, JvmOption.BACKGROUND_COMPILATION,
+            Analysis.WARN_BYTECODE_BACK_COMP_DISABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.BATCH) || jvmOptions.isDisabled(JvmOption.BACKGROUND_COMPILATION)) {
+                jvmOptions.addAnalysis(Analysis.WARN_BYTECODE_BACK_COMP_DISABLED);
+            }
+        }
+    },
+
+    /**
+     * Just in time (JIT) compilation disabled.
+     */
+    X_INT(JvmOption.X_INT, Analysis.WARN_BYTECODE_COMPILE_DISABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.X_INT)) {
+                jvmOptions.addAnalysis(Analysis.WARN_BYTECODE_COMPILE_DISABLED);
+            }
+        }
+    },
+
+    /**
+     * Compilation forced on first invocation.
+     */
+    COMP(JvmOption.COMP, Analysis.WARN_BYTECODE_COMPILE_FIRST_INVOCATION) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.COMP)) {
+                jvmOptions.addAnalysis(Analysis.WARN_BYTECODE_COMPILE_FIRST_INVOCATION);
+            }
+        }
+    },
+
+    /**
+     * Class unloading disabled.
+     */
+    CLASS_UNLOADING(JvmOption.CLASS_UNLOADING, JvmContextField.VERSION_MAJOR, JvmContextField.VERSION_MINOR,
+            Analysis.ERROR_CLASS_UNLOADING_DISABLED_JDK_8377678, Analysis.WARN_CLASS_UNLOADING_DISABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isDisabled(JvmOption.CLASS_UNLOADING)) {
+                if (jvmContext.getVersionMajor() == 17 && jvmContext.getVersionMinor() < 20) {
+                    jvmOptions.addAnalysis(Analysis.ERROR_CLASS_UNLOADING_DISABLED_JDK_8377678);
+                } else {
+                    jvmOptions.addAnalysis(Analysis.WARN_CLASS_UNLOADING_DISABLED);
+                }
+            }
+        }
+    },
+
+    /**
+     * CMS handling metaspace collections disabled.
+     */
+    CMS_CLASS_UNLOADING(JvmOption.USE_CONC_MARK_SWEEP_GC, JvmOption.CMS_CLASS_UNLOADING_ENABLED,
+            Analysis.WARN_CMS_CLASS_UNLOADING_DISABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (!jvmOptions.isDisabled(JvmOption.USE_CONC_MARK_SWEEP_GC)
+                    && jvmOptions.isDisabled(JvmOption.CMS_CLASS_UNLOADING_ENABLED)) {
+                jvmOptions.addAnalysis(Analysis.WARN_CMS_CLASS_UNLOADING_DISABLED);
+            }
+        }
+    },
+
+    /**
+     * CMS incremental mode.
+     */
+    CMS_INCREMENTAL_MODE(JvmOption.USE_CONC_MARK_SWEEP_GC, JvmOption.CMS_INCREMENTAL_MODE,
+            Analysis.INFO_CMS_INCREMENTAL_MODE) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (!jvmOptions.isDisabled(JvmOption.USE_CONC_MARK_SWEEP_GC)
+                    && jvmOptions.isEnabled(JvmOption.CMS_INCREMENTAL_MODE)) {
+                jvmOptions.addAnalysis(Analysis.INFO_CMS_INCREMENTAL_MODE);
+            }
+        }
+    },
+
+    /**
+     * CMS incremental mode in combination with <code>-XX:CMSInitiatingOccupancyFraction=&lt;n&gt;</code>.
+     */
+    CMS_INCREMENTAL_MODE_INITIATING_OCCUPANCY(JvmOption.CMS_INCREMENTAL_MODE,
+            JvmOption.CMS_INITIATING_OCCUPANCY_FRACTION, JvmOption.USE_CONC_MARK_SWEEP_GC,
+            Analysis.WARN_CMS_INC_MODE_WITH_INIT_OCCUP_FRACT) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (!jvmOptions.isDisabled(JvmOption.USE_CONC_MARK_SWEEP_GC)
+                    && jvmOptions.isEnabled(JvmOption.CMS_INCREMENTAL_MODE)
+                    && jvmOptions.hasOption(JvmOption.CMS_INITIATING_OCCUPANCY_FRACTION)) {
+                jvmOptions.addAnalysis(Analysis.WARN_CMS_INC_MODE_WITH_INIT_OCCUP_FRACT);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:CMSInitiatingOccupancyFraction</code> without <code>-XX:+UseCMSInitiatingOccupancyOnly</code>.
+     */
+    CMS_INITIATING_OCCUPANCY_ONLY(JvmOption.USE_CONC_MARK_SWEEP_GC, JvmOption.CMS_INITIATING_OCCUPANCY_FRACTION,
+            JvmOption.USE_CMS_INITIATING_OCCUPANCY_ONLY, Analysis.INFO_CMS_INIT_OCCUPANCY_ONLY_MISSING) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (!jvmOptions.isDisabled(JvmOption.USE_CONC_MARK_SWEEP_GC)
+                    && jvmOptions.hasOption(JvmOption.CMS_INITIATING_OCCUPANCY_FRACTION)
+                    && !jvmOptions.isEnabled(JvmOption.USE_CMS_INITIATING_OCCUPANCY_ONLY)) {
+                jvmOptions.addAnalysis(Analysis.INFO_CMS_INIT_OCCUPANCY_ONLY_MISSING);
+            }
+        }
+    },
+
+    /**
+     * ParNew disabled, redundant, or cruft.
+     */
+    PAR_NEW(JvmOption.USE_CONC_MARK_SWEEP_GC, JvmOption.USE_PAR_NEW_GC, JvmOption.USE_PARALLEL_OLD_GC,
+            Analysis.ERROR_JDK8_CMS_PAR_NEW_DISABLED, Analysis.INFO_JDK8_CMS_PAR_NEW_REDUNDANT,
+            Analysis.INFO_CMS_DISABLED, Analysis.INFO_JDK8_CMS_PAR_NEW_CRUFT) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.USE_CONC_MARK_SWEEP_GC)) {
+                if (jvmOptions.isDisabled(JvmOption.USE_PAR_NEW_GC)) {
+                    jvmOptions.addAnalysis(Analysis.ERROR_JDK8_CMS_PAR_NEW_DISABLED);
+                } else if (jvmOptions.isEnabled(JvmOption.USE_PAR_NEW_GC)) {
+                    jvmOptions.addAnalysis(Analysis.INFO_JDK8_CMS_PAR_NEW_REDUNDANT);
+                }
+            } else if (jvmOptions.isDisabled(JvmOption.USE_CONC_MARK_SWEEP_GC)) {
+                jvmOptions.addAnalysis(Analysis.INFO_CMS_DISABLED);
+            } else if (jvmOptions.hasOption(JvmOption.USE_PAR_NEW_GC)
+                    && !jvmOptions.isDisabled(JvmOption.USE_PARALLEL_OLD_GC)) {
+                jvmOptions.addAnalysis(Analysis.INFO_JDK8_CMS_PAR_NEW_CRUFT);
+            }
+        }
+    },
+
+    /**
+     * ParallelOld disabled, redundant, or cruft. An ignored <code>-XX:(+|-)UseParallelOldGC</code> is always
+     * overridden by <code>-XX:(+|-)UseConcMarkSweepGC</code>.
+     */
+    PARALLEL_OLD(JvmOption.USE_PARALLEL_GC, JvmOption.USE_PARALLEL_OLD_GC, JvmOption.USE_CONC_MARK_SWEEP_GC,
+            JvmOption.USE_G1_GC, JvmOption.USE_PAR_NEW_GC, JvmOption.USE_SERIAL_GC, JvmOption.USE_SHENANDOAH_GC,
+            JvmOption.USE_Z_GC, JvmContextField.VERSION_MAJOR, Analysis.ERROR_PARALLEL_SCAVENGE_PARALLEL_SERIAL_OLD,
+            Analysis.INFO_PARALLEL_OLD_REDUNDANT, Analysis.INFO_PARALLEL_OLD_CRUFT) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.USE_PARALLEL_GC) || (jvmOptions.isDefaultCollector()
+                    && jvmContext.getVersionMajor() >= 7 && jvmContext.getVersionMajor() <= 8)) {
+                // Parallel collector is explicitly enabled, or JDK8 with no collector specified
+                if (jvmOptions.isDisabled(JvmOption.USE_PARALLEL_OLD_GC)) {
+                    jvmOptions.addAnalysis(Analysis.ERROR_PARALLEL_SCAVENGE_PARALLEL_SERIAL_OLD);
+                } else if (jvmOptions.isEnabled(JvmOption.USE_PARALLEL_OLD_GC)) {
+                    jvmOptions.addAnalysis(Analysis.INFO_PARALLEL_OLD_REDUNDANT);
+                }
+            } else if (!jvmOptions.hasOption(JvmOption.USE_PARALLEL_OLD_GC)
+                    && jvmOptions.occurs(JvmOption.USE_PARALLEL_OLD_GC)) {
+                // -XX:(+|-)UseParallelOldGC is being overriden (e.g. by -XX:+UseConcMarkSweepGC)
+                jvmOptions.addAnalysis(Analysis.INFO_PARALLEL_OLD_CRUFT);
+            }
+        }
+    },
+
+    /**
+     * Explicit gc disabled.
+     */
+    EXPLICIT_GC_DISABLED(JvmOption.DISABLE_EXPLICIT_GC, JvmOption.EXPLICIT_GC_INVOKES_CONCURRENT,
+            Analysis.WARN_EXPLICIT_GC_DISABLED, Analysis.ERROR_EXPLICIT_GC_DISABLED_CONCURRENT) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.DISABLE_EXPLICIT_GC)) {
+                jvmOptions.addAnalysis(Analysis.WARN_EXPLICIT_GC_DISABLED);
+                // Specifying that explicit gc being collected concurrently makes no sense if
+                // explicit gc is disabled.
+                if (jvmOptions.isEnabled(JvmOption.EXPLICIT_GC_INVOKES_CONCURRENT)) {
+                    jvmOptions.addAnalysis(Analysis.ERROR_EXPLICIT_GC_DISABLED_CONCURRENT);
+                }
+            }
+        }
+    },
+
+    /**
+     * Outputting application concurrent time.
+     */
+    PRINT_GC_APPLICATION_CONCURRENT_TIME(JvmOption.PRINT_GC_APPLICATION_CONCURRENT_TIME,
+            Analysis.INFO_PRINT_GC_APPLICATION_CONCURRENT_TIME) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.PRINT_GC_APPLICATION_CONCURRENT_TIME)) {
+                jvmOptions.addAnalysis(Analysis.INFO_PRINT_GC_APPLICATION_CONCURRENT_TIME);
+            }
+        }
+    },
+
+    /**
+     * Print class histogram output enabled with <code>-XX:+PrintClassHistogram</code>,
+     * <code>-XX:+PrintClassHistogramBeforeFullGC</code>, or <code>-XX:+PrintClassHistogramAfterFullGC</code>.
+     */
+    PRINT_CLASS_HISTOGRAM(JvmOption.PRINT_CLASS_HISTOGRAM, JvmOption.PRINT_CLASS_HISTOGRAM_AFTER_FULL_GC,
+            JvmOption.PRINT_CLASS_HISTOGRAM_BEFORE_FULL_GC, Analysis.WARN_PRINT_CLASS_HISTOGRAM,
+            Analysis.WARN_PRINT_CLASS_HISTOGRAM_AFTER_FULL_GC, Analysis.WARN_PRINT_CLASS_HISTOGRAM_BEFORE_FULL_GC) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.PRINT_CLASS_HISTOGRAM)) {
+                jvmOptions.addAnalysis(Analysis.WARN_PRINT_CLASS_HISTOGRAM);
+            }
+            if (jvmOptions.isEnabled(JvmOption.PRINT_CLASS_HISTOGRAM_AFTER_FULL_GC)) {
+                jvmOptions.addAnalysis(Analysis.WARN_PRINT_CLASS_HISTOGRAM_AFTER_FULL_GC);
+            }
+            if (jvmOptions.isEnabled(JvmOption.PRINT_CLASS_HISTOGRAM_BEFORE_FULL_GC)) {
+                jvmOptions.addAnalysis(Analysis.WARN_PRINT_CLASS_HISTOGRAM_BEFORE_FULL_GC);
+            }
+        }
+    },
+
+    /**
+     * Class histogram output enabled with "classhisto*=trace".
+     */
+    CLASS_HISTO_TRACE(JvmOption.LOG, Analysis.WARN_CLASS_HISTO_TRACE) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.LOG)) {
+                Iterator<JvmOptionToken> iterator = jvmOptions.getTokens(JvmOption.LOG).iterator();
+                while (iterator.hasNext()) {
+                    JvmOptionToken xLog = iterator.next();
+                    Matcher matcher = XLOG_CLASS_HISTO_TRACE.matcher(xLog);
+                    if (matcher.find()) {
+                        jvmOptions.addAnalysis(Analysis.WARN_CLASS_HISTO_TRACE);
+                        break;
+                    }
+                }
+            }
+        }
+    },
+
+    /**
+     * Tenuring disabled or default overriden.
+     */
+    MAX_TENURING_THRESHOLD(JvmOption.MAX_TENURING_THRESHOLD, Analysis.WARN_TENURING_DISABLED,
+            Analysis.INFO_MAX_TENURING_OVERRIDE) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            long tenuring = jvmOptions.getValue(JvmOption.MAX_TENURING_THRESHOLD);
+            if (tenuring == 0) {
+                jvmOptions.addAnalysis(Analysis.WARN_TENURING_DISABLED);
+            } else if (tenuring > 0 && tenuring < 15) {
+                jvmOptions.addAnalysis(Analysis.INFO_MAX_TENURING_OVERRIDE);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:+UseMembar</code>.
+     */
+    USE_MEMBAR(JvmOption.USE_MEMBAR, Analysis.WARN_USE_MEMBAR) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.USE_MEMBAR)) {
+                jvmOptions.addAnalysis(Analysis.WARN_USE_MEMBAR);
+            }
+        }
+    },
+
+    /**
+     * Distributed Garbage Collection (DGC) intervals set when explicit gc is disabled.
+     */
+    RMI_DGC_REDUNDANT(JvmOption.DISABLE_EXPLICIT_GC, JvmOption.SYSTEM_PROPERTY,
+            Analysis.INFO_RMI_DGC_CLIENT_GCINTERVAL_REDUNDANT, Analysis.INFO_RMI_DGC_SERVER_GCINTERVAL_REDUNDANT) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.DISABLE_EXPLICIT_GC)) {
+                if (jvmOptions.getSunRmiDgcClientGcInterval() != null) {
+                    jvmOptions.addAnalysis(Analysis.INFO_RMI_DGC_CLIENT_GCINTERVAL_REDUNDANT);
+                }
+                if (jvmOptions.getSunRmiDgcServerGcInterval() != null) {
+                    jvmOptions.addAnalysis(Analysis.INFO_RMI_DGC_SERVER_GCINTERVAL_REDUNDANT);
+                }
+            }
+        }
+    },
+
+    /**
+     * Small or large client Distributed Garbage Collection (DGC) interval.
+     */
+    RMI_DGC_CLIENT_GC_INTERVAL(JvmOption.SYSTEM_PROPERTY, JvmOption.DISABLE_EXPLICIT_GC,
+            Analysis.WARN_RMI_DGC_CLIENT_GCINTERVAL_SMALL, Analysis.WARN_RMI_DGC_CLIENT_GCINTERVAL_LARGE) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.getSunRmiDgcClientGcInterval() != null
+                    && !jvmOptions.isEnabled(JvmOption.DISABLE_EXPLICIT_GC)) {
+                long sunRmiDgcClientGcInterval = JdkUtil
+                        .getIntegerOptionValue(jvmOptions.getSunRmiDgcClientGcInterval());
+                if (sunRmiDgcClientGcInterval < 3600000) {
+                    jvmOptions.addAnalysis(Analysis.WARN_RMI_DGC_CLIENT_GCINTERVAL_SMALL);
+                } else if (sunRmiDgcClientGcInterval > 86400000) {
+                    jvmOptions.addAnalysis(Analysis.WARN_RMI_DGC_CLIENT_GCINTERVAL_LARGE);
+                }
+            }
+        }
+    },
+
+    /**
+     * Small or large server Distributed Garbage Collection (DGC) interval.
+     */
+    RMI_DGC_SERVER_GC_INTERVAL(JvmOption.SYSTEM_PROPERTY, JvmOption.DISABLE_EXPLICIT_GC,
+            Analysis.WARN_RMI_DGC_SERVER_GCINTERVAL_SMALL, Analysis.WARN_RMI_DGC_SERVER_GCINTERVAL_LARGE) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.getSunRmiDgcServerGcInterval() != null
+                    && !jvmOptions.isEnabled(JvmOption.DISABLE_EXPLICIT_GC)) {
+                long sunRmiDgcServerGcInterval = JdkUtil
+                        .getIntegerOptionValue(jvmOptions.getSunRmiDgcServerGcInterval());
+                if (sunRmiDgcServerGcInterval < 3600000) {
+                    jvmOptions.addAnalysis(Analysis.WARN_RMI_DGC_SERVER_GCINTERVAL_SMALL);
+                } else if (sunRmiDgcServerGcInterval > 86400000) {
+                    jvmOptions.addAnalysis(Analysis.WARN_RMI_DGC_SERVER_GCINTERVAL_LARGE);
+                }
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:+PrintReferenceGC</code>.
+     */
+    PRINT_REFERENCE_GC(JvmOption.PRINT_REFERENCE_GC, Analysis.INFO_JDK8_PRINT_REFERENCE_GC_ENABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.PRINT_REFERENCE_GC)) {
+                jvmOptions.addAnalysis(Analysis.INFO_JDK8_PRINT_REFERENCE_GC_ENABLED);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:+PrintStringDeduplicationStatistics</code>.
+     */
+    PRINT_STRING_DEDUPLICATION_STATISTICS(JvmOption.PRINT_STRING_DEDUPLICATION_STATISTICS,
+            Analysis.INFO_JDK8_PRINT_STRING_DEDUP_STATS_ENABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.PRINT_STRING_DEDUPLICATION_STATISTICS)) {
+                jvmOptions.addAnalysis(Analysis.INFO_JDK8_PRINT_STRING_DEDUP_STATS_ENABLED);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:+PrintStringTableStatistics</code>.
+     */
+    PRINT_STRING_TABLE_STATISTICS(JvmOption.PRINT_STRING_TABLE_STATISTICS,
+            Analysis.INFO_JDK8_PRINT_STRING_TABLE_STATS_ENABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.PRINT_STRING_TABLE_STATISTICS)) {
+                jvmOptions.addAnalysis(Analysis.INFO_JDK8_PRINT_STRING_TABLE_STATS_ENABLED);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:(+|-)TraceClassLoading</code>.
+     */
+    TRACE_CLASS_LOADING(JvmOption.TRACE_CLASS_LOADING, Analysis.INFO_TRACE_CLASS_LOADING,
+            Analysis.INFO_TRACE_CLASS_LOADING_DISABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.TRACE_CLASS_LOADING)) {
+                jvmOptions.addAnalysis(Analysis.INFO_TRACE_CLASS_LOADING);
+            } else if (jvmOptions.isDisabled(JvmOption.TRACE_CLASS_LOADING)) {
+                jvmOptions.addAnalysis(Analysis.INFO_TRACE_CLASS_LOADING_DISABLED);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:(+|-)TraceClassUnloading</code>.
+     */
+    TRACE_CLASS_UNLOADING(JvmOption.TRACE_CLASS_UNLOADING, Analysis.INFO_TRACE_CLASS_UNLOADING,
+            Analysis.INFO_TRACE_CLASS_UNLOADING_DISABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.TRACE_CLASS_UNLOADING)) {
+                jvmOptions.addAnalysis(Analysis.INFO_TRACE_CLASS_UNLOADING);
+            } else if (jvmOptions.isDisabled(JvmOption.TRACE_CLASS_UNLOADING)) {
+                jvmOptions.addAnalysis(Analysis.INFO_TRACE_CLASS_UNLOADING_DISABLED);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:SurvivorRatio</code>.
+     */
+    SURVIVOR_RATIO(JvmOption.SURVIVOR_RATIO, Analysis.INFO_SURVIVOR_RATIO) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.SURVIVOR_RATIO)) {
+                jvmOptions.addAnalysis(Analysis.INFO_SURVIVOR_RATIO);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:TargetSurvivorRatio</code>.
+     */
+    TARGET_SURVIVOR_RATIO(JvmOption.TARGET_SURVIVOR_RATIO, Analysis.INFO_SURVIVOR_RATIO_TARGET) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.TARGET_SURVIVOR_RATIO)) {
+                jvmOptions.addAnalysis(Analysis.INFO_SURVIVOR_RATIO_TARGET);
+            }
+        }
+    },
+
+    /**
+     * JFR being used.
+     */
+    JFR(JvmOption.FLIGHT_RECORDER_OPTIONS, JvmOption.START_FLIGHT_RECORDING, Analysis.INFO_JFR) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.FLIGHT_RECORDER_OPTIONS)
+                    || jvmOptions.hasOption(JvmOption.START_FLIGHT_RECORDING)) {
+                jvmOptions.addAnalysis(Analysis.INFO_JFR);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:+EliminateLocks</code>.
+     */
+    ELIMINATE_LOCKS(JvmOption.ELIMINATE_LOCKS, Analysis.INFO_ELIMINATE_LOCKS_ENABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.ELIMINATE_LOCKS) && jvmOptions.isEnabled(JvmOption.ELIMINATE_LOCKS)) {
+                jvmOptions.addAnalysis(Analysis.INFO_ELIMINATE_LOCKS_ENABLED);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:-UseVMInterruptibleIO</code>.
+     */
+    USE_VM_INTERRUPTIBLE_IO(JvmOption.USE_VM_INTERRUPTIBLE_IO, Analysis.WARN_JDK8_USE_VM_INTERRUPTIBLE_IO) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.USE_VM_INTERRUPTIBLE_IO)) {
+                jvmOptions.addAnalysis(Analysis.WARN_JDK8_USE_VM_INTERRUPTIBLE_IO);
+            }
+        }
+    },
+
+    /**
+     * Class verification disabled.
+     */
+    VERIFY(JvmOption.VERIFY, Analysis.WARN_VERIFY_NONE) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.VERIFY)
+                    && jvmOptions.getToken(JvmOption.VERIFY).contentEquals("-Xverify:none")) {
+                jvmOptions.addAnalysis(Analysis.WARN_VERIFY_NONE);
+            }
+        }
+    },
+
+    /**
+     * Max heap size not explicitly set.
+     */
+    HEAP_MAX_MISSING(true, JvmOption.MAX_HEAP_SIZE, JvmOption.MAX_RAM_PERCENTAGE, Analysis.INFO_HEAP_MAX_MISSING) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (!jvmOptions.hasOption(JvmOption.MAX_HEAP_SIZE) && !jvmOptions.hasOption(JvmOption.MAX_RAM_PERCENTAGE)) {
+                jvmOptions.addAnalysis(Analysis.INFO_HEAP_MAX_MISSING);
+            }
+        }
+    },
+
+    /**
+     * JVM signal handling disabled.
+     */
+    RS(JvmOption.RS, Analysis.WARN_RS) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.RS)) {
+                jvmOptions.addAnalysis(Analysis.WARN_RS);
+            }
+        }
+    },
+
+    /**
+     * JDK8 gc log file rotation not enabled.
+     */
+    GC_LOG_FILE_ROTATION_NOT_ENABLED(true, JvmOption.USE_GC_LOG_FILE_ROTATION, JvmOption.LOGGC,
+            JvmContextField.VERSION_MAJOR, Analysis.WARN_JDK8_GC_LOG_FILE_ROTATION_NOT_ENABLED) {
+        @Override
+        boolean appliesTo(int versionMajor, CollectorFamily family) {
+            return versionMajor <= 8;
+        }
+
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (!jvmOptions.hasOption(JvmOption.USE_GC_LOG_FILE_ROTATION)
+                    && (jvmContext.getVersionMajor() > 0 || jvmOptions.hasOption(JvmOption.LOGGC))) {
+                jvmOptions.addAnalysis(Analysis.WARN_JDK8_GC_LOG_FILE_ROTATION_NOT_ENABLED);
+            }
+        }
+    },
+
+    /**
+     * Gc logging sent to stdout.
+     */
+    GC_LOG_STDOUT(JvmOption.LOGGC, JvmOption.LOG, JvmOption.PRINT_GC, JvmOption.PRINT_GC_DETAILS,
+            JvmOption.PRINT_GC_TIME_STAMPS, JvmOption.PRINT_GC_DATE_STAMPS, JvmOption.PRINT_GC_APPLICATION_STOPPED_TIME,
+            Analysis.INFO_GC_LOG_STDOUT) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isGcLoggingToStdout()) {
+                jvmOptions.addAnalysis(Analysis.INFO_GC_LOG_STDOUT);
+            }
+        }
+    },
+
+    /**
+     * Creation of the AttachListener socket file (/tmp/.java_pid&lt;pid&gt;) disabled.
+     */
+    DISABLE_ATTACH_MECHANISM(JvmOption.DISABLE_ATTACH_MECHANISM, Analysis.WARN_DISABLE_ATTACH_MECHANISM) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.DISABLE_ATTACH_MECHANISM)) {
+                jvmOptions.addAnalysis(Analysis.WARN_DISABLE_ATTACH_MECHANISM);
+            }
+        }
+    },
+
+    /**
+     * Ignored <code>-XX:CompileThreshold</code>.
+     */
+    COMPILE_THRESHOLD(JvmOption.TIERED_COMPILATION, JvmOption.COMPILE_THRESHOLD,
+            Analysis.INFO_COMPILE_THRESHOLD_IGNORED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (!jvmOptions.isDisabled(JvmOption.TIERED_COMPILATION)
+                    && jvmOptions.hasOption(JvmOption.COMPILE_THRESHOLD)) {
+                jvmOptions.addAnalysis(Analysis.INFO_COMPILE_THRESHOLD_IGNORED);
+            }
+        }
+    },
+
+    /**
+     * Parallel class loading <code>-XX:+UnsyncloadClass</code>.
+     */
+    UNSYNCLOAD_CLASS(JvmOption.UNSYNCLOAD_CLASS, Analysis.WARN_DIAGNOSTIC_UNSYNCLOAD_CLASS) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.UNSYNCLOAD_CLASS)) {
+                jvmOptions.addAnalysis(Analysis.WARN_DIAGNOSTIC_UNSYNCLOAD_CLASS);
+            }
+        }
+    },
+
+    /**
+     * Guaranteed safepoint interval set.
+     */
+    GUARANTEED_SAFEPOINT_INTERVAL(JvmOption.GUARANTEED_SAFEPOINT_INTERVAL,
+            Analysis.WARN_DIAGNOSTICS_GUARANTEED_SAFEPOINT_INTERVAL) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.GUARANTEED_SAFEPOINT_INTERVAL)) {
+                jvmOptions.addAnalysis(Analysis.WARN_DIAGNOSTICS_GUARANTEED_SAFEPOINT_INTERVAL);
+            }
+        }
+    },
+
+    /**
+     * Safepoint logging.
+     */
+    PRINT_SAFEPOINT_STATISTICS(JvmOption.PRINT_SAFEPOINT_STATISTICS,
+            Analysis.WARN_DIAGNOSTIC_PRINT_SAFEPOINT_STATISTICS) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.PRINT_SAFEPOINT_STATISTICS)) {
+                jvmOptions.addAnalysis(Analysis.WARN_DIAGNOSTIC_PRINT_SAFEPOINT_STATISTICS);
+            }
+        }
+    },
+
+    /**
+     * Non safepoint debugging enabled.
+     */
+    DEBUG_NON_SAFEPOINTS(JvmOption.DEBUG_NON_SAFEPOINTS, Analysis.WARN_DIAGNOSTIC_DEBUG_NON_SAFEPOINTS) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.DEBUG_NON_SAFEPOINTS)) {
+                jvmOptions.addAnalysis(Analysis.WARN_DIAGNOSTIC_DEBUG_NON_SAFEPOINTS);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:ParallelGCThreads</code>.
+     */
+    PARALLEL_GC_THREADS(JvmOption.PARALLEL_GC_THREADS, JvmOption.USE_SERIAL_GC,
+            Analysis.INFO_PARALLEL_GC_THREADS_SERIAL, Analysis.ERROR_PARALLEL_GC_THREADS_1,
+            Analysis.INFO_PARALLEL_GC_THREADS) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.PARALLEL_GC_THREADS)) {
+                if (jvmOptions.isEnabled(JvmOption.USE_SERIAL_GC)) {
+                    jvmOptions.addAnalysis(Analysis.INFO_PARALLEL_GC_THREADS_SERIAL);
+                } else if (jvmOptions.getValue(JvmOption.PARALLEL_GC_THREADS) == 1) {
+                    jvmOptions.addAnalysis(Analysis.ERROR_PARALLEL_GC_THREADS_1);
+                } else {
+                    jvmOptions.addAnalysis(Analysis.INFO_PARALLEL_GC_THREADS);
+                }
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:CICompilerCount</code>.
+     */
+    CI_COMPILER_COUNT(JvmOption.CI_COMPILER_COUNT, Analysis.INFO_CI_COMPILER_COUNT) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.CI_COMPILER_COUNT)) {
+                jvmOptions.addAnalysis(Analysis.INFO_CI_COMPILER_COUNT);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:MinHeapDeltaBytes=N</code>.
+     */
+    MIN_HEAP_DELTA_BYTES(JvmOption.MIN_HEAP_DELTA_BYTES, Analysis.INFO_MIN_HEAP_DELTA_BYTES) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.MIN_HEAP_DELTA_BYTES)) {
+                jvmOptions.addAnalysis(Analysis.INFO_MIN_HEAP_DELTA_BYTES);
+            }
+        }
+    },
+
+    /**
+     * <code>-Xdebug</code>.
+     */
+    DEBUG(JvmOption.DEBUG, Analysis.INFO_DEBUG) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.DEBUG)) {
+                jvmOptions.addAnalysis(Analysis.INFO_DEBUG);
+            }
+        }
+    },
+
+    /**
+     * Deprecated JDK8 logging options on JDK9+.
+     */
+    DEPRECATED_LOGGING(JvmOption.LOGGC, JvmOption.PRINT_GC, JvmOption.PRINT_GC_DETAILS, JvmContextField.VERSION_MAJOR,
+            Analysis.INFO_JDK9_DEPRECATED_LOGGC, Analysis.INFO_JDK9_DEPRECATED_PRINT_GC,
+            Analysis.INFO_JDK9_DEPRECATED_PRINT_GC_DETAILS) {
+        @Override
+        boolean appliesTo(int versionMajor, CollectorFamily family) {
+            return versionMajor >= 9;
+        }
+
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.LOGGC)) {
+                jvmOptions.addAnalysis(Analysis.INFO_JDK9_DEPRECATED_LOGGC);
+            }
+            if (jvmOptions.hasOption(JvmOption.PRINT_GC)) {
+                jvmOptions.addAnalysis(Analysis.INFO_JDK9_DEPRECATED_PRINT_GC);
+            }
+            if (jvmOptions.hasOption(JvmOption.PRINT_GC_DETAILS)) {
+                jvmOptions.addAnalysis(Analysis.INFO_JDK9_DEPRECATED_PRINT_GC_DETAILS);
+            }
+        }
+    },
+
+    /**
+     * <code>-Xconcurrentio</code>.
+     */
+    CONCURRENTIO(JvmOption.CONCURRENTIO, Analysis.WARN_CONCURRENTIO) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.CONCURRENTIO)) {
+                jvmOptions.addAnalysis(Analysis.WARN_CONCURRENTIO);
+            }
+        }
+    },
+
+    /**
+     * Summarized remembered set processing information being output.
+     */
+    G1_SUMMARIZE_RSET_STATS(JvmOption.G1_SUMMARIZE_R_SET_STATS, JvmOption.G1_SUMMARIZE_R_SET_STATS_PERIOD,
+            JvmContextField.GARBAGE_COLLECTORS, Analysis.INFO_G1_SUMMARIZE_RSET_STATS_OUTPUT) {
+        @Override
+        boolean appliesTo(int versionMajor, CollectorFamily family) {
+            return family == CollectorFamily.G1 || family == CollectorFamily.UNKNOWN;
+        }
+
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (facts.getGarbageCollectors().contains(GarbageCollector.G1)
+                    && jvmOptions.isEnabled(JvmOption.G1_SUMMARIZE_R_SET_STATS)
+                    && jvmOptions.getValue(JvmOption.G1_SUMMARIZE_R_SET_STATS_PERIOD) > 0) {
+                jvmOptions.addAnalysis(Analysis.INFO_G1_SUMMARIZE_RSET_STATS_OUTPUT);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:OnOutOfMemoryError</code>.
+     */
+    ON_OUT_OF_MEMORY_ERROR(JvmOption.ON_OUT_OF_MEMORY_ERROR, JvmContextField.VERSION_MAJOR,
+            JvmContextField.VERSION_MINOR, Analysis.INFO_ON_OOME_KILL, Analysis.INFO_ON_OOME) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.ON_OUT_OF_MEMORY_ERROR)) {
+                if (ON_OOME_KILL.matcher(jvmOptions.getToken(JvmOption.ON_OUT_OF_MEMORY_ERROR)).matches()
+                        && (jvmContext.getVersionMajor() > 8 || (jvmContext.getVersionMajor() == 8
+                                && jvmContext.getVersionMinor() >= 92))) {
+                    jvmOptions.addAnalysis(Analysis.INFO_ON_OOME_KILL);
+                } else {
+                    jvmOptions.addAnalysis(Analysis.INFO_ON_OOME);
+                }
+            }
+        }
+    },
+
+    /**
+     * Explicit gc not handled concurrently by default by CMS or G1.
+     */
+    EXPLICIT_GC_NOT_CONCURRENT(true, JvmOption.EXPLICIT_GC_INVOKES_CONCURRENT, JvmOption.DISABLE_EXPLICIT_GC,
+            JvmContextField.GARBAGE_COLLECTORS, JvmContextField.VERSION_MAJOR,
+            Analysis.WARN_EXPLICIT_GC_NOT_CONCURRENT) {
+        @Override
+        boolean appliesTo(int versionMajor, CollectorFamily family) {
+            return family == CollectorFamily.CMS || family == CollectorFamily.G1 || family == CollectorFamily.UNKNOWN;
+        }
+
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            List<GarbageCollector> garbageCollectors = facts.getGarbageCollectors();
+            if ((garbageCollectors.contains(GarbageCollector.CMS) || garbageCollectors.contains(GarbageCollector.G1))
+                    && !jvmOptions.isEnabled(JvmOption.EXPLICIT_GC_INVOKES_CONCURRENT)
+                    && !jvmOptions.isEnabled(JvmOption.DISABLE_EXPLICIT_GC)) {
+                jvmOptions.addAnalysis(Analysis.WARN_EXPLICIT_GC_NOT_CONCURRENT);
+            }
+        }
+    },
+
+    /**
+     * Redundant <code>-d64</code> and <code>-server</code> and ignored <code>-client</code> on 64-bit.
+     */
+    SIXTY_FOUR_BIT(JvmOption.D64, JvmOption.SERVER, JvmOption.CLIENT, JvmContextField.BIT,
+            Analysis.INFO_64_D64_REDUNDANT, Analysis.INFO_64_SERVER_REDUNDANT, Analysis.INFO_64_CLIENT) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmContext.getBit() != Bit.BIT32) {
+                if (jvmOptions.isD64()) {
+                    jvmOptions.addAnalysis(Analysis.INFO_64_D64_REDUNDANT);
+                }
+                if (jvmOptions.isServer()) {
+                    jvmOptions.addAnalysis(Analysis.INFO_64_SERVER_REDUNDANT);
+                }
+                if (jvmOptions.isClient()) {
+                    jvmOptions.addAnalysis(Analysis.INFO_64_CLIENT);
+                }
+            }
+        }
+    },
+
+    /**
+     * Performance data written to disk in a container environment.
+     */
+    CONTAINER_PERF_DATA(true, JvmOption.USE_PERF_DATA, JvmOption.PERF_DISABLE_SHARED_MEM, JvmContextField.CONTAINER,
+            Analysis.WARN_CONTAINER_PERF_DATA_DISK) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmContext.isContainer() && !jvmOptions.isDisabled(JvmOption.USE_PERF_DATA)
+                    && !jvmOptions.isEnabled(JvmOption.PERF_DISABLE_SHARED_MEM)) {
+                jvmOptions.addAnalysis(Analysis.WARN_CONTAINER_PERF_DATA_DISK);
+            }
+        }
+    },
+
+    /**
+     * Performance data disabled.
+     */
+    PERF_DATA_DISABLED(JvmOption.USE_PERF_DATA, Analysis.INFO_PERF_DATA_DISABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isDisabled(JvmOption.USE_PERF_DATA)) {
+                jvmOptions.addAnalysis(Analysis.INFO_PERF_DATA_DISABLED);
+            }
+        }
+    },
+
+    /**
+     * JDK8 print gc details missing or disabled.
+     */
+    PRINT_GC_DETAILS(JvmOption.PRINT_GC_DETAILS, JvmOption.LOGGC, JvmOption.LOG, JvmOption.PRINT_GC,
+            JvmOption.PRINT_GC_TIME_STAMPS, JvmOption.PRINT_GC_DATE_STAMPS, JvmOption.PRINT_GC_APPLICATION_STOPPED_TIME,
+            JvmContextField.VERSION_MAJOR, Analysis.WARN_JDK8_PRINT_GC_DETAILS_MISSING,
+            Analysis.WARN_JDK8_PRINT_GC_DETAILS_DISABLED) {
+        @Override
+        boolean appliesTo(int versionMajor, CollectorFamily family) {
+            return versionMajor <= 8;
+        }
+
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmContext.getVersionMajor() > 0 || jvmOptions.hasOption(JvmOption.LOGGC)) {
+                if (!jvmOptions.hasOption(JvmOption.PRINT_GC_DETAILS) && jvmOptions.isGcLoggingEnable()) {
+                    jvmOptions.addAnalysis(Analysis.WARN_JDK8_PRINT_GC_DETAILS_MISSING);
+                } else if (jvmOptions.isDisabled(JvmOption.PRINT_GC_DETAILS)) {
+                    jvmOptions.addAnalysis(Analysis.WARN_JDK8_PRINT_GC_DETAILS_DISABLED);
+                }
+            }
+        }
+    },
+
+    /**
+     * JDK11 print gc details missing.
+     */
+    LOG_GC_DETAILS(JvmOption.LOG, JvmContextField.VERSION_MAJOR, Analysis.INFO_JDK11_PRINT_GC_DETAILS_MISSING) {
+        @Override
+        boolean appliesTo(int versionMajor, CollectorFamily family) {
+            return versionMajor == 11;
+        }
+
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.LOG)) {
+                Iterator<JvmOptionToken> iterator = jvmOptions.getTokens(JvmOption.LOG).iterator();
+                boolean haveGcDetails = false;
+                while (iterator.hasNext()) {
+                    JvmOptionToken xLog = iterator.next();
+                    if (XLOG_GC_DETAILS.matcher(xLog).matches()) {
+                        haveGcDetails = true;
+                        break;
+                    }
+                }
+                if (!haveGcDetails) {
+                    jvmOptions.addAnalysis(Analysis.INFO_JDK11_PRINT_GC_DETAILS_MISSING);
+                }
+            }
+        }
+    },
+
+    /**
+     * Heap initial and max values not equal outside a container.
+     */
+    HEAP_MIN_NOT_EQUAL_MAX(JvmOption.INITIAL_HEAP_SIZE, JvmOption.MAX_HEAP_SIZE, JvmContextField.CONTAINER,
+            Analysis.INFO_HEAP_MIN_NOT_EQUAL_MAX) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (!jvmContext.isContainer() && jvmOptions.hasOption(JvmOption.INITIAL_HEAP_SIZE)
+                    && jvmOptions.hasOption(JvmOption.MAX_HEAP_SIZE) && (jvmOptions
+                            .getValue(JvmOption.INITIAL_HEAP_SIZE) != jvmOptions.getValue(JvmOption.MAX_HEAP_SIZE))) {
+                jvmOptions.addAnalysis(Analysis.INFO_HEAP_MIN_NOT_EQUAL_MAX);
+            }
+        }
+    },
+
+    /**
+     * Extraneous use of <code>-XX:LargePageSizeInBytes</code>.
+     */
+    LARGE_PAGE_SIZE_IN_BYTES(JvmOption.LARGE_PAGE_SIZE_IN_BYTES, JvmContextField.OS,
+            Analysis.INFO_LARGE_PAGES_LARGE_PAGE_SIZE_IN_BYTES_LINUX,
+            Analysis.INFO_LARGE_PAGES_LARGE_PAGE_SIZE_IN_BYTES_WINDOWS) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.LARGE_PAGE_SIZE_IN_BYTES)) {
+                if (jvmContext.getOs() == Os.LINUX) {
+                    jvmOptions.addAnalysis(Analysis.INFO_LARGE_PAGES_LARGE_PAGE_SIZE_IN_BYTES_LINUX);
+                } else if (jvmContext.getOs() == Os.WINDOWS) {
+                    jvmOptions.addAnalysis(Analysis.INFO_LARGE_PAGES_LARGE_PAGE_SIZE_IN_BYTES_WINDOWS);
+                }
+            }
+        }
+    },
+
+    /**
+     * Thread stack size.
+     */
+    THREAD_STACK_SIZE(true, JvmOption.THREAD_STACK_SIZE, JvmContextField.BIT,
+            Analysis.WARN_THREAD_STACK_SIZE_NOT_SET_32, Analysis.WARN_THREADSTACKSIZE_UNITS,
+            Analysis.WARN_THREAD_STACK_SIZE_TINY, Analysis.WARN_THREAD_STACK_SIZE_SMALL,
+            Analysis.WARN_THREAD_STACK_SIZE_LARGE) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (!jvmOptions.hasOption(JvmOption.THREAD_STACK_SIZE)) {
+                if (jvmContext.getBit() == Bit.BIT32) {
+                    jvmOptions.addAnalysis(Analysis.WARN_THREAD_STACK_SIZE_NOT_SET_32);
+                }
+            } else {
+                char fromUnits;
+                long threadStackMaxSize;
+                Pattern pattern = Pattern
+                        .compile("^-(X)?(ss|X:ThreadStackSize=)" + JdkRegEx.OPTION_SIZE_BYTES + "$");
+                Matcher matcher = pattern.matcher(jvmOptions.getToken(JvmOption.THREAD_STACK_SIZE));
+                if (matcher.find()) {
+                    threadStackMaxSize = Long.parseLong(matcher.group(4));
+                    if (matcher.group(2) != null && matcher.group(2).equals("X:ThreadStackSize=")) {
+                        // value is in kilobytes, multiply by 1024
+                        threadStackMaxSize = JdkUtil.convertSize(threadStackMaxSize, 'K', 'B');
+                        if (matcher.group(5) != null) {
+                            fromUnits = matcher.group(5).charAt(0);
+                            threadStackMaxSize = JdkUtil.convertSize(threadStackMaxSize, fromUnits, 'K');
+                            jvmOptions.addAnalysis(Analysis.WARN_THREADSTACKSIZE_UNITS);
+                        }
+                    } else {
+                        if (matcher.group(5) != null) {
+                            fromUnits = matcher.group(5).charAt(0);
+                        } else {
+                            fromUnits = 'B';
+                        }
+                        threadStackMaxSize = JdkUtil.convertSize(threadStackMaxSize, fromUnits, 'K');
+                    }
+                    if (threadStackMaxSize < 1) {
+                        jvmOptions.addAnalysis(Analysis.WARN_THREAD_STACK_SIZE_TINY);
+                    } else if (threadStackMaxSize < 128) {
+                        jvmOptions.addAnalysis(Analysis.WARN_THREAD_STACK_SIZE_SMALL);
+                    } else if (threadStackMaxSize > 1024) {
+                        jvmOptions.addAnalysis(Analysis.WARN_THREAD_STACK_SIZE_LARGE);
+                    }
+                }
+            }
+        }
+    },
+
+    /**
+     * Java Thread API.
+     */
+    THREAD_PRIORITIES(JvmOption.USE_THREAD_PRIORITIES, JvmOption.THREAD_PRIORITY_POLICY,
+            Analysis.INFO_USE_THREAD_PRIORITIES_REDUNDANT, Analysis.WARN_THREAD_PRIORITY_POLICY_BAD,
+            Analysis.INFO_THREAD_PRIORITY_POLICY_REDUNDANT, Analysis.WARN_THREAD_PRIORITY_POLICY_AGGRESSIVE,
+            Analysis.WARN_THREAD_PRIORITY_POLICY_AGGRESSIVE_BACKDOOR, Analysis.WARN_USE_THREAD_PRIORITIES_DISABLED,
+            Analysis.WARN_THREAD_PRIORITY_POLICY_IGNORED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (!jvmOptions.hasOption(JvmOption.USE_THREAD_PRIORITIES)
+                    || jvmOptions.isEnabled(JvmOption.USE_THREAD_PRIORITIES)) {
+                if (jvmOptions.isEnabled(JvmOption.USE_THREAD_PRIORITIES)) {
+                    jvmOptions.addAnalysis(Analysis.INFO_USE_THREAD_PRIORITIES_REDUNDANT);
+                }
+                if (jvmOptions.hasOption(JvmOption.THREAD_PRIORITY_POLICY)) {
+                    long policy = jvmOptions.getValue(JvmOption.THREAD_PRIORITY_POLICY);
+                    if (policy < 0) {
+                        jvmOptions.addAnalysis(Analysis.WARN_THREAD_PRIORITY_POLICY_BAD);
+                    } else if (policy == 0) {
+                        jvmOptions.addAnalysis(Analysis.INFO_THREAD_PRIORITY_POLICY_REDUNDANT);
+                    } else if (policy == 1) {
+                        jvmOptions.addAnalysis(Analysis.WARN_THREAD_PRIORITY_POLICY_AGGRESSIVE);
+                    } else if (policy > 1) {
+                        jvmOptions.addAnalysis(Analysis.WARN_THREAD_PRIORITY_POLICY_AGGRESSIVE_BACKDOOR);
+                    }
+                }
+            } else if (jvmOptions.isDisabled(JvmOption.USE_THREAD_PRIORITIES)) {
+                jvmOptions.addAnalysis(Analysis.WARN_USE_THREAD_PRIORITIES_DISABLED);
+                if (jvmOptions.hasOption(JvmOption.THREAD_PRIORITY_POLICY)) {
+                    jvmOptions.addAnalysis(Analysis.WARN_THREAD_PRIORITY_POLICY_IGNORED);
+                }
+            }
+        }
+    },
+
+    /**
+     * Non-standard <code>-XX:CMSWaitDuration</code>.
+     */
+    CMS_WAIT_DURATION(JvmOption.CMS_WAIT_DURATION, Analysis.INFO_CMS_WAIT_DURATION) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.CMS_WAIT_DURATION)) {
+                jvmOptions.addAnalysis(Analysis.INFO_CMS_WAIT_DURATION);
+            }
+        }
+    },
+
+    /**
+     * Non-standard <code>-XX:(+|-)CMSEdenChunksRecordAlways</code>.
+     */
+    CMS_EDEN_CHUNKS_RECORD_ALWAYS(JvmOption.CMS_EDEN_CHUNKS_RECORD_ALWAYS, Analysis.INFO_CMS_EDEN_CHUNK_RECORD_ALWAYS) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.CMS_EDEN_CHUNKS_RECORD_ALWAYS)) {
+                jvmOptions.addAnalysis(Analysis.INFO_CMS_EDEN_CHUNK_RECORD_ALWAYS);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:+UseCondCardMark</code>.
+     */
+    USE_COND_CARD_MARK(JvmOption.USE_COND_CARD_MARK, Analysis.WARN_USE_COND_CARD_MARK) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.USE_COND_CARD_MARK)) {
+                jvmOptions.addAnalysis(Analysis.WARN_USE_COND_CARD_MARK);
+            }
+        }
+    },
+
+    /**
+     * Unaccounted disabled options. Always evaluated, as any disabled option triggers it.
+     */
+    UNACCOUNTED_DISABLED_OPTIONS(true, Analysis.INFO_UNACCOUNTED_OPTIONS_DISABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.getUnaccountedDisabledOptions() != null) {
+                jvmOptions.addAnalysis(Analysis.INFO_UNACCOUNTED_OPTIONS_DISABLED);
+            }
+        }
+    },
+
+    /**
+     * CMS not being used for old collections with ParNew.
+     */
+    CMS_MISSING(JvmOption.USE_PAR_NEW_GC, JvmOption.USE_CONC_MARK_SWEEP_GC, JvmOption.USE_PARALLEL_OLD_GC,
+            Analysis.ERROR_CMS_MISSING, Analysis.ERROR_PAR_NEW_SERIAL_OLD) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.USE_PAR_NEW_GC)) {
+                if (!jvmOptions.hasOption(JvmOption.USE_CONC_MARK_SWEEP_GC)
+                        && !jvmOptions.hasOption(JvmOption.USE_PARALLEL_OLD_GC)) {
+                    jvmOptions.addAnalysis(Analysis.ERROR_CMS_MISSING);
+                } else if (jvmOptions.isDisabled(JvmOption.USE_PARALLEL_OLD_GC)) {
+                    jvmOptions.addAnalysis(Analysis.ERROR_PAR_NEW_SERIAL_OLD);
+                }
+            }
+        }
+    },
+
+    /**
+     * Duplicate options. Always evaluated, as any option can be duplicated.
+     */
+    DUPLICATES(true, Analysis.WARN_DUPS) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.getDuplicates() != null) {
+                jvmOptions.addAnalysis(Analysis.WARN_DUPS);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:+MaxFDLimit</code> ignored.
+     */
+    MAX_FD_LIMIT(JvmOption.MAX_FD_LIMIT, JvmContextField.OS, Analysis.INFO_MAX_FD_LIMIT_IGNORED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmContext.getOs() != Os.UNIDENTIFIED && jvmContext.getOs() != Os.SOLARIS
+                    && jvmOptions.hasOption(JvmOption.MAX_FD_LIMIT)) {
+                jvmOptions.addAnalysis(Analysis.INFO_MAX_FD_LIMIT_IGNORED);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:(+|-)UseGCOverheadLimit</code>.
+     */
+    GC_OVERHEAD_LIMIT(JvmOption.USE_GC_OVERHEAD_LIMIT, JvmContextField.GARBAGE_COLLECTORS,
+            Analysis.INFO_GC_OVERHEAD_LIMIT_DISABLED, Analysis.INFO_GC_OVERHEAD_LIMIT_IGNORED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.USE_GC_OVERHEAD_LIMIT)
+                    && !jvmContext.getGarbageCollectors().isEmpty()) {
+                if (jvmContext.getGarbageCollectors().contains(GarbageCollector.PAR_NEW)
+                        || jvmContext.getGarbageCollectors().contains(GarbageCollector.CMS)
+                        || jvmContext.getGarbageCollectors().contains(GarbageCollector.PARALLEL_SCAVENGE)
+                        || jvmContext.getGarbageCollectors().contains(GarbageCollector.PARALLEL_OLD)) {
+                    if (jvmOptions.isDisabled(JvmOption.USE_GC_OVERHEAD_LIMIT)) {
+                        jvmOptions.addAnalysis(Analysis.INFO_GC_OVERHEAD_LIMIT_DISABLED);
+                    }
+                } else {
+                    jvmOptions.addAnalysis(Analysis.INFO_GC_OVERHEAD_LIMIT_IGNORED);
+                }
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:+IgnoreUnrecognizedVMOptions</code>.
+     */
+    IGNORE_UNRECOGNIZED_VM_OPTIONS(JvmOption.IGNORE_UNRECOGNIZED_VM_OPTIONS,
+            Analysis.INFO_IGNORE_UNRECOGNIZED_VM_OPTIONS) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.IGNORE_UNRECOGNIZED_VM_OPTIONS)) {
+                jvmOptions.addAnalysis(Analysis.INFO_IGNORE_UNRECOGNIZED_VM_OPTIONS);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:+UseCMSCompactAtFullCollection</code>.
+     */
+    USE_CMS_COMPACT_AT_FULL_COLLECTION(JvmOption.USE_CMS_COMPACT_AT_FULL_COLLECTION,
+            Analysis.ERROR_JDK8_USE_CMS_COMPACTION_AT_FULL_GC_ENABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.USE_CMS_COMPACT_AT_FULL_COLLECTION)) {
+                jvmOptions.addAnalysis(Analysis.ERROR_JDK8_USE_CMS_COMPACTION_AT_FULL_GC_ENABLED);
+            }
+        }
+    },
+
+    /**
+     * JNI validation enabled.
+     */
+    CHECK_JNI(JvmOption.CHECK_JNI, Analysis.WARN_CHECK_JNI_ENABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isCheckJni()) {
+                jvmOptions.addAnalysis(Analysis.WARN_CHECK_JNI_ENABLED);
+            }
+        }
+    },
+
+    /**
+     * Container support disabled.
+     */
+    CONTAINER_SUPPORT(JvmOption.USE_CONTAINER_SUPPORT, Analysis.WARN_CONTAINER_SUPPORT_DISABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isDisabled(JvmOption.USE_CONTAINER_SUPPORT)) {
+                jvmOptions.addAnalysis(Analysis.WARN_CONTAINER_SUPPORT_DISABLED);
+            }
+        }
+    },
+
+    /**
+     * Container support overridden.
+     */
+    ACTIVE_PROCESSOR_COUNT(JvmOption.ACTIVE_PROCESSOR_COUNT, Analysis.INFO_ACTIVE_PROCESSOR_COUNT) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.ACTIVE_PROCESSOR_COUNT)) {
+                jvmOptions.addAnalysis(Analysis.INFO_ACTIVE_PROCESSOR_COUNT);
+            }
+        }
+    },
+
+    /**
+     * OmitStackTraceInFastThrow disabled.
+     */
+    OMIT_STACK_TRACE_IN_FAST_THROW(JvmOption.OMIT_STACK_TRACE_IN_FAST_THROW,
+            Analysis.WARN_OMIT_STACK_TRACE_IN_FAST_THROW_DISABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isDisabled(JvmOption.OMIT_STACK_TRACE_IN_FAST_THROW)) {
+                jvmOptions.addAnalysis(Analysis.WARN_OMIT_STACK_TRACE_IN_FAST_THROW_DISABLED);
+            }
+        }
+    },
+
+    /**
+     * JFR <code>-XX:(+|-)FlightRecorder</code>.
+     */
+    FLIGHT_RECORDER(JvmOption.FLIGHT_RECORDER, Analysis.INFO_JFR_FLIGHT_RECORDER_ENABLED,
+            Analysis.INFO_JFR_FLIGHT_RECORDER_DISABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.FLIGHT_RECORDER)) {
+                jvmOptions.addAnalysis(Analysis.INFO_JFR_FLIGHT_RECORDER_ENABLED);
+            } else if (jvmOptions.isDisabled(JvmOption.FLIGHT_RECORDER)) {
+                jvmOptions.addAnalysis(Analysis.INFO_JFR_FLIGHT_RECORDER_DISABLED);
+            }
+        }
+    },
+
+    /**
+     * String deduplication.
+     */
+    STRING_DEDUPLICATION(true, JvmOption.USE_STRING_DEDUPLICATION, JvmOption.USE_G1_GC,
+            JvmContextField.GARBAGE_COLLECTORS, JvmContextField.VERSION_MAJOR,
+            Analysis.INFO_USE_STRING_DEDUPLICATION_REDUNDANT, Analysis.WARN_USE_STRING_DEDUPLICATION_Z_GENERATIONAL,
+            Analysis.INFO_USE_STRING_DEDUPLICATION_UNSUPPORTED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmContext.getGarbageCollectors().contains(GarbageCollector.G1)
+                    || jvmOptions.hasOption(JvmOption.USE_G1_GC) || jvmContext.getVersionMajor() > 18) {
+                if (jvmOptions.isDisabled(JvmOption.USE_STRING_DEDUPLICATION)) {
+                    jvmOptions.addAnalysis(Analysis.INFO_USE_STRING_DEDUPLICATION_REDUNDANT);
+                } else if (jvmContext.getGarbageCollectors().contains(GarbageCollector.ZGC_GENERATIONAL)) {
+                    jvmOptions.addAnalysis(Analysis.WARN_USE_STRING_DEDUPLICATION_Z_GENERATIONAL);
+                }
+            } else if (jvmOptions.isEnabled(JvmOption.USE_STRING_DEDUPLICATION)) {
+                jvmOptions.addAnalysis(Analysis.INFO_USE_STRING_DEDUPLICATION_UNSUPPORTED);
+            }
+        }
+    },
+
+    /**
+     * RAM percentages.
+     */
+    RAM_PERCENTAGE(JvmOption.INITIAL_RAM_PERCENTAGE, JvmOption.MAX_RAM_PERCENTAGE, JvmOption.MIN_RAM_PERCENTAGE,
+            Analysis.ERROR_RAM_PCT_INITIAL_GT_MAX, Analysis.ERROR_RAM_PCT_INITIAL_GT_MIN,
+            Analysis.ERROR_RAM_PCT_INITIAL_100, Analysis.ERROR_RAM_PCT_MAX_100, Analysis.ERROR_RAM_PCT_MIN_100) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            long initialRamPct = jvmOptions.getValue(JvmOption.INITIAL_RAM_PERCENTAGE);
+            long maxRamPct = jvmOptions.getValue(JvmOption.MAX_RAM_PERCENTAGE);
+            long minRamPct = jvmOptions.getValue(JvmOption.MIN_RAM_PERCENTAGE);
+            if (initialRamPct != Constants.UNKNOWN && maxRamPct != Constants.UNKNOWN && initialRamPct > maxRamPct) {
+                jvmOptions.addAnalysis(Analysis.ERROR_RAM_PCT_INITIAL_GT_MAX);
+            }
+            if (initialRamPct != Constants.UNKNOWN && minRamPct != Constants.UNKNOWN && initialRamPct > minRamPct) {
+                jvmOptions.addAnalysis(Analysis.ERROR_RAM_PCT_INITIAL_GT_MIN);
+            }
+            long hundred = BigDecimal.valueOf(100).movePointRight(Constants.PERCENT_SCALE).longValue();
+            if (initialRamPct == hundred) {
+                jvmOptions.addAnalysis(Analysis.ERROR_RAM_PCT_INITIAL_100);
+            }
+            if (maxRamPct == hundred) {
+                jvmOptions.addAnalysis(Analysis.ERROR_RAM_PCT_MAX_100);
+            }
+            if (minRamPct == hundred) {
+                jvmOptions.addAnalysis(Analysis.ERROR_RAM_PCT_MIN_100);
+            }
+        }
+    },
+
+    /**
+     * Code cache flushing disabled.
+     */
+    USE_CODE_CACHE_FLUSHING(JvmOption.USE_CODE_CACHE_FLUSHING, Analysis.INFO_USE_CODE_CACHE_FLUSHING_DISABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isDisabled(JvmOption.USE_CODE_CACHE_FLUSHING)) {
+                jvmOptions.addAnalysis(Analysis.INFO_USE_CODE_CACHE_FLUSHING_DISABLED);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:(+|-)ScavengeBeforeFullGC</code>.
+     */
+    SCAVENGE_BEFORE_FULL_GC(JvmOption.SCAVENGE_BEFORE_FULL_GC, JvmContextField.GARBAGE_COLLECTORS,
+            Analysis.INFO_SCAVENGE_BEFORE_FULL_GC_REDUNDANT, Analysis.INFO_SCAVENGE_BEFORE_FULL_GC_IGNORED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            List<GarbageCollector> garbageCollectors = facts.getGarbageCollectors();
+            if (jvmOptions.hasOption(JvmOption.SCAVENGE_BEFORE_FULL_GC) && !garbageCollectors.isEmpty()
+                    && !(garbageCollectors.size() == 1 && garbageCollectors.contains(GarbageCollector.UNKNOWN))) {
+                if (garbageCollectors.contains(GarbageCollector.PARALLEL_SCAVENGE)
+                        || garbageCollectors.contains(GarbageCollector.PARALLEL_OLD)
+                        || garbageCollectors.contains(GarbageCollector.PARALLEL_SERIAL_OLD)) {
+                    jvmOptions.addAnalysis(Analysis.INFO_SCAVENGE_BEFORE_FULL_GC_REDUNDANT);
+                } else {
+                    jvmOptions.addAnalysis(Analysis.INFO_SCAVENGE_BEFORE_FULL_GC_IGNORED);
+                }
+            }
+        }
+    },
+
+    /**
+     * jdk.tls.disabledAlgorithms set as a system property.
+     */
+    TLS_DISABLED_ALGORITHMS(JvmOption.SYSTEM_PROPERTY, Analysis.ERROR_SYSTEM_PROPERTY_JDK_TLS_DISABLED_ALGORITHMS) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasSystemProperty("-Djdk.tls.disabledAlgorithms")) {
+                jvmOptions.addAnalysis(Analysis.ERROR_SYSTEM_PROPERTY_JDK_TLS_DISABLED_ALGORITHMS);
+            }
+        }
+    },
+
+    /**
+     * Large pages requested, or to consider.
+     */
+    LARGE_PAGES(JvmOption.USE_LARGE_PAGES, JvmOption.USE_HUGE_TLBFS, JvmOption.USE_TRANSPARENT_HUGE_PAGES,
+            JvmOption.USE_SHM, JvmOption.MAX_HEAP_SIZE, JvmContextField.OS,
+            Analysis.ERROR_LARGE_PAGES_LINUX_HUGETLB_THP, Analysis.INFO_LARGE_PAGES_LINUX_THPS,
+            Analysis.INFO_LARGE_PAGES_LINUX_HUGETLBFS, Analysis.WARN_LARGE_PAGES_LINUX_SHM, Analysis.INFO_LARGE_PAGES,
+            Analysis.INFO_LARGE_PAGES_CONSIDER) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.USE_LARGE_PAGES) || jvmOptions.isEnabled(JvmOption.USE_HUGE_TLBFS)
+                    || jvmOptions.isEnabled(JvmOption.USE_TRANSPARENT_HUGE_PAGES)
+                    || jvmOptions.isEnabled(JvmOption.USE_SHM)) {
+                // JVM is requesting large pages
+                if (jvmOptions.isEnabled(JvmOption.USE_TRANSPARENT_HUGE_PAGES)
+                        && (jvmOptions.isEnabled(JvmOption.USE_HUGE_TLBFS)
+                                || jvmOptions.isEnabled(JvmOption.USE_SHM))) {
+                    // Only 1 backing should be configured
+                    jvmOptions.addAnalysis(Analysis.ERROR_LARGE_PAGES_LINUX_HUGETLB_THP);
+                } else if (jvmOptions.isEnabled(JvmOption.USE_TRANSPARENT_HUGE_PAGES)) {
+                    jvmOptions.addAnalysis(Analysis.INFO_LARGE_PAGES_LINUX_THPS);
+                } else if (jvmOptions.isEnabled(JvmOption.USE_HUGE_TLBFS)
+                        || (jvmOptions.isEnabled(JvmOption.USE_LARGE_PAGES) && jvmContext.getOs() == Os.LINUX)) {
+                    jvmOptions.addAnalysis(Analysis.INFO_LARGE_PAGES_LINUX_HUGETLBFS);
+                } else if (jvmOptions.isEnabled(JvmOption.USE_SHM)) {
+                    jvmOptions.addAnalysis(Analysis.WARN_LARGE_PAGES_LINUX_SHM);
+                } else {
+                    jvmOptions.addAnalysis(Analysis.INFO_LARGE_PAGES);
+                }
+            } else if (jvmOptions.hasOption(JvmOption.MAX_HEAP_SIZE)) {
+                // JVM is not requesting large pages. Should it be considered?
+                long bytesMaxHeap = jvmOptions.getValue(JvmOption.MAX_HEAP_SIZE);
+                BigDecimal fourMegabytes = new BigDecimal("4").multiply(Constants.GIGABYTE);
+                if (bytesMaxHeap > fourMegabytes.longValue()) {
+                    jvmOptions.addAnalysis(Analysis.INFO_LARGE_PAGES_CONSIDER);
+                }
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:+UseLargePagesInMetaspace</code>.
+     */
+    LARGE_PAGES_IN_METASPACE(JvmOption.USE_LARGE_PAGES_IN_METASPACE, JvmOption.USE_LARGE_PAGES,
+            Analysis.ERROR_LARGE_PAGES_USE_LARGE_PAGES_IN_METASPACE,
+            Analysis.INFO_LARGE_PAGES_USE_LARGE_PAGES_IN_METASPACE) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.USE_LARGE_PAGES_IN_METASPACE)) {
+                if (!jvmOptions.isEnabled(JvmOption.USE_LARGE_PAGES)) {
+                    jvmOptions.addAnalysis(Analysis.ERROR_LARGE_PAGES_USE_LARGE_PAGES_IN_METASPACE);
+                } else {
+                    jvmOptions.addAnalysis(Analysis.INFO_LARGE_PAGES_USE_LARGE_PAGES_IN_METASPACE);
+                }
+            }
+        }
+    },
+
+    /**
+     * G1 running on Windows prior to JDK17 with large pages enabled.
+     */
+    LARGE_PAGES_G1_WINDOWS(true, JvmContextField.OS, JvmContextField.GARBAGE_COLLECTORS, JvmContextField.VERSION_MAJOR,
+            Analysis.WARN_LARGE_PAGES_G1_WINDOWS) {
+        @Override
+        boolean appliesTo(int versionMajor, CollectorFamily family) {
+            return versionMajor < 17 && (family == CollectorFamily.G1 || family == CollectorFamily.UNKNOWN);
+        }
+
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmContext.getOs() == Os.WINDOWS && facts.getGarbageCollectors().contains(GarbageCollector.G1)) {
+                jvmOptions.addAnalysis(Analysis.WARN_LARGE_PAGES_G1_WINDOWS);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:+AlwaysPreTouch</code> in a container.
+     */
+    ALWAYS_PRE_TOUCH(JvmOption.ALWAYS_PRE_TOUCH, JvmContextField.CONTAINER, Analysis.WARN_ALWAYS_PRE_TOUCH_CONTAINER) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmContext.isContainer() && jvmOptions.isEnabled(JvmOption.ALWAYS_PRE_TOUCH)) {
+                jvmOptions.addAnalysis(Analysis.WARN_ALWAYS_PRE_TOUCH_CONTAINER);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:+AggressiveOpts</code>.
+     */
+    AGGRESSIVE_OPTS(JvmOption.AGGRESSIVE_OPTS, Analysis.INFO_AGGRESSIVE_OPTS_ENABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.AGGRESSIVE_OPTS)) {
+                jvmOptions.addAnalysis(Analysis.INFO_AGGRESSIVE_OPTS_ENABLED);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:+AllowUserSignalHandlers</code>.
+     */
+    ALLOW_USER_SIGNAL_HANDLERS(JvmOption.ALLOW_USER_SIGNAL_HANDLERS, Analysis.INFO_ALLOW_USER_SIGNAL_HANDLERS_ENABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isEnabled(JvmOption.ALLOW_USER_SIGNAL_HANDLERS)) {
+                jvmOptions.addAnalysis(Analysis.INFO_ALLOW_USER_SIGNAL_HANDLERS_ENABLED);
+            }
+        }
+    },
+
+    /**
+     * ZGC memory uncommitting disabled.
+     */
+    Z_UNCOMMIT(JvmOption.Z_UNCOMMIT, JvmOption.INITIAL_HEAP_SIZE, JvmOption.MAX_HEAP_SIZE, JvmOption.USE_Z_GC,
+            JvmContextField.GARBAGE_COLLECTORS, Analysis.INFO_Z_UNCOMMIT_DISABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if ((jvmOptions.isEnabled(JvmOption.USE_Z_GC)
+                    || jvmContext.getGarbageCollectors().contains(GarbageCollector.ZGC_GENERATIONAL)
+                    || jvmContext.getGarbageCollectors().contains(GarbageCollector.ZGC_NON_GENERATIONAL))
+                    && (jvmOptions.isDisabled(JvmOption.Z_UNCOMMIT)
+                            || (jvmOptions.hasOption(JvmOption.INITIAL_HEAP_SIZE)
+                                    && jvmOptions.hasOption(JvmOption.MAX_HEAP_SIZE)
+                                    && jvmOptions.getValue(JvmOption.INITIAL_HEAP_SIZE) == jvmOptions
+                                            .getValue(JvmOption.MAX_HEAP_SIZE)))) {
+                jvmOptions.addAnalysis(Analysis.INFO_Z_UNCOMMIT_DISABLED);
+            }
+        }
+    },
+
+    /**
+     * Redundant <code>-XX:-ZGenerational</code>.
+     */
+    Z_GENERATIONAL(JvmOption.Z_GENERATIONAL, Analysis.INFO_Z_GENERATIONAL_DISABLED_REDUNDANT) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isDisabled(JvmOption.Z_GENERATIONAL)) {
+                jvmOptions.addAnalysis(Analysis.INFO_Z_GENERATIONAL_DISABLED_REDUNDANT);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:RefDiscoveryPolicy</code>.
+     */
+    REF_DISCOVERY_POLICY(JvmOption.REF_DISCOVERY_POLICY, Analysis.INFO_REF_DISCOVERY_POLICY_REDUNDANT,
+            Analysis.WARN_REF_DISCOVERY_POLICY) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.REF_DISCOVERY_POLICY)) {
+                if (jvmOptions.getToken(JvmOption.REF_DISCOVERY_POLICY).getEnumValue().equals("0")) {
+                    jvmOptions.addAnalysis(Analysis.INFO_REF_DISCOVERY_POLICY_REDUNDANT);
+                } else if (jvmOptions.getToken(JvmOption.REF_DISCOVERY_POLICY).getEnumValue().equals("1")) {
+                    jvmOptions.addAnalysis(Analysis.WARN_REF_DISCOVERY_POLICY);
+                }
+            }
+        }
+    },
+
+    /**
+     * Ignored <code>-XX:(+|-)UseStringCache</code>.
+     */
+    USE_STRING_CACHE(JvmOption.USE_STRING_CACHE, Analysis.INFO_USE_STRING_CACHE_IGNORED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.USE_STRING_CACHE)) {
+                jvmOptions.addAnalysis(Analysis.INFO_USE_STRING_CACHE_IGNORED);
+            }
+        }
+    },
+
+    /**
+     * CMS options when the CMS collector is not used.
+     */
+    CMS_OPTIONS_IGNORED(JvmOption.CMS_INITIATING_OCCUPANCY_FRACTION, JvmOption.PARALLEL_CMS_THREADS,
+            JvmOption.USE_CMS_INITIATING_OCCUPANCY_ONLY, JvmContextField.GARBAGE_COLLECTORS,
+            Analysis.INFO_CMS_INITIATING_OCCUPANCY_FRACTION_IGNORED, Analysis.INFO_CMS_PARALLEL_CMS_THREADS_IGNORED,
+            Analysis.INFO_CMS_USE_CMS_INITIATING_OCCUPANCY_ONLY_IGNORED) {
+        @Override
+        boolean appliesTo(int versionMajor, CollectorFamily family) {
+            return family != CollectorFamily.CMS;
+        }
+
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            List<GarbageCollector> garbageCollectors = facts.getGarbageCollectors();
+            if (!garbageCollectors.contains(GarbageCollector.CMS)
+                    && !garbageCollectors.contains(GarbageCollector.UNKNOWN)) {
+                if (jvmOptions.hasOption(JvmOption.CMS_INITIATING_OCCUPANCY_FRACTION)) {
+                    jvmOptions.addAnalysis(Analysis.INFO_CMS_INITIATING_OCCUPANCY_FRACTION_IGNORED);
+                }
+                if (jvmOptions.hasOption(JvmOption.PARALLEL_CMS_THREADS)) {
+                    jvmOptions.addAnalysis(Analysis.INFO_CMS_PARALLEL_CMS_THREADS_IGNORED);
+                }
+                if (jvmOptions.hasOption(JvmOption.USE_CMS_INITIATING_OCCUPANCY_ONLY)) {
+                    jvmOptions.addAnalysis(Analysis.INFO_CMS_USE_CMS_INITIATING_OCCUPANCY_ONLY_IGNORED);
+                }
+            }
+        }
+    },
+
+    /**
+     * Default collector being used.
+     */
+    DEFAULT_COLLECTOR(true, JvmOption.USE_SERIAL_GC, JvmOption.USE_PAR_NEW_GC, JvmOption.USE_CONC_MARK_SWEEP_GC,
+            JvmOption.USE_PARALLEL_GC, JvmOption.USE_G1_GC, JvmOption.USE_SHENANDOAH_GC, JvmOption.USE_Z_GC,
+            Analysis.INFO_GC_DEFAULT) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isDefaultCollector()) {
+                jvmOptions.addAnalysis(Analysis.INFO_GC_DEFAULT);
+            }
+        }
+    },
+
+    /**
+     * <code>-XX:MaxGCPauseMillis</code> used with a collector other than G1 or Parallel.
+     */
+    MAX_GC_PAUSE_MILLIS(JvmOption.MAX_GC_PAUSE_MILLIS, JvmContextField.GARBAGE_COLLECTORS,
+            Analysis.ERROR_MAX_GC_PAUSE_MILLIS) {
+        @Override
+        boolean appliesTo(int versionMajor, CollectorFamily family) {
+            return family != CollectorFamily.G1 && family != CollectorFamily.PARALLEL;
+        }
+
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            List<GarbageCollector> garbageCollectors = facts.getGarbageCollectors();
+            if (jvmOptions.getMaxGcPauseMillis() != null && !garbageCollectors.isEmpty()
+                    && !(garbageCollectors.size() == 1 && garbageCollectors.contains(GarbageCollector.UNKNOWN))
+                    && !(garbageCollectors.contains(GarbageCollector.G1)
+                            || garbageCollectors.contains(GarbageCollector.PARALLEL_SCAVENGE)
+                            || garbageCollectors.contains(GarbageCollector.PARALLEL_SERIAL_OLD)
+                            || garbageCollectors.contains(GarbageCollector.PARALLEL_OLD))) {
+                jvmOptions.addAnalysis(Analysis.ERROR_MAX_GC_PAUSE_MILLIS);
+            }
+        }
+    },
+
+    /**
+     * MaxRAMPercentage used without MaxRAM when available memory &gt; 128g prior to JDK13.
+     */
+    MAX_RAM_LIMIT(JvmOption.MAX_RAM_PERCENTAGE, JvmOption.MAX_HEAP_SIZE, JvmOption.MAX_RAM, JvmContextField.MEMORY,
+            JvmContextField.VERSION_MAJOR, Analysis.WARN_MAX_RAM_LIMIT) {
+        @Override
+        boolean appliesTo(int versionMajor, CollectorFamily family) {
+            return versionMajor > 0 && versionMajor < 13;
+        }
+
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.hasOption(JvmOption.MAX_RAM_PERCENTAGE) && !jvmOptions.hasOption(JvmOption.MAX_HEAP_SIZE)
+                    && !jvmOptions.hasOption(JvmOption.MAX_RAM)) {
+                BigDecimal oneHundredTwentyEightGigabytes = new BigDecimal("128").multiply(Constants.GIGABYTE);
+                if (jvmContext.getMemory() > oneHundredTwentyEightGigabytes.longValue()) {
+                    jvmOptions.addAnalysis(Analysis.WARN_MAX_RAM_LIMIT);
+                }
+            }
+        }
+    },
+
+    /**
+     * Redundant/confusing <code>-XX:-DisableExplicitGC</code>.
+     */
+    DISABLE_EXPLICIT_GC_DISABLED(JvmOption.DISABLE_EXPLICIT_GC, Analysis.INFO_DISABLE_EXPLICIT_GC_DISABLED) {
+        @Override
+        void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts) {
+            if (jvmOptions.isDisabled(JvmOption.DISABLE_EXPLICIT_GC)) {
+                jvmOptions.addAnalysis(Analysis.INFO_DISABLE_EXPLICIT_GC_DISABLED);
+            }
+        }
+    };
+
+    /**
+     * <code>-agentlib</code> remote debugging.
+     */
+    private static final Pattern AGENTLIB_JDWP = Pattern.compile("^-agentlib:jdwp=transport=dt_socket.+$");
+
+    /**
+     * The rules always evaluated, a bit per rule ordinal.
+     */
+    private static final long[] ALWAYS_EVALUATED;
+
+    /**
+     * <code>-XX:OnOutOfMemoryError</code> kill.
+     */
+    private static final Pattern ON_OOME_KILL = Pattern.compile("^.+kill -9.+$");
+
+    /**
+     * The rules that can report each {@link Analysis}, a bit per rule ordinal, by <code>Analysis</code> ordinal.
+     */
+    private static final long[][] REPORTED_BY;
+
+    /**
+     * The rules that apply to a JDK major version and collector family, a bit per rule ordinal, by
+     * {@link #ruleSetKey(int, CollectorFamily)}.
+     */
+    private static final ConcurrentMap<Long, long[]> RULE_SETS = new ConcurrentHashMap<Long, long[]>();
+
+    /**
+     * All rules, by ordinal.
+     */
+    private static final AnalysisRule[] RULES = values();
+
+    /**
+     * <code>-Xrunjdwp</code> remote debugging.
+     */
+    private static final Pattern RUNJDWP = Pattern.compile("^-Xrunjdwp:transport=dt_socket.+$");
+
+    /**
+     * The rules triggered by each option, a bit per rule ordinal, by option ordinal (null if none).
+     */
+    private static final long[][] TRIGGERED;
+
+    /**
+     * The number of <code>long</code> words in a rule bitmap.
+     */
+    private static final int WORDS = (RULES.length + 63) / 64;
+
+    /**
+     * <code>-Xlog</code> gc class histogram trace logging.
+     */
+    private static final Pattern XLOG_CLASS_HISTO_TRACE = Pattern.compile("^-Xlog:gc(.+)classhisto\\*=trace.*$");
+
+    /**
+     * <code>-Xlog</code> gc log file rotation disabled.
+     */
+    private static final Pattern XLOG_FILE_COUNT_0 = Pattern.compile("^-Xlog:gc(.+)filecount=0.*$");
+
+    /**
+     * <code>-Xlog</code> gc log file size.
+     */
+    private static final Pattern XLOG_FILE_SIZE = Pattern
+            .compile("^-Xlog:gc.+filesize=" + JdkRegEx.OPTION_SIZE_BYTES + ".*$");
+
+    /**
+     * <code>-Xlog</code> gc log file size 0.
+     */
+    private static final Pattern XLOG_FILE_SIZE_0 = Pattern.compile("^-Xlog:gc(.+)filesize=0.*$");
+
+    /**
+     * <code>-Xlog</code> gc details. The negative lookahead matches "gc*" followed by anything other than "=off".
+     */
+    private static final Pattern XLOG_GC_DETAILS = Pattern.compile("^.+gc\\*(?!=off).+$");
+
+    static {
+        ALWAYS_EVALUATED = new long[WORDS];
+        TRIGGERED = new long[JvmOption.values().length][];
+        REPORTED_BY = new long[Analysis.values().length][WORDS];
+        for (AnalysisRule rule : RULES) {
+            for (Analysis analysis : rule.findings) {
+                REPORTED_BY[analysis.ordinal()][rule.ordinal() >>> 6] |= 1L << rule.ordinal();
+            }
+            if (rule.always) {
+                ALWAYS_EVALUATED[rule.ordinal() >>> 6] |= 1L << rule.ordinal();
+            } else {
+                for (JvmOption jvmOption : rule.options) {
+                    if (TRIGGERED[jvmOption.ordinal()] == null) {
+                        TRIGGERED[jvmOption.ordinal()] = new long[WORDS];
+                    }
+                    TRIGGERED[jvmOption.ordinal()][rule.ordinal() >>> 6] |= 1L << rule.ordinal();
+                }
+            }
+        }
+    }
+
+    /**
+     * @param rules
+     *            The rules to evaluate, a bit per rule ordinal.
+     * @param base
+     *            A previous recorded analysis.
+     * @param changed
+     *            The options changed since the previous recorded analysis, a bit per option ordinal, or null if none.
+     * @param factsChanged
+     *            Whether the derived values changed since the previous recorded analysis.
+     * @param contextChanged
+     *            The JVM context fields changed since the previous recorded analysis, a bit per field ordinal.
+     * @return The rules affected by the change, a bit per rule ordinal: the rules not evaluated by the previous
+     *         analysis or that read something changed, and the rules that can report the same {@link Analysis} as an
+     *         affected rule, which could depend on the order the rules report it.
+     */
+    static long[] affected(long[] rules, AnalysisRecord base, long[] changed, boolean factsChanged,
+            long contextChanged) {
+        long[] affected = new long[WORDS];
+        for (int word = 0; word < WORDS; word++) {
+            long bits = rules[word];
+            while (bits != 0) {
+                AnalysisRule rule = RULES[(word << 6) + Long.numberOfTrailingZeros(bits)];
+                if (!base.isUnaffected(rule, changed, factsChanged, contextChanged)) {
+                    affected[word] |= 1L << rule.ordinal();
+                }
+                bits &= bits - 1;
+            }
+        }
+        boolean grown = true;
+        while (grown) {
+            grown = false;
+            for (AnalysisRule rule : RULES) {
+                if ((affected[rule.ordinal() >>> 6] & (1L << rule.ordinal())) != 0) {
+                    for (Analysis analysis : rule.findings) {
+                        long[] reportedBy = REPORTED_BY[analysis.ordinal()];
+                        for (int word = 0; word < WORDS; word++) {
+                            long added = reportedBy[word] & rules[word] & ~affected[word];
+                            if (added != 0) {
+                                affected[word] |= added;
+                                grown = true;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return affected;
+    }
+
+    /**
+     * Evaluate the rules selected by {@link #select(Iterable, long[])} in order.
+     *
+     * @param rules
+     *            The rules to evaluate, a bit per rule ordinal.
+     * @param jvmOptions
+     *            The JVM options.
+     * @param facts
+     *            The values derived from the JVM options and context.
+     */
+    static void evaluate(long[] rules, JvmOptions jvmOptions, AnalysisFacts facts) {
+        for (int word = 0; word < rules.length; word++) {
+            long bits = rules[word];
+            while (bits != 0) {
+                AnalysisRule rule = RULES[(word << 6) + Long.numberOfTrailingZeros(bits)];
+                rule.check(jvmOptions, jvmOptions.getJvmContext(), facts);
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    /**
+     * Evaluate the rules selected by {@link #select(Iterable, long[])} in order, recording the analysis. A rule not
+     * affected by a change since a previous recorded analysis is not evaluated, and its {@link Analysis} is copied
+     * from the previous analysis.
+     *
+     * @param rules
+     *            The rules to evaluate, a bit per rule ordinal.
+     * @param affected
+     *            The rules affected by a change (see
+     *            {@link #affected(long[], AnalysisRecord, long[], boolean, long)}), a bit per rule ordinal.
+     * @param jvmOptions
+     *            The JVM options.
+     * @param facts
+     *            The values derived from the JVM options and context.
+     * @param record
+     *            The record of the analysis.
+     * @param base
+     *            The previous recorded analysis, or null if all the rules are affected.
+     * @return The number of rules evaluated.
+     */
+    static int evaluate(long[] rules, long[] affected, JvmOptions jvmOptions, AnalysisFacts facts,
+            AnalysisRecord record, AnalysisRecord base) {
+        int evaluated = 0;
+        for (int word = 0; word < rules.length; word++) {
+            long bits = rules[word];
+            while (bits != 0) {
+                AnalysisRule rule = RULES[(word << 6) + Long.numberOfTrailingZeros(bits)];
+                if ((affected[word] & (1L << rule.ordinal())) != 0) {
+                    record.begin(rule);
+                    rule.check(jvmOptions, record.getJvmContext(), facts);
+                    record.end();
+                    evaluated++;
+                } else {
+                    record.copy(rule, base);
+                    for (Analysis analysis : base.getFindings(rule)) {
+                        jvmOptions.addAnalysis(analysis);
+                    }
+                }
+                bits &= bits - 1;
+            }
+        }
+        return evaluated;
+    }
+
+    /**
+     * Evaluate the rules selected by {@link #select(Iterable, long[])} within a budget, recording the analysis. Rules
+     * that can report an error are evaluated first, then a warning, then only info, and within each, the cheapest
+     * first if the costs are given, then in the standard order. The budget only determines the rules evaluated: the
+     * <code>Analysis</code> recorded is reported in the standard order (see {@link AnalysisRecord#getAnalysis()}).
+     *
+     * @param rules
+     *            The rules to evaluate, a bit per rule ordinal.
+     * @param jvmOptions
+     *            The JVM options.
+     * @param facts
+     *            The values derived from the JVM options and context.
+     * @param record
+     *            The record of the analysis.
+     * @param timed
+     *            Whether the evaluation has a deadline.
+     * @param deadline
+     *            The {@link System#nanoTime()} after which no rule is evaluated, if timed.
+     * @param maxRules
+     *            The maximum number of rules to evaluate.
+     * @param cost
+     *            The cost of the rules, updated with the rules evaluated, or null to not order or measure by cost.
+     * @return True if all the rules were evaluated, false if the budget ran out.
+     */
+    static boolean evaluate(long[] rules, JvmOptions jvmOptions, AnalysisFacts facts, AnalysisRecord record,
+            boolean timed, long deadline, int maxRules, AnalysisCost cost) {
+        AnalysisRule[] ordered = new AnalysisRule[RULES.length];
+        final long[] costs = new long[RULES.length];
+        int count = 0;
+        for (int word = 0; word < rules.length; word++) {
+            long bits = rules[word];
+            while (bits != 0) {
+                AnalysisRule rule = RULES[(word << 6) + Long.numberOfTrailingZeros(bits)];
+                costs[rule.ordinal()] = cost == null ? 0 : cost.getCost(rule);
+                ordered[count++] = rule;
+                bits &= bits - 1;
+            }
+        }
+        Arrays.sort(ordered, 0, count, new Comparator<AnalysisRule>() {
+            @Override
+            public int compare(AnalysisRule rule1, AnalysisRule rule2) {
+                int compare = Integer.compare(rule1.priority, rule2.priority);
+                if (compare == 0) {
+                    compare = Long.compare(costs[rule1.ordinal()], costs[rule2.ordinal()]);
+                }
+                if (compare == 0) {
+                    compare = Integer.compare(rule1.ordinal(), rule2.ordinal());
+                }
+                return compare;
+            }
+        });
+        for (int i = 0; i < count; i++) {
+            if (i >= maxRules || (timed && System.nanoTime() - deadline >= 0)) {
+                return false;
+            }
+            record.begin(ordered[i]);
+            ordered[i].check(jvmOptions, record.getJvmContext(), facts);
+            record.end();
+            if (cost != null) {
+                cost.add(ordered[i], record.getNanos(ordered[i]));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param versionMajor
+     *            The JDK major version.
+     * @param family
+     *            The collector family.
+     * @return The rules that apply to the JDK major version and collector family, a bit per rule ordinal, compiled on
+     *         first use and cached. Not to be modified.
+     */
+    static long[] getRuleSet(int versionMajor, CollectorFamily family) {
+        Long key = ruleSetKey(versionMajor, family);
+        long[] ruleSet = RULE_SETS.get(key);
+        if (ruleSet == null) {
+            ruleSet = new long[WORDS];
+            for (AnalysisRule rule : RULES) {
+                if (rule.appliesTo(versionMajor, family)) {
+                    ruleSet[rule.ordinal() >>> 6] |= 1L << rule.ordinal();
+                }
+            }
+            long[] cached = RULE_SETS.putIfAbsent(key, ruleSet);
+            if (cached != null) {
+                ruleSet = cached;
+            }
+        }
+        return ruleSet;
+    }
+
+    /**
+     * @param filter
+     *            The analysis filter.
+     * @return The rules that can report an {@link Analysis} accepted by the filter, a bit per rule ordinal.
+     */
+    static long[] getRuleSet(AnalysisFilter filter) {
+        long[] ruleSet = new long[WORDS];
+        for (AnalysisRule rule : RULES) {
+            if (filter.acceptsAny(rule.findings)) {
+                ruleSet[rule.ordinal() >>> 6] |= 1L << rule.ordinal();
+            }
+        }
+        return ruleSet;
+    }
+
+    /**
+     * @param versionMajor
+     *            The JDK major version.
+     * @param family
+     *            The collector family.
+     * @return The {@link #RULE_SETS} key.
+     */
+    private static long ruleSetKey(int versionMajor, CollectorFamily family) {
+        return ((long) versionMajor << 8) | family.ordinal();
+    }
+
+    /**
+     * @param present
+     *            The options present.
+     * @return The rules to evaluate, a bit per rule ordinal: the rules always evaluated and the rules triggered by the
+     *         options present.
+     */
+    static long[] select(Iterable<JvmOption> present) {
+        long[] rules = ALWAYS_EVALUATED.clone();
+        for (JvmOption jvmOption : present) {
+            long[] triggered = TRIGGERED[jvmOption.ordinal()];
+            if (triggered != null) {
+                for (int word = 0; word < WORDS; word++) {
+                    rules[word] |= triggered[word];
+                }
+            }
+        }
+        return rules;
+    }
+
+    /**
+     * @param present
+     *            The options present.
+     * @param ruleSet
+     *            The rules that apply to the JVM (see {@link #getRuleSet(int, CollectorFamily)}).
+     * @return The rules to evaluate, a bit per rule ordinal: the rules in the rule set always evaluated or triggered by
+     *         the options present.
+     */
+    static long[] select(Iterable<JvmOption> present, long[] ruleSet) {
+        long[] rules = select(present);
+        for (int word = 0; word < WORDS; word++) {
+            rules[word] &= ruleSet[word];
+        }
+        return rules;
+    }
+
+    /**
+     * Whether the rule is evaluated even if none of its options are present.
+     */
+    private final boolean always;
+
+    /**
+     * The {@link JvmContext} fields the rule reads.
+     */
+    private final Set<JvmContextField> context;
+
+    /**
+     * The {@link Analysis} the rule can report.
+     */
+    private final Set<Analysis> findings;
+
+    /**
+     * The options the rule reads, any of which triggers the rule.
+     */
+    private final Set<JvmOption> options;
+
+    /**
+     * The budgeted evaluation priority: 0 if the rule can report an error, 1 a warning, 2 only info.
+     */
+    private final int priority;
+
+    /**
+     * @param always
+     *            Whether the rule is evaluated even if none of its options are present (e.g. it reports a missing
+     *            option, or it depends only on the {@link JvmContext}).
+     * @param inputs
+     *            The options ({@link JvmOption}) and JVM context fields ({@link JvmContextField}) the rule reads, and
+     *            the {@link Analysis} it can report.
+     */
+    AnalysisRule(boolean always, Enum<?>... inputs) {
+        this.always = always;
+        EnumSet<JvmOption> jvmOptions = EnumSet.noneOf(JvmOption.class);
+        EnumSet<JvmContextField> jvmContextFields = EnumSet.noneOf(JvmContextField.class);
+        EnumSet<Analysis> analysis = EnumSet.noneOf(Analysis.class);
+        for (Enum<?> input : inputs) {
+            if (input instanceof JvmOption) {
+                jvmOptions.add((JvmOption) input);
+            } else if (input instanceof JvmContextField) {
+                jvmContextFields.add((JvmContextField) input);
+            } else {
+                analysis.add((Analysis) input);
+            }
+        }
+        this.options = Collections.unmodifiableSet(jvmOptions);
+        this.context = Collections.unmodifiableSet(jvmContextFields);
+        this.findings = Collections.unmodifiableSet(analysis);
+        int rulePriority = 2;
+        for (Analysis item : analysis) {
+            if (item.getSeverity() == AnalysisSeverity.ERROR) {
+                rulePriority = 0;
+            } else if (item.getSeverity() == AnalysisSeverity.WARN) {
+                rulePriority = Math.min(rulePriority, 1);
+            }
+        }
+        this.priority = rulePriority;
+    }
+
+    /**
+     * @param inputs
+     *            The options ({@link JvmOption}), at least one of which must be present for the rule to be evaluated,
+     *            and JVM context fields ({@link JvmContextField}) the rule reads, and the {@link Analysis} it can
+     *            report.
+     */
+    AnalysisRule(Enum<?>... inputs) {
+        this(false, inputs);
+    }
+
+    /**
+     * Whether the rule can apply to a JDK major version and collector family. A rule that does not apply is never
+     * evaluated for the JVM, so its version and collector family guards are not repeated in {@link #check}. The
+     * {@link CollectorFamily#UNKNOWN} family must be assumed to include any collector.
+     *
+     * @param versionMajor
+     *            The JDK major version, or {@link JvmContext#UNKNOWN}.
+     * @param family
+     *            The collector family.
+     * @return True if the rule can apply, false otherwise.
+     */
+    boolean appliesTo(int versionMajor, CollectorFamily family) {
+        return true;
+    }
+
+    /**
+     * Evaluate the rule, adding any <code>Analysis</code> found.
+     *
+     * @param jvmOptions
+     *            The JVM options.
+     * @param jvmContext
+     *            The JVM context.
+     * @param facts
+     *            The values derived from the JVM options and context.
+     */
+    abstract void check(JvmOptions jvmOptions, JvmContext jvmContext, AnalysisFacts facts);
+
+    /**
+     * @return The {@link JvmContext} fields the rule reads.
+     */
+    public Set<JvmContextField> getContext() {
+        return context;
+    }
+
+    /**
+     * @return The {@link Analysis} the rule can report.
+     */
+    public Set<Analysis> getFindings() {
+        return findings;
+    }
+
+    /**
+     * @return The options the rule reads.
+     */
+    public Set<JvmOption> getOptions() {
+        return options;
+    }
+
+    /**
+     * @return True if the rule is evaluated even if none of its options are present, false if it is only evaluated
+     *         when at least one of its options is present.
+     */
+    public boolean isAlways() {
+        return always;
+    }
+}
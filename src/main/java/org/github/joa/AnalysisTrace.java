@@ -0,0 +1,104 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * The trace of an analysis: how each {@link AnalysisRule} was evaluated, in the standard order. Enabled with
+ * {@link org.github.joa.domain.JvmContext#setTrace(boolean)}. For example, to find the rules that dominate the cost
+ * of an analysis, or why an <code>Analysis</code> was reported:
+ * </p>
+ * 
+ * <pre>
+ * jvmContext.setTrace(true);
+ * JvmOptions jvmOptions = new JvmOptions(jvmContext);
+ * jvmOptions.doAnalysis();
+ * for (RuleTrace ruleTrace : jvmOptions.getTrace().getRules()) {
+ *     if (ruleTrace.isFired()) {
+ *         System.out.println(ruleTrace.getRule() + " " + ruleTrace.getOptionsRead() + " " + ruleTrace.getFindings());
+ *     }
+ * }
+ * </pre>
+ * 
+ * <p>
+ * Tracing records the inputs each rule reads and times each rule, so it is only done when enabled. An analysis that
+ * is not traced is done as if the trace did not exist.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ */
+public class AnalysisTrace {
+
+    /**
+     * A trace per rule, by rule ordinal.
+     */
+    private final List<RuleTrace> rules;
+
+    /**
+     * @param record
+     *            The record of the analysis.
+     */
+    AnalysisTrace(AnalysisRecord record) {
+        List<RuleTrace> traces = new ArrayList<RuleTrace>(AnalysisRule.values().length);
+        for (AnalysisRule rule : AnalysisRule.values()) {
+            traces.add(new RuleTrace(rule, record));
+        }
+        rules = Collections.unmodifiableList(traces);
+    }
+
+    /**
+     * @return The time the rules took to evaluate in nanoseconds.
+     */
+    public long getNanos() {
+        long nanos = 0;
+        for (RuleTrace rule : rules) {
+            nanos += rule.getNanos();
+        }
+        return nanos;
+    }
+
+    /**
+     * @param rule
+     *            A rule.
+     * @return The trace of the rule.
+     */
+    public RuleTrace getRule(AnalysisRule rule) {
+        return rules.get(rule.ordinal());
+    }
+
+    /**
+     * @return The trace of every rule, in the standard order, including the rules not evaluated.
+     */
+    public List<RuleTrace> getRules() {
+        return rules;
+    }
+
+    /**
+     * @return The number of rules evaluated.
+     */
+    public int getRulesEvaluated() {
+        int evaluated = 0;
+        for (RuleTrace rule : rules) {
+            if (rule.isEvaluated()) {
+                evaluated++;
+            }
+        }
+        return evaluated;
+    }
+}
@@ -0,0 +1,257 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.github.joa.domain.GarbageCollector;
+import org.github.joa.util.Analysis;
+import org.github.joa.util.Constants;
+
+/**
+ * <p>
+ * Writer of {@link JvmOptions} analysis as JSON, or as NDJSON (one JSON object per line) for many JVMs. For example:
+ * </p>
+ * 
+ * <pre>
+ * {"options":{"count":3,"undefined":["-XX:-Mike"],"garbageCollectors":["G1"],"heapInitialSize":null,
+ * "heapMaxSize":2147483648},"analysis":[{"key":"info.opts.undefined","severity":"INFO","topic":"RUNTIME",
+ * "text":"Undefined JVM option(s): -XX:-Mike."}]}
+ * </pre>
+ * 
+ * <p>
+ * Each object is built in a buffer reused for the life of the writer and written to the output in one call, without
+ * building the <code>List</code> of {@link JvmOptions#getAnalysis()} or a JSON tree. A writer is not thread safe, so
+ * use one per thread when writing many records:
+ * </p>
+ * 
+ * <pre>
+ * JvmOptionsJsonWriter writer = new JvmOptionsJsonWriter(out);
+ * for (...) {
+ *     writer.writeLine(jvmOptions);
+ * }
+ * writer.flush();
+ * </pre>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ */
+public class JvmOptionsJsonWriter {
+
+    /**
+     * Hexadecimal digits, for escaping control characters.
+     */
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * The characters of {@link #json}, when written to a <code>Writer</code>.
+     */
+    private char[] chars = new char[0];
+
+    /**
+     * The JSON object being written.
+     */
+    private final StringBuilder json = new StringBuilder(1024);
+
+    /**
+     * The <code>Analysis</code> literal being written.
+     */
+    private final StringBuilder literal = new StringBuilder(256);
+
+    /**
+     * The output.
+     */
+    private final Appendable out;
+
+    /**
+     * @param out
+     *            The output.
+     */
+    public JvmOptionsJsonWriter(Appendable out) {
+        this.out = out;
+    }
+
+    /**
+     * @param out
+     *            The output, encoded as UTF-8 and buffered (see {@link #flush()}).
+     */
+    public JvmOptionsJsonWriter(OutputStream out) {
+        this(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Append a JSON number, or null if unknown.
+     * 
+     * @param value
+     *            The value, or {@link Constants#UNKNOWN}.
+     */
+    private void appendNumber(final long value) {
+        if (value == Constants.UNKNOWN) {
+            json.append("null");
+        } else {
+            json.append(value);
+        }
+    }
+
+    /**
+     * Append a JSON string.
+     * 
+     * @param value
+     *            The value.
+     */
+    private void appendString(final CharSequence value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '"':
+                json.append("\\\"");
+                break;
+            case '\\':
+                json.append("\\\\");
+                break;
+            case '\n':
+                json.append("\\n");
+                break;
+            case '\r':
+                json.append("\\r");
+                break;
+            case '\t':
+                json.append("\\t");
+                break;
+            default:
+                if (c < ' ') {
+                    json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xf]);
+                } else {
+                    json.append(c);
+                }
+                break;
+            }
+        }
+        json.append('"');
+    }
+
+    /**
+     * Build the JSON object for the JVM options in {@link #json}.
+     * 
+     * @param jvmOptions
+     *            The JVM options.
+     */
+    private void build(final JvmOptions jvmOptions) {
+        json.append("{\"options\":{\"count\":").append(jvmOptions.getOptionCount()).append(",\"undefined\":[");
+        List<String> undefined = jvmOptions.getUndefined();
+        for (int i = 0; i < undefined.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendString(undefined.get(i));
+        }
+        json.append("],\"garbageCollectors\":[");
+        List<GarbageCollector> garbageCollectors = jvmOptions.getFacts().getExpectedGarbageCollectors();
+        for (int i = 0; i < garbageCollectors.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendString(garbageCollectors.get(i).name());
+        }
+        json.append("],\"heapInitialSize\":");
+        appendNumber(jvmOptions.getHeapInitialSize());
+        json.append(",\"heapMaxSize\":");
+        appendNumber(jvmOptions.getHeapMaxSize());
+        json.append("},\"analysis\":[");
+        boolean first = true;
+        for (Analysis item : jvmOptions.getReported()) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append("{\"key\":");
+            appendString(item.getKey());
+            json.append(",\"severity\":\"").append(item.getSeverity().name());
+            json.append("\",\"topic\":\"").append(item.getTopic().name()).append("\",\"text\":");
+            literal.setLength(0);
+            jvmOptions.appendAnalysisLiteral(literal, item);
+            appendString(literal);
+            json.append('}');
+        }
+        json.append("]}");
+    }
+
+    /**
+     * Write the buffered JSON to the output.
+     * 
+     * @throws IOException
+     *             If the output cannot be written.
+     */
+    private void emit() throws IOException {
+        if (out instanceof Writer) {
+            // Avoid the String a Writer makes of a CharSequence
+            if (chars.length < json.length()) {
+                chars = new char[Math.max(json.length(), chars.length * 2)];
+            }
+            json.getChars(0, json.length(), chars, 0);
+            ((Writer) out).write(chars, 0, json.length());
+        } else {
+            out.append(json);
+        }
+    }
+
+    /**
+     * Flush the output, if it is <code>Flushable</code>.
+     * 
+     * @throws IOException
+     *             If the output cannot be flushed.
+     */
+    public void flush() throws IOException {
+        if (out instanceof Flushable) {
+            ((Flushable) out).flush();
+        }
+    }
+
+    /**
+     * Write the analysis of the JVM options as a JSON object.
+     * 
+     * @param jvmOptions
+     *            The JVM options.
+     * @throws IOException
+     *             If the output cannot be written.
+     */
+    public void write(JvmOptions jvmOptions) throws IOException {
+        json.setLength(0);
+        build(jvmOptions);
+        emit();
+    }
+
+    /**
+     * Write the analysis of the JVM options as a JSON object followed by a newline (NDJSON).
+     * 
+     * @param jvmOptions
+     *            The JVM options.
+     * @throws IOException
+     *             If the output cannot be written.
+     */
+    public void writeLine(JvmOptions jvmOptions) throws IOException {
+        json.setLength(0);
+        build(jvmOptions);
+        json.append('\n');
+        emit();
+    }
+}
@@ -0,0 +1,254 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.github.joa.domain.JvmContext;
+import org.github.joa.util.JvmOption;
+import org.github.joa.util.JvmOptionToken;
+
+/**
+ * <p>
+ * What-if evaluation of JVM options: a variant derived from existing JVM options by adding, removing, or replacing
+ * options. For example, the findings that change if <code>-XX:-UseCompressedOops</code> is dropped and
+ * <code>-XX:+UseG1GC</code> added:
+ * </p>
+ * 
+ * <pre>
+ * AnalysisDelta delta = new JvmOptionsOverlay(jvmOptions).remove("-XX:-UseCompressedOops").add("-XX:+UseG1GC")
+ *         .doAnalysis();
+ * </pre>
+ * 
+ * <p>
+ * The JVM options are not modified (copy-on-write). The variant shares the options already identified and decoded,
+ * so only the options added or replaced are parsed, and only the {@link AnalysisRule}s that read an option or JVM
+ * context field changed (or a value derived from one) are evaluated. The analysis of the other rules is copied from
+ * the JVM options.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ */
+public class JvmOptionsOverlay {
+
+    /**
+     * Options to add at the end.
+     */
+    private final List<String> added = new ArrayList<String>();
+
+    /**
+     * The JVM options the variant is derived from.
+     */
+    private final JvmOptions base;
+
+    /**
+     * The options changed, a bit per option ordinal, or null if the variant is not built or the options are not
+     * changed.
+     */
+    private long[] changed;
+
+    /**
+     * The JVM context of the variant, without the JVM options.
+     */
+    private final JvmContext jvmContext;
+
+    /**
+     * Options to remove.
+     */
+    private final List<String> removed = new ArrayList<String>();
+
+    /**
+     * Options to replace, in pairs of the option and its replacement.
+     */
+    private final List<String> replaced = new ArrayList<String>();
+
+    /**
+     * The variant, or null if not built.
+     */
+    private JvmOptions variant;
+
+    /**
+     * @param base
+     *            The JVM options to derive a variant from.
+     */
+    public JvmOptionsOverlay(JvmOptions base) {
+        if (base.getJvmContext() == null || base.getJvmContext().getOptions() == null) {
+            throw new IllegalArgumentException("JVM options missing.");
+        }
+        this.base = base;
+        this.jvmContext = new JvmContext(base.getJvmContext(), null);
+    }
+
+    /**
+     * @param option
+     *            An option to add at the end of the JVM options (e.g. <code>-XX:+UseG1GC</code>).
+     * @return This overlay.
+     */
+    public JvmOptionsOverlay add(String option) {
+        added.add(option);
+        variant = null;
+        return this;
+    }
+
+    /**
+     * Build the variant.
+     */
+    private void build() {
+        JvmOptionToken[] identified = base.getIdentified();
+        StringBuilder options = new StringBuilder();
+        List<JvmOptionToken> kept = new ArrayList<JvmOptionToken>(identified.length + added.size());
+        List<String> parsed = new ArrayList<String>();
+        changed = new long[(JvmOption.values().length + 63) / 64];
+        for (JvmOptionToken option : identified) {
+            String replacement = null;
+            for (int i = 0; i < replaced.size() && replacement == null; i += 2) {
+                if (option.contentEquals(replaced.get(i))) {
+                    replacement = replaced.get(i + 1);
+                }
+            }
+            boolean remove = false;
+            for (int i = 0; i < removed.size() && !remove; i++) {
+                remove = option.contentEquals(removed.get(i));
+            }
+            if (remove || replacement != null) {
+                change(option.getJvmOption());
+                if (replacement != null) {
+                    kept.add(null);
+                    parsed.add(replacement);
+                }
+            } else {
+                kept.add(option);
+                parsed.add(null);
+            }
+        }
+        for (String option : added) {
+            kept.add(null);
+            parsed.add(option);
+        }
+        // Lay out the options, then recreate the tokens in the new options string
+        int[] tokens = new int[kept.size() * 2];
+        for (int i = 0; i < kept.size(); i++) {
+            if (i > 0) {
+                options.append(' ');
+            }
+            tokens[2 * i] = options.length();
+            options.append(kept.get(i) == null ? parsed.get(i) : kept.get(i));
+            tokens[2 * i + 1] = options.length();
+        }
+        String source = options.toString();
+        JvmOptionToken[] variantIdentified = new JvmOptionToken[kept.size()];
+        for (int i = 0; i < kept.size(); i++) {
+            JvmOptionToken option = kept.get(i);
+            if (option == null) {
+                option = new JvmOptionToken(source, tokens[2 * i], tokens[2 * i + 1]);
+                change(option.getJvmOption());
+            } else {
+                option = new JvmOptionToken(source, tokens[2 * i], tokens[2 * i + 1], option.getJvmOption(),
+                        option.getValue());
+            }
+            variantIdentified[i] = option;
+        }
+        variant = new JvmOptions(new JvmContext(jvmContext, source), tokens, variantIdentified, null);
+        if (added.isEmpty() && removed.isEmpty() && replaced.isEmpty()) {
+            changed = null;
+        }
+    }
+
+    /**
+     * @param jvmOption
+     *            An option added or removed, or null if undefined.
+     */
+    private void change(JvmOption jvmOption) {
+        if (jvmOption == JvmOption.USE_CONC_MARK_SWEEP_GC || jvmOption == JvmOption.USE_PARALLEL_OLD_GC) {
+            // Order dependent
+            changed[JvmOption.USE_CONC_MARK_SWEEP_GC.ordinal() >>> 6] |= 1L << JvmOption.USE_CONC_MARK_SWEEP_GC
+                    .ordinal();
+            changed[JvmOption.USE_PARALLEL_OLD_GC.ordinal() >>> 6] |= 1L << JvmOption.USE_PARALLEL_OLD_GC.ordinal();
+        } else if (jvmOption != null) {
+            changed[jvmOption.ordinal() >>> 6] |= 1L << jvmOption.ordinal();
+        }
+    }
+
+    /**
+     * Analyze the variant, evaluating only the rules affected by the changes.
+     * 
+     * @return The difference between the analysis of the JVM options and the variant.
+     */
+    public AnalysisDelta doAnalysis() {
+        AnalysisRecord baseRecord = base.getRecord();
+        JvmOptions jvmOptions = getJvmOptions();
+        int rulesEvaluated = jvmOptions.record(baseRecord, changed);
+        return new AnalysisDelta(baseRecord.getAnalysis(), jvmOptions.getRecord().getAnalysis(), rulesEvaluated);
+    }
+
+    /**
+     * @return The variant, built on first use. The JVM context is a copy of the JVM context of the JVM options the
+     *         variant is derived from, with the fields set in the overlay.
+     */
+    public JvmOptions getJvmOptions() {
+        if (variant == null) {
+            build();
+        }
+        return variant;
+    }
+
+    /**
+     * @param option
+     *            An option to remove (e.g. <code>-XX:-UseCompressedOops</code>). Every occurrence is removed.
+     * @return This overlay.
+     */
+    public JvmOptionsOverlay remove(String option) {
+        removed.add(option);
+        variant = null;
+        return this;
+    }
+
+    /**
+     * @param option
+     *            An option to replace (e.g. <code>-Xmx2g</code>). Every occurrence is replaced in place.
+     * @param replacement
+     *            The replacement (e.g. <code>-Xmx4g</code>).
+     * @return This overlay.
+     */
+    public JvmOptionsOverlay replace(String option, String replacement) {
+        replaced.add(option);
+        replaced.add(replacement);
+        variant = null;
+        return this;
+    }
+
+    /**
+     * @param memory
+     *            The OS/container physical memory of the variant in bytes.
+     * @return This overlay.
+     */
+    public JvmOptionsOverlay setMemory(long memory) {
+        jvmContext.setMemory(memory);
+        variant = null;
+        return this;
+    }
+
+    /**
+     * @param versionMajor
+     *            The JDK major version of the variant.
+     * @return This overlay.
+     */
+    public JvmOptionsOverlay setVersionMajor(int versionMajor) {
+        jvmContext.setVersionMajor(versionMajor);
+        variant = null;
+        return this;
+    }
+}
@@ -0,0 +1,180 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.github.joa.util.AnalysisSet;
+import org.github.joa.util.JvmOptionToken;
+
+/**
+ * <p>
+ * Sweep of a numeric input (e.g. heap size, container memory) over a range of values to find where the
+ * <code>Analysis</code> changes. For example, the heap sizes between 1g and 64g where compressed pointer findings start
+ * or stop:
+ * </p>
+ * 
+ * <pre>
+ * List&lt;SweepBoundary&gt; boundaries = new JvmOptionsSweep(jvmOptions).sweep(SweepParameter.MAX_HEAP_SIZE,
+ *         1024L * 1024 * 1024, 64L * 1024 * 1024 * 1024, 1024L * 1024 * 1024);
+ * </pre>
+ * 
+ * <p>
+ * The range is analyzed at each step, and a step where the <code>Analysis</code> changes is bisected to the exact
+ * value. A change that reverts within a step is not found. Each value is analyzed as a {@link JvmOptionsOverlay}
+ * variant, so the options are not parsed again and only the rules that read the input are evaluated.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ */
+public class JvmOptionsSweep {
+
+    /**
+     * The JVM options swept.
+     */
+    private final JvmOptions base;
+
+    /**
+     * The number of rules evaluated.
+     */
+    private long rulesEvaluated = 0;
+
+    /**
+     * The number of values analyzed.
+     */
+    private int valuesAnalyzed = 0;
+
+    /**
+     * @param base
+     *            The JVM options to sweep.
+     */
+    public JvmOptionsSweep(JvmOptions base) {
+        if (base.getJvmContext() == null || base.getJvmContext().getOptions() == null) {
+            throw new IllegalArgumentException("JVM options missing.");
+        }
+        this.base = base;
+    }
+
+    /**
+     * @param parameter
+     *            The input swept.
+     * @param value
+     *            The value.
+     * @param replaced
+     *            The options replaced by the input.
+     * @return The <code>Analysis</code> at the value.
+     */
+    private AnalysisSet analyze(SweepParameter parameter, long value, List<String> replaced) {
+        JvmOptionsOverlay overlay = new JvmOptionsOverlay(base);
+        if (parameter == SweepParameter.MEMORY) {
+            overlay.setMemory(value);
+        } else if (parameter == SweepParameter.VERSION_MAJOR) {
+            overlay.setVersionMajor((int) value);
+        } else {
+            for (String option : replaced) {
+                overlay.remove(option);
+            }
+            overlay.add(parameter.getOption(value));
+        }
+        rulesEvaluated += overlay.doAnalysis().getRulesEvaluated();
+        valuesAnalyzed++;
+        return overlay.getJvmOptions().getAnalysisSet();
+    }
+
+    /**
+     * Bisect a range where the <code>Analysis</code> changes to find the values where it changes.
+     * 
+     * @param parameter
+     *            The input swept.
+     * @param lower
+     *            The lower value.
+     * @param lowerAnalysis
+     *            The <code>Analysis</code> at the lower value.
+     * @param upper
+     *            The upper value.
+     * @param upperAnalysis
+     *            The <code>Analysis</code> at the upper value.
+     * @param replaced
+     *            The options replaced by the input.
+     * @param boundaries
+     *            The values found, in ascending order.
+     */
+    private void bisect(SweepParameter parameter, long lower, AnalysisSet lowerAnalysis, long upper,
+            AnalysisSet upperAnalysis, List<String> replaced, List<SweepBoundary> boundaries) {
+        if (!lowerAnalysis.equals(upperAnalysis)) {
+            if (upper - lower == 1) {
+                boundaries.add(new SweepBoundary(parameter, upper, lowerAnalysis, upperAnalysis));
+            } else {
+                long middle = lower + (upper - lower) / 2;
+                AnalysisSet middleAnalysis = analyze(parameter, middle, replaced);
+                bisect(parameter, lower, lowerAnalysis, middle, middleAnalysis, replaced, boundaries);
+                bisect(parameter, middle, middleAnalysis, upper, upperAnalysis, replaced, boundaries);
+            }
+        }
+    }
+
+    /**
+     * @return The number of rules evaluated by all sweeps.
+     */
+    public long getRulesEvaluated() {
+        return rulesEvaluated;
+    }
+
+    /**
+     * @return The number of values analyzed by all sweeps.
+     */
+    public int getValuesAnalyzed() {
+        return valuesAnalyzed;
+    }
+
+    /**
+     * Sweep an input over a range of values.
+     * 
+     * @param parameter
+     *            The input swept.
+     * @param from
+     *            The first value (inclusive).
+     * @param to
+     *            The last value (inclusive).
+     * @param step
+     *            The interval between the values analyzed before bisecting.
+     * @return The values where the <code>Analysis</code> changes, in ascending order.
+     */
+    public List<SweepBoundary> sweep(SweepParameter parameter, long from, long to, long step) {
+        if (from > to || step <= 0) {
+            throw new IllegalArgumentException("Invalid sweep: from=" + from + " to=" + to + " step=" + step);
+        }
+        List<String> replaced = new ArrayList<String>();
+        if (parameter.getJvmOption() != null) {
+            for (JvmOptionToken option : base.getIdentified()) {
+                if (option.getJvmOption() == parameter.getJvmOption() && !replaced.contains(option.toString())) {
+                    replaced.add(option.toString());
+                }
+            }
+        }
+        List<SweepBoundary> boundaries = new ArrayList<SweepBoundary>();
+        long lower = from;
+        AnalysisSet lowerAnalysis = analyze(parameter, lower, replaced);
+        while (lower < to) {
+            long upper = to - lower > step ? lower + step : to;
+            AnalysisSet upperAnalysis = analyze(parameter, upper, replaced);
+            bisect(parameter, lower, lowerAnalysis, upper, upperAnalysis, replaced, boundaries);
+            lower = upper;
+            lowerAnalysis = upperAnalysis;
+        }
+        return boundaries;
+    }
+}
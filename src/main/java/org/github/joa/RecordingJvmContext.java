@@ -0,0 +1,232 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import java.util.Date;
+import java.util.List;
+
+import org.github.joa.domain.Arch;
+import org.github.joa.domain.Bit;
+import org.github.joa.domain.BuiltBy;
+import org.github.joa.domain.GarbageCollector;
+import org.github.joa.domain.JvmContext;
+import org.github.joa.domain.JvmContextField;
+import org.github.joa.domain.Os;
+
+/**
+ * <p>
+ * A read-only view of a {@link JvmContext} that records the {@link JvmContextField}s read. The {@link AnalysisRule}s
+ * are evaluated against it by {@link AnalysisRecord}, so the fields each rule reads are recorded without the
+ * <code>JvmContext</code> tracking its own reads.
+ * </p>
+ *
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ */
+final class RecordingJvmContext extends JvmContext {
+
+    /**
+     * The JVM context viewed.
+     */
+    private final JvmContext jvmContext;
+
+    /**
+     * The fields read since the last {@link #clearRead()}, a bit per {@link JvmContextField} ordinal.
+     */
+    private long read;
+
+    /**
+     * @param jvmContext
+     *            The JVM context viewed.
+     */
+    RecordingJvmContext(JvmContext jvmContext) {
+        super(jvmContext.getOptions());
+        this.jvmContext = jvmContext;
+    }
+
+    /**
+     * Reset the fields read (see {@link #getRead()}).
+     */
+    void clearRead() {
+        read = 0;
+    }
+
+    @Override
+    public Arch getArch() {
+        read |= 1L << JvmContextField.ARCH.ordinal();
+        return jvmContext.getArch();
+    }
+
+    @Override
+    public Bit getBit() {
+        read |= 1L << JvmContextField.BIT.ordinal();
+        return jvmContext.getBit();
+    }
+
+    @Override
+    public Date getBuildDate() {
+        read |= 1L << JvmContextField.BUILD_DATE.ordinal();
+        return jvmContext.getBuildDate();
+    }
+
+    @Override
+    public BuiltBy getBuiltBy() {
+        read |= 1L << JvmContextField.BUILT_BY.ordinal();
+        return jvmContext.getBuiltBy();
+    }
+
+    @Override
+    public List<GarbageCollector> getGarbageCollectors() {
+        read |= 1L << JvmContextField.GARBAGE_COLLECTORS.ordinal();
+        return jvmContext.getGarbageCollectors();
+    }
+
+    @Override
+    public int getMaxOptionLength() {
+        return jvmContext.getMaxOptionLength();
+    }
+
+    @Override
+    public long getMemory() {
+        read |= 1L << JvmContextField.MEMORY.ordinal();
+        return jvmContext.getMemory();
+    }
+
+    @Override
+    public String getOptions() {
+        return jvmContext.getOptions();
+    }
+
+    @Override
+    public Os getOs() {
+        read |= 1L << JvmContextField.OS.ordinal();
+        return jvmContext.getOs();
+    }
+
+    /**
+     * @return The fields read since the last {@link #clearRead()}, a bit per {@link JvmContextField} ordinal.
+     */
+    long getRead() {
+        return read;
+    }
+
+    @Override
+    public String getReleaseString() {
+        read |= 1L << JvmContextField.RELEASE_STRING.ordinal();
+        return jvmContext.getReleaseString();
+    }
+
+    @Override
+    public int getVersionMajor() {
+        read |= 1L << JvmContextField.VERSION_MAJOR.ordinal();
+        return jvmContext.getVersionMajor();
+    }
+
+    @Override
+    public int getVersionMinor() {
+        read |= 1L << JvmContextField.VERSION_MINOR.ordinal();
+        return jvmContext.getVersionMinor();
+    }
+
+    @Override
+    public boolean isContainer() {
+        read |= 1L << JvmContextField.CONTAINER.ordinal();
+        return jvmContext.isContainer();
+    }
+
+    @Override
+    public boolean isLazy() {
+        return jvmContext.isLazy();
+    }
+
+    @Override
+    public boolean isTrace() {
+        return jvmContext.isTrace();
+    }
+
+    @Override
+    public void setArch(Arch arch) {
+        throw new UnsupportedOperationException("Read-only JVM context.");
+    }
+
+    @Override
+    public void setBit(Bit bit) {
+        throw new UnsupportedOperationException("Read-only JVM context.");
+    }
+
+    @Override
+    public void setBuildDate(Date buildDate) {
+        throw new UnsupportedOperationException("Read-only JVM context.");
+    }
+
+    @Override
+    public void setBuiltBy(BuiltBy builtBy) {
+        throw new UnsupportedOperationException("Read-only JVM context.");
+    }
+
+    @Override
+    public void setContainer(boolean container) {
+        throw new UnsupportedOperationException("Read-only JVM context.");
+    }
+
+    @Override
+    public void setGarbageCollectors(List<GarbageCollector> garbageCollectors) {
+        throw new UnsupportedOperationException("Read-only JVM context.");
+    }
+
+    @Override
+    public void setLazy(boolean lazy) {
+        throw new UnsupportedOperationException("Read-only JVM context.");
+    }
+
+    @Override
+    public void setMaxOptionLength(int maxOptionLength) {
+        throw new UnsupportedOperationException("Read-only JVM context.");
+    }
+
+    @Override
+    public void setMemory(long memory) {
+        throw new UnsupportedOperationException("Read-only JVM context.");
+    }
+
+    @Override
+    public void setOptions(String options) {
+        throw new UnsupportedOperationException("Read-only JVM context.");
+    }
+
+    @Override
+    public void setOs(Os os) {
+        throw new UnsupportedOperationException("Read-only JVM context.");
+    }
+
+    @Override
+    public void setReleaseString(String releaseString) {
+        throw new UnsupportedOperationException("Read-only JVM context.");
+    }
+
+    @Override
+    public void setTrace(boolean trace) {
+        throw new UnsupportedOperationException("Read-only JVM context.");
+    }
+
+    @Override
+    public void setVersionMajor(int versionMajor) {
+        throw new UnsupportedOperationException("Read-only JVM context.");
+    }
+
+    @Override
+    public void setVersionMinor(int versionMinor) {
+        throw new UnsupportedOperationException("Read-only JVM context.");
+    }
+}
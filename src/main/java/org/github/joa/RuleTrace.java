@@ -0,0 +1,177 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.github.joa.domain.JvmContextField;
+import org.github.joa.util.Analysis;
+import org.github.joa.util.JvmOption;
+
+/**
+ * How an {@link AnalysisRule} was evaluated in a traced analysis (see {@link AnalysisTrace}).
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ */
+public class RuleTrace {
+
+    /**
+     * The {@link org.github.joa.domain.JvmContext} fields the rule read.
+     */
+    private final Set<JvmContextField> contextRead;
+
+    /**
+     * Whether the rule read a value derived from the options and context (e.g. the max heap size).
+     */
+    private final boolean derivedValuesRead;
+
+    /**
+     * Whether the rule was evaluated.
+     */
+    private final boolean evaluated;
+
+    /**
+     * The <code>Analysis</code> the rule reported, in order.
+     */
+    private final List<Analysis> findings;
+
+    /**
+     * The time the rule took to evaluate in nanoseconds.
+     */
+    private final long nanos;
+
+    /**
+     * Whether the rule read the option list as a whole (e.g. to report duplicate or undefined options).
+     */
+    private final boolean optionListRead;
+
+    /**
+     * The options the rule read.
+     */
+    private final Set<JvmOption> optionsRead;
+
+    /**
+     * Whether the findings of the rule were copied from a previous analysis instead of the rule being evaluated.
+     */
+    private final boolean replayed;
+
+    /**
+     * The rule.
+     */
+    private final AnalysisRule rule;
+
+    /**
+     * @param rule
+     *            The rule.
+     * @param record
+     *            The record of the analysis.
+     */
+    RuleTrace(AnalysisRule rule, AnalysisRecord record) {
+        this.rule = rule;
+        boolean recorded = record.isRecorded(rule);
+        replayed = recorded && record.isCopied(rule);
+        evaluated = recorded && !replayed;
+        nanos = record.getNanos(rule);
+        if (recorded) {
+            contextRead = Collections.unmodifiableSet(record.getContextRead(rule));
+            derivedValuesRead = record.readsFacts(rule);
+            findings = Collections.unmodifiableList(record.getFindings(rule));
+            optionListRead = record.readsRaw(rule);
+            optionsRead = Collections.unmodifiableSet(record.getOptionsRead(rule));
+        } else {
+            contextRead = Collections.emptySet();
+            derivedValuesRead = false;
+            findings = Collections.emptyList();
+            optionListRead = false;
+            optionsRead = Collections.emptySet();
+        }
+    }
+
+    /**
+     * @return The {@link org.github.joa.domain.JvmContext} fields the rule read.
+     */
+    public Set<JvmContextField> getContextRead() {
+        return contextRead;
+    }
+
+    /**
+     * @return The <code>Analysis</code> the rule reported, in order.
+     */
+    public List<Analysis> getFindings() {
+        return findings;
+    }
+
+    /**
+     * @return The time the rule took to evaluate in nanoseconds, or 0 if not evaluated.
+     */
+    public long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * @return The options the rule read.
+     */
+    public Set<JvmOption> getOptionsRead() {
+        return optionsRead;
+    }
+
+    /**
+     * @return The rule.
+     */
+    public AnalysisRule getRule() {
+        return rule;
+    }
+
+    /**
+     * @return True if the rule read a value derived from the options and context (e.g. the max heap size), false
+     *         otherwise.
+     */
+    public boolean isDerivedValuesRead() {
+        return derivedValuesRead;
+    }
+
+    /**
+     * @return True if the rule was evaluated, false if it was not selected (none of its options present, or it does
+     *         not apply to the JDK version or collector family) or its findings were replayed.
+     */
+    public boolean isEvaluated() {
+        return evaluated;
+    }
+
+    /**
+     * @return True if the rule reported an <code>Analysis</code>, false otherwise.
+     */
+    public boolean isFired() {
+        return !findings.isEmpty();
+    }
+
+    /**
+     * @return True if the rule read the option list as a whole (e.g. to report duplicate or undefined options), false
+     *         otherwise.
+     */
+    public boolean isOptionListRead() {
+        return optionListRead;
+    }
+
+    /**
+     * @return True if the findings of the rule were copied from a previous analysis because nothing it read changed
+     *         (see {@link JvmOptions#updateAnalysis()}), false otherwise.
+     */
+    public boolean isReplayed() {
+        return replayed;
+    }
+}
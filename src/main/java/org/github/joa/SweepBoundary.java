@@ -0,0 +1,95 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import java.util.List;
+
+import org.github.joa.util.Analysis;
+import org.github.joa.util.AnalysisSet;
+
+/**
+ * A value of a {@link SweepParameter} where the <code>Analysis</code> changes: the <code>Analysis</code> at the value
+ * is different from the <code>Analysis</code> at the value minus 1.
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ */
+public class SweepBoundary {
+
+    /**
+     * The <code>Analysis</code> reported at the value and not the value minus 1.
+     */
+    private final List<Analysis> added;
+
+    /**
+     * The input swept.
+     */
+    private final SweepParameter parameter;
+
+    /**
+     * The <code>Analysis</code> reported at the value minus 1 and not the value.
+     */
+    private final List<Analysis> removed;
+
+    /**
+     * The value.
+     */
+    private final long value;
+
+    /**
+     * @param parameter
+     *            The input swept.
+     * @param value
+     *            The value.
+     * @param below
+     *            The <code>Analysis</code> at the value minus 1.
+     * @param at
+     *            The <code>Analysis</code> at the value.
+     */
+    SweepBoundary(SweepParameter parameter, long value, AnalysisSet below, AnalysisSet at) {
+        AnalysisDelta delta = new AnalysisDelta(below, at, 0);
+        this.added = delta.getAdded();
+        this.parameter = parameter;
+        this.removed = delta.getRemoved();
+        this.value = value;
+    }
+
+    /**
+     * @return The <code>Analysis</code> reported at the value and not the value minus 1, in the order reported.
+     */
+    public List<Analysis> getAdded() {
+        return added;
+    }
+
+    /**
+     * @return The input swept.
+     */
+    public SweepParameter getParameter() {
+        return parameter;
+    }
+
+    /**
+     * @return The <code>Analysis</code> reported at the value minus 1 and not the value, in the order reported.
+     */
+    public List<Analysis> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * @return The value.
+     */
+    public long getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,101 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import org.github.joa.util.JvmOption;
+
+/**
+ * <p>
+ * A numeric input swept by {@link JvmOptionsSweep}:
+ * </p>
+ * 
+ * <ul>
+ * <li>INITIAL_HEAP_SIZE: <code>-Xms</code> in bytes.</li>
+ * <li>INITIAL_RAM_PERCENTAGE: <code>-XX:InitialRAMPercentage</code> in whole percent.</li>
+ * <li>MAX_HEAP_SIZE: <code>-Xmx</code> in bytes.</li>
+ * <li>MAX_RAM_PERCENTAGE: <code>-XX:MaxRAMPercentage</code> in whole percent.</li>
+ * <li>MEMORY: The OS/container physical memory in bytes (<code>JvmContext.memory</code>).</li>
+ * <li>MIN_RAM_PERCENTAGE: <code>-XX:MinRAMPercentage</code> in whole percent.</li>
+ * <li>VERSION_MAJOR: The JDK major version (<code>JvmContext.versionMajor</code>).</li>
+ * </ul>
+ * 
+ * <p>
+ * An option input replaces every occurrence of the option in the JVM options. A percentage is swept in whole
+ * percent, so a boundary is found to 1% at best (e.g. a finding that changes at 75.5% is reported between 75% and
+ * 76%).
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ */
+public enum SweepParameter {
+    INITIAL_HEAP_SIZE(JvmOption.INITIAL_HEAP_SIZE, "-Xms"),
+    INITIAL_RAM_PERCENTAGE(JvmOption.INITIAL_RAM_PERCENTAGE, "-XX:InitialRAMPercentage="),
+    MAX_HEAP_SIZE(JvmOption.MAX_HEAP_SIZE, "-Xmx"),
+    MAX_RAM_PERCENTAGE(JvmOption.MAX_RAM_PERCENTAGE, "-XX:MaxRAMPercentage="),
+    MEMORY(null, null),
+    MIN_RAM_PERCENTAGE(JvmOption.MIN_RAM_PERCENTAGE, "-XX:MinRAMPercentage="),
+    VERSION_MAJOR(null, null);
+
+    /**
+     * The option swept, or null if a JVM context field.
+     */
+    private final JvmOption jvmOption;
+
+    /**
+     * The option prefix, up to the value, or null if a JVM context field.
+     */
+    private final String prefix;
+
+    private SweepParameter(JvmOption jvmOption, String prefix) {
+        this.jvmOption = jvmOption;
+        this.prefix = prefix;
+    }
+
+    /**
+     * @return The option swept, or null if a JVM context field.
+     */
+    public JvmOption getJvmOption() {
+        return jvmOption;
+    }
+
+    /**
+     * @param value
+     *            The value of the input.
+     * @return The option with the value (e.g. <code>-Xmx4g</code>, <code>-XX:MaxRAMPercentage=75.0</code>), or null if
+     *         a JVM context field. A byte value is in the largest whole unit. A percentage is a whole percent with a
+     *         decimal, as required by JDK8.
+     */
+    public String getOption(long value) {
+        String option = null;
+        if (prefix != null) {
+            if (this == INITIAL_HEAP_SIZE || this == MAX_HEAP_SIZE) {
+                char[] units = { 'g', 'm', 'k' };
+                String unit = "";
+                long size = value;
+                for (int i = 0; i < units.length && unit.isEmpty(); i++) {
+                    long bytes = 1L << (10 * (units.length - i));
+                    if (value != 0 && value % bytes == 0) {
+                        size = value / bytes;
+                        unit = String.valueOf(units[i]);
+                    }
+                }
+                option = prefix + size + unit;
+            } else {
+                option = prefix + value + ".0";
+            }
+        }
+        return option;
+    }
+}
@@ -0,0 +1,574 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa.codegen;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * <p>
+ * Generates the option metadata and dispatch (<code>org.github.joa.util.JvmOptionCatalog</code>) and the
+ * <code>JvmOptions</code> getters (<code>org.github.joa.AbstractJvmOptions</code>) from the option catalog
+ * (<code>org/github/joa/jvm-options.catalog</code>), so the parser cannot drift from the catalog as options are added.
+ * </p>
+ *
+ * <p>
+ * Run by the maven-compiler-plugin when compiling the main sources (see pom.xml). The build fails if the catalog is not
+ * valid or its options differ from the <code>JvmOption</code> constants. The constants are written by hand with their
+ * documentation and are checked, not generated.
+ * </p>
+ *
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ *
+ */
+@SupportedAnnotationTypes("*")
+public class JvmOptionCatalogProcessor extends AbstractProcessor {
+
+    /**
+     * An option in the catalog.
+     */
+    private static final class CatalogOption {
+
+        /**
+         * Disabling the option is covered by a specific analysis.
+         */
+        private boolean accounted;
+
+        /**
+         * The <code>JvmOptions</code> getters.
+         */
+        private List<String> accessors = new ArrayList<String>();
+
+        /**
+         * The <code>JvmOptionCategory</code> constant.
+         */
+        private String category = "PRODUCT";
+
+        /**
+         * The <code>JvmOption</code> constant.
+         */
+        private String constant;
+
+        /**
+         * The maximum number of digits of an <code>INTEGER</code> value, or 0 for no limit.
+         */
+        private int digits;
+
+        /**
+         * The option form, followed by any aliases.
+         */
+        private List<String> forms = new ArrayList<String>();
+
+        /**
+         * The last JDK major version recognizing the option.
+         */
+        private int jdkMax = Integer.MAX_VALUE;
+
+        /**
+         * The first JDK major version recognizing the option, or 0 for all.
+         */
+        private int jdkMin;
+
+        /**
+         * The key used to group the option, or null if the option string is itself the key.
+         */
+        private String key;
+
+        /**
+         * The catalog line number.
+         */
+        private int line;
+
+        /**
+         * Every occurrence of the option is kept.
+         */
+        private boolean repeatable;
+
+        /**
+         * The <code>JvmOptionType</code> constant.
+         */
+        private String type;
+
+        /**
+         * The allowed values of an <code>ENUM</code> option.
+         */
+        private List<String> values;
+    }
+
+    /**
+     * The catalog resource, relative to the class output.
+     */
+    private static final String CATALOG = "jvm-options.catalog";
+
+    /**
+     * The package of the catalog and <code>JvmOptions</code>.
+     */
+    private static final String PACKAGE = "org.github.joa";
+
+    /**
+     * The package of <code>JvmOption</code>.
+     */
+    private static final String PACKAGE_UTIL = "org.github.joa.util";
+
+    /**
+     * Get the dispatch name of an option form, the same as <code>JvmOption.getName(CharSequence)</code>.
+     *
+     * @param form
+     *            The option form.
+     * @return The option name.
+     */
+    static String getName(String form) {
+        int begin = 0;
+        int end;
+        if (form.startsWith("-XX:")) {
+            begin = 4;
+            if (form.length() > begin && (form.charAt(begin) == '+' || form.charAt(begin) == '-')) {
+                begin++;
+            }
+            end = begin;
+            while (end < form.length() && form.charAt(end) != '=' && form.charAt(end) != ':') {
+                end++;
+            }
+        } else if (form.charAt(1) == '-') {
+            end = 2;
+            while (end < form.length() && form.charAt(end) != '=') {
+                end++;
+            }
+        } else if (form.charAt(1) == 'D') {
+            end = 2;
+        } else {
+            end = 1;
+            while (end < form.length() && ((form.charAt(end) >= 'a' && form.charAt(end) <= 'z')
+                    || (form.charAt(end) >= 'A' && form.charAt(end) <= 'Z'))) {
+                end++;
+            }
+        }
+        return form.substring(begin, end);
+    }
+
+    /**
+     * @param s
+     *            A string.
+     * @return The string as a Java string literal.
+     */
+    private static String literal(String s) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                literal.append('\\');
+            }
+            literal.append(c);
+        }
+        return literal.append('"').toString();
+    }
+
+    /**
+     * Whether the sources have been generated.
+     */
+    private boolean generated = false;
+
+    /**
+     * @param line
+     *            The catalog line number, or 0 for none.
+     * @param message
+     *            The error.
+     */
+    private void error(int line, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                CATALOG + (line > 0 ? ":" + line : "") + ": " + message);
+    }
+
+    /**
+     * @param name
+     *            The fully qualified name of an enum.
+     * @return The enum constant names, in declaration order.
+     */
+    private List<String> getConstants(String name) {
+        List<String> constants = new ArrayList<String>();
+        TypeElement type = processingEnv.getElementUtils().getTypeElement(name);
+        if (type != null) {
+            for (Element element : type.getEnclosedElements()) {
+                if (element.getKind() == ElementKind.ENUM_CONSTANT) {
+                    constants.add(element.getSimpleName().toString());
+                }
+            }
+        }
+        return constants;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * @param content
+     *            The catalog.
+     * @return The catalog entries, or null if the catalog is not valid.
+     */
+    private List<CatalogOption> parse(CharSequence content) throws IOException {
+        List<String> types = getConstants(PACKAGE_UTIL + ".JvmOptionType");
+        List<String> categories = getConstants(PACKAGE_UTIL + ".JvmOptionCategory");
+        List<CatalogOption> entries = new ArrayList<CatalogOption>();
+        boolean valid = true;
+        BufferedReader reader = new BufferedReader(new StringReader(content.toString()));
+        String text;
+        int line = 0;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            text = text.trim();
+            if (text.isEmpty() || text.startsWith("#")) {
+                continue;
+            }
+            String[] fields = text.split("\\s+");
+            CatalogOption entry = new CatalogOption();
+            entry.line = line;
+            entry.constant = fields[0];
+            entry.type = fields.length > 1 ? fields[1] : null;
+            if (fields.length > 2 && !fields[2].equals("-")) {
+                for (String accessor : fields[2].split(",")) {
+                    entry.accessors.add(accessor);
+                }
+            }
+            for (int i = 3; i < fields.length; i++) {
+                String field = fields[i];
+                int separator = field.indexOf('=');
+                String attribute = separator > 0 ? field.substring(0, separator) : field;
+                String value = separator > 0 ? field.substring(separator + 1) : null;
+                if (field.startsWith("-")) {
+                    entry.forms.add(field);
+                } else if (attribute.equals("accounted") && value == null) {
+                    entry.accounted = true;
+                } else if (attribute.equals("category") && value != null) {
+                    entry.category = value;
+                } else if (attribute.equals("digits") && value != null && value.matches("\\d+")) {
+                    entry.digits = Integer.parseInt(value);
+                } else if (attribute.equals("jdk") && value != null && value.matches("\\d*-\\d*")) {
+                    String[] range = value.split("-", -1);
+                    entry.jdkMin = range[0].isEmpty() ? 0 : Integer.parseInt(range[0]);
+                    entry.jdkMax = range[1].isEmpty() ? Integer.MAX_VALUE : Integer.parseInt(range[1]);
+                } else if (attribute.equals("key") && value != null) {
+                    entry.key = value;
+                } else if (attribute.equals("repeatable") && value == null) {
+                    entry.repeatable = true;
+                } else if (attribute.equals("values") && value != null) {
+                    entry.values = new ArrayList<String>();
+                    for (String allowed : value.split(",", -1)) {
+                        entry.values.add(allowed);
+                    }
+                } else {
+                    error(line, "Unknown attribute " + field + ".");
+                    valid = false;
+                }
+            }
+            if (!types.contains(entry.type)) {
+                error(line, "Unknown type " + entry.type + ".");
+                valid = false;
+            } else if (!categories.contains(entry.category)) {
+                error(line, "Unknown category " + entry.category + ".");
+                valid = false;
+            } else if (entry.forms.isEmpty()) {
+                error(line, "No option form.");
+                valid = false;
+            } else if (entry.type.equals("BOOLEAN") && !entry.forms.get(0).startsWith("-XX:+")) {
+                error(line, "The form of a BOOLEAN option must be the enabled form (-XX:+).");
+                valid = false;
+            } else if (entry.type.equals("ENUM") != (entry.values != null)) {
+                error(line, "Allowed values are required for, and only allowed for, ENUM options.");
+                valid = false;
+            }
+            for (String accessor : entry.accessors) {
+                if (!SourceVersion.isIdentifier(accessor)
+                        || !(accessor.startsWith("get") || (accessor.startsWith("is") && !entry.repeatable))) {
+                    error(line, "Invalid accessor " + accessor + ".");
+                    valid = false;
+                }
+            }
+            entries.add(entry);
+        }
+        List<String> constants = getConstants(PACKAGE_UTIL + ".JvmOption");
+        for (int i = 0; i < Math.max(constants.size(), entries.size()); i++) {
+            String constant = i < constants.size() ? constants.get(i) : null;
+            CatalogOption entry = i < entries.size() ? entries.get(i) : null;
+            if (entry == null || !entry.constant.equals(constant)) {
+                error(entry == null ? 0 : entry.line, "JvmOption constant " + i + " is " + constant
+                        + " but the catalog option is " + (entry == null ? null : entry.constant) + ".");
+                valid = false;
+                break;
+            }
+        }
+        return valid ? entries : null;
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!generated) {
+            generated = true;
+            try {
+                FileObject catalog = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, PACKAGE,
+                        CATALOG);
+                List<CatalogOption> entries = parse(catalog.getCharContent(true));
+                if (entries != null) {
+                    writeCatalog(entries);
+                    writeAccessors(entries);
+                }
+            } catch (IOException e) {
+                error(0, e.toString());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Write <code>org.github.joa.AbstractJvmOptions</code>.
+     *
+     * @param entries
+     *            The catalog entries.
+     */
+    private void writeAccessors(List<CatalogOption> entries) throws IOException {
+        PrintWriter out = new PrintWriter(
+                processingEnv.getFiler().createSourceFile(PACKAGE + ".AbstractJvmOptions").openWriter());
+        out.println("package " + PACKAGE + ";");
+        out.println();
+        out.println("import java.util.ArrayList;");
+        out.println();
+        out.println("import " + PACKAGE_UTIL + ".JvmOption;");
+        out.println();
+        out.println("/**");
+        out.println(" * Getters of the options in <code>" + CATALOG + "</code>. Generated, do not edit.");
+        out.println(" */");
+        out.println("abstract class AbstractJvmOptions {");
+        out.println();
+        out.println("    abstract String getOption(JvmOption jvmOption);");
+        out.println();
+        out.println("    abstract ArrayList<String> getStrings(JvmOption jvmOption);");
+        out.println();
+        out.println("    abstract boolean hasOption(JvmOption jvmOption);");
+        for (CatalogOption entry : entries) {
+            for (String accessor : entry.accessors) {
+                out.println();
+                out.println("    /**");
+                if (accessor.startsWith("is")) {
+                    out.println("     * @return True if {@link JvmOption#" + entry.constant
+                            + "} is set, false otherwise.");
+                    out.println("     */");
+                    out.println("    public boolean " + accessor + "() {");
+                    out.println("        return hasOption(JvmOption." + entry.constant + ");");
+                } else if (entry.repeatable) {
+                    out.println("     * @return The {@link JvmOption#" + entry.constant + "} options.");
+                    out.println("     */");
+                    out.println("    public ArrayList<String> " + accessor + "() {");
+                    out.println("        return getStrings(JvmOption." + entry.constant + ");");
+                } else {
+                    out.println("     * @return The {@link JvmOption#" + entry.constant
+                            + "} option, or null if not set.");
+                    out.println("     */");
+                    out.println("    public String " + accessor + "() {");
+                    out.println("        return getOption(JvmOption." + entry.constant + ");");
+                }
+                out.println("    }");
+            }
+        }
+        out.println("}");
+        out.close();
+    }
+
+    /**
+     * Write <code>org.github.joa.util.JvmOptionCatalog</code>.
+     *
+     * @param entries
+     *            The catalog entries.
+     */
+    private void writeCatalog(List<CatalogOption> entries) throws IOException {
+        // Ordinals of the options by dispatch name, and names by hash
+        Map<String, List<Integer>> candidates = new LinkedHashMap<String, List<Integer>>();
+        for (int i = 0; i < entries.size(); i++) {
+            for (String form : entries.get(i).forms) {
+                String name = getName(form);
+                if (!candidates.containsKey(name)) {
+                    candidates.put(name, new ArrayList<Integer>());
+                }
+                if (!candidates.get(name).contains(i)) {
+                    candidates.get(name).add(i);
+                }
+            }
+        }
+        Map<Integer, List<String>> hashes = new TreeMap<Integer, List<String>>();
+        for (String name : candidates.keySet()) {
+            if (!hashes.containsKey(name.hashCode())) {
+                hashes.put(name.hashCode(), new ArrayList<String>());
+            }
+            hashes.get(name.hashCode()).add(name);
+        }
+        List<String> names = new ArrayList<String>();
+        for (List<String> colliding : hashes.values()) {
+            names.addAll(colliding);
+        }
+
+        PrintWriter out = new PrintWriter(
+                processingEnv.getFiler().createSourceFile(PACKAGE_UTIL + ".JvmOptionCatalog").openWriter());
+        out.println("package " + PACKAGE_UTIL + ";");
+        out.println();
+        out.println("/**");
+        out.println(" * The options in <code>" + CATALOG + "</code>, indexed by {@link JvmOption#ordinal()}.");
+        out.println(" * Generated, do not edit.");
+        out.println(" */");
+        out.println("final class JvmOptionCatalog {");
+        out.println();
+        out.println("    static final boolean[] ACCOUNTED = {");
+        for (CatalogOption entry : entries) {
+            out.println("            " + entry.accounted + ", // " + entry.constant);
+        }
+        out.println("    };");
+        out.println();
+        out.println("    static final JvmOptionCategory[] CATEGORIES = {");
+        for (CatalogOption entry : entries) {
+            out.println("            JvmOptionCategory." + entry.category + ", // " + entry.constant);
+        }
+        out.println("    };");
+        out.println();
+        out.println("    static final String[][] FORMS = {");
+        for (CatalogOption entry : entries) {
+            StringBuilder forms = new StringBuilder();
+            for (String form : entry.forms) {
+                forms.append(forms.length() == 0 ? "" : ", ").append(literal(form));
+            }
+            out.println("            { " + forms + " }, // " + entry.constant);
+        }
+        out.println("    };");
+        out.println();
+        out.println("    static final int[] JDK_MAX = {");
+        for (CatalogOption entry : entries) {
+            out.println("            " + entry.jdkMax + ", // " + entry.constant);
+        }
+        out.println("    };");
+        out.println();
+        out.println("    static final int[] JDK_MIN = {");
+        for (CatalogOption entry : entries) {
+            out.println("            " + entry.jdkMin + ", // " + entry.constant);
+        }
+        out.println("    };");
+        out.println();
+        out.println("    static final String[] KEYS = {");
+        for (CatalogOption entry : entries) {
+            out.println("            " + (entry.key == null ? "null" : literal(entry.key)) + ", // " + entry.constant);
+        }
+        out.println("    };");
+        out.println();
+        out.println("    static final int[] MAX_LENGTHS = {");
+        for (CatalogOption entry : entries) {
+            out.println("            " + entry.digits + ", // " + entry.constant);
+        }
+        out.println("    };");
+        out.println();
+        out.println("    static final boolean[] REPEATABLE = {");
+        for (CatalogOption entry : entries) {
+            out.println("            " + entry.repeatable + ", // " + entry.constant);
+        }
+        out.println("    };");
+        out.println();
+        out.println("    static final JvmOptionType[] TYPES = {");
+        for (CatalogOption entry : entries) {
+            out.println("            JvmOptionType." + entry.type + ", // " + entry.constant);
+        }
+        out.println("    };");
+        out.println();
+        out.println("    static final String[][] VALUES = {");
+        for (CatalogOption entry : entries) {
+            StringBuilder values = new StringBuilder();
+            if (entry.values != null) {
+                for (String value : entry.values) {
+                    values.append(values.length() == 0 ? "{ " : ", ").append(literal(value));
+                }
+                values.append(" }");
+            }
+            out.println("            " + (entry.values == null ? "null" : values) + ", // " + entry.constant);
+        }
+        out.println("    };");
+        out.println();
+        out.println("    /**");
+        out.println("     * The option dispatch names, ordered by hash code.");
+        out.println("     */");
+        out.println("    private static final String[] NAMES = {");
+        for (String name : names) {
+            out.println("            " + literal(name) + ",");
+        }
+        out.println("    };");
+        out.println();
+        out.println("    /**");
+        out.println("     * The ordinals of the options with each dispatch name.");
+        out.println("     */");
+        out.println("    private static final int[][] CANDIDATES = {");
+        for (String name : names) {
+            out.println("            " + candidates.get(name).toString().replace('[', '{').replace(']', '}') + ", // "
+                    + name);
+        }
+        out.println("    };");
+        out.println();
+        out.println("    /**");
+        out.println("     * @param name");
+        out.println("     *            An option dispatch name (see {@link JvmOption#getName(CharSequence)}).");
+        out.println("     * @return The ordinals of the options with the name, or null if no option has the name.");
+        out.println("     */");
+        out.println("    static int[] getCandidates(final JvmOptionToken name) {");
+        out.println("        int begin = 0;");
+        out.println("        int end = 0;");
+        out.println("        switch (name.hashCode()) {");
+        int index = 0;
+        for (Map.Entry<Integer, List<String>> hash : hashes.entrySet()) {
+            out.println("        case " + hash.getKey() + ":");
+            out.println("            begin = " + index + ";");
+            index += hash.getValue().size();
+            out.println("            end = " + index + ";");
+            out.println("            break;");
+        }
+        out.println("        default:");
+        out.println("            break;");
+        out.println("        }");
+        out.println("        int[] candidates = null;");
+        out.println("        for (int i = begin; i < end && candidates == null; i++) {");
+        out.println("            if (name.contentEquals(NAMES[i])) {");
+        out.println("                candidates = CANDIDATES[i];");
+        out.println("            }");
+        out.println("        }");
+        out.println("        return candidates;");
+        out.println("    }");
+        out.println();
+        out.println("    private JvmOptionCatalog() {");
+        out.println("    }");
+        out.println("}");
+        out.close();
+    }
+}
@@ -0,0 +1,93 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa.domain;
+
+import java.util.Collection;
+
+/**
+ * <p>
+ * Garbage collector families, the collector a JVM uses identified by its old generation collector.
+ * </p>
+ * 
+ * <ul>
+ * <li>CMS: CMS (with PAR_NEW or SERIAL_NEW and the SERIAL_OLD fallback).</li>
+ * <li>G1: G1.</li>
+ * <li>PARALLEL: PARALLEL_SCAVENGE with PARALLEL_OLD or PARALLEL_SERIAL_OLD.</li>
+ * <li>SERIAL: SERIAL_NEW or PAR_NEW with SERIAL_OLD.</li>
+ * <li>SHENANDOAH: SHENANDOAH_GENERATIONAL or SHENANDOAH_NON_GENERATIONAL.</li>
+ * <li>ZGC: ZGC_GENERATIONAL or ZGC_NON_GENERATIONAL.</li>
+ * <li>UNKNOWN: No collectors, UNKNOWN, or collectors from more than one family.</li>
+ * </ul>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ */
+public enum CollectorFamily {
+    CMS, G1, PARALLEL, SERIAL, SHENANDOAH, UNKNOWN, ZGC;
+
+    /**
+     * @param garbageCollector
+     *            A garbage collector.
+     * @return The family of the collector, or null for the young and old generation SERIAL_NEW, PAR_NEW, and
+     *         SERIAL_OLD collectors, which are combined with more than one family.
+     */
+    private static CollectorFamily of(GarbageCollector garbageCollector) {
+        switch (garbageCollector) {
+        case CMS:
+            return CMS;
+        case G1:
+            return G1;
+        case PARALLEL_OLD:
+        case PARALLEL_SCAVENGE:
+        case PARALLEL_SERIAL_OLD:
+            return PARALLEL;
+        case SHENANDOAH_GENERATIONAL:
+        case SHENANDOAH_NON_GENERATIONAL:
+            return SHENANDOAH;
+        case ZGC_GENERATIONAL:
+        case ZGC_NON_GENERATIONAL:
+            return ZGC;
+        case PAR_NEW:
+        case SERIAL_NEW:
+        case SERIAL_OLD:
+            return null;
+        case UNKNOWN:
+        default:
+            return UNKNOWN;
+        }
+    }
+
+    /**
+     * @param garbageCollectors
+     *            The garbage collectors in use.
+     * @return The family of the collectors.
+     */
+    public static CollectorFamily of(Collection<GarbageCollector> garbageCollectors) {
+        if (garbageCollectors.isEmpty()) {
+            return UNKNOWN;
+        }
+        CollectorFamily family = null;
+        for (GarbageCollector garbageCollector : garbageCollectors) {
+            CollectorFamily collectorFamily = of(garbageCollector);
+            if (collectorFamily == UNKNOWN
+                    || (collectorFamily != null && family != null && collectorFamily != family)) {
+                return UNKNOWN;
+            }
+            if (collectorFamily != null) {
+                family = collectorFamily;
+            }
+        }
+        return family == null ? SERIAL : family;
+    }
+}
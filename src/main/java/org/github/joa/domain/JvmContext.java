@@ -66,6 +66,20 @@ public class JvmContext {
      */
     List<GarbageCollector> garbageCollectors = new ArrayList<>();
 
+    /**
+     * Lazy parsing flag. When true, <code>JvmOptions</code> only records where each option begins and ends at
+     * construction, and options are parsed the first time they are accessed. All options are parsed when the analysis
+     * is done.
+     */
+    private boolean lazy = false;
+
+    /**
+     * The maximum length of an option kept when the options are streamed from a <code>Reader</code> or in chunks, or 0
+     * for no limit (the default). Longer options (e.g. an expanded classpath) are truncated and followed by their
+     * length and hash code. Set it (e.g. to 4096) to bound the options kept from a multi-megabyte command line.
+     */
+    private int maxOptionLength = 0;
+
     /**
      * The OS/container physical memory in <code>Constants.PRECISION_REPORTING</code> units.
      */
@@ -92,6 +106,12 @@ public class JvmContext {
      */
     private String releaseString;
 
+    /**
+     * Trace flag. When true, <code>JvmOptions</code> records how each analysis rule is evaluated: the time it takes,
+     * the options and fields it reads, and the analysis it reports (see <code>JvmOptions.getTrace()</code>).
+     */
+    private boolean trace = false;
+
     /**
      * JVM major version.
      */
@@ -121,6 +141,33 @@ public class JvmContext {
         this.versionMinor = versionMinor;
     }
 
+    /**
+     * Copy constructor. Every field is copied through its getter (so a subclass view is copied as it is seen), and
+     * the garbage collectors into a new list.
+     * 
+     * @param jvmContext
+     *            The JVM context to copy.
+     * @param options
+     *            The JVM options of the copy.
+     */
+    public JvmContext(JvmContext jvmContext, String options) {
+        this.arch = jvmContext.getArch();
+        this.bit = jvmContext.getBit();
+        this.buildDate = jvmContext.getBuildDate();
+        this.builtBy = jvmContext.getBuiltBy();
+        this.container = jvmContext.isContainer();
+        this.garbageCollectors = new ArrayList<GarbageCollector>(jvmContext.getGarbageCollectors());
+        this.lazy = jvmContext.isLazy();
+        this.maxOptionLength = jvmContext.getMaxOptionLength();
+        this.memory = jvmContext.getMemory();
+        this.options = options;
+        this.os = jvmContext.getOs();
+        this.releaseString = jvmContext.getReleaseString();
+        this.trace = jvmContext.isTrace();
+        this.versionMajor = jvmContext.getVersionMajor();
+        this.versionMinor = jvmContext.getVersionMinor();
+    }
+
     public Arch getArch() {
         return arch;
     }
@@ -141,6 +188,10 @@ public class JvmContext {
         return garbageCollectors;
     }
 
+    public int getMaxOptionLength() {
+        return maxOptionLength;
+    }
+
     public long getMemory() {
         return memory;
     }
@@ -169,6 +220,14 @@ public class JvmContext {
         return container;
     }
 
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    public boolean isTrace() {
+        return trace;
+    }
+
     public void setArch(Arch arch) {
         this.arch = arch;
     }
@@ -193,6 +252,14 @@ public class JvmContext {
         this.garbageCollectors = garbageCollectors;
     }
 
+    public void setLazy(boolean lazy) {
+        this.lazy = lazy;
+    }
+
+    public void setMaxOptionLength(int maxOptionLength) {
+        this.maxOptionLength = maxOptionLength;
+    }
+
     public void setMemory(long memory) {
         this.memory = memory;
     }
@@ -209,6 +276,10 @@ public class JvmContext {
         this.releaseString = releaseString;
     }
 
+    public void setTrace(boolean trace) {
+        this.trace = trace;
+    }
+
     public void setVersionMajor(int versionMajor) {
         this.versionMajor = versionMajor;
     }
@@ -0,0 +1,129 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa.domain;
+
+import java.util.ArrayList;
+import java.util.Date;
+
+/**
+ * <p>
+ * The {@link JvmContext} information read by the analysis (see <code>org.github.joa.AnalysisRule</code>).
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ */
+public enum JvmContextField {
+    /**
+     * {@link JvmContext#getArch()}.
+     */
+    ARCH,
+
+    /**
+     * {@link JvmContext#getBit()}.
+     */
+    BIT,
+
+    /**
+     * {@link JvmContext#getBuildDate()}.
+     */
+    BUILD_DATE,
+
+    /**
+     * {@link JvmContext#getBuiltBy()}.
+     */
+    BUILT_BY,
+
+    /**
+     * {@link JvmContext#isContainer()}.
+     */
+    CONTAINER,
+
+    /**
+     * {@link JvmContext#getGarbageCollectors()}.
+     */
+    GARBAGE_COLLECTORS,
+
+    /**
+     * {@link JvmContext#getMemory()}.
+     */
+    MEMORY,
+
+    /**
+     * {@link JvmContext#getOs()}.
+     */
+    OS,
+
+    /**
+     * {@link JvmContext#getReleaseString()}.
+     */
+    RELEASE_STRING,
+
+    /**
+     * {@link JvmContext#getVersionMajor()}.
+     */
+    VERSION_MAJOR,
+
+    /**
+     * {@link JvmContext#getVersionMinor()}.
+     */
+    VERSION_MINOR;
+
+    /**
+     * @param jvmContext
+     *            A JVM context.
+     * @return The value of the field in the JVM context, copied if mutable (e.g. the garbage collectors list).
+     */
+    public Object getValue(JvmContext jvmContext) {
+        Object value;
+        switch (this) {
+        case ARCH:
+            value = jvmContext.getArch();
+            break;
+        case BIT:
+            value = jvmContext.getBit();
+            break;
+        case BUILD_DATE:
+            value = jvmContext.getBuildDate() == null ? null : new Date(jvmContext.getBuildDate().getTime());
+            break;
+        case BUILT_BY:
+            value = jvmContext.getBuiltBy();
+            break;
+        case CONTAINER:
+            value = jvmContext.isContainer();
+            break;
+        case GARBAGE_COLLECTORS:
+            value = new ArrayList<GarbageCollector>(jvmContext.getGarbageCollectors());
+            break;
+        case MEMORY:
+            value = jvmContext.getMemory();
+            break;
+        case OS:
+            value = jvmContext.getOs();
+            break;
+        case RELEASE_STRING:
+            value = jvmContext.getReleaseString();
+            break;
+        case VERSION_MAJOR:
+            value = jvmContext.getVersionMajor();
+            break;
+        case VERSION_MINOR:
+            value = jvmContext.getVersionMinor();
+            break;
+        default:
+            throw new AssertionError("Unexpected field: " + this);
+        }
+        return value;
+    }
+}
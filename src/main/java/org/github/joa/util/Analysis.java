@@ -14,6 +14,10 @@
  *********************************************************************************************************************/
 package org.github.joa.util;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ResourceBundle;
+
 /**
  * Analysis constants.
  * 
@@ -26,462 +30,470 @@ public enum Analysis {
      * Property key for class unloading disabled on &lt; JDK17u20, which can lead to memory corruption. Reference:
      * https://bugs.openjdk.org/browse/JDK-8377678.
      */
-    ERROR_CLASS_UNLOADING_DISABLED_JDK_8377678("error.class.unloading.disabled.jdk.8377678"),
+    ERROR_CLASS_UNLOADING_DISABLED_JDK_8377678("error.class.unloading.disabled.jdk.8377678", AnalysisTopic.GC),
 
     /**
      * Property key for not specifying the CMS collector be used for old collections, causing the CMS_SERIAL_OLD
      * collector to be used by default.
      */
-    ERROR_CMS_MISSING("error.cms.missing"),
+    ERROR_CMS_MISSING("error.cms.missing", AnalysisTopic.GC),
 
     /**
      * Property key for explicit garbage collection disabled and specifying concurrent collections.
      */
-    ERROR_EXPLICIT_GC_DISABLED_CONCURRENT("error.explicit.gc.disabled.concurrent"),
+    ERROR_EXPLICIT_GC_DISABLED_CONCURRENT("error.explicit.gc.disabled.concurrent", AnalysisTopic.GC),
 
     /**
      * Property key for PAR_NEW collector disabled, resulting in the SERIAL collector being used in combination with the
      * CMS collector.
      */
-    ERROR_JDK8_CMS_PAR_NEW_DISABLED("error.jdk8.cms.par.new.disabled"),
+    ERROR_JDK8_CMS_PAR_NEW_DISABLED("error.jdk8.cms.par.new.disabled", AnalysisTopic.GC),
 
     /**
      * Property key for -XX:+UseCMSCompactAtFullCollection causing full collections being handled by the concurrent CMS
      * collector, a normal "background" collection being run in the "foreground" within a safepoint instead of the
      * default SERIAL_OLD collector.
      */
-    ERROR_JDK8_USE_CMS_COMPACTION_AT_FULL_GC_ENABLED("error.jdk8.use.cms.compaction.at.full.collection.enabled"),
+    ERROR_JDK8_USE_CMS_COMPACTION_AT_FULL_GC_ENABLED("error.jdk8.use.cms.compaction.at.full.collection.enabled",
+            AnalysisTopic.GC),
 
     /**
      * Property key for the JVM configured to use large pages backed by both HugeTLB pages (static hugepages) and
      * Transparent Hugepages (THP).
      */
-    ERROR_LARGE_PAGES_LINUX_HUGETLB_THP("error.large.pages.linux.hugetlb.thp"),
+    ERROR_LARGE_PAGES_LINUX_HUGETLB_THP("error.large.pages.linux.hugetlb.thp", AnalysisTopic.HEAP),
 
     /**
      * Property key for -XX:+UseLargePagesInMetaspace used without -XX:+UseLargePages.
      */
-    ERROR_LARGE_PAGES_USE_LARGE_PAGES_IN_METASPACE("error.large.pages.use.large.pages.in.metaspace"),
+    ERROR_LARGE_PAGES_USE_LARGE_PAGES_IN_METASPACE("error.large.pages.use.large.pages.in.metaspace",
+            AnalysisTopic.HEAP),
 
     /**
      * Property key for -XX:MaxGCPauseMillis used with a collector other than G1 or Parallel.
      */
-    ERROR_MAX_GC_PAUSE_MILLIS("error.max.gc.pause.millis"),
+    ERROR_MAX_GC_PAUSE_MILLIS("error.max.gc.pause.millis", AnalysisTopic.GC),
 
     /**
      * Property key for using the PAR_NEW collector in combination with CMS_SERIAL_OLD.
      */
-    ERROR_PAR_NEW_SERIAL_OLD("error.par.new.serial.old"),
+    ERROR_PAR_NEW_SERIAL_OLD("error.par.new.serial.old", AnalysisTopic.GC),
 
     /**
      * Property key for limiting a multi-thread garbage collector to a single thread with -XX:ParallelGCThreads=1.
      */
-    ERROR_PARALLEL_GC_THREADS_1("error.parallel.gc.threads.1"),
+    ERROR_PARALLEL_GC_THREADS_1("error.parallel.gc.threads.1", AnalysisTopic.GC),
 
     /**
      * Property key for using the PARALLEL_SCAVENGE in combination with PARALLEL_SERIAL_OLD.
      */
-    ERROR_PARALLEL_SCAVENGE_PARALLEL_SERIAL_OLD("error.parallel.scavenge.parallel.serial.old"),
+    ERROR_PARALLEL_SCAVENGE_PARALLEL_SERIAL_OLD("error.parallel.scavenge.parallel.serial.old", AnalysisTopic.GC),
 
     /**
      * Property key for InitialRAMPercentage &gt;= 100.
      */
-    ERROR_RAM_PCT_INITIAL_100("error.ram.pct.initial.100"),
+    ERROR_RAM_PCT_INITIAL_100("error.ram.pct.initial.100", AnalysisTopic.CONTAINER),
 
     /**
      * Property key for InitialRAMPercentage &gt; MaxRAMPercentage.
      */
-    ERROR_RAM_PCT_INITIAL_GT_MAX("error.ram.pct.initial.gt.max"),
+    ERROR_RAM_PCT_INITIAL_GT_MAX("error.ram.pct.initial.gt.max", AnalysisTopic.CONTAINER),
 
     /**
      * Property key for InitialRAMPercentage &gt; MinRAMPercentage.
      */
-    ERROR_RAM_PCT_INITIAL_GT_MIN("error.ram.pct.initial.gt.min"),
+    ERROR_RAM_PCT_INITIAL_GT_MIN("error.ram.pct.initial.gt.min", AnalysisTopic.CONTAINER),
 
     /**
      * Property key for MaxRAMPercentage &gt;= 100.
      */
-    ERROR_RAM_PCT_MAX_100("error.ram.pct.max.100"),
+    ERROR_RAM_PCT_MAX_100("error.ram.pct.max.100", AnalysisTopic.CONTAINER),
 
     /**
      * Property key for MinRAMPercentage &gt;= 100.
      */
-    ERROR_RAM_PCT_MIN_100("error.ram.pct.min.100"),
+    ERROR_RAM_PCT_MIN_100("error.ram.pct.min.100", AnalysisTopic.CONTAINER),
 
     /**
      * Property key for remote debugging enabled.
      */
-    ERROR_REMOTE_DEBUGGING_ENABLED("error.remote.debugging.enabled"),
+    ERROR_REMOTE_DEBUGGING_ENABLED("error.remote.debugging.enabled", AnalysisTopic.SECURITY),
 
     /**
      * Property key for attempting to set jdk.tls.disabledAlgorithms as a system property.
      */
-    ERROR_SYSTEM_PROPERTY_JDK_TLS_DISABLED_ALGORITHMS("error.system.property.jdk.tls.disabledAlgorithms"),
+    ERROR_SYSTEM_PROPERTY_JDK_TLS_DISABLED_ALGORITHMS("error.system.property.jdk.tls.disabledAlgorithms",
+            AnalysisTopic.SECURITY),
 
     /**
      * Property key for the -client flag on 64-bit.
      */
-    INFO_64_CLIENT("info.64.client"),
+    INFO_64_CLIENT("info.64.client", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for -d64 flag on 64-bit.
      */
-    INFO_64_D64_REDUNDANT("info.64.d64.redundant"),
+    INFO_64_D64_REDUNDANT("info.64.d64.redundant", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for -server flag on 64-bit.
      */
-    INFO_64_SERVER_REDUNDANT("info.64.server.redundant"),
+    INFO_64_SERVER_REDUNDANT("info.64.server.redundant", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for explicitly setting cpu/cores with -XX:ActiveProcessorCount=N and overriding default determined
      * by container support reading cgroup settings.
      */
-    INFO_ACTIVE_PROCESSOR_COUNT("info.active.processor.count"),
+    INFO_ACTIVE_PROCESSOR_COUNT("info.active.processor.count", AnalysisTopic.CONTAINER),
 
     /**
      * Property key for -XX:+AggressiveOpts.
      */
-    INFO_AGGRESSIVE_OPTS_ENABLED("info.aggressive.opts.enabled"),
+    INFO_AGGRESSIVE_OPTS_ENABLED("info.aggressive.opts.enabled", AnalysisTopic.JIT),
 
     /**
      * Property key for allowing user signal handlers with -XX:+AllowUserSignalHandlers.
      */
-    INFO_ALLOW_USER_SIGNAL_HANDLERS_ENABLED("info.allow.user.signal.handlers.enabled"),
+    INFO_ALLOW_USER_SIGNAL_HANDLERS_ENABLED("info.allow.user.signal.handlers.enabled", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for biased locking disabled (-XX:-UseBiasedLocking) when it is enabled by default (or the default is
      * unknown), and neither {@link org.github.joa.domain.GarbageCollector#SHENANDOAH_NON_GENERATIONAL} and
      * {@link org.github.joa.domain.GarbageCollector#SHENANDOAH_GENERATIONAL} are identified.
      */
-    INFO_BIASED_LOCKING_DISABLED("info.biased.locking.disabled"),
+    INFO_BIASED_LOCKING_DISABLED("info.biased.locking.disabled", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for biased locking disabled (-XX:-UseBiasedLocking) when it is disabled by default.
      */
-    INFO_BIASED_LOCKING_DISABLED_REDUNDANT("info.biased.locking.disabled.redundant"),
+    INFO_BIASED_LOCKING_DISABLED_REDUNDANT("info.biased.locking.disabled.redundant", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for biased locking enabled (-XX:+UseBiasedLocking) when it is disabled by default.
      */
-    INFO_BIASED_LOCKING_ENABLED("info.biased.locking.enabled"),
+    INFO_BIASED_LOCKING_ENABLED("info.biased.locking.enabled", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for biased locking enabled (-XX:+UseBiasedLocking) when it is enabled by default.
      */
-    INFO_BIASED_LOCKING_ENABLED_REDUNDANT("info.biased.locking.enabled.redundant"),
+    INFO_BIASED_LOCKING_ENABLED_REDUNDANT("info.biased.locking.enabled.redundant", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for setting the number of compiler threads (-XX:CICompilerCount=N).
      */
-    INFO_CI_COMPILER_COUNT("info.ci.compiler.count"),
+    INFO_CI_COMPILER_COUNT("info.ci.compiler.count", AnalysisTopic.JIT),
 
     /**
      * Property key for the CMS collector disabled in JDK11.
      */
-    INFO_CMS_DISABLED("info.cms.disabled"),
+    INFO_CMS_DISABLED("info.cms.disabled", AnalysisTopic.GC),
 
     /**
      * Property key for setting the flag to always record CMS parallel initial mark/remark eden chunks (e.g.
      * -XX:-CMSEdenChunksRecordAlways).
      */
-    INFO_CMS_EDEN_CHUNK_RECORD_ALWAYS("info.cms.eden.chunks.record.always"),
+    INFO_CMS_EDEN_CHUNK_RECORD_ALWAYS("info.cms.eden.chunks.record.always", AnalysisTopic.GC),
 
     /**
      * Property key for CMS collector running in incremental mode.
      */
-    INFO_CMS_INCREMENTAL_MODE("info.cms.incremental.mode"),
+    INFO_CMS_INCREMENTAL_MODE("info.cms.incremental.mode", AnalysisTopic.GC),
 
     /**
      * Property key for -XX:CMSInitiatingOccupancyFraction without -XX:+UseCMSInitiatingOccupancyOnly.
      */
-    INFO_CMS_INIT_OCCUPANCY_ONLY_MISSING("info.cms.init.occupancy.only.missing"),
+    INFO_CMS_INIT_OCCUPANCY_ONLY_MISSING("info.cms.init.occupancy.only.missing", AnalysisTopic.GC),
 
     /**
      * Property key for -XX:CMSInitiatingOccupancyFraction when the CMS collector is not used.
      */
-    INFO_CMS_INITIATING_OCCUPANCY_FRACTION_IGNORED("info.cms.initiating.occupancy.fraction.ignored"),
+    INFO_CMS_INITIATING_OCCUPANCY_FRACTION_IGNORED("info.cms.initiating.occupancy.fraction.ignored", AnalysisTopic.GC),
 
     /**
      * Property key for -XX:ParallelCMSThreads when the CMS collector is not used.
      */
-    INFO_CMS_PARALLEL_CMS_THREADS_IGNORED("info.cms.parallel.cms.threads.ignored"),
+    INFO_CMS_PARALLEL_CMS_THREADS_IGNORED("info.cms.parallel.cms.threads.ignored", AnalysisTopic.GC),
 
     /**
      * Property key for -XX:(+|-)UseCMSInitiatingOccupancyOnly when the CMS collector is not used.
      */
-    INFO_CMS_USE_CMS_INITIATING_OCCUPANCY_ONLY_IGNORED("info.cms.use.cms.initiating.occupancy.only.ignored"),
+    INFO_CMS_USE_CMS_INITIATING_OCCUPANCY_ONLY_IGNORED("info.cms.use.cms.initiating.occupancy.only.ignored",
+            AnalysisTopic.GC),
 
     /**
      * Property key for setting the milliseconds the CMS collector will wait before starting an initial mark after a
      * young collection with -XX:CMSWaitDuration=N.
      */
-    INFO_CMS_WAIT_DURATION("info.cms.wait.duration"),
+    INFO_CMS_WAIT_DURATION("info.cms.wait.duration", AnalysisTopic.GC),
 
     /**
      * Property key for compressed class pointers size set (-XX:CompressedClassSpaceSize) with compressed class pointers
      * disabled (-XX:+UseCompressedClassPointers).
      */
-    INFO_COMP_CLASS_SIZE_COMP_CLASS_DISABLED("info.comp.class.size.comp.class.disabled"),
+    INFO_COMP_CLASS_SIZE_COMP_CLASS_DISABLED("info.comp.class.size.comp.class.disabled", AnalysisTopic.HEAP),
 
     /**
      * Property key for compressed class pointers size set (-XX:CompressedClassSpaceSize) with compressed object
      * references disabled (-XX:-UseCompressedOops).
      */
-    INFO_COMP_CLASS_SIZE_COMP_OOPS_DISABLED("info.comp.class.size.comp.oops.disabled"),
+    INFO_COMP_CLASS_SIZE_COMP_OOPS_DISABLED("info.comp.class.size.comp.oops.disabled", AnalysisTopic.HEAP),
 
     /**
      * Property key for -XX:CompileThreshold when tiered compilation is enabled.
      */
-    INFO_COMPILE_THRESHOLD_IGNORED("info.compile.threshold.ignored"),
+    INFO_COMPILE_THRESHOLD_IGNORED("info.compile.threshold.ignored", AnalysisTopic.JIT),
 
     /**
      * Property key for -XX:-ExplicitGCInvokesConcurrentAndUnloadsClasses in combination with -XX:+DisableExplicitGC.
      */
-    INFO_CRUFT_EXP_GC_INV_CON_AND_UNL_CLA("info.cruft.exp.gc.inv.con.and.unl.cla"),
+    INFO_CRUFT_EXP_GC_INV_CON_AND_UNL_CLA("info.cruft.exp.gc.inv.con.and.unl.cla", AnalysisTopic.GC),
 
     /**
      * Property key for enable debugging using the Java Virtual Machine Debug Interface (JVMDI) with -Xdebug.
      */
-    INFO_DEBUG("info.debug"),
+    INFO_DEBUG("info.debug", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for -XX:+UnlockDiagnosticVMOptions.
      */
-    INFO_DIAGNOSTIC_VM_OPTIONS_ENABLED("info.diagnostic.vm.options.enabled"),
+    INFO_DIAGNOSTIC_VM_OPTIONS_ENABLED("info.diagnostic.vm.options.enabled", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for -XX:-DisableExplicitGC.
      */
-    INFO_DISABLE_EXPLICIT_GC_DISABLED("info.disable.explicit.gc.disabled"),
+    INFO_DISABLE_EXPLICIT_GC_DISABLED("info.disable.explicit.gc.disabled", AnalysisTopic.GC),
 
     /**
      * Property key for -XX:+EliminateLocks.
      */
-    INFO_ELIMINATE_LOCKS_ENABLED("info.eliminate.locks.enabled"),
+    INFO_ELIMINATE_LOCKS_ENABLED("info.eliminate.locks.enabled", AnalysisTopic.JIT),
 
     /**
      * Property key for fast unordered timestamps enabled by JVM ergonomics.
      */
-    INFO_FAST_UNORDERED_TIMESTAMPS("info.fast.unordered.timestamps"),
+    INFO_FAST_UNORDERED_TIMESTAMPS("info.fast.unordered.timestamps", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for summarized remembered set processing output.
      */
-    INFO_G1_SUMMARIZE_RSET_STATS_OUTPUT("info.g1.summarize.rset.stats.output"),
+    INFO_G1_SUMMARIZE_RSET_STATS_OUTPUT("info.g1.summarize.rset.stats.output", AnalysisTopic.LOGGING),
 
     /**
      * Property key for no garbage collector settings in the JVM options.
      */
-    INFO_GC_DEFAULT("info.gc.default"),
+    INFO_GC_DEFAULT("info.gc.default", AnalysisTopic.GC),
 
     /**
      * Property key for the JVM not using the garbage collector specified in the JVM options.
      */
-    INFO_GC_IGNORED("info.gc.ignored"),
+    INFO_GC_IGNORED("info.gc.ignored", AnalysisTopic.GC),
 
     /**
      * Property key for GC log being sent to stdout.
      */
-    INFO_GC_LOG_STDOUT("info.gc.log.stdout"),
+    INFO_GC_LOG_STDOUT("info.gc.log.stdout", AnalysisTopic.LOGGING),
 
     /**
      * Property key for disabling the gc overhead limit throttle with -XX:-UseGCOverheadLimit.
      */
-    INFO_GC_OVERHEAD_LIMIT_DISABLED("info.gc.overhead.limit.disabled"),
+    INFO_GC_OVERHEAD_LIMIT_DISABLED("info.gc.overhead.limit.disabled", AnalysisTopic.GC),
 
     /**
      * Property key for -XX:(+|-)UseGCOverheadLimit used with a collector that does not support the gc overhead limit
      * throttle.
      */
-    INFO_GC_OVERHEAD_LIMIT_IGNORED("info.gc.overhead.limit.ignored"),
+    INFO_GC_OVERHEAD_LIMIT_IGNORED("info.gc.overhead.limit.ignored", AnalysisTopic.GC),
 
     /**
      * Property key for the JVM electing to use the serial collector instead of the specified or default collector (e.g.
      * a single cpu is detected).
      */
-    INFO_GC_SERIAL_ELECTED("info.gc.serial.elected"),
+    INFO_GC_SERIAL_ELECTED("info.gc.serial.elected", AnalysisTopic.GC),
 
     /**
      * Property key for heap dump on out of memory error option missing.
      */
-    INFO_HEAP_DUMP_ON_OOME_MISSING("info.heap.dump.on.oome.missing"),
+    INFO_HEAP_DUMP_ON_OOME_MISSING("info.heap.dump.on.oome.missing", AnalysisTopic.HEAP),
 
     /**
      * Property key for heap dumps enabled without specifying a location with the -XX:HeapDumpPath option.
      */
-    INFO_HEAP_DUMP_PATH_MISSING("info.heap.dump.path.missing"),
+    INFO_HEAP_DUMP_PATH_MISSING("info.heap.dump.path.missing", AnalysisTopic.HEAP),
 
     /**
      * Property key for the maximum heap size not being explicitly set.
      */
-    INFO_HEAP_MAX_MISSING("info.heap.max.missing"),
+    INFO_HEAP_MAX_MISSING("info.heap.max.missing", AnalysisTopic.HEAP),
 
     /**
      * Property key for min heap not equal to max heap.
      */
-    INFO_HEAP_MIN_NOT_EQUAL_MAX("info.heap.min.not.equal.max"),
+    INFO_HEAP_MIN_NOT_EQUAL_MAX("info.heap.min.not.equal.max", AnalysisTopic.HEAP),
 
     /**
      * Property key for -XX:+IgnoreUnrecognizedVMOptions.
      */
-    INFO_IGNORE_UNRECOGNIZED_VM_OPTIONS("info.ignore.unrecognized.vm.options"),
+    INFO_IGNORE_UNRECOGNIZED_VM_OPTIONS("info.ignore.unrecognized.vm.options", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for instrumentation.
      */
-    INFO_INSTRUMENTATION("info.instrumentation"),
+    INFO_INSTRUMENTATION("info.instrumentation", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for missing gc* to output details at gc needed for analysis.
      */
-    INFO_JDK11_PRINT_GC_DETAILS_MISSING("info.jdk11.print.gc.details.missing"),
+    INFO_JDK11_PRINT_GC_DETAILS_MISSING("info.jdk11.print.gc.details.missing", AnalysisTopic.LOGGING),
 
     /**
      * Property key for the PAR_NEW collector enabled/disabled without the CMS collector being used.
      */
-    INFO_JDK8_CMS_PAR_NEW_CRUFT("info.jdk8.cms.par.new.cruft"),
+    INFO_JDK8_CMS_PAR_NEW_CRUFT("info.jdk8.cms.par.new.cruft", AnalysisTopic.GC),
 
     /**
      * Property key for redundant option -XX:-UseParNewGC.
      */
-    INFO_JDK8_CMS_PAR_NEW_REDUNDANT("info.jdk8.cms.par.new.redundant"),
+    INFO_JDK8_CMS_PAR_NEW_REDUNDANT("info.jdk8.cms.par.new.redundant", AnalysisTopic.GC),
 
     /**
      * Property key for disabling Adaptive Resize Policy output with -XX:-PrintAdaptiveSizePolicy.
      */
-    INFO_JDK8_PRINT_ADAPTIVE_RESIZE_PLCY_DISABLED("info.jdk8.print.adaptive.resize.plcy.disabled"),
+    INFO_JDK8_PRINT_ADAPTIVE_RESIZE_PLCY_DISABLED("info.jdk8.print.adaptive.resize.plcy.disabled",
+            AnalysisTopic.LOGGING),
 
     /**
      * Property key for enabling Adaptive Resize Policy output with -XX:+PrintAdaptiveSizePolicy.
      */
-    INFO_JDK8_PRINT_ADAPTIVE_RESIZE_PLCY_ENABLED("info.jdk8.print.adaptive.resize.plcy.enabled"),
+    INFO_JDK8_PRINT_ADAPTIVE_RESIZE_PLCY_ENABLED("info.jdk8.print.adaptive.resize.plcy.enabled", AnalysisTopic.LOGGING),
 
     /**
      * Property key for CMS Free List Space statistics being output.
      */
-    INFO_JDK8_PRINT_FLS_STATISTICS("info.jdk8.print.fls.statistics"),
+    INFO_JDK8_PRINT_FLS_STATISTICS("info.jdk8.print.fls.statistics", AnalysisTopic.LOGGING),
 
     /**
      * Property key for -XX:+PrintGCCause.
      */
-    INFO_JDK8_PRINT_GC_CAUSE("info.jdk8.print.gc.cause"),
+    INFO_JDK8_PRINT_GC_CAUSE("info.jdk8.print.gc.cause", AnalysisTopic.LOGGING),
 
     /**
      * Property key for printing additional heap data (-XX:+PrintHeapAtGC).
      */
-    INFO_JDK8_PRINT_HEAP_AT_GC("info.jdk8.print.heap.at.gc"),
+    INFO_JDK8_PRINT_HEAP_AT_GC("info.jdk8.print.heap.at.gc", AnalysisTopic.LOGGING),
 
     /**
      * Property key for -XX:+PrintPromotionFailure.
      */
-    INFO_JDK8_PRINT_PROMOTION_FAILURE("info.jdk8.print.promotion.failure"),
+    INFO_JDK8_PRINT_PROMOTION_FAILURE("info.jdk8.print.promotion.failure", AnalysisTopic.LOGGING),
 
     /**
      * Property key for -XX:+PrintReferenceGC.
      */
-    INFO_JDK8_PRINT_REFERENCE_GC_ENABLED("info.jdk8.print.reference.gc.enabled"),
+    INFO_JDK8_PRINT_REFERENCE_GC_ENABLED("info.jdk8.print.reference.gc.enabled", AnalysisTopic.LOGGING),
 
     /**
      * Property key for -XX:+PrintStringDeduplicationStatistics.
      */
-    INFO_JDK8_PRINT_STRING_DEDUP_STATS_ENABLED("info.jdk8.print.string.dedup.stats.enabled"),
+    INFO_JDK8_PRINT_STRING_DEDUP_STATS_ENABLED("info.jdk8.print.string.dedup.stats.enabled", AnalysisTopic.LOGGING),
 
     /**
      * Property key for -XX:+PrintStringTableStatistics.
      */
-    INFO_JDK8_PRINT_STRING_TABLE_STATS_ENABLED("info.jdk8.print.string.table.stats.enabled"),
+    INFO_JDK8_PRINT_STRING_TABLE_STATS_ENABLED("info.jdk8.print.string.table.stats.enabled", AnalysisTopic.LOGGING),
 
     /**
      * Property key for outputting tenuring distribution information (-XX:+PrintTenuringDistribution).
      */
-    INFO_JDK8_PRINT_TENURING_DISTRIBUTION("info.jdk8.print.tenuring.distribution"),
+    INFO_JDK8_PRINT_TENURING_DISTRIBUTION("info.jdk8.print.tenuring.distribution", AnalysisTopic.LOGGING),
 
     /**
      * Property key for outputting tenuring distribution information (-XX:-PrintTenuringDistribution).
      */
-    INFO_JDK8_PRINT_TENURING_DISTRIBUTION_DISABLED("info.jdk8.print.tenuring.distribution.disabled"),
+    INFO_JDK8_PRINT_TENURING_DISTRIBUTION_DISABLED("info.jdk8.print.tenuring.distribution.disabled",
+            AnalysisTopic.LOGGING),
 
     /**
      * Property key for using the deprecated -Xloggc option on JDK9+.
      */
-    INFO_JDK9_DEPRECATED_LOGGC("info.jdk9.deprecated.loggc"),
+    INFO_JDK9_DEPRECATED_LOGGC("info.jdk9.deprecated.loggc", AnalysisTopic.LOGGING),
 
     /**
      * Property key for using the deprecated -XX:+PrintGC option on JDK9+.
      */
-    INFO_JDK9_DEPRECATED_PRINT_GC("info.jdk9.deprecated.print.gc"),
+    INFO_JDK9_DEPRECATED_PRINT_GC("info.jdk9.deprecated.print.gc", AnalysisTopic.LOGGING),
 
     /**
      * Property key for using the deprecated -XX:+PrintGCDetails option on JDK9+.
      */
-    INFO_JDK9_DEPRECATED_PRINT_GC_DETAILS("info.jdk9.deprecated.print.gc.details"),
+    INFO_JDK9_DEPRECATED_PRINT_GC_DETAILS("info.jdk9.deprecated.print.gc.details", AnalysisTopic.LOGGING),
 
     /**
      * Property key for JDK Flight Recorder (JFR) being used.
      */
-    INFO_JFR("info.jfr"),
+    INFO_JFR("info.jfr", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for -XX:-FlightRecorder. The flag is deprecated in JDK13.
      */
-    INFO_JFR_FLIGHT_RECORDER_DISABLED("info.jfr.flight.recorder.disabled"),
+    INFO_JFR_FLIGHT_RECORDER_DISABLED("info.jfr.flight.recorder.disabled", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for -XX:+FlightRecorder. Unnecessary since JDK8 u240 and deprecated in JDK13.
      */
-    INFO_JFR_FLIGHT_RECORDER_ENABLED("info.jfr.flight.recorder.enabled"),
+    INFO_JFR_FLIGHT_RECORDER_ENABLED("info.jfr.flight.recorder.enabled", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for JMX enabled with -Dcom.sun.management.jmxremote or -XX:+ManagementServer.
      */
-    INFO_JMX_ENABLED("info.jmx.enabled"),
+    INFO_JMX_ENABLED("info.jmx.enabled", AnalysisTopic.SECURITY),
 
     /**
      * Property key for the JVM configured to use generic (e.g. OS unknown) large pages.
      */
-    INFO_LARGE_PAGES("info.large.pages"),
+    INFO_LARGE_PAGES("info.large.pages", AnalysisTopic.HEAP),
 
     /**
      * Property key for considering using large pages.
      */
-    INFO_LARGE_PAGES_CONSIDER("info.large.pages.consider"),
+    INFO_LARGE_PAGES_CONSIDER("info.large.pages.consider", AnalysisTopic.HEAP),
 
     /**
      * Property key for -XX:LargePageSizeInBytes being extraneous on Linux.
      */
-    INFO_LARGE_PAGES_LARGE_PAGE_SIZE_IN_BYTES_LINUX("info.large.pages.large.page.size.in.bytes.linux"),
+    INFO_LARGE_PAGES_LARGE_PAGE_SIZE_IN_BYTES_LINUX("info.large.pages.large.page.size.in.bytes.linux",
+            AnalysisTopic.HEAP),
 
     /**
      * Property key for -XX:LargePageSizeInBytes being extraneous on Linux.
      */
-    INFO_LARGE_PAGES_LARGE_PAGE_SIZE_IN_BYTES_WINDOWS("info.large.pages.large.page.size.in.bytes.windows"),
+    INFO_LARGE_PAGES_LARGE_PAGE_SIZE_IN_BYTES_WINDOWS("info.large.pages.large.page.size.in.bytes.windows",
+            AnalysisTopic.HEAP),
 
     /**
      * Property key for the JVM configured to use large pages backed by Linux HugeTLB pages using POSIX APIs (explicitly
      * mmap large pages using MAP_HUGETLB).
      */
-    INFO_LARGE_PAGES_LINUX_HUGETLBFS("info.large.pages.linux.hugetlbfs"),
+    INFO_LARGE_PAGES_LINUX_HUGETLBFS("info.large.pages.linux.hugetlbfs", AnalysisTopic.HEAP),
 
     /**
      * Property key for the JVM configured to use large pages backed by Linux Transparent Huge Pages (THP).
      */
-    INFO_LARGE_PAGES_LINUX_THPS("info.large.pages.linux.thps"),
+    INFO_LARGE_PAGES_LINUX_THPS("info.large.pages.linux.thps", AnalysisTopic.HEAP),
 
     /**
      * Property key for -XX:+UseLargePagesInMetaspace.
      */
-    INFO_LARGE_PAGES_USE_LARGE_PAGES_IN_METASPACE("info.large.pages.use.large.pages.in.metaspace"),
+    INFO_LARGE_PAGES_USE_LARGE_PAGES_IN_METASPACE("info.large.pages.use.large.pages.in.metaspace", AnalysisTopic.HEAP),
 
     /**
      * Property key for -XX:(+|-)MaxFDLimit being used on OS other than solaris.
      */
-    INFO_MAX_FD_LIMIT_IGNORED("info.max.fd.limit.ignored"),
+    INFO_MAX_FD_LIMIT_IGNORED("info.max.fd.limit.ignored", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for maximum permanent generation size being set.
      */
-    INFO_MAX_PERM_SIZE("info.max.perm.size"),
+    INFO_MAX_PERM_SIZE("info.max.perm.size", AnalysisTopic.HEAP),
 
     /**
      * Property key for overriding the number of times an object is copied between survivor spaces being set with
@@ -489,593 +501,595 @@ public enum Analysis {
      * testing has shown this improves performance, consider removing this option to allow the default value to be
      * applied.
      */
-    INFO_MAX_TENURING_OVERRIDE("info.max.tenuring.override"),
+    INFO_MAX_TENURING_OVERRIDE("info.max.tenuring.override", AnalysisTopic.HEAP),
 
     /**
      * Property key for metaspace initial and/or max size being set.
      */
-    INFO_METASPACE("info.metaspace"),
+    INFO_METASPACE("info.metaspace", AnalysisTopic.HEAP),
 
     /**
      * Property key for metaspace including only class metadata.
      */
-    INFO_METASPACE_CLASS_METADATA("info.metaspace.class.metadata"),
+    INFO_METASPACE_CLASS_METADATA("info.metaspace.class.metadata", AnalysisTopic.HEAP),
 
     /**
      * Property key for metaspace including class metadata and compressed class space.
      */
-    INFO_METASPACE_CLASS_METADATA_AND_COMP_CLASS_SPACE("info.metaspace.class.metadata.and.comp.class.space"),
+    INFO_METASPACE_CLASS_METADATA_AND_COMP_CLASS_SPACE("info.metaspace.class.metadata.and.comp.class.space",
+            AnalysisTopic.HEAP),
 
     /**
      * Property key for setting the minimum amount to resize the heap space in bytes with -XX:MinHeapDeltaBytes=N.
      * 
      */
-    INFO_MIN_HEAP_DELTA_BYTES("info.min.heap.delta.bytes"),
+    INFO_MIN_HEAP_DELTA_BYTES("info.min.heap.delta.bytes", AnalysisTopic.HEAP),
 
     /**
      * Property key for native agent library.
      */
-    INFO_NATIVE_AGENT("info.native.agent"),
+    INFO_NATIVE_AGENT("info.native.agent", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for young space &gt;= old space.
      */
-    INFO_NEW_RATIO_INVERTED("info.new.ratio.inverted"),
+    INFO_NEW_RATIO_INVERTED("info.new.ratio.inverted", AnalysisTopic.HEAP),
 
     /**
      * Property key for -XX:OnOutOfMemoryError is being used to execute a command or script when the first
      * OnOutOfMemoryError happens.
      */
-    INFO_ON_OOME("info.on.oome"),
+    INFO_ON_OOME("info.on.oome", AnalysisTopic.HEAP),
 
     /**
      * Property key for -XX:OnOutOfMemoryError being used to shut down the JVM when the first OnOutOfMemoryError
      * happens.
      */
-    INFO_ON_OOME_KILL("info.on.oome.kill"),
+    INFO_ON_OOME_KILL("info.on.oome.kill", AnalysisTopic.HEAP),
 
     /**
      * Property key for undefined JVM option(s).
      */
-    INFO_OPTS_UNDEFINED("info.opts.undefined"),
+    INFO_OPTS_UNDEFINED("info.opts.undefined", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for explicitly setting the number of parallel garbage collector threads (-XX:ParallelGCThreads=N).
      */
-    INFO_PARALLEL_GC_THREADS("info.parallel.gc.threads"),
+    INFO_PARALLEL_GC_THREADS("info.parallel.gc.threads", AnalysisTopic.GC),
 
     /**
      * Property key for setting the number of parallel garbage collector threads (-XX:ParallelGCThreads=N) with the
      * serial collector.
      */
-    INFO_PARALLEL_GC_THREADS_SERIAL("info.parallel.gc.threads.serial"),
+    INFO_PARALLEL_GC_THREADS_SERIAL("info.parallel.gc.threads.serial", AnalysisTopic.GC),
 
     /**
      * Property key for the PARALLEL_OLD collector enabled/disabled without the parallel collector being used.
      */
-    INFO_PARALLEL_OLD_CRUFT("info.parallel.old.cruft"),
+    INFO_PARALLEL_OLD_CRUFT("info.parallel.old.cruft", AnalysisTopic.GC),
 
     /**
      * Property key for redundant option -XX:+UseParallelOldGC.
      */
-    INFO_PARALLEL_OLD_REDUNDANT("info.parallel.old.redundant"),
+    INFO_PARALLEL_OLD_REDUNDANT("info.parallel.old.redundant", AnalysisTopic.GC),
 
     /**
      * Property key for performance data disabled.
      */
-    INFO_PERF_DATA_DISABLED("info.perf.data.disabled"),
+    INFO_PERF_DATA_DISABLED("info.perf.data.disabled", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for initial permanent generation size being set.
      */
-    INFO_PERM_SIZE("info.perm.size"),
+    INFO_PERM_SIZE("info.perm.size", AnalysisTopic.HEAP),
 
     /**
      * Property key for printing application concurrent time (-XX:+PrintGCApplicationConcurrentTime).
      */
-    INFO_PRINT_GC_APPLICATION_CONCURRENT_TIME("info.print.gc.application.concurrent.time"),
+    INFO_PRINT_GC_APPLICATION_CONCURRENT_TIME("info.print.gc.application.concurrent.time", AnalysisTopic.LOGGING),
 
     /**
      * Property key for -XX:RefDiscoveryPolicy=0.
      */
-    INFO_REF_DISCOVERY_POLICY_REDUNDANT("info.ref.discovery.policy.redundant"),
+    INFO_REF_DISCOVERY_POLICY_REDUNDANT("info.ref.discovery.policy.redundant", AnalysisTopic.GC),
 
     /**
      * Property key for -Dsun.rmi.dgc.client.gcInterval.redundant in combination with -XX:+DisableExplicitGC.
      */
-    INFO_RMI_DGC_CLIENT_GCINTERVAL_REDUNDANT("info.rmi.dgc.client.gcInterval.redundant"),
+    INFO_RMI_DGC_CLIENT_GCINTERVAL_REDUNDANT("info.rmi.dgc.client.gcInterval.redundant", AnalysisTopic.GC),
 
     /**
      * Property key for -Dsun.rmi.dgc.server.gcInterval.redundant in combination with -XX:+DisableExplicitGC.
      */
-    INFO_RMI_DGC_SERVER_GCINTERVAL_REDUNDANT("info.rmi.dgc.server.gcInterval.redundant"),
+    INFO_RMI_DGC_SERVER_GCINTERVAL_REDUNDANT("info.rmi.dgc.server.gcInterval.redundant", AnalysisTopic.GC),
 
     /**
      * Property key for XX:(+|-)ScavengeBeforeFullGC being ignored (it applies only to the parallel collector).
      */
-    INFO_SCAVENGE_BEFORE_FULL_GC_IGNORED("info.scavenge.before.full.gc.ignored"),
+    INFO_SCAVENGE_BEFORE_FULL_GC_IGNORED("info.scavenge.before.full.gc.ignored", AnalysisTopic.GC),
 
     /**
      * Property key for XX:+ScavengeBeforeFullGC being redundant (enabled by default).
      */
-    INFO_SCAVENGE_BEFORE_FULL_GC_REDUNDANT("info.scavenge.before.full.gc.redundant"),
+    INFO_SCAVENGE_BEFORE_FULL_GC_REDUNDANT("info.scavenge.before.full.gc.redundant", AnalysisTopic.GC),
 
     /**
      * Property key for the survivor ratio being set with -XX:SurvivorRatio=N (e.g. -XX:SurvivorRatio=6 ).
      * 
      */
-    INFO_SURVIVOR_RATIO("info.survivor.ratio"),
+    INFO_SURVIVOR_RATIO("info.survivor.ratio", AnalysisTopic.HEAP),
 
     /**
      * Property key for the target survivor ratio being set with XX:TargetSurvivorRatio=N (e.g.
      * -XX:TargetSurvivorRatio=90).
      * 
      */
-    INFO_SURVIVOR_RATIO_TARGET("info.survivor.ratio.target"),
+    INFO_SURVIVOR_RATIO_TARGET("info.survivor.ratio.target", AnalysisTopic.HEAP),
 
     /**
      * Property key for setting the thread priority policy with -XX:ThreadPriorityPolicy=0.
      */
-    INFO_THREAD_PRIORITY_POLICY_REDUNDANT("info.thread.priority.policy.redundant"),
+    INFO_THREAD_PRIORITY_POLICY_REDUNDANT("info.thread.priority.policy.redundant", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for -XX:-TieredCompilation.
      */
-    INFO_TIERED_COMPILATION_DISABLED("info.tiered.compilation.disabled"),
+    INFO_TIERED_COMPILATION_DISABLED("info.tiered.compilation.disabled", AnalysisTopic.JIT),
 
     /**
      * Property key for -XX:+TieredCompilation.
      */
-    INFO_TIERED_COMPILATION_ENABLED("info.tiered.compilation.enabled"),
+    INFO_TIERED_COMPILATION_ENABLED("info.tiered.compilation.enabled", AnalysisTopic.JIT),
 
     /**
      * Property key for outputting class loading information (-XX:+TraceClassLoading).
      */
-    INFO_TRACE_CLASS_LOADING("info.trace.class.loading"),
+    INFO_TRACE_CLASS_LOADING("info.trace.class.loading", AnalysisTopic.LOGGING),
 
     /**
      * Property key for outputting class loading information disabled (-XX:-TraceClassLoading).
      */
-    INFO_TRACE_CLASS_LOADING_DISABLED("info.trace.class.loading.disabled"),
+    INFO_TRACE_CLASS_LOADING_DISABLED("info.trace.class.loading.disabled", AnalysisTopic.LOGGING),
 
     /**
      * Property key for outputting class unloading information (-XX:+TraceClassUnloading).
      */
-    INFO_TRACE_CLASS_UNLOADING("info.trace.class.unloading"),
+    INFO_TRACE_CLASS_UNLOADING("info.trace.class.unloading", AnalysisTopic.LOGGING),
 
     /**
      * Property key for outputting class unloading information disabled (-XX:-TraceClassUnloading).
      */
-    INFO_TRACE_CLASS_UNLOADING_DISABLED("info.trace.class.unloading.disabled"),
+    INFO_TRACE_CLASS_UNLOADING_DISABLED("info.trace.class.unloading.disabled", AnalysisTopic.LOGGING),
 
     /**
      * Property key for otherwise unaccounted JVM options disabled.
      */
-    INFO_UNACCOUNTED_OPTIONS_DISABLED("info.unaccounted.options.disabled"),
+    INFO_UNACCOUNTED_OPTIONS_DISABLED("info.unaccounted.options.disabled", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for code cache flushing is disabled with -XX:-UseCodeCacheFlushing.
      */
-    INFO_USE_CODE_CACHE_FLUSHING_DISABLED("info.use.code.cache.flushing.disabled"),
+    INFO_USE_CODE_CACHE_FLUSHING_DISABLED("info.use.code.cache.flushing.disabled", AnalysisTopic.JIT),
 
     /**
      * Property key for -XX:(+|-)UseStringCache.
      */
-    INFO_USE_STRING_CACHE_IGNORED("info.use.string.cache.ignored"),
+    INFO_USE_STRING_CACHE_IGNORED("info.use.string.cache.ignored", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for redundant option -XX:-UseStringDeduplication.
      */
-    INFO_USE_STRING_DEDUPLICATION_REDUNDANT("info.use.string.deduplication.redundant"),
+    INFO_USE_STRING_DEDUPLICATION_REDUNDANT("info.use.string.deduplication.redundant", AnalysisTopic.GC),
 
     /**
      * Property key for redundant option -XX:+UseStringDeduplication used with a collector other than G1 for JDK &gt;=
      * 8u20.
      */
-    INFO_USE_STRING_DEDUPLICATION_UNSUPPORTED("info.use.string.deduplication.unsupported"),
+    INFO_USE_STRING_DEDUPLICATION_UNSUPPORTED("info.use.string.deduplication.unsupported", AnalysisTopic.GC),
 
     /**
      * Property key for -XX:+UseThreadPriorities.
      */
-    INFO_USE_THREAD_PRIORITIES_REDUNDANT("info.use.thread.priorities.redundant"),
+    INFO_USE_THREAD_PRIORITIES_REDUNDANT("info.use.thread.priorities.redundant", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for class loading logging (sent to standard out) enabled with -verbose:class.
      */
-    INFO_VERBOSE_CLASS("info.verbose.class"),
+    INFO_VERBOSE_CLASS("info.verbose.class", AnalysisTopic.LOGGING),
 
     /**
      * Property key for jni logging (sent to standard out) enabled with -verbose:jni.
      */
-    INFO_VERBOSE_JNI("info.verbose.jni"),
+    INFO_VERBOSE_JNI("info.verbose.jni", AnalysisTopic.LOGGING),
 
     /**
      * Property key for ZGC generational disabled (default).
      */
-    INFO_Z_GENERATIONAL_DISABLED_REDUNDANT("info.z.generational.disabled.redundant"),
+    INFO_Z_GENERATIONAL_DISABLED_REDUNDANT("info.z.generational.disabled.redundant", AnalysisTopic.GC),
 
     /**
      * Property key for ZGC memory uncommitting disabled.
      */
-    INFO_Z_UNCOMMIT_DISABLED("info.z.uncommit.disabled"),
+    INFO_Z_UNCOMMIT_DISABLED("info.z.uncommit.disabled", AnalysisTopic.GC),
 
     /**
      * Property key for adaptive size policy disabled with -XX:-UseAdaptiveSizePolicy.
      */
-    WARN_ADAPTIVE_SIZE_POLICY_DISABLED("warn.adaptive.size.policy.disabled"),
+    WARN_ADAPTIVE_SIZE_POLICY_DISABLED("warn.adaptive.size.policy.disabled", AnalysisTopic.GC),
 
     /**
      * Property key for -XX:+AlwaysPreTouch in a container.
      */
-    WARN_ALWAYS_PRE_TOUCH_CONTAINER("warn.always.pre.touch.container"),
+    WARN_ALWAYS_PRE_TOUCH_CONTAINER("warn.always.pre.touch.container", AnalysisTopic.CONTAINER),
 
     /**
      * Property key for biased locking enabled (either by default or explicitly), with
      * {@link org.github.joa.domain.GarbageCollector#SHENANDOAH_NON_GENERATIONAL} or
      * {@link org.github.joa.domain.GarbageCollector#SHENANDOAH_GENERATIONAL}.
      */
-    WARN_BIASED_LOCKING_ENABLED_SHENANDOAH("warn.biased.locking.enabled.shenandoah"),
+    WARN_BIASED_LOCKING_ENABLED_SHENANDOAH("warn.biased.locking.enabled.shenandoah", AnalysisTopic.GC),
 
     /**
      * Property key for disabling compiling bytecode in the background.
      */
-    WARN_BYTECODE_BACK_COMP_DISABLED("warn.bytecode.back.comp.disabled"),
+    WARN_BYTECODE_BACK_COMP_DISABLED("warn.bytecode.back.comp.disabled", AnalysisTopic.JIT),
 
     /**
      * Property key for bytecode compilation disabled.
      */
-    WARN_BYTECODE_COMPILE_DISABLED("warn.bytecode.compile.disabled"),
+    WARN_BYTECODE_COMPILE_DISABLED("warn.bytecode.compile.disabled", AnalysisTopic.JIT),
 
     /**
      * Property key for precompiling bytecode.
      */
-    WARN_BYTECODE_COMPILE_FIRST_INVOCATION("warn.bytecode.compile.first.invocation"),
+    WARN_BYTECODE_COMPILE_FIRST_INVOCATION("warn.bytecode.compile.first.invocation", AnalysisTopic.JIT),
 
     /**
      * Property key for -XX:+UseCGroupMemoryLimitForHeap.
      */
-    WARN_CGROUP_MEMORY_LIMIT("warn.cgroup.memory.limit"),
+    WARN_CGROUP_MEMORY_LIMIT("warn.cgroup.memory.limit", AnalysisTopic.CONTAINER),
 
     /**
      * Property key for -XX:+UseCGroupMemoryLimitForHeap in combination with -Xmx/-XX:MaxHeapSize.
      */
-    WARN_CGROUP_MEMORY_LIMIT_OVERRIDE("warn.cgroup.memory.limit.override"),
+    WARN_CGROUP_MEMORY_LIMIT_OVERRIDE("warn.cgroup.memory.limit.override", AnalysisTopic.CONTAINER),
 
     /**
      * Property key for the JNI validation checks enabled with -Xcheck:jni.
      */
-    WARN_CHECK_JNI_ENABLED("warn.check.jni.enabled"),
+    WARN_CHECK_JNI_ENABLED("warn.check.jni.enabled", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for class histogram output in GC logging due to the "classhisto*=trace" tag.
      */
-    WARN_CLASS_HISTO_TRACE("warn.class.histo.trace"),
+    WARN_CLASS_HISTO_TRACE("warn.class.histo.trace", AnalysisTopic.LOGGING),
 
     /**
      * Property key for class unloading disabled with -XX:-ClassUnloading.
      */
-    WARN_CLASS_UNLOADING_DISABLED("warn.class.unloading.disabled"),
+    WARN_CLASS_UNLOADING_DISABLED("warn.class.unloading.disabled", AnalysisTopic.GC),
 
     /**
      * Property key for CMS collector class unloading disabled.
      */
-    WARN_CMS_CLASS_UNLOADING_DISABLED("warn.cms.class.unloading.disabled"),
+    WARN_CMS_CLASS_UNLOADING_DISABLED("warn.cms.class.unloading.disabled", AnalysisTopic.GC),
 
     /**
      * Property key for specifying both the CMS collector running in incremental mode and an initiating occupancy
      * fraction.
      */
-    WARN_CMS_INC_MODE_WITH_INIT_OCCUP_FRACT("warn.cms.inc.mode.with.init.occup.fract"),
+    WARN_CMS_INC_MODE_WITH_INIT_OCCUP_FRACT("warn.cms.inc.mode.with.init.occup.fract", AnalysisTopic.GC),
 
     /**
      * Property key for multi-threaded CMS initial mark disabled with -XX:-CMSParallelInitialMarkEnabled.
      */
-    WARN_CMS_PARALLEL_INITIAL_MARK_DISABLED("warn.cms.parallel.initial.mark.disabled"),
+    WARN_CMS_PARALLEL_INITIAL_MARK_DISABLED("warn.cms.parallel.initial.mark.disabled", AnalysisTopic.GC),
 
     /**
      * Property key for multi-threaded CMS remark disabled with -XX:-CMSParallelRemarkEnabled.
      */
-    WARN_CMS_PARALLEL_REMARK_DISABLED("warn.cms.parallel.remark.disabled"),
+    WARN_CMS_PARALLEL_REMARK_DISABLED("warn.cms.parallel.remark.disabled", AnalysisTopic.GC),
 
     /**
      * Property key for compressed class pointers disabled (-XX:-UseCompressedClassPointers) and heap &lt; 32G.
      */
-    WARN_COMP_CLASS_DISABLED_HEAP_32G_LT("warn.comp.class.disabled.heap.32g.lt"),
+    WARN_COMP_CLASS_DISABLED_HEAP_32G_LT("warn.comp.class.disabled.heap.32g.lt", AnalysisTopic.HEAP),
 
     /**
      * Property key for ZGC and heap &lt; 32G.
      */
-    WARN_ZGC_HEAP_32G_LT("warn.zgc.heap.32g.lt"),
+    WARN_ZGC_HEAP_32G_LT("warn.zgc.heap.32g.lt", AnalysisTopic.HEAP),
 
     /**
      * Property key for compressed class pointers disabled (-XX:-UseCompressedClassPointers) and heap size unknown.
      */
-    WARN_COMP_CLASS_DISABLED_HEAP_UNK("warn.comp.class.disabled.heap.unk"),
+    WARN_COMP_CLASS_DISABLED_HEAP_UNK("warn.comp.class.disabled.heap.unk", AnalysisTopic.HEAP),
 
     /**
      * Property key for compressed class pointers enabled (-XX:+UseCompressedClassPointers) and heap &gt;= 32G.
      */
-    WARN_COMP_CLASS_ENABLED_HEAP_32G_GTE("warn.comp.class.enabled.heap.32g.gte"),
+    WARN_COMP_CLASS_ENABLED_HEAP_32G_GTE("warn.comp.class.enabled.heap.32g.gte", AnalysisTopic.HEAP),
 
     /**
      * Property key for compressed class pointers space size set (-XX:CompressedClassSpaceSize) and heap &gt;= 32G.
      */
-    WARN_COMP_CLASS_SIZE_HEAP_32G_GTE("warn.comp.class.size.heap.32g.gte"),
+    WARN_COMP_CLASS_SIZE_HEAP_32G_GTE("warn.comp.class.size.heap.32g.gte", AnalysisTopic.HEAP),
 
     /**
      * Property key for compressed object references disabled (-XX:-UseCompressedOops) and heap &lt; 32G.
      */
-    WARN_COMP_OOPS_DISABLED_HEAP_32G_LT("warn.comp.oops.disabled.heap.32g.lt"),
+    WARN_COMP_OOPS_DISABLED_HEAP_32G_LT("warn.comp.oops.disabled.heap.32g.lt", AnalysisTopic.HEAP),
 
     /**
      * Property key for compressed object references disabled (-XX:-UseCompressedOops) and heap size unknown.
      */
-    WARN_COMP_OOPS_DISABLED_HEAP_UNK("warn.comp.oops.disabled.heap.unk"),
+    WARN_COMP_OOPS_DISABLED_HEAP_UNK("warn.comp.oops.disabled.heap.unk", AnalysisTopic.HEAP),
 
     /**
      * Property key for compressed object references enabled (-XX:+UseCompressedOops) and heap &gt;= 32G.
      */
-    WARN_COMP_OOPS_ENABLED_HEAP_32G_GTE("warn.comp.oops.enabled.heap.32g.gte"),
+    WARN_COMP_OOPS_ENABLED_HEAP_32G_GTE("warn.comp.oops.enabled.heap.32g.gte", AnalysisTopic.HEAP),
 
     /**
      * Property key for -Xconcurrentio.
      */
-    WARN_CONCURRENTIO("warn.concurrentio"),
+    WARN_CONCURRENTIO("warn.concurrentio", AnalysisTopic.GC),
 
     /**
      * Property key for performance data written to disk (/tmp/hsperfdata*) in a cloud environment.
      */
-    WARN_CONTAINER_PERF_DATA_DISK("warn.container.perf.data.disk"),
+    WARN_CONTAINER_PERF_DATA_DISK("warn.container.perf.data.disk", AnalysisTopic.CONTAINER),
 
     /**
      * Property key for container support disabled with -XX:-UseContainerSupport.
      */
-    WARN_CONTAINER_SUPPORT_DISABLED("warn.container.support.disabled"),
+    WARN_CONTAINER_SUPPORT_DISABLED("warn.container.support.disabled", AnalysisTopic.CONTAINER),
 
     /**
      * Property key for safepoint statistics logging.
      */
-    WARN_DIAGNOSTIC_DEBUG_NON_SAFEPOINTS("warn.diagnostic.debug.non.safepoints"),
+    WARN_DIAGNOSTIC_DEBUG_NON_SAFEPOINTS("warn.diagnostic.debug.non.safepoints", AnalysisTopic.JIT),
 
     /**
      * Property key for safepoint statistics logging.
      */
-    WARN_DIAGNOSTIC_PRINT_SAFEPOINT_STATISTICS("warn.diagnostic.print.safepoint.statistics"),
+    WARN_DIAGNOSTIC_PRINT_SAFEPOINT_STATISTICS("warn.diagnostic.print.safepoint.statistics", AnalysisTopic.LOGGING),
 
     /**
      * Property key for parallel class loading enabled.
      */
-    WARN_DIAGNOSTIC_UNSYNCLOAD_CLASS("warn.diagnostic.unsyncload.class"),
+    WARN_DIAGNOSTIC_UNSYNCLOAD_CLASS("warn.diagnostic.unsyncload.class", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for guaranteed safepoint interval being set.
      */
-    WARN_DIAGNOSTICS_GUARANTEED_SAFEPOINT_INTERVAL("warn.diagnostic.guaranteed.safepoint.interval"),
+    WARN_DIAGNOSTICS_GUARANTEED_SAFEPOINT_INTERVAL("warn.diagnostic.guaranteed.safepoint.interval",
+            AnalysisTopic.RUNTIME),
 
     /**
      * Property key for the creation of the AttachListener socket file (/tmp/.java_pid&lt;pid&gt;) used by
      * jcmd/jmap/jstack to communicate with the JVM being disabled.
      */
-    WARN_DISABLE_ATTACH_MECHANISM("warn.disable.attach.mechanism"),
+    WARN_DISABLE_ATTACH_MECHANISM("warn.disable.attach.mechanism", AnalysisTopic.SECURITY),
 
     /**
      * Property key for duplicate JVM options.
      */
-    WARN_DUPS("warn.dups"),
+    WARN_DUPS("warn.dups", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for experimental jvm options enabled with <code>-XX:+UnlockExperimentalVMOptions</code>.
      */
-    WARN_EXPERIMENTAL_VM_OPTIONS_ENABLED("warn.experimental.vm.options.enabled"),
+    WARN_EXPERIMENTAL_VM_OPTIONS_ENABLED("warn.experimental.vm.options.enabled", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for explicit garbage collection disabled.
      */
-    WARN_EXPLICIT_GC_DISABLED("warn.explicit.gc.disabled"),
+    WARN_EXPLICIT_GC_DISABLED("warn.explicit.gc.disabled", AnalysisTopic.GC),
 
     /**
      * Property key for explicit garbage collection not collected concurrently.
      */
-    WARN_EXPLICIT_GC_NOT_CONCURRENT("warn.explicit.gc.not.concurrent"),
+    WARN_EXPLICIT_GC_NOT_CONCURRENT("warn.explicit.gc.not.concurrent", AnalysisTopic.GC),
 
     /**
      * Property key for fast unordered timestamps (experimental) enabled with
      * <code>-XX:+UnlockExperimentalVMOptions -XX:+UseFastUnorderedTimeStamps</code>.
      */
-    WARN_FAST_UNORDERED_TIMESTAMPS("warn.fast.unordered.timestamps"),
+    WARN_FAST_UNORDERED_TIMESTAMPS("warn.fast.unordered.timestamps", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for the occupancy threshold for a region to be considered as a candidate region for a G1_CLEANUP
      * collection being specified with <code>-XX:G1MixedGCLiveThresholdPercent=NN</code>.
      */
-    WARN_G1_MIXED_GC_LIVE_THRSHOLD_PRCNT("warn.g1.mixed.gc.live.thrshld.prcnt"),
+    WARN_G1_MIXED_GC_LIVE_THRSHOLD_PRCNT("warn.g1.mixed.gc.live.thrshld.prcnt", AnalysisTopic.GC),
 
     /**
      * Property key for heap dump on after every full gc enabled with -XX:+HeapDumpAfterFullGC.
      */
-    WARN_HEAP_DUMP_AFTER_FULL_GC("warn.heap.dump.after.full.gc"),
+    WARN_HEAP_DUMP_AFTER_FULL_GC("warn.heap.dump.after.full.gc", AnalysisTopic.HEAP),
 
     /**
      * Property key for heap dump on after every full gc enabled with -XX:+HeapDumpBeforeFullGC.
      */
-    WARN_HEAP_DUMP_BEFORE_FULL_GC("warn.heap.dump.before.full.gc"),
+    WARN_HEAP_DUMP_BEFORE_FULL_GC("warn.heap.dump.before.full.gc", AnalysisTopic.HEAP),
 
     /**
      * Property key for heap dump on memory error option disabled.
      */
-    WARN_HEAP_DUMP_ON_OOME_DISABLED("warn.heap.dump.on.oome.disabled"),
+    WARN_HEAP_DUMP_ON_OOME_DISABLED("warn.heap.dump.on.oome.disabled", AnalysisTopic.HEAP),
 
     /**
      * Property key for heap dump filename specified.
      */
-    WARN_HEAP_DUMP_PATH_FILENAME("warn.heap.dump.path.filename"),
+    WARN_HEAP_DUMP_PATH_FILENAME("warn.heap.dump.path.filename", AnalysisTopic.HEAP),
 
     /**
      * Property key for JDK11 gc log file with static name that will be overwritten on JVM startup.
      */
-    WARN_JDK11_GC_LOG_FILE_OVERWRITE("warn.jdk11.gc.log.file.overwrite"),
+    WARN_JDK11_GC_LOG_FILE_OVERWRITE("warn.jdk11.gc.log.file.overwrite", AnalysisTopic.LOGGING),
 
     /**
      * Property key for specifying the number of GC log files (filecount=N) to keep with log rotation is disabled
      * (filecount=0).
      */
-    WARN_JDK11_GC_LOG_FILE_ROTATION_DISABLED("warn.jdk11.gc.log.file.rotation.disabled"),
+    WARN_JDK11_GC_LOG_FILE_ROTATION_DISABLED("warn.jdk11.gc.log.file.rotation.disabled", AnalysisTopic.LOGGING),
 
     /**
      * Property key for automatic GC log file rotation disabled with filesize=0.
      */
-    WARN_JDK11_GC_LOG_FILE_SIZE_0("warn.jdk11.gc.log.file.size.0"),
+    WARN_JDK11_GC_LOG_FILE_SIZE_0("warn.jdk11.gc.log.file.size.0", AnalysisTopic.LOGGING),
 
     /**
      * Property key for specifying the gc log file size that triggers rotation (filesize=N[K|M|G]) is small (&lt; 5M).
      */
-    WARN_JDK11_GC_LOG_FILE_SIZE_SMALL("warn.jdk11.gc.log.file.size.small"),
+    WARN_JDK11_GC_LOG_FILE_SIZE_SMALL("warn.jdk11.gc.log.file.size.small", AnalysisTopic.LOGGING),
 
     /**
      * Property key for the JDK8 prior to update 40.
      */
-    WARN_JDK8_G1_PRIOR_U40("warn.jdk8.g1.prior.u40"),
+    WARN_JDK8_G1_PRIOR_U40("warn.jdk8.g1.prior.u40", AnalysisTopic.GC),
 
     /**
      * Property key for the JDK8 prior to update 40 recommendations.
      */
-    WARN_JDK8_G1_PRIOR_U40_RECS("warn.jdk8.g1.prior.u40.recs"),
+    WARN_JDK8_G1_PRIOR_U40_RECS("warn.jdk8.g1.prior.u40.recs", AnalysisTopic.GC),
 
     /**
      * Property key for gc log file with a static name that will be overwritten on JVM startup.
      */
-    WARN_JDK8_GC_LOG_FILE_OVERWRITE("warn.jdk8.gc.log.file.overwrite"),
+    WARN_JDK8_GC_LOG_FILE_OVERWRITE("warn.jdk8.gc.log.file.overwrite", AnalysisTopic.LOGGING),
 
     /**
      * Property key for GC log file rotation disabled (-XX:-UseGCLogFileRotation).
      */
-    WARN_JDK8_GC_LOG_FILE_ROTATION_DISABLED("warn.jdk8.gc.log.file.rotation.disabled"),
+    WARN_JDK8_GC_LOG_FILE_ROTATION_DISABLED("warn.jdk8.gc.log.file.rotation.disabled", AnalysisTopic.LOGGING),
 
     /**
      * Property key for specifying the number of GC log files (-XX:NumberOfGCLogFiles) to keep with log rotation is
      * disabled (-XX:-UseGCLogFileRotation).
      */
-    WARN_JDK8_GC_LOG_FILE_ROTATION_DISABLED_NUM("warn.jdk8.gc.log.file.rotation.disabled.num"),
+    WARN_JDK8_GC_LOG_FILE_ROTATION_DISABLED_NUM("warn.jdk8.gc.log.file.rotation.disabled.num", AnalysisTopic.LOGGING),
 
     /**
      * Property key for GC log file rotation not enabled in JDK8 (-XX:+UseGCLogFileRotation -XX:GCLogFileSize=N
      * -XX:NumberOfGCLogFiles=N).
      */
-    WARN_JDK8_GC_LOG_FILE_ROTATION_NOT_ENABLED("warn.jdk8.gc.log.file.rotation.not.enabled"),
+    WARN_JDK8_GC_LOG_FILE_ROTATION_NOT_ENABLED("warn.jdk8.gc.log.file.rotation.not.enabled", AnalysisTopic.LOGGING),
 
     /**
      * Property key for specifying the gc log file size that triggers rotation (-XX:GCLogFileSize=N[K|M|G]) is small
      * (&lt; 5M).
      */
-    WARN_JDK8_GC_LOG_FILE_SIZE_SMALL("warn.jdk8.gc.log.file.size.small"),
+    WARN_JDK8_GC_LOG_FILE_SIZE_SMALL("warn.jdk8.gc.log.file.size.small", AnalysisTopic.LOGGING),
 
     /**
      * Property key for -XX:-PrintGCCause.
      */
-    WARN_JDK8_PRINT_GC_CAUSE_DISABLED("warn.jdk8.print.gc.cause.disabled"),
+    WARN_JDK8_PRINT_GC_CAUSE_DISABLED("warn.jdk8.print.gc.cause.disabled", AnalysisTopic.LOGGING),
 
     /**
      * Property key for gc details option disabled.
      */
-    WARN_JDK8_PRINT_GC_DETAILS_DISABLED("warn.jdk8.print.gc.details.disabled"),
+    WARN_JDK8_PRINT_GC_DETAILS_DISABLED("warn.jdk8.print.gc.details.disabled", AnalysisTopic.LOGGING),
 
     /**
      * Property key for adding option to output details at gc needed for analysis.
      */
-    WARN_JDK8_PRINT_GC_DETAILS_MISSING("warn.jdk8.print.gc.details.missing"),
+    WARN_JDK8_PRINT_GC_DETAILS_MISSING("warn.jdk8.print.gc.details.missing", AnalysisTopic.LOGGING),
 
     /**
      * Property key for -XX:-UseVMInterruptibleIO.
      */
-    WARN_JDK8_USE_VM_INTERRUPTIBLE_IO("warn.jdk8.use.vm.interruptible.io"),
+    WARN_JDK8_USE_VM_INTERRUPTIBLE_IO("warn.jdk8.use.vm.interruptible.io", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for the JVM reverting to using normal pages instead of large pages with the G1 collector on Windows
      * due to the G1 region size &gt; 2m. Fixed in JDK17. Reference: https://bugs.openjdk.org/browse/JDK-8266489.
      */
-    WARN_LARGE_PAGES_G1_WINDOWS("warn.large.pages.g1.windows"),
+    WARN_LARGE_PAGES_G1_WINDOWS("warn.large.pages.g1.windows", AnalysisTopic.HEAP),
 
     /**
      * Property key for the JVM configured to use large pages backed by Linux HugeTLB pages using System V APIs (create
      * a shared memory segment using shmget() and SHM_HUGETLB).
      */
-    WARN_LARGE_PAGES_LINUX_SHM("warn.large.pages.linux.shm"),
+    WARN_LARGE_PAGES_LINUX_SHM("warn.large.pages.linux.shm", AnalysisTopic.HEAP),
 
     /**
      * Property key for MaxRAMPercentage being used without MaxRAM on a system with &gt;128g available memory.
      */
-    WARN_MAX_RAM_LIMIT("warn.max.ram.limit"),
+    WARN_MAX_RAM_LIMIT("warn.max.ram.limit", AnalysisTopic.CONTAINER),
 
     /**
      * Property key for MaxMetaspaceSize less than CompressedClassSpaceSize. MaxMetaspaceSize includes
      * CompressedClassSpaceSize, so MaxMetaspaceSize should be larger than CompressedClassSpaceSize.
      */
-    WARN_METASPACE_LT_COMP_CLASS("warn.metaspace.lt.comp.class"),
+    WARN_METASPACE_LT_COMP_CLASS("warn.metaspace.lt.comp.class", AnalysisTopic.HEAP),
 
     /**
      * Property key for -XX:-OmitStackTraceInFastThrow being used to enable stack traces for the following exceptions:
      * NullPointerException, ArithmeticException, ArrayIndexOutOfBoundsException, ArrayStoreException,
      * ClassCastException.
      */
-    WARN_OMIT_STACK_TRACE_IN_FAST_THROW_DISABLED("warn.omit.stack.trace.in.fast.throw.disabled"),
+    WARN_OMIT_STACK_TRACE_IN_FAST_THROW_DISABLED("warn.omit.stack.trace.in.fast.throw.disabled", AnalysisTopic.JIT),
 
     /**
      * Property key for printing a class histogram when a thread dump is initiated (-XX:+PrintClassHistogram).
      */
-    WARN_PRINT_CLASS_HISTOGRAM("warn.print.class.histogram"),
+    WARN_PRINT_CLASS_HISTOGRAM("warn.print.class.histogram", AnalysisTopic.LOGGING),
 
     /**
      * Property key for printing a class histogram when a thread dump is initiated
      * (-XX:+PrintClassHistogramAfterFullGC).
      */
-    WARN_PRINT_CLASS_HISTOGRAM_AFTER_FULL_GC("warn.print.class.histogram.after.full.gc"),
+    WARN_PRINT_CLASS_HISTOGRAM_AFTER_FULL_GC("warn.print.class.histogram.after.full.gc", AnalysisTopic.LOGGING),
 
     /**
      * Property key for printing a class histogram when a thread dump is initiated
      * (-XX:+PrintClassHistogramBeforeFullGC).
      */
-    WARN_PRINT_CLASS_HISTOGRAM_BEFORE_FULL_GC("warn.print.class.histogram.before.full.gc"),
+    WARN_PRINT_CLASS_HISTOGRAM_BEFORE_FULL_GC("warn.print.class.histogram.before.full.gc", AnalysisTopic.LOGGING),
 
     /**
      * Property key for -XX:RefDiscoveryPolicy=1.
      */
-    WARN_REF_DISCOVERY_POLICY("warn.ref.discovery.policy"),
+    WARN_REF_DISCOVERY_POLICY("warn.ref.discovery.policy", AnalysisTopic.GC),
 
     /**
      * Property key for large (&gt;24 hours) sun.rmi.dgc.client.gcInterval.
      */
-    WARN_RMI_DGC_CLIENT_GCINTERVAL_LARGE("warn.rmi.dgc.client.gcInterval.large"),
+    WARN_RMI_DGC_CLIENT_GCINTERVAL_LARGE("warn.rmi.dgc.client.gcInterval.large", AnalysisTopic.GC),
 
     /**
      * Property key for small (&lt;1 hour) sun.rmi.dgc.client.gcInterval.
      */
-    WARN_RMI_DGC_CLIENT_GCINTERVAL_SMALL("warn.rmi.dgc.client.gcInterval.small"),
+    WARN_RMI_DGC_CLIENT_GCINTERVAL_SMALL("warn.rmi.dgc.client.gcInterval.small", AnalysisTopic.GC),
 
     /**
      * Property key for large (&gt;24 hours) sun.rmi.dgc.server.gcInterval.
      */
-    WARN_RMI_DGC_SERVER_GCINTERVAL_LARGE("warn.rmi.dgc.server.gcInterval.large"),
+    WARN_RMI_DGC_SERVER_GCINTERVAL_LARGE("warn.rmi.dgc.server.gcInterval.large", AnalysisTopic.GC),
 
     /**
      * Property key for small (&lt;1 hour)sun.rmi.dgc.server.gcInterval.
      */
-    WARN_RMI_DGC_SERVER_GCINTERVAL_SMALL("warn.rmi.dgc.server.gcInterval.small"),
+    WARN_RMI_DGC_SERVER_GCINTERVAL_SMALL("warn.rmi.dgc.server.gcInterval.small", AnalysisTopic.GC),
 
     /**
      * Property key for -Xrs disabling JVM signal handling.
      */
-    WARN_RS("warn.rs"),
+    WARN_RS("warn.rs", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for disabling tenuring with -XX:MaxTenuringThreshold=0 or by setting it to a value greater than 15
      * (e.g. -XX:MaxTenuringThreshold=32).
      */
-    WARN_TENURING_DISABLED("warn.tenuring.disabled"),
+    WARN_TENURING_DISABLED("warn.tenuring.disabled", AnalysisTopic.HEAP),
 
     /**
      * Property key for setting the aggressive thread priority policy with -XX:ThreadPriorityPolicy=1.
      */
-    WARN_THREAD_PRIORITY_POLICY_AGGRESSIVE("warn.thread.priority.policy.aggressive"),
+    WARN_THREAD_PRIORITY_POLICY_AGGRESSIVE("warn.thread.priority.policy.aggressive", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for setting the aggressive thread priority policy with a value other than
@@ -1083,74 +1097,142 @@ public enum Analysis {
      * permissions on Linux, allowing a non-root user to set the aggressive policy with a value other than 1 (e.g.
      * -XX:ThreadPriorityPolicy=42). This back door has been closed in JDK11, which only allows values of 0 or 1.
      */
-    WARN_THREAD_PRIORITY_POLICY_AGGRESSIVE_BACKDOOR("warn.thread.priority.policy.aggressive.backdoor"),
+    WARN_THREAD_PRIORITY_POLICY_AGGRESSIVE_BACKDOOR("warn.thread.priority.policy.aggressive.backdoor",
+            AnalysisTopic.SECURITY),
 
     /**
      * Property key for the thread priority policy setting being ignored due to a bad value
      * (-XX:ThreadPriorityPolicy=-1).
      */
-    WARN_THREAD_PRIORITY_POLICY_BAD("warn.thread.priority.policy.bad"),
+    WARN_THREAD_PRIORITY_POLICY_BAD("warn.thread.priority.policy.bad", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for the thread priority policy setting being ignored due to the Java Threads API disabled with
      * -XX:-UseThreadPriorities.
      */
-    WARN_THREAD_PRIORITY_POLICY_IGNORED("warn.thread.priority.policy.ignored"),
+    WARN_THREAD_PRIORITY_POLICY_IGNORED("warn.thread.priority.policy.ignored", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for thread stack size is large.
      */
-    WARN_THREAD_STACK_SIZE_LARGE("warn.thread.stack.size.large"),
+    WARN_THREAD_STACK_SIZE_LARGE("warn.thread.stack.size.large", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for thread stack size not set on 32-bit.
      */
-    WARN_THREAD_STACK_SIZE_NOT_SET_32("warn.thread.stack.size.not.set.32"),
+    WARN_THREAD_STACK_SIZE_NOT_SET_32("warn.thread.stack.size.not.set.32", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for a small thread stack size (&lt; 128k).
      */
-    WARN_THREAD_STACK_SIZE_SMALL("warn.thread.stack.size.small"),
+    WARN_THREAD_STACK_SIZE_SMALL("warn.thread.stack.size.small", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for a tiny thread stack size (&lt; 1k).
      */
-    WARN_THREAD_STACK_SIZE_TINY("warn.thread.stack.size.tiny"),
+    WARN_THREAD_STACK_SIZE_TINY("warn.thread.stack.size.tiny", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for -XX:ThreadStackSize with units (e.g. -XX:ThreadStackSize=1024k).
      */
-    WARN_THREADSTACKSIZE_UNITS("warn.threadstacksize.units"),
+    WARN_THREADSTACKSIZE_UNITS("warn.threadstacksize.units", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for conditional dirty card marking enabled with -XX:+UseCondCardMark.
      */
-    WARN_USE_COND_CARD_MARK("warn.use.cond.card.mark"),
+    WARN_USE_COND_CARD_MARK("warn.use.cond.card.mark", AnalysisTopic.GC),
 
     /**
      * Property key for -XX:+UseMembar.
      */
-    WARN_USE_MEMBAR("warn.use.membar"),
+    WARN_USE_MEMBAR("warn.use.membar", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for -XX:+ZGenerational -XX:+UseStringDeduplication.
      */
-    WARN_USE_STRING_DEDUPLICATION_Z_GENERATIONAL("warn.use.string.deduplication.z.generational"),
+    WARN_USE_STRING_DEDUPLICATION_Z_GENERATIONAL("warn.use.string.deduplication.z.generational", AnalysisTopic.GC),
 
     /**
      * Property key for disabling the Java Thread API with -XX:-UseThreadPriorities.
      */
-    WARN_USE_THREAD_PRIORITIES_DISABLED("warn.use.thread.priorities.disabled"),
+    WARN_USE_THREAD_PRIORITIES_DISABLED("warn.use.thread.priorities.disabled", AnalysisTopic.RUNTIME),
 
     /**
      * Property key for class verification on loading disabled with -Xverify:none.
      */
-    WARN_VERIFY_NONE("warn.verify.none");
+    WARN_VERIFY_NONE("warn.verify.none", AnalysisTopic.SECURITY);
+
+    /**
+     * <code>Analysis</code> by property key.
+     */
+    private static final Map<String, Analysis> BY_KEY = new HashMap<String, Analysis>();
+
+    /**
+     * Template property file values, or property file values if there is no template, compiled into templates, by
+     * ordinal.
+     */
+    private static final AnalysisTemplate[] TEMPLATES = new AnalysisTemplate[values().length];
+
+    /**
+     * Property file values, by ordinal. Loaded once, as looking up the resource bundle for every value is costly when
+     * rendering many <code>Analysis</code>.
+     */
+    private static final String[] VALUES = new String[values().length];
+
+    static {
+        ResourceBundle bundle = ResourceBundle.getBundle("org.github.joa." + Constants.ANALYSIS_PROPERTY_FILE);
+        ResourceBundle templates = ResourceBundle
+                .getBundle("org.github.joa." + Constants.ANALYSIS_TEMPLATE_PROPERTY_FILE);
+        for (Analysis analysis : values()) {
+            BY_KEY.put(analysis.key, analysis);
+            // Fail on first use if the constants and the property file drift apart
+            if (!bundle.containsKey(analysis.key)) {
+                throw new IllegalStateException("Property missing for " + analysis.name() + ": " + analysis.key);
+            }
+            VALUES[analysis.ordinal()] = bundle.getString(analysis.key);
+            String template = templates.containsKey(analysis.key) ? templates.getString(analysis.key)
+                    : VALUES[analysis.ordinal()];
+            try {
+                TEMPLATES[analysis.ordinal()] = AnalysisTemplate.compile(template);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Invalid template for " + analysis.name() + ": " + e.getMessage());
+            }
+            if (!templates.containsKey(analysis.key) && !TEMPLATES[analysis.ordinal()].isLiteral()) {
+                throw new IllegalStateException(
+                        "Template property missing for " + analysis.name() + ": " + analysis.key);
+            }
+        }
+        for (String key : bundle.keySet()) {
+            if (!BY_KEY.containsKey(key)) {
+                throw new IllegalStateException("Property without an Analysis: " + key);
+            }
+        }
+        for (String key : templates.keySet()) {
+            if (!BY_KEY.containsKey(key)) {
+                throw new IllegalStateException("Template property without an Analysis: " + key);
+            }
+        }
+    }
+
+    /**
+     * @param key
+     *            The property key.
+     * @return The <code>Analysis</code> with the property key, or null if none.
+     */
+    public static Analysis fromKey(String key) {
+        return BY_KEY.get(key);
+    }
 
     private String key;
 
-    private Analysis(final String key) {
+    private AnalysisSeverity severity;
+
+    private AnalysisTopic topic;
+
+    private Analysis(final String key, final AnalysisTopic topic) {
         this.key = key;
+        this.severity = AnalysisSeverity.of(key);
+        this.topic = topic;
     }
 
     /**
@@ -1161,10 +1243,33 @@ public enum Analysis {
     }
 
     /**
-     * @return Analysis property file value.
+     * @return The severity, the property file key prefix.
+     */
+    public AnalysisSeverity getSeverity() {
+        return severity;
+    }
+
+    /**
+     * @return The template property file value (or the property file value if there is no template) compiled into a
+     *         template, rendered with the placeholder arguments documented by the property.
+     */
+    public AnalysisTemplate getTemplate() {
+        return TEMPLATES[ordinal()];
+    }
+
+    /**
+     * @return The topic.
+     */
+    public AnalysisTopic getTopic() {
+        return topic;
+    }
+
+    /**
+     * @return Analysis property file value, without the details rendered from the template (see
+     *         {@link #getTemplate()}).
      */
     public String getValue() {
-        return JoaUtil.getPropertyValue(Constants.ANALYSIS_PROPERTY_FILE, key);
+        return VALUES[ordinal()];
     }
 
     @Override
@@ -0,0 +1,38 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa.util;
+
+/**
+ * The type of an {@link AnalysisTemplate} placeholder argument.
+ *
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ */
+public enum AnalysisParameterType {
+    /**
+     * An <code>Iterable</code>, rendered as each element preceded by a space (<code>{0,list}</code>).
+     */
+    LIST,
+
+    /**
+     * A <code>Long</code> number of bytes, rendered in {@link Constants#UNITS}, or "unlimited" if <code>null</code>
+     * (<code>{0,size}</code>).
+     */
+    SIZE,
+
+    /**
+     * Any object, rendered as text (<code>{0}</code>).
+     */
+    TEXT
+}
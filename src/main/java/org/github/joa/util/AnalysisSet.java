@@ -0,0 +1,256 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa.util;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>
+ * A set of {@link Analysis} backed by a bitmap (a bit per ordinal) that iterates in insertion order.
+ * </p>
+ *
+ * <p>
+ * Membership tests and adds are constant time, and set operations between two <code>AnalysisSet</code>s (e.g. merging
+ * or comparing the analysis of many JVMs) are bitwise operations on the bitmaps (see {@link #toBitmap()}).
+ * </p>
+ *
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ */
+public class AnalysisSet extends AbstractSet<Analysis> {
+
+    /**
+     * All <code>Analysis</code>, by ordinal.
+     */
+    private static final Analysis[] ANALYSIS = Analysis.values();
+
+    /**
+     * The number of <code>long</code> words in the bitmap.
+     */
+    private static final int WORDS = (ANALYSIS.length + 63) / 64;
+
+    /**
+     * A bit per <code>Analysis</code> ordinal.
+     */
+    private final long[] bits = new long[WORDS];
+
+    /**
+     * Modification count, to detect concurrent modification while iterating.
+     */
+    private int modCount;
+
+    /**
+     * The ordinals in insertion order.
+     */
+    private short[] order = new short[8];
+
+    /**
+     * The number of <code>Analysis</code> in the set.
+     */
+    private int size;
+
+    /**
+     * Create an empty set.
+     */
+    public AnalysisSet() {
+    }
+
+    /**
+     * Create a set with the given <code>Analysis</code>, in iteration order.
+     * 
+     * @param analysis
+     *            The <code>Analysis</code> to add.
+     */
+    public AnalysisSet(Collection<Analysis> analysis) {
+        addAll(analysis);
+    }
+
+    @Override
+    public boolean add(Analysis analysis) {
+        int ordinal = analysis.ordinal();
+        if ((bits[ordinal >>> 6] & (1L << ordinal)) != 0) {
+            return false;
+        }
+        bits[ordinal >>> 6] |= 1L << ordinal;
+        if (size == order.length) {
+            order = Arrays.copyOf(order, size * 2);
+        }
+        order[size++] = (short) ordinal;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Analysis> analysis) {
+        boolean changed = false;
+        for (Analysis item : analysis) {
+            changed |= add(item);
+        }
+        return changed;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(bits, 0);
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public boolean contains(Object analysis) {
+        if (!(analysis instanceof Analysis)) {
+            return false;
+        }
+        int ordinal = ((Analysis) analysis).ordinal();
+        return (bits[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> analysis) {
+        if (analysis instanceof AnalysisSet) {
+            long[] other = ((AnalysisSet) analysis).bits;
+            for (int i = 0; i < WORDS; i++) {
+                if ((other[i] & ~bits[i]) != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return super.containsAll(analysis);
+    }
+
+    /**
+     * @param key
+     *            The <code>Analysis</code> property key.
+     * @return True if the set contains the <code>Analysis</code> with the key, false otherwise.
+     */
+    public boolean containsKey(String key) {
+        Analysis analysis = Analysis.fromKey(key);
+        return analysis != null && contains(analysis);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof AnalysisSet) {
+            return Arrays.equals(bits, ((AnalysisSet) o).bits);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * @param analysis
+     *            Another set.
+     * @return True if the sets have any <code>Analysis</code> in common, false otherwise.
+     */
+    public boolean intersects(AnalysisSet analysis) {
+        for (int i = 0; i < WORDS; i++) {
+            if ((analysis.bits[i] & bits[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<Analysis> iterator() {
+        return new Iterator<Analysis>() {
+
+            private int expectedModCount = modCount;
+
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Analysis next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return ANALYSIS[order[next++]];
+            }
+
+            @Override
+            public void remove() {
+                if (next == 0) {
+                    throw new IllegalStateException();
+                }
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                AnalysisSet.this.remove(ANALYSIS[order[--next]]);
+                expectedModCount = modCount;
+            }
+        };
+    }
+
+    @Override
+    public boolean remove(Object analysis) {
+        if (!contains(analysis)) {
+            return false;
+        }
+        int ordinal = ((Analysis) analysis).ordinal();
+        bits[ordinal >>> 6] &= ~(1L << ordinal);
+        // The insertion order is only scanned on removal, which is rare.
+        int i = 0;
+        while (order[i] != ordinal) {
+            i++;
+        }
+        System.arraycopy(order, i + 1, order, i, size - i - 1);
+        size--;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> analysis) {
+        boolean changed = false;
+        Iterator<Analysis> iterator = iterator();
+        while (iterator.hasNext()) {
+            if (!analysis.contains(iterator.next())) {
+                iterator.remove();
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return A copy of the bitmap, a bit per <code>Analysis</code> ordinal (bit <code>ordinal % 64</code> of word
+     *         <code>ordinal / 64</code>).
+     */
+    public long[] toBitmap() {
+        return bits.clone();
+    }
+}
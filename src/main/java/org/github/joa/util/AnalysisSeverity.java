@@ -0,0 +1,48 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa.util;
+
+/**
+ * <p>
+ * The severity of an {@link Analysis}, the prefix of its property key:
+ * </p>
+ * 
+ * <ul>
+ * <li>ERROR: "error."</li>
+ * <li>WARN: "warn."</li>
+ * <li>INFO: "info."</li>
+ * </ul>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ */
+public enum AnalysisSeverity {
+    ERROR, INFO, WARN;
+
+    /**
+     * @param key
+     *            The {@link Analysis} property key.
+     * @return The severity of the property key.
+     */
+    static AnalysisSeverity of(String key) {
+        if (key.startsWith("error.")) {
+            return ERROR;
+        } else if (key.startsWith("warn.")) {
+            return WARN;
+        } else if (key.startsWith("info.")) {
+            return INFO;
+        }
+        throw new IllegalArgumentException("Unexpected property key: " + key);
+    }
+}
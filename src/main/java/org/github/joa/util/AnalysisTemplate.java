@@ -0,0 +1,240 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * A precompiled {@link Analysis} property file value with typed placeholders, rendered in one pass.
+ * </p>
+ *
+ * <p>
+ * A placeholder is an argument index and an optional type in braces:
+ * </p>
+ *
+ * <ul>
+ * <li><code>{0}</code>: The argument as text (<code>null</code> renders as "null").</li>
+ * <li><code>{0,list}</code>: Each element of an <code>Iterable</code> argument preceded by a space.</li>
+ * <li><code>{0,size}</code>: A <code>Long</code> bytes argument in {@link Constants#UNITS} with the units appended
+ * (e.g. "256M"), or "unlimited" if <code>null</code>.</li>
+ * </ul>
+ *
+ * <p>
+ * See {@link AnalysisParameterType}.
+ * </p>
+ *
+ * <p>
+ * For example:
+ * </p>
+ *
+ * <pre>
+ * Metaspace({0,size}) = Class Metadata({1,size}) + Compressed Class Space({2,size}).
+ * </pre>
+ *
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ *
+ */
+public final class AnalysisTemplate {
+
+    /**
+     * The number of bytes in {@link Constants#UNITS}.
+     */
+    private static final long UNIT_BYTES = Constants.MEGABYTE.longValue();
+
+    /**
+     * Parse a property file value.
+     * 
+     * @param value
+     *            The property file value.
+     * @return The <code>AnalysisTemplate</code>.
+     * @throws IllegalArgumentException
+     *             If a placeholder is not valid.
+     */
+    public static AnalysisTemplate compile(final String value) {
+        List<String> literals = new ArrayList<String>();
+        List<Integer> indexes = new ArrayList<Integer>();
+        List<AnalysisParameterType> types = new ArrayList<AnalysisParameterType>();
+        int begin = 0;
+        int open;
+        while ((open = value.indexOf('{', begin)) >= 0) {
+            int close = value.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at " + open + ": " + value);
+            }
+            String placeholder = value.substring(open + 1, close);
+            int comma = placeholder.indexOf(',');
+            String index = comma < 0 ? placeholder : placeholder.substring(0, comma);
+            AnalysisParameterType type;
+            if (comma < 0) {
+                type = AnalysisParameterType.TEXT;
+            } else if (placeholder.substring(comma + 1).equals("list")) {
+                type = AnalysisParameterType.LIST;
+            } else if (placeholder.substring(comma + 1).equals("size")) {
+                type = AnalysisParameterType.SIZE;
+            } else {
+                throw new IllegalArgumentException("Unexpected placeholder type: {" + placeholder + "}");
+            }
+            if (!index.matches("\\d{1,2}")) {
+                throw new IllegalArgumentException("Unexpected placeholder index: {" + placeholder + "}");
+            }
+            literals.add(value.substring(begin, open));
+            indexes.add(Integer.valueOf(index));
+            types.add(type);
+            begin = close + 1;
+        }
+        literals.add(value.substring(begin));
+        return new AnalysisTemplate(literals, indexes, types);
+    }
+
+    /**
+     * Append bytes in {@link Constants#UNITS}, rounded as {@link JdkUtil#convertSize(long, char, char)} without the
+     * <code>BigDecimal</code> arithmetic.
+     * 
+     * @param out
+     *            The output.
+     * @param bytes
+     *            The bytes.
+     */
+    private static void appendSize(final StringBuilder out, final long bytes) {
+        long units = Math.floorDiv(bytes, UNIT_BYTES);
+        long remainder = bytes - units * UNIT_BYTES;
+        // Round half to even
+        if (remainder * 2 > UNIT_BYTES || (remainder * 2 == UNIT_BYTES && (units & 1) == 1)) {
+            units++;
+        }
+        out.append(units).append(Constants.UNITS);
+    }
+
+    /**
+     * The argument index of each placeholder.
+     */
+    private final int[] indexes;
+
+    /**
+     * The text before each placeholder, followed by the text after the last placeholder.
+     */
+    private final String[] literals;
+
+    /**
+     * The minimum number of arguments.
+     */
+    private final int parameterCount;
+
+    /**
+     * The type of each argument, by index, or null if the index is not used.
+     */
+    private final AnalysisParameterType[] parameterTypes;
+
+    /**
+     * The type of each placeholder.
+     */
+    private final AnalysisParameterType[] types;
+
+    private AnalysisTemplate(final List<String> literals, final List<Integer> indexes,
+            final List<AnalysisParameterType> types) {
+        this.literals = literals.toArray(new String[literals.size()]);
+        this.indexes = new int[indexes.size()];
+        int count = 0;
+        for (int i = 0; i < this.indexes.length; i++) {
+            this.indexes[i] = indexes.get(i);
+            count = Math.max(count, this.indexes[i] + 1);
+        }
+        this.types = types.toArray(new AnalysisParameterType[types.size()]);
+        this.parameterCount = count;
+        this.parameterTypes = new AnalysisParameterType[count];
+        for (int i = 0; i < this.indexes.length; i++) {
+            if (parameterTypes[this.indexes[i]] != null && parameterTypes[this.indexes[i]] != this.types[i]) {
+                throw new IllegalArgumentException("Placeholder {" + this.indexes[i] + "} with different types.");
+            }
+            parameterTypes[this.indexes[i]] = this.types[i];
+        }
+    }
+
+    /**
+     * @param args
+     *            The placeholder arguments, by index.
+     * @return The rendered template (see {@link #render(StringBuilder, Object...)}).
+     */
+    public String format(final Object... args) {
+        return isLiteral() ? literals[0] : render(new StringBuilder(), args).toString();
+    }
+
+    /**
+     * @return The minimum number of arguments to render.
+     */
+    public int getParameterCount() {
+        return parameterCount;
+    }
+
+    /**
+     * @param index
+     *            The argument index.
+     * @return The type of the argument, or null if the index is not used by a placeholder.
+     */
+    public AnalysisParameterType getParameterType(int index) {
+        return parameterTypes[index];
+    }
+
+    /**
+     * @return true if the template has no placeholders, false otherwise.
+     */
+    public boolean isLiteral() {
+        return indexes.length == 0;
+    }
+
+    /**
+     * Render the template.
+     * 
+     * @param out
+     *            The output the template is appended to.
+     * @param args
+     *            The placeholder arguments, by index.
+     * @return The output.
+     * @throws IllegalArgumentException
+     *             If there are too few arguments.
+     */
+    public StringBuilder render(final StringBuilder out, final Object... args) {
+        if (args.length < parameterCount) {
+            throw new IllegalArgumentException(
+                    "Expected " + parameterCount + " arguments but found " + args.length + ".");
+        }
+        out.append(literals[0]);
+        for (int i = 0; i < indexes.length; i++) {
+            Object arg = args[indexes[i]];
+            switch (types[i]) {
+            case LIST:
+                for (Object element : (Iterable<?>) arg) {
+                    out.append(' ').append(element);
+                }
+                break;
+            case SIZE:
+                if (arg == null) {
+                    out.append("unlimited");
+                } else {
+                    appendSize(out, ((Long) arg).longValue());
+                }
+                break;
+            case TEXT:
+            default:
+                out.append(arg);
+                break;
+            }
+            out.append(literals[i + 1]);
+        }
+        return out;
+    }
+}
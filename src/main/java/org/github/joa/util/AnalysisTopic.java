@@ -0,0 +1,36 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa.util;
+
+/**
+ * <p>
+ * The topic of an {@link Analysis}:
+ * </p>
+ * 
+ * <ul>
+ * <li>CONTAINER: Container memory and processor limits.</li>
+ * <li>GC: Garbage collector selection and tuning.</li>
+ * <li>HEAP: Heap, metaspace, compressed pointers, large pages, and heap dumps.</li>
+ * <li>JIT: Just-in-time compilation.</li>
+ * <li>LOGGING: Gc logging and diagnostic output.</li>
+ * <li>RUNTIME: Anything else (e.g. threads, agents, signals, diagnostic and experimental options).</li>
+ * <li>SECURITY: Remote access, TLS, and bytecode verification.</li>
+ * </ul>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ */
+public enum AnalysisTopic {
+    CONTAINER, GC, HEAP, JIT, LOGGING, RUNTIME, SECURITY
+}
@@ -43,6 +43,11 @@ public class Constants {
      */
     public static final String ANALYSIS_PROPERTY_FILE = "analysis";
 
+    /**
+     * Analysis template property file. Property values with placeholders, by analysis property key.
+     */
+    public static final String ANALYSIS_TEMPLATE_PROPERTY_FILE = "analysis-template";
+
     /**
      * gigabyte
      */
@@ -57,6 +62,11 @@ public class Constants {
      */
     public static final BigDecimal MEGABYTE = new BigDecimal("1048576");
 
+    /**
+     * Number of decimal places kept in fixed-point percent values (e.g. 75.5% = 75500000).
+     */
+    public static final int PERCENT_SCALE = 6;
+
     /**
      * Units for reporting bytes.
      */
@@ -107,7 +107,7 @@ public class JdkUtil {
      *            The JVM option value.
      * @return The JVM option value in bytes, or <code>Constants.UNKNOWN</code> if undetermined.
      */
-    public static final long getByteOptionBytes(final String optionValue) {
+    public static final long getByteOptionBytes(final CharSequence optionValue) {
         long bytes = Constants.UNKNOWN;
         if (optionValue != null) {
             char fromUnits;
@@ -132,6 +132,17 @@ public class JdkUtil {
         return bytes;
     }
 
+    /**
+     * {@link #getByteOptionBytes(CharSequence)} for a <code>String</code>.
+     * 
+     * @param optionValue
+     *            The JVM option value.
+     * @return The JVM option value in bytes, or <code>Constants.UNKNOWN</code> if undetermined.
+     */
+    public static final long getByteOptionBytes(final String optionValue) {
+        return getByteOptionBytes((CharSequence) optionValue);
+    }
+
     /**
      * Get the value of a JVM option that specifies a byte value. For example, the value for <code>-Xss128k</code> is
      * 128k. The value for <code>-XX:PermSize=128M</code> is 128M.
@@ -140,7 +151,7 @@ public class JdkUtil {
      *            The JVM option.
      * @return The JVM option value, or null if the option does not exist.
      */
-    public static final String getByteOptionValue(final String option) {
+    public static final String getByteOptionValue(final CharSequence option) {
         String value = null;
         if (option != null) {
             String regex = "^-[a-zA-Z:.]+={0,1}(" + JdkRegEx.OPTION_SIZE_BYTES + ")$";
@@ -153,6 +164,17 @@ public class JdkUtil {
         return value;
     }
 
+    /**
+     * {@link #getByteOptionValue(CharSequence)} for a <code>String</code>.
+     * 
+     * @param option
+     *            The JVM option.
+     * @return The JVM option value, or null if the option does not exist.
+     */
+    public static final String getByteOptionValue(final String option) {
+        return getByteOptionValue((CharSequence) option);
+    }
+
     /**
      * @param jdkVersionMajor
      *            The JDK major version.
@@ -182,7 +204,7 @@ public class JdkUtil {
      *            The JVM option.
      * @return The JVM option value, or null if the option does not exist.
      */
-    public static final String getFilePathOptionValue(final String option) {
+    public static final String getFilePathOptionValue(final CharSequence option) {
         String value = null;
         if (option != null) {
             String regex = "^-[a-zA-Z:]+=(" + JdkRegEx.FILE_PATH + ")$";
@@ -195,6 +217,17 @@ public class JdkUtil {
         return value;
     }
 
+    /**
+     * {@link #getFilePathOptionValue(CharSequence)} for a <code>String</code>.
+     * 
+     * @param option
+     *            The JVM option.
+     * @return The JVM option value, or null if the option does not exist.
+     */
+    public static final String getFilePathOptionValue(final String option) {
+        return getFilePathOptionValue((CharSequence) option);
+    }
+
     /**
      * Get the value of a JVM option that specifies a number value.
      * 
@@ -208,7 +241,7 @@ public class JdkUtil {
      *            The JVM option or system property.
      * @return The JVM option or system property value, or <code>Integer.MIN_VALUE</code> if the option does not exist.
      */
-    public static final long getIntegerOptionValue(final String option) {
+    public static final long getIntegerOptionValue(final CharSequence option) {
         long value = Constants.UNKNOWN;
         if (option != null) {
             String regex = "^.+=(\\d{1,19})$";
@@ -221,6 +254,17 @@ public class JdkUtil {
         return value;
     }
 
+    /**
+     * {@link #getIntegerOptionValue(CharSequence)} for a <code>String</code>.
+     * 
+     * @param option
+     *            The JVM option or system property.
+     * @return The JVM option or system property value, or <code>Integer.MIN_VALUE</code> if the option does not exist.
+     */
+    public static final long getIntegerOptionValue(final String option) {
+        return getIntegerOptionValue((CharSequence) option);
+    }
+
     /**
      * Get the value of a JVM option that specifies a percent with one or more decimal points, with superfluous (past
      * the first decimal place) trailing zeroes removed.
@@ -239,7 +283,7 @@ public class JdkUtil {
      *            The JVM option.
      * @return The JVM option value, or null if the option does not exist.
      */
-    public static final String getPercentOptionValue(final String option) {
+    public static final String getPercentOptionValue(final CharSequence option) {
         String value = null;
         if (option != null) {
             String regex = "^-[a-zA-Z:]+=(\\d{1,3}(\\.\\d{1,})?)$";
@@ -260,6 +304,17 @@ public class JdkUtil {
         return value;
     }
 
+    /**
+     * {@link #getPercentOptionValue(CharSequence)} for a <code>String</code>.
+     * 
+     * @param option
+     *            The JVM option.
+     * @return The JVM option value, or null if the option does not exist.
+     */
+    public static final String getPercentOptionValue(final String option) {
+        return getPercentOptionValue((CharSequence) option);
+    }
+
     /**
      * Get the value of a JVM option that specifies a string value.
      * 
@@ -271,7 +326,7 @@ public class JdkUtil {
      *            The JVM option.
      * @return The JVM option value, or null if the option does not exist.
      */
-    public static final String getStringOptionValue(final String option) {
+    public static final String getStringOptionValue(final CharSequence option) {
         String value = null;
         if (option != null) {
             String regex = "^-[a-zA-Z:]+=([a-zA-Z]+)$";
@@ -284,6 +339,17 @@ public class JdkUtil {
         return value;
     }
 
+    /**
+     * {@link #getStringOptionValue(CharSequence)} for a <code>String</code>.
+     * 
+     * @param option
+     *            The JVM option.
+     * @return The JVM option value, or null if the option does not exist.
+     */
+    public static final String getStringOptionValue(final String option) {
+        return getStringOptionValue((CharSequence) option);
+    }
+
     /**
      * Determine if a JVM option is explicitly disabled. For example, <code>-XX:-TraceClassUnloading</code> is disabled.
      * 
@@ -291,14 +357,25 @@ public class JdkUtil {
      *            The JVM option.
      * @return True if the JVM option is disabled, false otherwise.
      */
-    public static final boolean isOptionDisabled(final String option) {
+    public static final boolean isOptionDisabled(final CharSequence option) {
         boolean disabled = false;
         if (option != null) {
-            disabled = option.matches("^-XX:-.+$");
+            disabled = Pattern.matches("^-XX:-.+$", option);
         }
         return disabled;
     }
 
+    /**
+     * {@link #isOptionDisabled(CharSequence)} for a <code>String</code>.
+     * 
+     * @param option
+     *            The JVM option.
+     * @return True if the JVM option is disabled, false otherwise.
+     */
+    public static final boolean isOptionDisabled(final String option) {
+        return isOptionDisabled((CharSequence) option);
+    }
+
     /**
      * Determine if a JVM option is explicitly enabled. For example, <code>-XX:+TraceClassUnloading</code> is enabled.
      * 
@@ -306,14 +383,25 @@ public class JdkUtil {
      *            The JVM option.
      * @return True if the JVM option is enabled, false otherwise.
      */
-    public static final boolean isOptionEnabled(final String option) {
+    public static final boolean isOptionEnabled(final CharSequence option) {
         boolean enabled = false;
         if (option != null) {
-            enabled = option.matches("^-XX:\\+.+$");
+            enabled = Pattern.matches("^-XX:\\+.+$", option);
         }
         return enabled;
     }
 
+    /**
+     * {@link #isOptionEnabled(CharSequence)} for a <code>String</code>.
+     * 
+     * @param option
+     *            The JVM option.
+     * @return True if the JVM option is enabled, false otherwise.
+     */
+    public static final boolean isOptionEnabled(final String option) {
+        return isOptionEnabled((CharSequence) option);
+    }
+
     /**
      * Make default constructor private so the class cannot be instantiated.
      */
@@ -0,0 +1,3714 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa.util;
+
+/**
+ * JVM options recognized by the analyzer.
+ * 
+ * Options are dispatched by name (see {@link #getName(CharSequence)}) to a small set of candidates, and the value
+ * following the option name is validated with the grammar of the option {@link JvmOptionType}. This replaces matching
+ * each option against every option regular expression in turn.
+ * 
+ * The option metadata (forms, type, category, etc.) is declared in the option catalog
+ * (<code>org/github/joa/jvm-options.catalog</code>), from which the dispatch is generated when compiling. The catalog
+ * lists the options in the same order as the constants. The constants themselves are not generated: each documents
+ * its option (what it does and example usage), which the catalog does not hold. The build fails if the constants and
+ * the catalog differ, so adding an option takes a documented constant and a catalog line.
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public enum JvmOption {
+
+    /**
+     * The option to explicitly set the number of cpu/cores and override any <code>useContainerSupport</code> settings
+     * for determining default threading. Added in JDK8 u191.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:ActiveProcessorCount=2
+     * </pre>
+     */
+    ACTIVE_PROCESSOR_COUNT,
+
+    /**
+     * The percentage weight to place on current gc stats (vs previous) for ergonomic calculations (e.g.
+     * {@link #GC_TIME_RATIO}).
+     * 
+     * For example, the following means the time goal check will be based on 90% of the current GC time and 10% on
+     * previous GC times.
+     * 
+     * <pre>
+     * -XX:GCTimeRatio=4 -XX:AdaptiveSizePolicyWeight=90
+     * </pre>
+     */
+    ADAPTIVE_SIZE_POLICY_WEIGHT,
+
+    /**
+     * Option <code>--add-exports=</code>.
+     * <pre>
+     * -add-exports=jdk.unsupported/sun.misc=ALL-UNNAMED
+     * </pre>
+     */
+    ADD_EXPORTS,
+
+    /**
+     * Runtime modules. For example:
+     * 
+     * <pre>
+     * --add-modules=ALL-SYSTEM
+     * </pre>
+     */
+    ADD_MODULES,
+
+    /**
+     * Used to allow deep reflection to access nonpublic members. For example:
+     * 
+     * <pre>
+     * --add-opens=java.base/java.security=ALL-UNNAMED
+     * </pre>
+     */
+    ADD_OPENS,
+
+    /**
+     * JVM option to load a native agent by library name.
+     * 
+     * For example:
+     * 
+     * -agentlib:jdwp=transport=dt_socket,address=8787,server=y,suspend=n
+     * 
+     * -agentlib:am_sun_16=/opt/jbossapps/tgkcpmj02/itcam/runtime/jboss7.tagp3aps3.tgkcpmj02/dc.env.properties
+     */
+    AGENTLIB,
+
+    /**
+     * JVM option to load a native agent by full path.
+     * 
+     * For example:
+     * 
+     * -agentpath:/path/to/agent.so
+     */
+    AGENTPATH,
+
+    /**
+     * Option to enable/disable aggressive heap management for long running, memory intensive processes.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+AggressiveHeap
+     * </pre>
+     */
+    AGGRESSIVE_HEAP,
+
+    /**
+     * Option to enable/disable various experimental performance optimizations. The meaning has varied over time, with
+     * functionality removed or integrated. Currently, the only effect is setting {@link #AUTO_BOX_CACHE_MAX} to 20000
+     * and {@link #BIASED_LOCKING_STARTUP_DELAY} to 500.
+     * 
+     * Disabled by default, deprecated in JDK11, and removed in JDK17.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+AggressiveOpts
+     * </pre>
+     */
+    AGGRESSIVE_OPTS,
+
+    /**
+     * Option to allow the application to install signal handlers. Disabled by default.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+AllowUserSignalHandlers
+     * </pre>
+     */
+    ALLOW_USER_SIGNAL_HANDLERS,
+
+    /**
+     * Option to enable/disable touching all java heap memory pages on JVM startup.
+     * 
+     * If disabled (default), the OS/container reserves virtual memory for the initial java heap. If enabled, the
+     * OS/container allocates physical memory for the entire initial java heap (whether it is used or not).
+     * 
+     * The trade offs are startup time, application speed, and JVM process size. The application will run faster with
+     * pretouching, but at the cost of a longer startup time and increased process size.
+     * 
+     * <pre>
+     *-XX:+AlwaysPreTouch
+     * </pre>
+     */
+    ALWAYS_PRE_TOUCH,
+
+    /**
+     * The upper limit of Integers to cache. The lower limit is fixed at -128, and the upper limit defaults to 127. The
+     * following option would cache Integers between -128 and 1000:
+     * 
+     * <pre>
+     * -XX:AutoBoxCacheMax=1000
+     * </pre>
+     */
+    AUTO_BOX_CACHE_MAX,
+
+    /**
+     * Option to enable/disable background compilation of bytecode. For example:
+     * 
+     * <pre>
+     * -XX:-BackgroundCompilation
+     * </pre>
+     */
+    BACKGROUND_COMPILATION,
+
+    /**
+     * Option to disable background compilation of bytecode. For example:
+     * 
+     * <pre>
+     * -Xbatch
+     * </pre>
+     */
+    BATCH,
+
+    /**
+     * The number of seconds after JVM startup to enable biased locking. JDK8 default 4000. JDK11/17 default 0.
+     * Deprecated in JDK17 and removed in JDK21.
+     * 
+     * <pre>
+     * -XX:BiasedLockingStartupDelay=500
+     * </pre>
+     */
+    BIASED_LOCKING_STARTUP_DELAY,
+
+    /**
+     * JVM options for bootstrap classes and resources. Multiple options are cumulative, not overriding.
+     * 
+     * For example:
+     * 
+     * -Xbootclasspath/p:/path/to/some.jar
+     */
+    BOOTCLASSPATH,
+
+    /**
+     * Alias for {@link #CHECK_JNI_CALLS}. Option to enable additional validation checks on the arguments passed to JNI
+     * functions. Logging is sent to standard out.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -Xcheck:jni
+     * </pre>
+     */
+    CHECK_JNI,
+
+    /**
+     * Option to enable additional validation checks on the arguments passed to JNI functions. Logging is sent to
+     * standard out.
+     * 
+     * <pre>
+     * -XX:+CheckJNICalls
+     * </pre>
+     */
+    CHECK_JNI_CALLS,
+
+    /**
+     * The number of compiler threads. For example:
+     * 
+     * <pre>
+     * -XX:CICompilerCount=2
+     * </pre>
+     */
+    CI_COMPILER_COUNT,
+
+    /**
+     * The option to set the classpath. For example:
+     * 
+     * <pre>
+     * -classpath /path/to/tomcat/bin/bootstrap.jar:/path/to/tomcat/bin/tomcat-juli.jar:/path/to/java/ant.jar:
+     * /path/to/java/ant-launcher.jar:/path/to/java/lib/tools.jar
+     * </pre>
+     */
+    CLASSPATH,
+
+    /**
+     * The option to enable/disable class unloading during gc (enabled by default).
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:-ClassUnloading
+     * </pre>
+     */
+    CLASS_UNLOADING,
+
+    /**
+     * The option to enable/disable class unloading after completing a G1 concurrent mark cycle (enabled by default).
+     * Reference: https://bugs.openjdk.org/browse/JDK-8049421.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:-ClassUnloadingWithConcurrentMark
+     * </pre>
+     */
+    CLASS_UNLOADING_WITH_CONCURRENT_MARK,
+
+    /**
+     * Option to enable the client JIT compiler, a separate Java binary optimized for fast startup and small footprint
+     * (e.g. interactive GUI applications).
+     * 
+     * Only useful on 32-bit JDKs because:
+     * 
+     * <ul>
+     * <li>64-bit JDKs include only the server compiler.</li>
+     * <li>32-bit JREs include only the client compiler.</li>
+     * <li>32-bit JDKs include both the client and server compiler.</li>
+     * </ul>
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -client
+     * </pre>
+     */
+    CLIENT,
+
+    /**
+     * The option to enable/disable the CMS collector to collect perm/metaspace. For example:
+     * 
+     * <pre>
+     * -XX:+CMSClassUnloadingEnabled
+     * </pre>
+     */
+    CMS_CLASS_UNLOADING_ENABLED,
+
+    /**
+     * Option to enable/disable always recording CMS parallel initial mark/remark eden chunks. For example:
+     * 
+     * <pre>
+     * -XX:+CMSEdenChunksRecordAlways
+     * </pre>
+     */
+    CMS_EDEN_CHUNKS_RECORD_ALWAYS,
+
+    /**
+     * The option to enable/disable the CMS collector running in incremental mode.
+     * 
+     * In incremental mode, the CMS collector does not hold the processor(s) for the entire long concurrent phases but
+     * periodically stops them and yields the processor back to other threads in the application. It divides the work to
+     * be done in concurrent phases into small chunks called duty cycles and schedules them between minor collections.
+     * This is very useful for applications that need low pause times and are run on machines with a small number of
+     * processors.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+CMSIncrementalMode
+     * </pre>
+     */
+    CMS_INCREMENTAL_MODE,
+
+    /**
+     * The option to enable/disable the CMS collector incremental mode duty cycle automatic pacing (i.e. based on
+     * heuristics).
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+CMSIncrementalPacing
+     * </pre>
+     */
+    CMS_INCREMENTAL_PACING,
+
+    /**
+     * The option for setting starting the concurrent collection NN% sooner than the calculated time. For example:
+     * 
+     * <pre>
+     * -XX:CMSIncrementalSafetyFactor=20
+     * </pre>
+     */
+    CMS_INCREMENTAL_SAFETY_FACTOR,
+
+    /**
+     * The option for setting CMS initiating occupancy fraction, the tenured generation occupancy percentage that
+     * triggers a concurrent collection. For example:
+     * 
+     * <pre>
+     * -XX:CMSInitiatingOccupancyFraction=75
+     * </pre>
+     */
+    CMS_INITIATING_OCCUPANCY_FRACTION,
+
+    /**
+     * Option to enable/disable CMS multi-threaded initial mark. For example:
+     * 
+     * <pre>
+     * -XX:-CMSParallelInitialMarkEnabled
+     * </pre>
+     */
+    CMS_PARALLEL_INITIAL_MARK_ENABLED,
+
+    /**
+     * Option to enable/disable CMS multi-threaded initial remark. For example:
+     * 
+     * <pre>
+     * -XX:-CMSParallelRemarkEnabled
+     * </pre>
+     */
+    CMS_PARALLEL_REMARK_ENABLED,
+
+    /**
+     * Option to enable a young collection before the CMS remark phase, pruning the young generation to minimize remark
+     * pause times.
+     * 
+     * 
+     * <pre>
+     *-XX:+CMSScavengeBeforeRemark
+     * </pre>
+     */
+    CMS_SCAVENGE_BEFORE_REMARK,
+
+    /**
+     * Option for setting how long the CMS collector will wait for a young space collection before starting initial
+     * marking. For example:
+     * 
+     * <pre>
+     * -XX:CMSWaitDuration=10000
+     * </pre>
+     */
+    CMS_WAIT_DURATION,
+
+    /**
+     * The option to enable compilation of bytecode on first invocation. For example:
+     * 
+     * <pre>
+     * -Xcomp
+     * </pre>
+     */
+    COMP,
+
+    /**
+     * The option for specifying a command for the Just in Time (JIT) compiler to execute on a method. For example:
+     * 
+     * <pre>
+     * -XX:CompileCommand=exclude,com/example/MyClass
+     * </pre>
+     */
+    COMPILE_COMMAND,
+
+    /**
+     * The option for specifying a compile command file for the Just in Time (JIT) compiler. For example:
+     * 
+     * <pre>
+     * -XX:CompileCommandFile=/etc/cassandra/conf/hotspot_compiler
+     * </pre>
+     */
+    COMPILE_COMMAND_FILE,
+
+    /**
+     * The option for setting the number of method executions before a method is compiled from bytecode to native code
+     * by the Just in Time (JIT) compiler with "standard compilation" (when tiered compilation is disabled). Ignored
+     * when tiered compilation is enabled.
+     * 
+     * Default is 10,000. Setting -XX:CompileThreshold=1 forces compiling at first execution.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:CompileThreshold=500
+     * </pre>
+     * 
+     * @return the option if it exists, null otherwise.
+     */
+    COMPILE_THRESHOLD,
+
+    /**
+     * The option for setting the virtual (reserved) size of the compressed class space (default 1G).
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:CompressedClassSpaceSize=768m
+     * </pre>
+     */
+    COMPRESSED_CLASS_SPACE_SIZE,
+
+    /**
+     * Mysteriously named, undocumented option that sets the following 4 options:
+     * 
+     * <pre>
+     * -XX:-BackgroundCompilation
+     * -XX:DeferThrSuspendLoopCount=1
+     * -XX:NewSizeThreadIncrease=16384
+     * -XX:-UseTLAB
+     * </pre>
+     * 
+     * It has no known, valid uses and was removed in JDK12:
+     * 
+     * https://bugs.openjdk.org/browse/JDK-8213767
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -Xconcurrentio
+     * </pre>
+     */
+    CONCURRENTIO,
+
+    /**
+     * The number of concurrent GC threads. Default formula:
+     * 
+     * ConcGCThreads = 1/4 * {@link #PARALLEL_GC_THREADS}
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:ConcGCThreads=18
+     * </pre>
+     */
+    CONC_GC_THREADS,
+
+    /**
+     * Option to enable/disable the jvm process exiting (and producing a fatal error log and core as applicable) when
+     * out of memory occurs.
+     * 
+     * This does not interfere/disable {@link #HEAP_DUMP_ON_OUT_OF_MEMORY_ERROR}. When used in combination, both a heap
+     * dump and fatal error log will be created.
+     * 
+     * <pre>
+     *-XX:+CrashOnOutOfMemoryError
+     * </pre>
+     */
+    CRASH_ON_OUT_OF_MEMORY_ERROR,
+
+    /**
+     * The option for specifying 64-bit. Removed in JDK11.
+     * 
+     * <pre>
+     * -d64
+     * </pre>
+     */
+    D64,
+
+    /**
+     * Option to enable debugging using the Java Virtual Machine Debug Interface (JVMDI). JVMDI has been removed, so
+     * this option does nothing. For example:
+     * 
+     * <pre>
+     * -Xdebug
+     * </pre>
+     */
+    DEBUG,
+
+    /**
+     * Diagnostic option (requires <code>-XX:+UnlockDiagnosticVMOptions</code>) to enable/disable the compiler
+     * generating metadata for code not at safe points to improve the accuracy of JDK Flight Recorder (JFR) Method
+     * Profiler.
+     * 
+     * <pre>
+     * -XX:+UnlockDiagnosticVMOptions -XX:+DebugNonSafepoints
+     * </pre>
+     */
+    DEBUG_NON_SAFEPOINTS,
+
+    /**
+     * The option to disable the creation of the AttachListener socket file (/tmp/.java_pid<pid>) used by
+     * jcmd/jmap/jstack to communicate with the JVM. Created the first time jcmd/jmap/jstack is run.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+DisableAttachMechanism
+     * </pre>
+     */
+    DISABLE_ATTACH_MECHANISM,
+
+    /**
+     * The option to enable/disable explicit garbage collection. For example:
+     * 
+     * <pre>
+     * -XX:+DisableExplicitGC
+     * </pre>
+     */
+    DISABLE_EXPLICIT_GC,
+
+    /**
+     * Option to enable/disable Just In Time (JIT) compiler optimization for objects created and referenced by a single
+     * thread within the scope of a method:
+     * 
+     * 1) Objects are not created, and their fields are treated as local variables and allocated on the method stack or
+     * in cpu registers. This effectively moves the allocation from the heap to the stack, which is much faster.
+     * 
+     * 2) Locking and memory synchronization is removed, reducing overhead.
+     * 
+     * Enabled by default in JDK 1.6+.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+DoEscapeAnalysis
+     * </pre>
+     */
+    DO_ESCAPE_ANALYSIS,
+
+    /**
+     * The option to enable/disable the compiler optimization to eliminate locks if the monitor is not reachable from
+     * other threads. Enabled by default in JDK 1.8+.
+     * 
+     * <pre>
+     * -XX:+EliminateLocks
+     * </pre>
+     */
+    ELIMINATE_LOCKS,
+
+    /**
+     * Option to enable assertions (disabled by default).
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -ea
+     * </pre>
+     * 
+     * <pre>
+     * -enableassertions
+     * </pre>
+     */
+    ENABLE_ASSERTIONS,
+
+    /**
+     * The option to specify the location where a fatal error log will be written. For example:
+     * 
+     * <pre>
+     *  -XX:ErrorFile=/mydir/hs_err_pid%p.log
+     * </pre>
+     */
+    ERROR_FILE,
+
+    /**
+     * Option to enable/disable writing the fatal error log to stderr instead of the file system.
+     * 
+     * Available in JDK8u312+, JDK11u7+, and JDK17+.
+     * 
+     * Reference: https://bugs.openjdk.org/browse/JDK-8220786
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+ErrorFileToStderr
+     * </pre>
+     */
+    ERROR_FILE_TO_STDERR,
+
+    /**
+     * Option to enable/disable writing the fatal error log to stdout instead of the file system.
+     * 
+     * Available in JDK8u312+, JDK11u7+, and JDK17+.
+     * 
+     * Reference: https://bugs.openjdk.org/browse/JDK-8220786
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+ErrorFileToStdout
+     * </pre>
+     */
+    ERROR_FILE_TO_STDOUT,
+
+    /**
+     * Option to enable/disable the JVM process exiting on OutOfMemoryError.
+     * 
+     * This does not interfere/disable {@link #HEAP_DUMP_ON_OUT_OF_MEMORY_ERROR}. When used in combination, the heap
+     * dump will be created before the process exits.
+     * 
+     * <pre>
+     * -XX:+ExitOnOutOfMemoryError
+     * </pre>
+     */
+    EXIT_ON_OUT_OF_MEMORY_ERROR,
+
+    /**
+     * The option to enable/disable explicit garbage collection to be handled concurrently by the CMS and G1 collectors.
+     * For example:
+     * 
+     * <pre>
+     * -XX:+ExplicitGCInvokesConcurrent
+     * </pre>
+     */
+    EXPLICIT_GC_INVOKES_CONCURRENT,
+
+    /**
+     * The option to enable/disable explicit garbage collection to be handled concurrently by the CMS and G1 collectors
+     * and classes unloaded. For example:
+     * 
+     * <pre>
+     * -XX:-ExplicitGCInvokesConcurrentAndUnloadsClasses
+     * </pre>
+     */
+    EXPLICIT_GC_INVOKES_CONCURRENT_AND_UNLOADS_CLASSES,
+
+    /**
+     * Option to enable/disable outputting additional information in the fatal error logs. For example:
+     * 
+     * <pre>
+     * -XX:+ExtensiveErrorReports
+     * </pre>
+     */
+    EXTENSIVE_ERROR_REPORTS,
+
+    /**
+     * The option to enable/disable JDK Flight Recorder. Not necessary since JDK8 u240 and deprecated in JDK13.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+FlightRecorder
+     * </pre>
+     */
+    FLIGHT_RECORDER,
+
+    /**
+     * The option for starting JDK Flight Recorder (JFR). For example:
+     * 
+     * <pre>
+     * -XX:FlightRecorderOptions=stackdepth=256
+     * </pre>
+     */
+    FLIGHT_RECORDER_OPTIONS,
+
+    /**
+     * The number of G1 concurrent refinement threads. For example:
+     * 
+     * <pre>
+     * -XX:G1ConcRefinementThreads=4
+     * </pre>
+     */
+    G1_CONC_REFINEMENT_THREADS,
+
+    /**
+     * Experimental option (requires <code>-XX:+UnlockExperimentalVMOptions</code>) added in JDK17 that sets the number
+     * of remembered set entries a humongous region otherwise eligible for eager reclaim may have to be a candidate for
+     * eager reclaim. Selected ergonomically by default.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:G1EagerReclaimRemSetThreshold=8
+     * </pre>
+     */
+    G1_EAGER_RECLAIM_REM_SET_THRESHOLD,
+
+    /**
+     * The option to set the size of the G1 region size. G1 divides the heap into regions that are a power of 2 between
+     * 1M and 32M, with each region dedicated to one of the following spaces: free, eden, survivor, or tenured.
+     * 
+     * By default, G1 divides the heap into 2048 regions using the following formula:
+     * 
+     * MaxHeapSize/2048 rounded down to a power of 2 between 1M and 32M:
+     * 
+     * MaxHeapSize < 4g: 1m
+     * 
+     * 4g <= MaxHeapSize < 8g: 2m
+     * 
+     * 8g <= MaxHeapSize < 16g: 4m
+     * 
+     * 16g <= MaxHeapSize < 32g: 8m
+     * 
+     * 32g <= MaxHeapSize < 64g: 16m
+     * 
+     * MaxHeapSize >= 64g: 32m
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:G1HeapRegionSize=4m
+     * </pre>
+     */
+    G1_HEAP_REGION_SIZE,
+
+    /**
+     * The option for setting the G1 heap waste percentage (default 10). A mixed GC cycle will not be initiated if the
+     * reclaimable percentage is less.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:G1HeapWastePercent=5
+     * </pre>
+     */
+    G1_HEAP_WASTE_PERCENT,
+
+    /**
+     * Experimental option (requires <code>-XX:+UnlockExperimentalVMOptions</code>) that sets the percentage of the heap
+     * to use as the maximum new generation size (default 60%). Replaces <code>-XX:DefaultMaxNewGenPercent</code>.
+     * 
+     * <pre>
+     * -XX:+UnlockExperimentalVMOptions -XX:G1MaxNewSizePercent=30
+     * </pre>
+     */
+    G1_MAX_NEW_SIZE_PERCENT,
+
+    /**
+     * Option to set the target number of mixed garbage collections (default 8) after a marking cycle to collect old
+     * regions. For example:
+     * 
+     * <pre>
+     * -XX:G1MixedGCCountTarget=4
+     * </pre>
+     */
+    G1_MIXED_GC_COUNT_TARGET,
+
+    /**
+     * Experimental option (requires <code>-XX:+UnlockExperimentalVMOptions</code>) for setting the occupancy threshold
+     * for a region to be considered as a candidate region for a G1_CLEANUP collection.
+     * 
+     * Prior to JDK8 update 40 the default values for G1HeapWastePercent (10) and G1MixedGCLiveThresholdPercent (65) are
+     * generally very bad, and the standard recommended configuration is to use this experimental option:
+     * -XX:+UnlockExperimentalVMOptions -XX:G1MixedGCLiveThresholdPercent=85 -XX:G1HeapWastePercent=5.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+UnlockExperimentalVMOptions -XX:G1MixedGCLiveThresholdPercent=85
+     * </pre>
+     */
+    G1_MIXED_GC_LIVE_THRESHOLD_PERCENT,
+
+    /**
+     * Experimental option (requires <code>-XX:+UnlockExperimentalVMOptions</code>) to set the percentage of the heap to
+     * use as the initial young generation size.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+UnlockExperimentalVMOptions -XX:G1NewSizePercent=1
+     * </pre>
+     */
+    G1_NEW_SIZE_PERCENT,
+
+    /**
+     * Experimental option (requires <code>-XX:+UnlockExperimentalVMOptions</code>) to set the upper limit for the
+     * number of old regions to be collected during a mixed garbage collection cycle (default 10 percent java heap).
+     * 
+     * <pre>
+     * -XX:+UnlockExperimentalVMOptions -XX:G1OldCSetRegionThresholdPercent=25
+     * </pre>
+     */
+    G1_OLD_C_SET_REGION_THRESHOLD_PERCENT,
+
+    /**
+     * The maximum interval (ms) between G1 collection cycles. Disabled (0) by default. JDK12+.
+     * 
+     * Used to support small process size use cases (e.g. metered environments like containers) with bursty workloads,
+     * as G1 requires a GC cycle to return unused memory to the OS/container.
+     *
+     * For example:
+     * 
+     * <pre>
+     * -XX:G1PeriodicGCInterval=0
+     * -XX:G1PeriodicGCInterval=9000
+     * -XX:G1PeriodicGCInterval=900k
+     * -XX:G1PeriodicGCInterval=900g
+     * </pre>
+     */
+    G1_PERIODIC_GC_INTERVAL,
+
+    /**
+     * The G1 collector option for setting the percentage of heap space that should be kept in reserve (not used) to
+     * minimize the probability of promotion failures. It is a safety net in hopes of avoiding a G1 full collection.
+     * When increasing, it is necessary to increase the total heap size by an equivalent percentage to keep the amount
+     * of allocation space constant.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:G1ReservePercent=10 (default)
+     * </pre>
+     */
+    G1_RESERVE_PERCENT,
+
+    /**
+     * The percentage of allowed pause time for remembered set concurrent processing (default 10). Decreasing typically
+     * results in G1 performing more remembered set update work concurrently.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:G1RSetUpdatingPauseTimePercent=5
+     * </pre>
+     */
+    G1_RSET_UPDATING_PAUSE_TIME_PERCENT,
+
+    /**
+     * Option to enable/disable output of summarized remembered set processing info. For example:
+     * 
+     * <pre>
+     * -XX:+G1SummarizeRSetStats
+     * </pre>
+     */
+    G1_SUMMARIZE_R_SET_STATS,
+
+    /**
+     * The option for setting the # of GCs to output update buffer processing info (0 = disabled). For example:
+     * 
+     * <pre>
+     * -XX:G1SummarizeRSetStatsPeriod=1
+     * </pre>
+     */
+    G1_SUMMARIZE_R_SET_STATS_PERIOD,
+
+    /**
+     * Sets the number of entries to try to leave on the stack during parallel gc. For example:
+     * 
+     * <pre>
+     * -XX:GCDrainStackTargetSize=64
+     * </pre>
+     */
+    GC_DRAIN_STACK_TARGET_SIZE,
+
+    /**
+     * Diagnostic option (requires <code>-XX:+UnlockDiagnosticVMOptions</code>) to specify the number of times a thread
+     * should retry its allocation when blocked by the GC locker (default 2).
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+UnlockDiagnosticVMOptions -XX:GCLockerRetryAllocationCount=4
+     * </pre>
+     */
+    GC_LOCKER_RETRY_ALLOCATION_COUNT,
+
+    /**
+     * Size of gc log file that triggers rotation. For example:
+     * 
+     * <pre>
+     * -XX:GCLogFileSize=3M
+     * </pre>
+     */
+    GC_LOG_FILE_SIZE,
+
+    /**
+     * Throughput goal. Ergonomic option used by the JVM to manage footprint size.
+     * 
+     * Sets a goal that not more than 1/(1+GCTimeRatio) of time be spent doing GC.
+     * 
+     * Another way to state this is that it sets a throughput goal of GCTimeRatio/(1+GCTimeRatio).
+     * 
+     * For example, when GCTimeRatio = 4, max GC time = 1 / (1 + 4) = 20%. If the GC time is exceeded, the JVM may
+     * increase the heap size (subject to other ergonomics and generation max size).
+     * 
+     * The default value is 99 (i.e. throughput >= 99/(1+99) = 99%).
+     * 
+     * If set too high, it will result in the heap growing to its maximum.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:GCTimeRatio=4
+     * </pre>
+     */
+    GC_TIME_RATIO,
+
+    /**
+     * Diagnostic option (requires <code>-XX:+UnlockDiagnosticVMOptions</code>) to set a minimal safepoint interval
+     * (ms). For example:
+     * 
+     * <pre>
+     * -XX:+UnlockDiagnosticVMOptions -XX:GuaranteedSafepointInterval=90000000
+     * </pre>
+     */
+    GUARANTEED_SAFEPOINT_INTERVAL,
+
+    /**
+     * The option for setting the Java heap base memory virtual address (where the heap allocation begins). For example:
+     * 
+     * <pre>
+     * -XX:HeapBaseMinAddress=12g
+     * </pre>
+     */
+    HEAP_BASE_MIN_ADDRESS,
+
+    /**
+     * The option to write out a heap dump after a full GC. For example:
+     * 
+     * <pre>
+     * -XX:+HeapDumpAfterFullGC
+     * </pre>
+     */
+    HEAP_DUMP_AFTER_FULL_GC,
+
+    /**
+     * The option to write out a heap dump before a full GC. For example:
+     * 
+     * <pre>
+     * -XX:+HeapDumpBeforeFullGC
+     * </pre>
+     */
+    HEAP_DUMP_BEFORE_FULL_GC,
+
+    /**
+     * The option to write out a heap dump when OutOfMemoryError. For example:
+     * 
+     * <pre>
+     * -XX:+HeapDumpOnOutOfMemoryError
+     * </pre>
+     */
+    HEAP_DUMP_ON_OUT_OF_MEMORY_ERROR,
+
+    /**
+     * The option to specify the location where a heap dump will be written on OutOfMemoryError. For example:
+     * 
+     * <pre>
+     *  -XX:HeapDumpPath=/mydir/
+     * </pre>
+     */
+    HEAP_DUMP_PATH,
+
+    /**
+     * Option to enable/disable checking for unrecognized options passed to the JVM. For example:
+     * 
+     * <pre>
+     * -XX:+IgnoreUnrecognizedVMOptions
+     * </pre>
+     */
+    IGNORE_UNRECOGNIZED_VM_OPTIONS,
+
+    /**
+     * The initial boot classloader metaspace size (default 4M). For example:
+     * 
+     * <pre>
+     * -XX:InitialBootClassLoaderMetaspaceSize=8M
+     * </pre>
+     */
+    INITIAL_BOOT_CLASS_LOADER_METASPACE_SIZE,
+
+    /**
+     * Initial code cache size. For example:
+     * 
+     * <pre>
+     * -XX:InitialCodeCacheSize=32m
+     * </pre>
+     */
+    INITIAL_CODE_CACHE_SIZE,
+
+    /**
+     * The initial java heap size in bytes. Specified with the <code>-Xms</code> or <code>-ms</code> for backward
+     * compatibility against very old Java versions (which also set {@link #MIN_HEAP_SIZE}) or
+     * <code>-XX:InitialHeapSize</code> option. Default in "server" mode is 1/64 physical memory.
+     * 
+     * '0' means use ergonomics.
+     * 
+     * Initial heap size must be lower than the maximum heap size for the JVM to return memory to the OS/container.
+     * 
+     * On bare metal and in virtual environments, it is typically set equal to initial heap size equal to the
+     * {@link #MAX_HEAP_SIZE} to minimize commit/uncommit overhead. In cloud environments (e.g. OpenShift), the goal is
+     * normally to minimize memory footprint.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -Xms1024m
+     * -ms1024m
+     * -XX:InitialHeapSize=257839744
+     * </pre>
+     */
+    INITIAL_HEAP_SIZE,
+
+    /**
+     * Set {@link #INITIAL_HEAP_SIZE} as a percentage of available memory (RAM or cgroup Memory Limit).
+     * 
+     * Ignored if <code>-Xms</code> is set.
+     * 
+     * JDK8 requires decimal:
+     * 
+     * <pre>
+     * -XX:InitialRAMPercentage=25.0
+     * </pre>
+     * 
+     * JDK11+ decimal is optional
+     * 
+     * <pre>
+     * -XX:InitialRAMPercentage=25.0
+     * -XX:InitialRAMPercentage=25
+     * </pre>
+     */
+    INITIAL_RAM_PERCENTAGE,
+
+    /**
+     * The heap occupancy threshold to start a concurrent GC cycle (G1 marking). Default is 45%. Lower it to start
+     * marking earlier to avoid marking not finishing before heap fills up (analogous to CMS concurrent mode failure). A
+     * value of 0 results in constant GC cycles.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:InitiatingHeapOccupancyPercent=40
+     * </pre>
+     */
+    INITIATING_HEAP_OCCUPANCY_PERCENT,
+
+    /**
+     * Instrumentation (byte code manipulation).
+     * 
+     * For example:
+     * 
+     * -javaagent:/path/to/appdynamics/javaagent.jar
+     */
+    JAVAAGENT,
+
+    /**
+     * The option for setting the virtual (reserved) size of the compressed class space (a single area). Only has
+     * meaning on Solaris. Other OS like Linux use the page size the kernel is set to support
+     * (<code>Hugepagesize</code>). On Windows it cannot be set (like in Linux) and is fixed at 2MB.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:LargePageSizeInBytes=4m
+     * </pre>
+     */
+    LARGE_PAGE_SIZE_IN_BYTES,
+
+    /**
+     * Option to specify unified gc logging options in JDK11+.
+     * 
+     * For example:
+     * 
+     * <p>
+     * 1) Single option:
+     * </p>
+     * 
+     * <pre>
+     * -Xlog:gc*,gc+age=trace,safepoint:file=/path/to/gc.log:utctime,pid,tags:filecount=4,filesize=64m
+     * </pre>
+     * 
+     * <p>
+     * 2) Multiple options:
+     * </p>
+     * 
+     * <pre>
+     * -Xlog:gc*=debug:file=/path/to/gc-%t.log:time,pid,tid,level,tags:filesize=1G 
+     * -Xlog:all=info,exceptions=warning,gc*=off:file=/path/to/vm-%t.log:time,pid,tid,level,tags:filesize=100M
+     * </pre>
+     * 
+     * Regarding log file rotation, in the examples above, gc.log always holds the most current logging. When `filesize`
+     * is reached, gc.log is renamed gc.log.0 (up to `filecount` - 1), and a new gc.log created.
+     */
+    LOG,
+
+    /**
+     * Option to specify gc log location in JDK8. For example:
+     * 
+     * <pre>
+     * -Xloggc:/path/to/EAP-7.1.0/standalone/log/gc.log
+     * </pre>
+     */
+    LOGGC,
+
+    /**
+     * The option to specify the location where safepoint logging will be written. For example:
+     * 
+     * <pre>
+     *  -XX:LogFile=/path/to/vm.log
+     * </pre>
+     */
+    LOG_FILE,
+
+    /**
+     * Diagnostic option (requires <code>-XX:+UnlockDiagnosticVMOptions</code>) to enable/disable vm logging for
+     * safepoint analysis. For example:
+     * 
+     * <pre>
+     * -XX:+UnlockDiagnosticVMOptions -XX:+LogVMOutput
+     * </pre>
+     */
+    LOG_VM_OUTPUT,
+
+    /**
+     * Option to set the number of iterations in the inner strip mined loop (1000 default). For example:
+     * 
+     * <pre>
+     * -XX:LoopStripMiningIter=1000
+     * </pre>
+     */
+    LOOP_STRIP_MINING_ITER,
+
+    /**
+     * Option to enable/disable JMX. For example:
+     * 
+     * <pre>
+     * -XX:+ManagementServer.
+     * </pre>
+     */
+    MANAGEMENT_SERVER,
+
+    /**
+     * The option for setting the marking stack initial size. For example:
+     * 
+     * <pre>
+     * -XX:MarkStackSize=4194304
+     * </pre>
+     */
+    MARK_STACK_SIZE,
+
+    /**
+     * The option for setting the marking stack max size. For example:
+     * 
+     * <pre>
+     * -XX:MarkStackSizeMax=2147483646
+     * </pre>
+     */
+    MARK_STACK_SIZE_MAX,
+
+    /**
+     * Equivalent to {@link #RESERVED_CODE_CACHE_SIZE}.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -Xmaxjitcodesize1024m
+     * </pre>
+     */
+    MAXJITCODESIZE,
+
+    /**
+     * Maximum direct memory. Attempting to allocate direct memory that would cause the limit to be exceeded causes a
+     * full GC to initiate reference processing and release of unreferenced buffers.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:MaxDirectMemorySize=8g
+     * </pre>
+     */
+    MAX_DIRECT_MEMORY_SIZE,
+
+    /**
+     * The option to enable/disable the maximum file descriptors (solaris only). For example:
+     * 
+     * <pre>
+     * -XX:+MaxFDLimit
+     * </pre>
+     */
+    MAX_FD_LIMIT,
+
+    /**
+     * The option for setting the maximum gc pause time ergonomic option. Supported by G1 and Parallel collectors only.
+     * Reference: https://bugs.openjdk.org/browse/JDK-8366157.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:MaxGCPauseMillis=500
+     * </pre>
+     */
+    MAX_GC_PAUSE_MILLIS,
+
+    /**
+     * Generation contraction threshold. Ergonomic option used by the JVM to manage footprint size. The maximum
+     * percentage of free space to avoid shrinking the space (default 70).
+     * 
+     * If the percentage of free space in a generation rises above this threshold, the JVM may contract the generation
+     * size (subject to other ergonomics and generation min size).
+     * 
+     * For G1 and ParallelGC, the space is the whole heap. For other collectors, the space is the old generation.
+     * 
+     * Setting -XX:MaxHeapFreeRatio=100 disables heap shrinking.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:MaxHeapFreeRatio=20
+     * </pre>
+     */
+    MAX_HEAP_FREE_RATIO,
+
+    /**
+     * Maximum heap space. Specified with the <code>-Xmx</code>, <code>-mx</code> (for backward compatibility against
+     * very old Java versions), or <code>-XX:MaxHeapSize</code> option. Default in "server" mode is 1/4 physical memory
+     * (up to 32g).
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -Xmx1024m
+     * -mx1024m
+     * -XX:MaxHeapSize=1234567890
+     * </pre>
+     */
+    MAX_HEAP_SIZE,
+
+    /**
+     * Maximum number of nested calls to inline.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:MaxInlineLevel=15
+     * </pre>
+     */
+    MAX_INLINE_LEVEL,
+
+    /**
+     * The option for setting the number of lines in stack trace output. For example:
+     * 
+     * <pre>
+     * jvmOptions
+     * -XX:MaxJavaStackTraceDepth=50000
+     * </pre>
+     */
+    MAX_JAVA_STACK_TRACE_DEPTH,
+
+    /**
+     * The maximum percentage of free space to avoid shrinking the metaspace size. For example:
+     * 
+     * <pre>
+     * -XX:MaxMetaspaceFreeRatio=80.
+     * </pre>
+     */
+    MAX_METASPACE_FREE_RATIO,
+
+    /**
+     * Maximum committed metaspace (class metadata). Effectively unlimited by default.
+     * 
+     * When {@link #USE_COMPRESSED_OOPS} and {@link #USE_COMPRESSED_CLASS_POINTERS} are enabled (default), it also
+     * includes the {@link #COMPRESSED_CLASS_SPACE_SIZE}.
+     * 
+     * If set smaller than {@link #COMPRESSED_CLASS_SPACE_SIZE}, the JVM auto adjusts
+     * {@link #COMPRESSED_CLASS_SPACE_SIZE} as follows:
+     * 
+     * <p>
+     * <code>
+     * {@link #COMPRESSED_CLASS_SPACE_SIZE} = {@link #MAX_METASPACE_SIZE} - 2 *
+     * {@link #INITIAL_BOOT_CLASS_LOADER_METASPACE_SIZE}
+     * </code>
+     * </p>
+     * 
+     * Hard-coding MaxMetaspaceSize is generally an anti-pattern, especially in the context of containers, where
+     * deployments should be "liquid".
+     * 
+     * As with any other JVM setting, it is recommended to use the default value, unless there is a good reason to
+     * change it.
+     * 
+     * The only known possible use case for this setting is in the context of bare metal or VM deployments with many
+     * collocated JVMs. It could provide a layer of safety for an application with a memory leak impacting other JVMs
+     * beyond any OS/VM mechanism (e.g. oom killer). However, even that is more of a special consideration than a
+     * general best practice.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:MaxMetaspaceSize=2048m
+     * </pre>
+     */
+    MAX_METASPACE_SIZE,
+
+    /**
+     * Maximum new generation size. The following forumula is used to determine new generation size:
+     * 
+     * min(MaxNewSize, max(NewSize, heap/(NewRatio+1)))
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:MaxNewSize=512m
+     * </pre>
+     */
+    MAX_NEW_SIZE,
+
+    /**
+     * Maximum permanent generation size. In JDK8 the permanent generation space was replaced by the metaspace, so this
+     * option will be ignored. For example:
+     * 
+     * <pre>
+     * -XX:MaxPermSize=256m
+     * </pre>
+     */
+    MAX_PERM_SIZE,
+
+    /**
+     * Real memory size (RAM or cgroup Memory Limit). Limited to 128g prior to JDK13. Reference:
+     * https://bugs.openjdk.org/browse/JDK-8222252.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:MaxRAM=12345678
+     * -XX:MaxRAM=256g
+     * </pre>
+     */
+    MAX_RAM,
+
+    /**
+     * Set {@link #MAX_HEAP_SIZE} as a percentage of: (1) {@link #MAX_RAM} prior to JDK13. (2) Physical memory or
+     * {@link #MAX_RAM} if it is set (JDK13+). Reference: https://bugs.openjdk.org/browse/JDK-8222252.
+     * 
+     * Ignored if <code>-Xmx</code> or <code>-XX:MaxHeapSize</code> is set.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:MaxRAMPercentage=80.0
+     * -XX:MaxRAMPercentage=80 (JDK11+)
+     * </pre>
+     */
+    MAX_RAM_PERCENTAGE,
+
+    /**
+     * The option for setting the maximum tenuring threshold option (the number of times objects surviving a young
+     * collection are copied to a survivor space). Default 15.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:MaxTenuringThreshold=0
+     * </pre>
+     */
+    MAX_TENURING_THRESHOLD,
+
+    /**
+     * The allocated class metadata space size that will trigger a minor garbage collection when it is exceeded for the
+     * first time. The JVM may choose a new threshold after the initial threshold is exceeded. The default size is
+     * platform dependent.
+     * 
+     * As with any other JVM setting, it's recommended to use the default value, unless there is a good reason to change
+     * it.
+     * 
+     * The use case for setting MetaspaceSize is when minimizing startup time is a goal. If the default size is too
+     * small for the application, the JVM will do a full GC to expand the metaspace. Increasing MetaspaceSize can avoid
+     * metaspace resizing on JVM startup and improve startup time.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:MetaspaceSize=1024M
+     * </pre>
+     */
+    METASPACE_SIZE,
+
+    /**
+     * The minimum amount to resize the heap space in bytes. For example:
+     * 
+     * <pre>
+     * -XX:MinHeapDeltaBytes=123456
+     * </pre>
+     */
+    MIN_HEAP_DELTA_BYTES,
+
+    /**
+     * Generation expansion threshold. Ergonomic option used by the JVM to manage footprint size. The minimum percentage
+     * of free space to avoid expanding the space (default 40).
+     * 
+     * If the percentage of free space in a generation falls below this threshold, the JVM may expand the generation
+     * size (subject to other ergonomics and generation max size).
+     * 
+     * For G1 and ParallelGC, the space is the whole heap. For other collectors, the space is the old generation.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:MinHeapFreeRatio=10
+     * </pre>
+     */
+    MIN_HEAP_FREE_RATIO,
+
+    /**
+     * The minimum java heap size in bytes.
+     * 
+     * JVM ergonomics set the minimum java heap size much smaller than the initial java heap size.
+     * 
+     * Prior to JDK17, there was no option to set this, and it could only be set indirectly with <code>-Xms</code>,
+     * which sets minimum java heap size to the same value.
+     * 
+     * In JDK17, the <code>-XX:MinHeapSize</code> option was added (Reference:
+     * <a hre="https://bugs.openjdk.org/browse/JDK-8226058">JDK-8226058</a>).
+     * 
+     * '0' means use ergonomics.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:MinHeapSize=123456
+     * </pre>
+     */
+    MIN_HEAP_SIZE,
+
+    /**
+     * The minimum percentage of free space to avoid expanding the metaspace size. For example:
+     * 
+     * <pre>
+     * -XX:MinMetaspaceFreeRatio=50
+     * </pre>
+     */
+    MIN_METASPACE_FREE_RATIO,
+
+    /**
+     * Set {@link #MAX_HEAP_SIZE} as a percentage of memory for small memory sizes (RAM < 200MB), where RAM is
+     * determined as follows: (1) Prior to JDK13: {@link #MAX_RAM}. (2) JDK13+: {@link #MAX_RAM} or physical memory.
+     * 
+     * Ignored if <code>-Xmx</code> or <code>-XX:MaxHeapSize</code> is set.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:MinRAMPercentage=25.0
+     * -XX:MinRAMPercentage=25 (JDK11+)
+     * </pre>
+     */
+    MIN_RAM_PERCENTAGE,
+
+    /**
+     * The option to enable native memory tracking. For example:
+     * 
+     * <pre>
+     *  -XX:NativeMemoryTracking=detail
+     * </pre>
+     */
+    NATIVE_MEMORY_TRACKING,
+
+    /**
+     * Option to set the ratio of old/new generation sizes (default 2).
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:NewRatio=3
+     * </pre>
+     */
+    NEW_RATIO,
+
+    /**
+     * Initial young generation size. Specified with either the <code>-XX:NewSize</code> or <code>-Xmn</code> option.
+     * The following forumula is used to determine new generation size:
+     * 
+     * min(MaxNewSize, max(NewSize, heap/(NewRatio+1)))
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:NewSize=1g
+     * </pre>
+     * 
+     * <pre>
+     * -Xmn1g
+     * </pre>
+     */
+    NEW_SIZE,
+
+    /**
+     * Option to disable the garbage collection of classes. For example:
+     * 
+     * <pre>
+     * -Xnoclassgc
+     * </pre>
+     */
+    NOCLASSGC,
+
+    /**
+     * Option to set the size (bytes) of the nonmethod code segment (e.g. compiler buffers, bytecode interpreter) when
+     * {@link #SEGMENTED_CODE_CACHE} is enabled.
+     * 
+     * For example:
+     * 
+     * -XX:NonNMethodCodeHeapSize=5825164
+     */
+    NON_N_METHOD_CODE_HEAP_SIZE,
+
+    /**
+     * Option to set the size (bytes) of the nonprofiled code segment when {@link #SEGMENTED_CODE_CACHE} is enabled.
+     * 
+     * For example:
+     * 
+     * -XX:NonProfiledCodeHeapSize=122916538
+     */
+    NON_PROFILED_CODE_HEAP_SIZE,
+
+    /**
+     * Option to disable class verification on JVM startup. For example:
+     * 
+     * <pre>
+     * -noverify
+     * </pre>
+     */
+    NOVERIFY,
+
+    /**
+     * Option to specify the number of gc log files to keep when rotation is enabled. For example:
+     * 
+     * <pre>
+     * -XX:NumberOfGCLogFiles=5
+     * </pre>
+     */
+    NUMBER_OF_GC_LOG_FILES,
+
+    /**
+     * Option to set the size of the old generation Promotion Local Allocation Buffers (PLABs) in heap words (4 bytes in
+     * 32 bit JVM and 64 bit JVM with compressed pointers enabled, 8 bytes otherwise).
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:OldPLABSize=16
+     * </pre>
+     */
+    OLD_PLAB_SIZE,
+
+    /**
+     * The default (initial) size of the old (tenured) generation. For example:
+     * 
+     * <pre>
+     * -XX:OldSize=2913992704
+     * </pre>
+     */
+    OLD_SIZE,
+
+    /**
+     * Option to enable/disable the use of preallocated exceptions, an optimization when an exception is thrown many
+     * times the JVM stops including the stack trace. For example:
+     * 
+     * <pre>
+     * -XX:-OmitStackTraceInFastThrow
+     * </pre>
+     */
+    OMIT_STACK_TRACE_IN_FAST_THROW,
+
+    /**
+     * The option to run a command or script when an irrecoverable error happens. For example:
+     * 
+     * <pre>
+     * -XX:OnError=gcore %p
+     * </pre>
+     */
+    ON_ERROR,
+
+    /**
+     * The option to run a command or script when the first OutOfMemoryError happens. For example:
+     * 
+     * <pre>
+     * -XX:OnOutOfMemoryError="pmap %p"
+     * </pre>
+     */
+    ON_OUT_OF_MEMORY_ERROR,
+
+    /**
+     * Option to enable/disable optimizing String concatenation operations. For example:
+     * 
+     * <pre>
+     * s
+     * -XX:-OptimizeStringConcat
+     * </pre>
+     */
+    OPTIMIZE_STRING_CONCAT,
+
+    /**
+     * The initial number of parallel gc threads for the CMS collector.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:ParallelCMSThreads=4
+     * </pre>
+     */
+    PARALLEL_CMS_THREADS,
+
+    /**
+     * The number of parallel gc threads. Default formula:
+     * 
+     * ParallelGCThreads = (ncpus <= 8) ? ncpus : 3 + ((ncpus * 5) / 8)
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:ParallelGCThreads=4
+     * </pre>
+     */
+    PARALLEL_GC_THREADS,
+
+    /**
+     * Option to enable/disable multi-threaded reference processing.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+ParallelRefProcEnabled
+     * </pre>
+     */
+    PARALLEL_REF_PROC_ENABLED,
+
+    /**
+     * Option to enable/disable the JVM outputting statistics to the hsperfdata file. For example:
+     * 
+     * <pre>
+     * -XX:+PerfDisableSharedMem
+     * </pre>
+     */
+    PERF_DISABLE_SHARED_MEM,
+
+    /**
+     * Initial permanent generation size. In JDK8 the permanent generation space was replaced by the metaspace, so this
+     * option is being ignored. For example:
+     * 
+     * <pre>
+     * -XX:PermSize=128m
+     * </pre>
+     */
+    PERM_SIZE,
+
+    /**
+     * Option to set the maximum number of recompiles (default 400) before staying in the interpreter. For example:
+     * 
+     * <pre>
+     * -XX:PerMethodRecompilationCutoff=10000
+     * </pre>
+     */
+    PER_METHOD_RECOMPILATION_CUTOFF,
+
+    /**
+     * The option enable/disable Adaptive Resize Policy output. For example:
+     * 
+     * <pre>
+     * -XX:+PrintAdaptiveSizePolicy
+     * </pre>
+     */
+    PRINT_ADAPTIVE_SIZE_POLICY,
+
+    /**
+     * The option to enable/disable outputting a class histogram in the gc logging when a thread dump is taken. For
+     * example:
+     * 
+     * <pre>
+     * -XX:+PrintClassHistogram
+     * </pre>
+     */
+    PRINT_CLASS_HISTOGRAM,
+
+    /**
+     * The option to enable/disable outputting a class histogram in the gc logging after every full gc. Replaced with
+     * "classhisto*=trace" in JDK11.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+PrintClassHistogramAfterFullGC
+     * </pre>
+     */
+    PRINT_CLASS_HISTOGRAM_AFTER_FULL_GC,
+
+    /**
+     * The option to enable/disable outputting a class histogram in the gc logging before every full gc. Replaced with
+     * "classhisto*=trace" in JDK11.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+PrintClassHistogramBeforeFullGC
+     * </pre>
+     */
+    PRINT_CLASS_HISTOGRAM_BEFORE_FULL_GC,
+
+    /**
+     * The option to enable/disable outputting code cache memory usage when the JVM exits. For example:
+     * 
+     * <pre>
+     * -XX:+PrintCodeCache
+     * </pre>
+     */
+    PRINT_CODE_CACHE,
+
+    /**
+     * The option to enable/disable outputting JVM command line options to standard out on JVM startup. For example:
+     * 
+     * <pre>
+     * -XX:+PrintCommandLineFlags
+     * </pre>
+     */
+    PRINT_COMMAND_LINE_FLAGS,
+
+    /**
+     * The option to enable/disable printing the list of locks being held by each thread when a thread dump is created
+     * using "kill -s &lt;pid&gt;". Disabled by default. Useful in the "old days" when thread dumps were captured with
+     * "kill -3", but now "jstack -l" commonly used, and it already has this information.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+PrintConcurrentLocks
+     * </pre>
+     */
+    PRINT_CONCURRENT_LOCKS,
+
+    /**
+     * The option to enable/disable outputting every JVM option and value to standard out on JVM startup. For example:
+     * 
+     * <pre>
+     * -XX:+PrintFlagsFinalparallelRefProcEnabled
+     * </pre>
+     */
+    PRINT_FLAGS_FINAL,
+
+    /**
+     * Option to enable printing CMS Free List Space statistics in gc logging. For example:
+     * 
+     * <pre>
+     * -XX:PrintFLSStatistics=1
+     * </pre>
+     */
+    PRINT_FLS_STATISTICS,
+
+    /**
+     * Option to enable/disable displaying detailed information about each gc event. Equivalent to
+     * <code>-verbose:gc</code>. For example:
+     * 
+     * <pre>
+     * -XX:+PrintGC
+     * </pre>
+     */
+    PRINT_GC,
+
+    /**
+     * The option to enable/disable printing application concurrent time in the gc logging. For example:
+     * 
+     * <pre>
+     * -XX:+PrintGCApplicationConcurrentTime
+     * </pre>
+     */
+    PRINT_GC_APPLICATION_CONCURRENT_TIME,
+
+    /**
+     * Option to enable/disable outputting application stopped time in gc logging. Deprecated in JDK9. For example:
+     * 
+     * <pre>
+     * -XX:+PrintGCApplicationStoppedTime
+     * </pre>
+     */
+    PRINT_GC_APPLICATION_STOPPED_TIME,
+
+    /**
+     * Option to enable/disable printing trigger information. Deprecated in JDK9, removed in JDK11. For example:
+     * 
+     * <pre>
+     * -XX:+PrintGCCause
+     * </pre>
+     */
+    PRINT_GC_CAUSE,
+
+    /**
+     * Option to enable/disable gc logging datestamps. Deprecated in JDK9. For example:
+     * 
+     * <pre>
+     * -XX:+PrintGCDateStamps
+     * </pre>
+     */
+    PRINT_GC_DATE_STAMPS,
+
+    /**
+     * Option to enable/disable printing gc details. Deprecated in JDK9. For example:
+     * 
+     * <pre>
+     * -XX:+PrintGCDetails
+     * </pre>
+     */
+    PRINT_GC_DETAILS,
+
+    /**
+     * Option to enable/disable printing task timestamp for each GC thread. For example:
+     * 
+     * <pre>
+     * -XX:+PrintGCTaskTimeStamps
+     * </pre>
+     */
+    PRINT_GC_TASK_TIME_STAMPS,
+
+    /**
+     * Option to enable/disable printing gc timestamps.
+     * 
+     * <pre>
+     * -XX:+PrintGCTimeStamps
+     * </pre>
+     */
+    PRINT_GC_TIME_STAMPS,
+
+    /**
+     * Option to enable/disable printing additional heap information in gc logging.
+     * 
+     * <pre>
+     * -XX:+PrintHeapAtGC
+     * </pre>
+     */
+    PRINT_HEAP_AT_GC,
+
+    /**
+     * Diagnostic option (requires </code>-XX:+UnlockDiagnosticVMOptions</code>) to enable/disable printing native
+     * memory tracking information.
+     * 
+     * <pre>
+     * -XX:+PrintNMTStatistics
+     * </pre>
+     */
+    PRINT_NMT_STATISTICS,
+
+    /**
+     * Option to enable/disable printing promotion failure information. For example:
+     * 
+     * <pre>
+     * -XX:+PrintPromotionFailure
+     * </pre>
+     */
+    PRINT_PROMOTION_FAILURE,
+
+    /**
+     * The option to enable/disable outputting times for reference processing (weak, soft, JNI) in gc logging. For
+     * example:
+     * 
+     * <pre>
+     * -XX:+PrintReferenceGC
+     * </pre>
+     */
+    PRINT_REFERENCE_GC,
+
+    /**
+     * Diagnostic option (requires </code>-XX:+UnlockDiagnosticVMOptions</code>) to enable/disable printing safepoint
+     * information. For example:
+     * 
+     * <pre>
+     *-XX:+UnlockDiagnosticVMOptions -XX:+PrintSafepointStatistics
+     * </pre>
+     */
+    PRINT_SAFEPOINT_STATISTICS,
+
+    /**
+     * The option to enable/disable outputting string deduplication statistics in gc logging. For example:
+     * 
+     * <pre>
+     * -XX:+PrintStringDeduplicationStatistics
+     * </pre>
+     */
+    PRINT_STRING_DEDUPLICATION_STATISTICS,
+
+    /**
+     * The option to enable/disable logging string pool statistics. For example:
+     * 
+     * <pre>
+     * -XX:+PrintStringTableStatistics
+     * </pre>
+     */
+    PRINT_STRING_TABLE_STATISTICS,
+
+    /**
+     * Option to enable/disable printing tenuring information in gc logging. Deprecated in JDK9, removed in JDK11.
+     * 
+     * <pre>
+     * -XX:+PrintTenuringDistribution
+     * </pre>
+     */
+    PRINT_TENURING_DISTRIBUTION,
+
+    /**
+     * Option to set the size (bytes) of the profiled code segment when {@link #SEGMENTED_CODE_CACHE} is enabled.
+     * 
+     * For example:
+     * 
+     * -XX:ProfiledCodeHeapSize=122916538
+     */
+    PROFILED_CODE_HEAP_SIZE,
+
+    /**
+     * It's not clear exactly what this option does. It takes only 2 values: "0" (default) or "1". Using other than the
+     * default (0) has caused past issues. Unceremoniously removed in JDK21 (not first deprecated).
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:RefDiscoveryPolicy=0
+     * </pre>
+     */
+    REF_DISCOVERY_POLICY,
+
+    /**
+     * Code cache size (default 240m), where the JVM stores the assembly language instructions of compiled code.
+     * 
+     * It's only necessary to set the max size, not min and max, for the following reasons:
+     * 
+     * 1) Memory is not allocated until needed, so setting a large code cache size only impacts reserved (virtual)
+     * memory, not allocated (physical) memory.
+     * 
+     * 2) Resizing the code cache is done in the background and does not affect performance.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:ReservedCodeCacheSize=256m
+     * </pre>
+     */
+    RESERVED_CODE_CACHE_SIZE,
+
+    /**
+     * Option to enable/disable dynamic resizing of the Promotion Local Allocation Buffers (PLABs). Each GC thread has
+     * two PLABs, one for the survivor space and one for the old space.
+     * 
+     * Can cause performance issues with the G1 collector for some loads; therefore, is sometimes disabled to decrease
+     * G1 GC pause time.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:-ResizePLAB
+     * </pre>
+     */
+    RESIZE_PLAB,
+
+    /**
+     * Option to enable/disable adaptive TLAB sizing.
+     * 
+     * <pre>
+     *-XX:+ResizeTLAB
+     * </pre>
+     */
+    RESIZE_TLAB,
+
+    /**
+     * Option to disable JVM signal handling. For example:
+     * 
+     * <pre>
+     * -Xrs
+     * </pre>
+     */
+    RS,
+
+    /**
+     * JVM option to load the Java Debug Wire Protocol (JDWP) library. Equivalent to -agentlib:jdwp.
+     * 
+     * For example:
+     * 
+     * -Xrunjdwp:transport=dt_socket,address=8787,server=y,suspend=n
+     */
+    RUNJDWP,
+
+    /**
+     * Parallel GC option to enable/disable a {@link GarbageCollector#PARALLEL_SCAVENGE} before every full GC
+     * ({@link GarbageCollector#PARALLEL_OLD} or {@link GarbageCollector#PARALLEL_SERIAL_OLD}). Enabled by default in
+     * JDK 1.5+.
+     * 
+     * For example:
+     * 
+     * -XX:+ScavengeBeforeFullGC
+     */
+    SCAVENGE_BEFORE_FULL_GC,
+
+    /**
+     * Option to enable/disable code cache segmentation.
+     * 
+     * Added in JDK9 and enabled by default when {@link #TIERED_COMPILATION} is enabled and
+     * {@link #RESERVED_CODE_CACHE_SIZE} >= 240MB.
+     * 
+     * With -XX:-SegmentedCodeCache, the code cache is one large segment. With -XX:+SegmentedCodeCache, there are
+     * separate segments for nonmethod, profiled method, and nonprofiled method code. This results in decreased memory
+     * footprint, reduced code fragmentation, and better iTLB and iCache behavior.
+     * 
+     * For example:
+     * 
+     * -XX:+SegmentedCodeCache
+     */
+    SEGMENTED_CODE_CACHE,
+
+    /**
+     * Option to enable the server JIT compiler, a separate Java binary optimized for overall performance.
+     * 
+     * Only useful on 32-bit JDKs because:
+     * 
+     * <ul>
+     * <li>64-bit JDKs include only the server compiler.</li>
+     * <li>32-bit JREs include only the client compiler.</li>
+     * <li>32-bit JDKs include both the client and server compiler.</li>
+     * </ul>
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -server
+     * </pre>
+     */
+    SERVER,
+
+    /**
+     * Option to define Shenandoah heuristics. Heuristics tell Shenandoah when to start the GC cycle and what regions to
+     * use for evacuation. Some heuristics accept additional configuration options to tailor GC to specific use cases.
+     * 
+     * For example:
+     * 
+     * <p>
+     * 1) adaptive (default)
+     * </p>
+     * 
+     * <pre>
+     * -XX:ShenandoahGCHeuristics=adaptive
+     * 
+     * -XX:ShenandoahInitFreeThreshold=#
+     * -XX:ShenandoahMinFreeThreshold=# 
+     * -XX:ShenandoahAllocSpikeFactor=# 
+     * -XX:ShenandoahGarbageThreshold=#
+     * </pre>
+     * 
+     * <p>
+     * 2) static
+     * </p>
+     * 
+     * <pre>
+     * -XX:ShenandoahGCHeuristics=static
+     * 
+     * -XX:ShenandoahInitFreeThreshold=# 
+     * -XX:ShenandoahGarbageThreshold=#
+     * </pre>
+     * 
+     * <p>
+     * 3) compact
+     * </p>
+     * 
+     * <pre>
+     * -XX:ShenandoahGCHeuristics=compact
+     * 
+     * -XX:ConcGCThreads=#
+     * -XX:ShenandoahAllocationThreshold=#
+     * </pre>
+     * 
+     * <p>
+     * 4) aggressive
+     * </p>
+     * 
+     * <pre>
+     * -XX:ShenandoahGCHeuristics=aggressive
+     * </pre>
+     */
+    SHENANDOAH_GC_HEURISTICS,
+
+    /**
+     * Option to specify Shenandoah GC mode.
+     * 
+     * For example:
+     * 
+     * <p>
+     * 1) Single generation. Runs a concurrent garbage collector (GC) with Snapshot-At-The-Beginning (SATB) marking
+     * similar to G1. Default.
+     * </p>
+     * 
+     * <pre>
+     * -XX:ShenandoahGCMode=satb
+     * </pre>
+     * 
+     * <p>
+     * 2) Generational. Experimental in JDK24, supported in JDK25.
+     * </p>
+     * 
+     * <pre>
+     * -XX:ShenandoahGCMode=generational
+     * </pre>
+     */
+    SHENANDOAH_GC_MODE,
+
+    /**
+     * Experimental option (requires {@link #UNLOCK_EXPERIMENTAL_VM_OPTIONS} enabled) to specify the number of
+     * milliseconds for a guaranteed GC cycle.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+UnlockExperimentalVMOptions -XX:ShenandoahGuaranteedGCInterval=20000
+     * </pre>
+     */
+    SHENANDOAH_GUARANTEED_GC_INTERVAL,
+
+    /**
+     * The minimum percentage of free space at which heuristics triggers the GC unconditionally. For example:
+     * 
+     * <pre>
+     * -XX:ShenandoahMinFreeThreshold=10
+     * </pre>
+     */
+    SHENANDOAH_MIN_FREE_THRESHOLD,
+
+    /**
+     * Option to set the size (bytes) of the "soft" heap maximum for the Shenandoah collector. Used to minimize process
+     * size and still handling bursts. The JVM would only exceed the "soft" max heap size to avoid something like
+     * OutOfMemoryError.
+     * 
+     * Replaced by SoftMaxHeapSize in JDK17, a more general setting that applies to both the Shenandoah collector and
+     * ZGC.
+     * 
+     * For example:
+     * 
+     * -XX:ShenandoahSoftMaxHeapSize=4294967296
+     */
+    SHENANDOAH_SOFT_MAX_HEAP_SIZE,
+
+    /**
+     * Experimental option (requires {@link #UNLOCK_EXPERIMENTAL_VM_OPTIONS} enabled) to specify the number of
+     * milliseconds before unused memory in the page cache is evicted (default 5 minutes). Setting below 1 second can
+     * cause allocation stalls. For example:
+     * 
+     * <pre>
+     * -XX:+UnlockExperimentalVMOptions -XX:ShenandoahUncommitDelay=5000
+     * </pre>
+     */
+    SHENANDOAH_UNCOMMIT_DELAY,
+
+    /**
+     * Option to set the size (bytes) of the "soft" heap maximum. Used to minimize process size and still handling
+     * bursts. The JVM would only exceed the "soft" max heap size to avoid something like OutOfMemoryError.
+     * 
+     * Introduced in JD17 to replace ShenandoahSoftMaxHeapSize.
+     * 
+     * For example:
+     * 
+     * -XX:SoftMaxHeapSize=4294967296
+     */
+    SOFT_MAX_HEAP_SIZE,
+
+    /**
+     * Option to set the time in milliseconds (1000 default) per free megabyte in the heap that a softly reachable
+     * object is kept active on the heap after the last time it is referenced. For example:
+     * 
+     * <pre>
+     * -XX:SoftRefLRUPolicyMSPerMB=10
+     * </pre>
+     */
+    SOFT_REF_LRU_POLICY_MS_PER_MB,
+
+    /**
+     * The option for starting JDK Flight Recorder (JFR). For example:
+     * 
+     * <p>
+     * With colon:
+     * </p>
+     * 
+     * <pre>
+     * -XX:StartFlightRecording:filename=recording.jfr,dumponexit=true,settings=default.jfc
+     * </pre>
+     * 
+     * <p>
+     * With equal sign:
+     * </p>
+     * 
+     * <pre>
+     * -XX:StartFlightRecording=duration=200s,filename=flight.jfr
+     * </pre>
+     */
+    START_FLIGHT_RECORDING,
+
+    /**
+     * Option to set the number of <code>String</code>s to pool in the String table to optimize memory.
+     * 
+     * The String.intern() method is used to intern a String object and store it inside the string pool for reuse. This
+     * is done automatically at compile time.
+     * 
+     * The String table is in the permanent generation in JDK 6/7 and moved to the Java heap in JDK8.
+     * 
+     * The default size is 1009 (JDK6) and 60013 (JDK7+).
+     * 
+     * <pre>
+     * -XX:StringTableSize=1000003
+     * </pre>
+     */
+    STRING_TABLE_SIZE,
+
+    /**
+     * The option for setting the size of the eden space compared to ONE survivor space. Default 8.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:SurvivorRatio=6
+     * </pre>
+     */
+    SURVIVOR_RATIO,
+
+    /**
+     * JVM options used to define system properties.
+     * 
+     * For example:
+     * 
+     * -Dcatalina.base=/path/to/tomcat
+     */
+    SYSTEM_PROPERTY,
+
+    /**
+     * The option for setting the percentage of the survivor space allowed to be occupied. Default 50.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:TargetSurvivorRatio=90
+     * </pre>
+     * 
+     * @return the option if it exists, null otherwise.
+     */
+    TARGET_SURVIVOR_RATIO,
+
+    /**
+     * The option for setting the the Java Threads API policy to one of two values:
+     * 
+     * 0: Normal (default):
+     * 
+     * Linux: Thread priorities are ignored altogether.
+     * 
+     * Windows: Allowed to use higher native priorities, with the exception of THREAD_PRIORITY_TIME_CRITICAL.
+     * 
+     * Solaris: Priorities below NORM_PRIORITY are mapped to lower native priorities, higher than NORM_PRIORITY are
+     * mapped to normal native priority.
+     * 
+     * 1: Aggressive:
+     * 
+     * Thread priorities map to the entire range of thread priorities. Should be used with care, as it can cause
+     * performance degradation in the application and/or the entire system.
+     * 
+     * Requires root access on Linux. There was a bug in JDK8 where only -XX:ThreadPriorityPolicy=1 was checked for root
+     * permissions, allowing non-root user to set the aggressive policy with a value other than 1 (e.g.
+     * -XX:ThreadPriorityPolicy=42). This back door has been closed in JDK11, which only allows values of 0 or 1.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:ThreadPriorityPolicy=1
+     * </pre>
+     * 
+     * @return the option if it exists, null otherwise.
+     */
+    THREAD_PRIORITY_POLICY,
+
+    /**
+     * Thread stack size. Specified with either <code>-Xss</code> or <code>-ss</code> with optional units [kKmMgG] or
+     * <code>-XX:ThreadStackSize</code> with optional units [kKmMgG] representing kilobytes. For example:
+     * 
+     * <pre>
+     * -Xss524288 (524288 bytes)
+     * </pre>
+     * 
+     * <pre>
+     * -Xss256k (256 kilobytes)
+     * </pre>
+     * 
+     * <pre>
+     * -XX:ThreadStackSize=128 (128 _kilobytes_)
+     * </pre>
+     * 
+     * <pre>
+     * -XX:ThreadStackSize=128k (128 _megabytes_)
+     * </pre>
+     * 
+     * The <code>-Xss</code> option does not work on Solaris, only <code>-XX:ThreadStackSize</code>.
+     * 
+     */
+    THREAD_STACK_SIZE,
+
+    /**
+     * The option for setting the number of method executions before a method is compiled with the C1 (client) compiler
+     * with invocation and backedge counters.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:Tier2CompileThreshold=2000
+     * </pre>
+     * 
+     * @return the option if it exists, null otherwise.
+     */
+    TIER2_COMPILE_THRESHOLD,
+
+    /**
+     * The option for setting the number of method executions before a method is compiled with the C1 (client) compiler
+     * with full profiling.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:Tier3CompileThreshold=2000
+     * </pre>
+     * 
+     * @return the option if it exists, null otherwise.
+     */
+    TIER3_COMPILE_THRESHOLD,
+
+    /**
+     * The option for setting the number of method executions before a method is compiled with the C2 (server) compiler.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:Tier4CompileThreshold=15000
+     * </pre>
+     * 
+     * @return the option if it exists, null otherwise.
+     */
+    TIER4_COMPILE_THRESHOLD,
+
+    /**
+     * Option to enable/disable tiered compilation. Introduced in JDK7 and enabled by default in JDK8+
+     * 
+     * The JVM contains 2 Just in Time (JIT) compilers:
+     * 
+     * C1: Called the "client" compiler because it was originally designed with GUI applications in mind, where fast
+     * startup is required.
+     * 
+     * C2: Called the "server" compiler because it was originally designed with long running server applications in
+     * mind, aggressive optimization and performance is required.
+     * 
+     * The C1 compiler first compiles the code quickly to provide better startup performance. After the application is
+     * warmed up, the C2 compiler compiles the code again with more aggressive optimizations for better performance.
+     * 
+     * It typically improves performance; however, there are the following use cases for disabling it:
+     * 
+     * <ul>
+     * <li>Small memory footprint use cases (e.g. container).</li>
+     * <li>It causes performance issues (e.g. <a href=
+     * "https://bugzilla.redhat.com/show_bug.cgi?id=1420222">https://bugzilla.redhat.com/show_bug.cgi?id=1420222</a>)
+     * </li>
+     * </ul>
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+TieredCompilation
+     * </pre>
+     */
+    TIERED_COMPILATION,
+
+    /**
+     * Option to set the minimum allowed Thread Local Allocation Buffers (TLAB) size.
+     * 
+     * The TLAB is a memory space dedicated to each thread where new objects can be created, a synchronization strategy
+     * to avoid 2 threads creating an object in the same address space.
+     * 
+     * If set to 0 (default), JVM ergonomics determine the initial size.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:TLABSize=64k
+     * </pre>
+     */
+    TLAB_SIZE,
+
+    /**
+     * Option to enable/disable tracing class loading. Removed in JDK17. For example:
+     * 
+     * <pre>
+     * -XX:+TraceClassLoading.
+     * </pre>
+     */
+    TRACE_CLASS_LOADING,
+
+    /**
+     * Option to enable/disable class loading/unloading information in gc log. Disabled by default. Deprecated in JDK11
+     * and translated to <code>-Xlog:class+unload=off</code>. Removed in JDK17.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:-TraceClassUnloading
+     * </pre>
+     */
+    TRACE_CLASS_UNLOADING,
+
+    /**
+     * Option to enable/disable commercial features. This is a Oracle legacy flag from a time when some functionality
+     * required a commercial license (e.g. Flight Recorder).
+     * 
+     * Obsoleted in JDK11: https://bugs.openjdk.org/browse/JDK-8202331.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+UnlockCommercialFeatures
+     * </pre>
+     */
+    UNLOCK_COMMERCIAL_FEATURES,
+
+    /**
+     * Option to enable/disable diagnostic options. For example:
+     * 
+     * <pre>
+     * -XX:+UnlockDiagnosticVMOptions
+     * </pre>
+     */
+    UNLOCK_DIAGNOSTIC_VM_OPTIONS,
+
+    /**
+     * Option to enable/disable experimental options. For example:
+     * 
+     * <pre>
+     * -XX:+UnlockExperimentalVMOptions
+     * </pre>
+     */
+    UNLOCK_EXPERIMENTAL_VM_OPTIONS,
+
+    /**
+     * Diagnostic option (-requires {@link #UNLOCK_DIAGNOSTIC_VM_OPTIONS} enabled) to enable/disable parallel class
+     * loading. Disabled by default and deprecated in JDK11.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+UnlockDiagnosticVMOptions -XX:+UnsyncloadClass
+     * </pre>
+     */
+    UNSYNCLOAD_CLASS,
+
+    /**
+     * Option to enable/disable ergonomic option that resizes generations to meet pause and throughput goals and
+     * minimize footprint. For example:
+     * 
+     * <pre>
+     * -XX:+UseAdaptiveSizePolicy
+     * </pre>
+     */
+    USE_ADAPTIVE_SIZE_POLICY,
+
+    /**
+     * The compiler AVX instruction set level. For example:
+     * 
+     * <pre>
+     * -XX:UseAVX=0 (disabled)
+     * </pre>
+     */
+    USE_AVX,
+
+    /**
+     * Option to enable/disable biased locking. Enabled by default in JDK8/11, deprecated and disabled by default in
+     * JDK17, and removed in JDK21.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:-UseBiasedLocking
+     * </pre>
+     */
+    USE_BIASED_LOCKING,
+
+    /**
+     * Option to enable/disable full collections being handled by the concurrent CMS collector, a normal "background"
+     * collection being run in the "foreground" within a safepoint. It is very slow and has no real use cases, so was
+     * deprecated in JDK8 and removed in JDK9.
+     * 
+     * It is disabled by default (the SERIAL_OLD collector is used).
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+UseCMSCompactAtFullCollection
+     * </pre>
+     */
+    USE_CMS_COMPACT_AT_FULL_COLLECTION,
+
+    /**
+     * The option for disabling heuristics (calculating anticipated promotions) and use only the occupancy fraction to
+     * determine when to trigger a CMS cycle. When an application has large variances in object allocation and young
+     * generation promotion rates, the CMS collector is not able to accurately predict when to start the CMS cycle. For
+     * example:
+     * 
+     * <pre>
+     * -XX:+UseCMSInitiatingOccupancyOnly
+     * </pre>
+     */
+    USE_CMS_INITIATING_OCCUPANCY_ONLY,
+
+    /**
+     * Option to enable/disable code cache flushing. Enabled by default. If disabled, the JIT compiler stops compiling
+     * methods when the codecache fills and logs "CodeCache is full. Compiler has been disabled.".
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+UseCodeCacheFlushing
+     * </pre>
+     */
+    USE_CODE_CACHE_FLUSHING,
+
+    /**
+     * Option to enable/disable compressed class pointers. Defaults {@link #USE_COMPRESSED_OOPS} prior to JDK15, true
+     * otherwise.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:-UseCompressedClassPointers
+     * </pre>
+     */
+    USE_COMPRESSED_CLASS_POINTERS,
+
+    /**
+     * Option to enable/disable compressed object pointers. Default true if {@link #MAX_HEAP_SIZE} <= 32g and not
+     * {@link org.github.joa.domain.GarbageCollector#ZGC_NON_GENERATIONAL} and not
+     * {@link org.github.joa.domain.GarbageCollector#ZGC_GENERATIONAL}, false otherwise.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:-UseCompressedOops
+     * </pre>
+     */
+    USE_COMPRESSED_OOPS,
+
+    /**
+     * Option to enable/disable the CMS old collector. Deprecated in JDK9 and removed in JDK14.
+     * 
+     * For example:
+     * 
+     * -XX:+UseConcMarkSweepGC
+     */
+    USE_CONC_MARK_SWEEP_GC,
+
+    /**
+     * Option to enable/disable conditional dirty card marking.
+     * 
+     * For example:
+     * 
+     * -XX:+UseCondCardMark
+     */
+    USE_COND_CARD_MARK,
+
+    /**
+     * Option to enable/disable the JVM setting default threading based on container, not host, information by reading
+     * cgroups cpu and memory settings. Added in JDK8 u191 and enabled by default.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+UseContainerSupport
+     * </pre>
+     */
+    USE_CONTAINER_SUPPORT,
+
+    /**
+     * Option to enable/disable keeping safepoints in counted loops. For example:
+     * 
+     * <pre>
+     * -XX:+UseCountedLoopSafepoints
+     * </pre>
+     */
+    USE_COUNTED_LOOP_SAFEPOINTS,
+
+    /**
+     * Experimental option (requires {@link #UNLOCK_EXPERIMENTAL_VM_OPTIONS} enabled) option to enable/disabled cgroup
+     * memory limit for heap sizing.
+     * 
+     * <pre>
+     * -XX:+UnlockExperimentalVMOptions -XX:+UseCGroupMemoryLimitForHeap
+     * </pre>
+     */
+    USE_C_GROUP_MEMORY_LIMIT_FOR_HEAP,
+
+    /**
+     * Option to enable/disable ergonomic option to manage the number of compiler threads. For example:
+     * 
+     * <pre>
+     * -XX:+UseDynamicNumberOfCompilerThreads
+     * </pre>
+     */
+    USE_DYNAMIC_NUMBER_OF_COMPILER_THREADS,
+
+    /**
+     * Option to enable/disable ergonomic option to manage the number of parallel garbage collector threads. Enabled by
+     * default in JDK11+.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+UseDynamicNumberOfGCThreads
+     * </pre>
+     */
+    USE_DYNAMIC_NUMBER_OF_GC_THREADS,
+
+    /**
+     * Option to enable/disable using optimized versions of Get<Primitive>Field. Removed in JDK11.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:-UseFastAccessorMethods
+     * </pre>
+     */
+    USE_FAST_ACCESSOR_METHODS,
+
+    /**
+     * <p>
+     * An option to enable/disable fast unordered timestamps in gc logging that is both experimental (requires
+     * {@link #UNLOCK_EXPERIMENTAL_VM_OPTIONS} to be used explicitly) and enabled by JVM ergonomics (on hardware that
+     * supports invariant tsc (INVTSC) registers).
+     * </p>
+     * 
+     * <p>
+     * See <a href="https://github.com/openjdk/jdk/blob/master/src/hotspot/cpu/x86/rdtsc_x86.cpp">rdtsc_x86.cpp</a>
+     * </p>
+     * 
+     * <p>
+     * For example:
+     * </p>
+     * 
+     * <pre>
+     * -XX:+UnlockExperimentalVMOptions -XX:+UseFastUnorderedTimeStamps
+     * </pre>
+     */
+    USE_FAST_UNORDERED_TIME_STAMPS,
+
+    /**
+     * The option to enable/disable the G1 collector. G1 was made the default collector in JDK9.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+UseG1GC
+     * </pre>
+     */
+    USE_G1_GC,
+
+    /**
+     * Option to enable/disable gc log file rotation.
+     * 
+     * The name specified by {@link #LOGGC} will be given a number extension (starting with 0) up to
+     * {@link #NUMBER_OF_GC_LOG_FILES}. The current gc file will have an additional ".current" extension.
+     * 
+     * If {@link #LOGGC} = gc.log and {@link #NUMBER_OF_GC_LOG_FILES} > 1, logging would begin with gc.log.0.current.
+     * When {@link #GC_LOG_FILE_SIZE} is reached, gc.log.2.current would be created and logging directed to that file,
+     * and gc.log.0.current would be reneamed to gc.log.0.
+     * 
+     * For example:
+     * 
+     * -XX:+UseGCLogFileRotation
+     */
+    USE_GC_LOG_FILE_ROTATION,
+
+    /**
+     * Option to enable/disable "OutOfMemoryError: GC overhead limit exceeded" when 98% of the total time is spent in
+     * garbage collection and less than 2% of the heap is recovered. This feature is a throttle to prevent applications
+     * from running for an extended period of time while making little or no progress because the heap is too small.
+     * Enabled by default. Applies only to the CMS and Parallel collectors.
+     * 
+     * For example:
+     * 
+     * -XX:-UseGCOverheadLimit
+     */
+    USE_GC_OVERHEAD_LIMIT,
+
+    /**
+     * Linux specific option to enable/disable the JVM to use large pages using POSIX APIs for static hugepages.
+     * Explicitly mmap() large pages using MAP_HUGETLB.
+     * 
+     * This is the default Linux static hugepages backing, so it is equivalent to {@link #USE_LARGE_PAGES}.
+     * 
+     * This option is obsoleted in JDK22 due to the alternate implementation, @link #useSHM}, being obsoleted. It is
+     * always true with {@link #USE_LARGE_PAGES}.
+     * 
+     * HugeTLB pages are a pool of memory preallocated by Linux. Therefore, this option alone does not guarantee large
+     * pages will be used. The kernel has to be configured appropriately.
+     * 
+     * When the JVM starts, it attempts to reserve all memory up front from the HugeTLB (explicit hugepages) pool. If
+     * there are not enough large pages available to back the memory, the JVM will revert to using normal pages.
+     * 
+     * Advantages over Transparent Hugepages (THP) [see {@link #USE_TRANSPARENT_HUGE_PAGES}]: (1) Increased throughput
+     * (no `defrag` stalls). (2) More control.
+     * 
+     * Disadvantages over THPs: (1) Increased memory footprint due to having to commit all memory on JVM startup. (2)
+     * Harder to set up.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+UseHugeTLBFS
+     * </pre>
+     */
+    USE_HUGE_TLBFS,
+
+    /**
+     * Umbrella option to enable/disable the JVM to use large pages.
+     * 
+     * Large pages can help the OS avoid Translation Lookaside Buffer (TLB) misses. Recent virtual/physical memory
+     * mappings are stored in the TLB cache. Addresses not found in the TLB require a time consuming process called a
+     * page walk to look up the page table. Large pages map memory with a larger granularity, which increases the chance
+     * of a TLB hit.
+     * 
+     * The JVM being configured to use large pages does not guarantee that large pages will actually be used. The OS has
+     * to be configured to provide the large page backing, or regular pages will be used.
+     * 
+     * On Linux, there are 3 large pages backings:
+     * 
+     * <ul>
+     * <li>HugeTLB pages (static hugepages) using POSIX APIs to explicitly mmap() large pages using MAP_HUGETLB
+     * (explicit hugepages). See {@link #USE_HUGE_TLBFS}.</li>
+     * <li>System V APIs to create a shared memory segment using shmget() and SHM_HUGETLB. It offers no advantages over
+     * explicit hugepages and has been obsoleted in JDK22. See {@link #USE_SHM}.</li>
+     * <li>Transparent Hugepages (THP). see {@link #USE_TRANSPARENT_HUGE_PAGES}.</li>
+     * 
+     * On Linux, if no backing is specified, the JVM first tries to use MAP_HUGETLB, then SHM_HUGETLB.
+     * 
+     * The Windows backing is very similar to HugeTLB pages on Linux. It requires registry configuration, and the whole
+     * reservation backed by large pages is committed on JVM startup.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+UseLargePages
+     * </pre>
+     */
+    USE_LARGE_PAGES,
+
+    /**
+     * Option to enable/disable a workaround for Windows 2003. Disabled by default, and the workaround is no longer
+     * needed in later releases.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+UseLargePagesIndividualAllocation
+     * </pre>
+     */
+    USE_LARGE_PAGES_INDIVIDUAL_ALLOCATION,
+
+    /**
+     * Option to enable/disable the JVM to use large pages for metaspace. Deprecated in JDK15 and removed in JDK17.
+     * Reference: https://bugs.openjdk.org/browse/JDK-8243161.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+UseLargePagesInMetaspace
+     * </pre>
+     */
+    USE_LARGE_PAGES_IN_METASPACE,
+
+    /**
+     * The option to enable/disable a strict memory barrier. For example:
+     * 
+     * <pre>
+     * -XX:+UseMembar
+     * </pre>
+     */
+    USE_MEMBAR,
+
+    /**
+     * Option to enable/disable dedicated memory space per processor.
+     * 
+     * Disabled by default.
+     * 
+     * Can be enabled indirectly with ({@link #USE_SHENANDOAH_GC}) and ({@link #USE_Z_GC}).
+     * 
+     * Enabling either directly or indirectly is conditional based on os::Linux::libnuma_init(), which does some checks
+     * if the hardware supports it (e.g. more than one node), and based on those checks can set it back to "false".
+     * 
+     * For example:
+     * 
+     * <pre>
+     *-XX:+UseNUMA
+     * </pre>
+     */
+    USE_NUMA,
+
+    /**
+     * Option to enable/disable interleaving memory across NUMA nodes, if available.
+     * 
+     * For example:
+     * 
+     * <pre>
+     *-XX:+UseNUMAInterleaving
+     * </pre>
+     */
+    USE_NUMA_INTERLEAVING,
+
+    /**
+     * Option to enable/disable the parallel scavenge young garbage collector. The parallel collector was made the
+     * default collector in JDK7u4.
+     * 
+     * For example:
+     * 
+     * -XX:+UseParallelGC
+     */
+    USE_PARALLEL_GC,
+
+    /**
+     * Option to enable/disable the parallel multi-threaded old garbage collector. Redundant in JDK7/8/11, deprecated in
+     * JDK15, and removed in JDK16.
+     * 
+     * Disabling it in combination with specifying the CMS young collector (e.g. -XX:+ParNew -XX:-UseParallelOldGC) has
+     * the affect of using the CMS young collector in combination with the serial old collector.
+     * 
+     * For example:
+     * 
+     * -XX:+UseParallelOldGC
+     */
+    USE_PARALLEL_OLD_GC,
+
+    /**
+     * The option to enable/disable the CMS young collector. The use case for this option is to -disable the CMS young
+     * (parallel) collector with -XX:-UseParNewGC to force using the serial new collector.
+     * 
+     * Deprecated in JDK8 and removed in JDK9 (i.e. you can only use the CMS young collector in combination with the CMS
+     * old collector in JDK9+).
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+UseParNewGC
+     * </pre>
+     */
+    USE_PAR_NEW_GC,
+
+    /**
+     * The option to enable/disable outputting performance data to disk (/tmp/hsperfdata*) and via JMX. For example:
+     * 
+     * <pre>
+     * -XX:-UsePerfData
+     * </pre>
+     */
+    USE_PERF_DATA,
+
+    /**
+     * Option to enable/disable the Serial garbage collector. For example:
+     * 
+     * -XX:+UseSerialGC
+     */
+    USE_SERIAL_GC,
+
+    /**
+     * Option to enable/disable the Shenandoah garbage collector. For example:
+     * 
+     * -XX:+UseShenandoahGC
+     */
+    USE_SHENANDOAH_GC,
+
+    /**
+     * Linux specific option to enable/disable the JVM to use large pages using System V APIs for static hugepages.
+     * create a shared memory segment using shmget() and SHM_HUGETLB
+     * 
+     * This is an alternate implementation to {@link #USE_HUGE_TLBFS} that offers no advantages and has been obsoleted
+     * in JDK22 (along with {@link #USE_HUGE_TLBFS}). See: https://bugs.openjdk.org/browse/JDK-8315498.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+UseSHM
+     * </pre>
+     */
+    USE_SHM,
+
+    /**
+     * The option to enable/disable using a new type checker introduced in JDK5 with StackMapTable attributes. Mandatory
+     * in JDK8+. Ignored in JDK8 and unrecognized in JDK11+.
+     * 
+     * <pre>
+     * -XX:-UseSplitVerifier
+     * </pre>
+     */
+    USE_SPLIT_VERIFIER,
+
+    /**
+     * The option to enable/disable caching of commonly allocated strings. Ignored in JDK8 and removed in JDK11+.
+     * 
+     * <pre>
+     * -XX:+UseStringCache
+     * </pre>
+     */
+    USE_STRING_CACHE,
+
+    /**
+     * The option to enable/disable string deduplication to minimize string footprint. The performance impact is minimal
+     * (some cpu cycles to run the concurrent deduplication process).
+     * 
+     * Disabled by default.
+     * 
+     * Implemented in JDK8u20 for the G1 collector.
+     * 
+     * Support for Shenandoah added in JDK17 (Reference: https://bugs.openjdk.org/browse/JDK-8264718).
+     * 
+     * Support for ZGC, SerialGC, and ParallelGC added in JDK18.
+     * 
+     * <pre>
+     * -XX:+UseStringDeduplication
+     * </pre>
+     */
+    USE_STRING_DEDUPLICATION,
+
+    /**
+     * Option to enable(default)/disable the use of the Java Threads API (e.g. java.lang.Thread.setPriority() can be
+     * used to manually set thread priority to override the JVM thread scheduler default priority).
+     * 
+     * When disabled, any Java Threads API calls have no affect.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:-UseThreadPriorities
+     * </pre>
+     */
+    USE_THREAD_PRIORITIES,
+
+    /**
+     * Option to enable/disable a thread-local allocation buffer. Using thread-local object allocation blocks improve
+     * concurrency by reducing contention on the shared heap lock, allowing for more scalable allocation for heavily
+     * threaded applications, increasing allocation performance. Enabled by default on multiprocessor systems.
+     * 
+     * <pre>
+     * -XX:+UseTLAB
+     * </pre>
+     */
+    USE_TLAB,
+
+    /**
+     * Option to enable/disable the JVM to use large pages on Linux using Transparent Hugepages (THP).
+     * 
+     * This option alone does not guarantee large pages will be used. The kernel has to be configured appropriately.
+     * 
+     * The kernel must have the transparent_hugepage mode set to `madvise` (or `always'):
+     * 
+     * <pre>
+     * # echo "madvise" > /sys/kernel/mm/transparent_hugepage/enabled
+     * </pre>
+     * 
+     * THPs will then be used for JVM calls using madvise() with the MADV_HUGEPAGE flag. If there are not enough THPs to
+     * satisfy the request, the kernel will `defrag` to try to free up enough contiguous memory to satisfy the request.
+     * 
+     * 'defrag' can be configured to not stall if sufficient large pages are not available, at the likely cost of
+     * decreased throughput.
+     * 
+     * THP advantages over HugeTLB pages: (1) Smaller memory footprint due to not have to commit all memory on JVM
+     * startup. (2) Simpler to set up.
+     * 
+     * THP disadvantage over HugeTLB pages: (1) 'defrag' can cause latency (decreased throughput). (2) Less control.
+     * 
+     * See {@link #USE_HUGE_TLBFS}.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:+UseTransparentHugePages
+     * </pre>
+     */
+    USE_TRANSPARENT_HUGE_PAGES,
+
+    /**
+     * Option to enable/disable making Solaris interruptible blocking I/O noninterruptible as they are on Linux and
+     * Windows. Deprecated in JDK8 and removed in JDK11.
+     */
+    USE_VM_INTERRUPTIBLE_IO,
+
+    /**
+     * Option to enable/disable the Z garbage collector (ZGC).
+     * 
+     * ZGC uses shmem huge pages, not Transparent Hugepages (THP) [see {@link #USE_TRANSPARENT_HUGE_PAGES}], for the
+     * heap and requires the shmem_enabled mode be set to 'advise':
+     * 
+     * # echo advise > /sys/kernel/mm/transparent_hugepage/shmem_enabled
+     * 
+     * For example:
+     * 
+     * -XX:+UseZGC
+     */
+    USE_Z_GC,
+
+    /**
+     * Option to enable logging (to standard out) class loading information.
+     * 
+     * -verbose:class
+     */
+    VERBOSE_CLASS,
+
+    /**
+     * Option to enable displaying detailed information about each gc event. Equivalent to <code>-XX:+PrintGC</code>.
+     * 
+     * -verbose:gc
+     */
+    VERBOSE_GC,
+
+    /**
+     * Option to enable JNI logging. Information about native methods and other JNI activity is sent to standard out.
+     * For example:
+     * 
+     * <pre>
+     * -verbose:jni
+     * </pre>
+     */
+    VERBOSE_JNI,
+
+    /**
+     * Option to specify class verification during class loading.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -Xverify
+     * -Xverify:all
+     * -Xverify:none
+     * -Xverify:remote
+     * </pre>
+     */
+    VERIFY,
+
+    /**
+     * Option to disable just in time (JIT) compilation. For example:
+     * 
+     * <pre>
+     * -Xint
+     * </pre>
+     */
+    X_INT,
+
+    /**
+     * Diagnostic option (requires <code>-XX:+UnlockDiagnosticVMOptions</code>) for setting the ZGC async unmapping
+     * limit in JDK21+.
+     *
+     * For example:
+     * 
+     * <pre>
+     * -XX:ZAsyncUnmappingLimit=100
+     * </pre>
+     */
+    Z_ASYNC_UNMAPPING_LIMIT,
+
+    /**
+     * Option to enable/disable generational ZGC. Added JDK21.
+     * 
+     * For example:
+     * 
+     * <pre>
+     *-XX:+ZGenerational
+     * </pre>
+     */
+    Z_GENERATIONAL,
+
+    /**
+     * The size of the ZGC marking stack space.
+     * 
+     * <pre>
+     * -XX:ZMarkStackSpaceLimit=123456789
+     * -XX:ZMarkStackSpaceLimit=10g
+     * </pre>
+     */
+    Z_MARK_STACK_SPACE_LIMIT,
+
+    /**
+     * Diagnostic option (requires <code>-XX:+UnlockDiagnosticVMOptions</code>) for setting the interval (in seconds)
+     * for outputting ZGC statistics in gc logging (default 10).
+     *
+     * For example:
+     * 
+     * <pre>
+     * -XX:ZStatisticsInterval=100
+     * </pre>
+     */
+    Z_STATISTICS_INTERVAL,
+
+    /**
+     * Option to enable/disable ZGC returning memory to the OS (enabled by default).
+     * 
+     * For example:
+     * 
+     * <pre>
+     *-XX:-ZUncommit
+     * </pre>
+     */
+    Z_UNCOMMIT,
+
+    /**
+     * Used to specify how aggressively ZGC uncommits memory. The number of seconds before is eligible to be evicted
+     * (default 300 = 5 minutes). Committing/uncommitting memory is relatively expensive, so setting too low could
+     * result in increased cpu and decreased application performance.
+     * 
+     * For example:
+     * 
+     * <pre>
+     * -XX:ZUncommitDelay=240
+     * </pre>
+     */
+    Z_UNCOMMIT_DELAY;
+
+    /**
+     * The options, by ordinal.
+     */
+    private static final JvmOption[] OPTIONS = values();
+
+    /**
+     * Options recognized by prefix alone, as the value can follow the option without a separator (e.g.
+     * <code>-Xbootclasspath/a:path</code>, <code>-eafoo</code>).
+     */
+    private static final JvmOption[] PREFIXED = { BOOTCLASSPATH, CLASSPATH, ENABLE_ASSERTIONS };
+
+    /**
+     * Find the <code>JvmOption</code> an option string identifies.
+     * 
+     * @param option
+     *            The JVM option (e.g. <code>-XX:+UseG1GC</code>).
+     * @return The <code>JvmOption</code> the option identifies, or null if the option is not recognized.
+     */
+    public static final JvmOption find(final CharSequence option) {
+        JvmOption jvmOption = null;
+        JvmOptionToken name = getNameToken(option);
+        if (name != null) {
+            int[] candidates = JvmOptionCatalog.getCandidates(name);
+            if (candidates != null) {
+                for (int i = 0; i < candidates.length && jvmOption == null; i++) {
+                    if (OPTIONS[candidates[i]].accepts(option)) {
+                        jvmOption = OPTIONS[candidates[i]];
+                    }
+                }
+            }
+            if (jvmOption == null) {
+                jvmOption = find(PREFIXED, option);
+            }
+        }
+        return jvmOption;
+    }
+
+    /**
+     * @param candidates
+     *            Candidate options.
+     * @param option
+     *            The JVM option.
+     * @return The first candidate that accepts the option string, or null if none does.
+     */
+    private static JvmOption find(final JvmOption[] candidates, final CharSequence option) {
+        JvmOption jvmOption = null;
+        if (candidates != null) {
+            for (int i = 0; i < candidates.length && jvmOption == null; i++) {
+                if (candidates[i].accepts(option)) {
+                    jvmOption = candidates[i];
+                }
+            }
+        }
+        return jvmOption;
+    }
+
+    /**
+     * Get the dispatch name of an option string:
+     * 
+     * <ul>
+     * <li><code>-XX:</code> options: The name between the "+"/"-" sign and any "=" or ":" (e.g. <code>UseG1GC</code>,
+     * <code>MaxHeapSize</code>).</li>
+     * <li><code>--</code> options: Everything up to any "=" (e.g. <code>--add-opens</code>).</li>
+     * <li><code>-D</code> system properties: <code>-D</code>.</li>
+     * <li>Other options: The "-" and following letters (e.g. <code>-Xmx</code>, <code>-verbose</code>).</li>
+     * </ul>
+     * 
+     * @param option
+     *            The JVM option.
+     * @return The option name, or null if the string is not an option.
+     */
+    public static final String getName(final CharSequence option) {
+        return JvmOptionToken.toString(getNameToken(option));
+    }
+
+    /**
+     * @param option
+     *            The JVM option.
+     * @return The option name (see {@link #getName(CharSequence)}) as a token sharing the characters of the option,
+     *         or null if the string is not an option.
+     */
+    private static JvmOptionToken getNameToken(final CharSequence option) {
+        JvmOptionToken name = null;
+        if (option != null && option.length() > 1 && option.charAt(0) == '-') {
+            int length = option.length();
+            int begin = 0;
+            int end;
+            if (regionMatches(option, 0, "-XX:")) {
+                begin = 4;
+                if (length > begin && (option.charAt(begin) == '+' || option.charAt(begin) == '-')) {
+                    begin++;
+                }
+                end = begin;
+                while (end < length && option.charAt(end) != '=' && option.charAt(end) != ':') {
+                    end++;
+                }
+            } else if (option.charAt(1) == '-') {
+                end = 2;
+                while (end < length && option.charAt(end) != '=') {
+                    end++;
+                }
+            } else if (option.charAt(1) == 'D') {
+                end = 2;
+            } else {
+                end = 1;
+                while (end < length && isLetter(option.charAt(end))) {
+                    end++;
+                }
+            }
+            if (option instanceof JvmOptionToken) {
+                name = (JvmOptionToken) option.subSequence(begin, end);
+            } else {
+                name = new JvmOptionToken(option.toString(), begin, end, null);
+            }
+        }
+        return name;
+    }
+
+    /**
+     * @param c
+     *            A character.
+     * @return True if the character is an ASCII letter, false otherwise.
+     */
+    private static boolean isLetter(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * @param c
+     *            A character.
+     * @return True if the character is an ASCII digit, false otherwise.
+     */
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * @param s
+     *            The character sequence.
+     * @param offset
+     *            The position in the character sequence.
+     * @param prefix
+     *            The prefix to match.
+     * @return True if the character sequence contains the prefix at the given position, false otherwise.
+     */
+    private static boolean regionMatches(final CharSequence s, final int offset, final String prefix) {
+        return regionMatches(s, offset, prefix, 0);
+    }
+
+    /**
+     * @param s
+     *            The character sequence.
+     * @param offset
+     *            The position in the character sequence.
+     * @param prefix
+     *            The prefix to match.
+     * @param prefixOffset
+     *            The position in the prefix to start matching from.
+     * @return True if the character sequence contains the prefix (from the given prefix position) at the given
+     *         position, false otherwise.
+     */
+    private static boolean regionMatches(final CharSequence s, final int offset, final String prefix,
+            final int prefixOffset) {
+        boolean matches = offset + prefix.length() - prefixOffset <= s.length();
+        for (int i = prefixOffset; matches && i < prefix.length(); i++) {
+            matches = s.charAt(offset + i - prefixOffset) == prefix.charAt(i);
+        }
+        return matches;
+    }
+
+    /**
+     * @param c
+     *            A character.
+     * @return True if the character is a line terminator (not matched by "." in a regular expression), false
+     *         otherwise.
+     */
+    private static boolean isLineTerminator(final char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * @param c
+     *            A character.
+     * @return True if the character is whitespace as matched by "\s" in a regular expression, false otherwise.
+     */
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Whether disabling the option is covered by a specific analysis.
+     */
+    private final boolean accounted;
+
+    /**
+     * The <code>JvmOptionCategory</code>.
+     */
+    private final JvmOptionCategory category;
+
+    /**
+     * The disabled form of a {@link JvmOptionType#BOOLEAN} option (e.g. <code>-XX:-UseG1GC</code>).
+     */
+    private final String disabledForm;
+
+    /**
+     * The option string(s) up to the value (e.g. <code>-Xmx</code> and <code>-XX:MaxHeapSize=</code>). For
+     * {@link JvmOptionType#BOOLEAN} options, the enabled form.
+     */
+    private final String[] forms;
+
+    /**
+     * The last JDK major version recognizing the option.
+     */
+    private final int jdkMax;
+
+    /**
+     * The first JDK major version recognizing the option, or 0 for all.
+     */
+    private final int jdkMin;
+
+    /**
+     * The key used to group options in {@link org.github.joa.JvmOptions#getOptions()}, or null if the option string is
+     * itself the key.
+     */
+    private final String key;
+
+    /**
+     * The maximum number of digits in an {@link JvmOptionType#INTEGER} value, or 0 for no limit.
+     */
+    private final int maxLength;
+
+    /**
+     * Whether every occurrence of the option is kept, not just the last.
+     */
+    private final boolean repeatable;
+
+    /**
+     * The <code>JvmOptionType</code>.
+     */
+    private final JvmOptionType type;
+
+    /**
+     * The allowed values of an {@link JvmOptionType#ENUM} option.
+     */
+    private final String[] values;
+
+    private JvmOption() {
+        int i = ordinal();
+        accounted = JvmOptionCatalog.ACCOUNTED[i];
+        category = JvmOptionCatalog.CATEGORIES[i];
+        forms = JvmOptionCatalog.FORMS[i];
+        jdkMax = JvmOptionCatalog.JDK_MAX[i];
+        jdkMin = JvmOptionCatalog.JDK_MIN[i];
+        key = JvmOptionCatalog.KEYS[i];
+        maxLength = JvmOptionCatalog.MAX_LENGTHS[i];
+        repeatable = JvmOptionCatalog.REPEATABLE[i];
+        type = JvmOptionCatalog.TYPES[i];
+        values = JvmOptionCatalog.VALUES[i];
+        disabledForm = type == JvmOptionType.BOOLEAN ? "-XX:-" + forms[0].substring(5) : null;
+    }
+
+    /**
+     * Decode the value of an option string accepted by this option:
+     * 
+     * <ul>
+     * <li>{@link JvmOptionType#BOOLEAN}: 1 if enabled, 0 if disabled.</li>
+     * <li>{@link JvmOptionType#BYTES}: The number of bytes.</li>
+     * <li>{@link JvmOptionType#ENUM}: The index of the value in the allowed values.</li>
+     * <li>{@link JvmOptionType#INTEGER}, {@link JvmOptionType#SIGNED_INTEGER}: The integer.</li>
+     * <li>{@link JvmOptionType#PERCENT}: The percent in fixed-point with {@link Constants#PERCENT_SCALE} decimal places
+     * (additional decimal places are truncated).</li>
+     * <li>Other types: 0.</li>
+     * </ul>
+     * 
+     * @param option
+     *            The JVM option.
+     * @return The decoded value, or {@link Constants#UNKNOWN} if the value does not fit in a long.
+     */
+    public long decode(final CharSequence option) {
+        int length = option.length();
+        int i = getValueBegin(option);
+        long value = 0;
+        switch (type) {
+        case BOOLEAN:
+            value = option.charAt(i) == '+' ? 1 : 0;
+            break;
+        case BYTES:
+            value = parseLong(option, i, length);
+            if (value != Constants.UNKNOWN && option.charAt(length - 1) > '9') {
+                switch (option.charAt(length - 1)) {
+                case 'k':
+                case 'K':
+                    value = value * 1024;
+                    break;
+                case 'm':
+                case 'M':
+                    value = value * 1024 * 1024;
+                    break;
+                case 'g':
+                case 'G':
+                    value = value * 1024 * 1024 * 1024;
+                    break;
+                default:
+                    break;
+                }
+            }
+            break;
+        case ENUM:
+            for (int j = 0; j < values.length; j++) {
+                if (length - i == values[j].length() && regionMatches(option, i, values[j])) {
+                    value = j;
+                    break;
+                }
+            }
+            break;
+        case INTEGER:
+            value = parseLong(option, i, length);
+            break;
+        case PERCENT:
+            int scale = -1;
+            for (; i < length && scale < Constants.PERCENT_SCALE; i++) {
+                if (option.charAt(i) == '.') {
+                    scale = 0;
+                } else {
+                    value = value * 10 + (option.charAt(i) - '0');
+                    if (scale >= 0) {
+                        scale++;
+                    }
+                }
+            }
+            for (scale = Math.max(scale, 0); scale < Constants.PERCENT_SCALE; scale++) {
+                value = value * 10;
+            }
+            break;
+        case SIGNED_INTEGER:
+            if (option.charAt(i) == '-') {
+                value = parseLong(option, i + 1, length);
+                if (value != Constants.UNKNOWN) {
+                    value = -value;
+                }
+            } else {
+                value = parseLong(option, i, length);
+            }
+            break;
+        default:
+            break;
+        }
+        return value;
+    }
+
+    /**
+     * @param option
+     *            The JVM option.
+     * @param begin
+     *            The index of the first digit.
+     * @param end
+     *            The index after the last possible digit.
+     * @return The non-negative integer the leading digits represent, or {@link Constants#UNKNOWN} if it does not fit
+     *         in a long.
+     */
+    private static long parseLong(final CharSequence option, final int begin, final int end) {
+        long value = 0;
+        for (int i = begin; i < end && isDigit(option.charAt(i)); i++) {
+            int digit = option.charAt(i) - '0';
+            if (value > (Long.MAX_VALUE - digit) / 10) {
+                value = Constants.UNKNOWN;
+                break;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * @param option
+     *            The JVM option.
+     * @return The index of the value in an option string accepted by this option (the "+"/"-" sign for
+     *         {@link JvmOptionType#BOOLEAN} options).
+     */
+    public int getValueBegin(final CharSequence option) {
+        int begin = 4;
+        if (type != JvmOptionType.BOOLEAN) {
+            for (int i = 0; i < forms.length; i++) {
+                if (regionMatches(option, 0, forms[i])) {
+                    begin = forms[i].length();
+                    break;
+                }
+            }
+        }
+        return begin;
+    }
+
+    /**
+     * Cheap check whether an option in a string of options could be an instance of this option, without allocating.
+     * Only the forms are compared, so a candidate must still be confirmed with {@link #find(CharSequence)}.
+     *
+     * @param source
+     *            The string of JVM options.
+     * @param begin
+     *            The index of the first character of the option.
+     * @param end
+     *            The index after the last character of the option.
+     * @return True if the option begins with one of the forms of this option, false otherwise.
+     */
+    public boolean isCandidate(final String source, final int begin, final int end) {
+        boolean candidate = false;
+        for (int i = 0; i < forms.length && !candidate; i++) {
+            String form = forms[i];
+            if (type == JvmOptionType.BOOLEAN) {
+                candidate = end - begin == form.length() && source.startsWith("-XX:", begin)
+                        && source.regionMatches(begin + 5, form, 5, form.length() - 5);
+            } else {
+                candidate = end - begin >= form.length() && source.startsWith(form, begin);
+            }
+        }
+        return candidate;
+    }
+
+    /**
+     * @param option
+     *            The JVM option.
+     * @return True if the option string is a valid instance of this option, false otherwise.
+     */
+    public boolean accepts(final CharSequence option) {
+        boolean accepts = false;
+        for (int i = 0; i < forms.length && !accepts; i++) {
+            String form = forms[i];
+            if (type == JvmOptionType.BOOLEAN) {
+                accepts = option.length() == form.length() && regionMatches(option, 0, "-XX:")
+                        && (option.charAt(4) == '+' || option.charAt(4) == '-')
+                        && regionMatches(option, 5, form, 5);
+            } else if (regionMatches(option, 0, form)) {
+                accepts = acceptsValue(option, form.length());
+            }
+        }
+        return accepts;
+    }
+
+    /**
+     * @param option
+     *            The JVM option.
+     * @param begin
+     *            The index of the value in the option string.
+     * @return True if the value is valid for the option type, false otherwise.
+     */
+    private boolean acceptsValue(final CharSequence option, final int begin) {
+        int length = option.length();
+        int i = begin;
+        boolean accepts;
+        switch (type) {
+        case ARGUMENTS:
+            while (i < length && !isLineTerminator(option.charAt(i))) {
+                i++;
+            }
+            accepts = i == length;
+            break;
+        case BYTES:
+            while (i < length && isDigit(option.charAt(i))) {
+                i++;
+            }
+            accepts = i > begin;
+            if (accepts && i < length) {
+                accepts = i == length - 1 && "bBkKmMgG".indexOf(option.charAt(i)) >= 0;
+            }
+            break;
+        case ENUM:
+            accepts = false;
+            for (int j = 0; j < values.length && !accepts; j++) {
+                accepts = option.length() - begin == values[j].length() && regionMatches(option, begin, values[j]);
+            }
+            break;
+        case FLAG:
+            accepts = begin == length;
+            break;
+        case INTEGER:
+            while (i < length && isDigit(option.charAt(i))) {
+                i++;
+            }
+            accepts = i == length && i > begin && (maxLength == 0 || i - begin <= maxLength);
+            break;
+        case PATH:
+            while (i < length && !isWhitespace(option.charAt(i))) {
+                i++;
+            }
+            accepts = i == length && i > begin;
+            break;
+        case PERCENT:
+            while (i < length && isDigit(option.charAt(i))) {
+                i++;
+            }
+            accepts = i > begin && i - begin <= 3;
+            if (accepts && i < length) {
+                int fraction = ++i;
+                if (option.charAt(fraction - 1) == '.') {
+                    while (i < length && isDigit(option.charAt(i))) {
+                        i++;
+                    }
+                    accepts = i == length && i > fraction;
+                } else {
+                    accepts = false;
+                }
+            }
+            break;
+        case SIGNED_INTEGER:
+            if (i < length && option.charAt(i) == '-') {
+                i++;
+            }
+            int digits = i;
+            while (i < length && isDigit(option.charAt(i))) {
+                i++;
+            }
+            accepts = i == length && i > digits;
+            break;
+        case STRING:
+        default:
+            while (i < length && !isLineTerminator(option.charAt(i))) {
+                i++;
+            }
+            accepts = i == length && i > begin;
+            break;
+        }
+        return accepts;
+    }
+
+    public JvmOptionCategory getCategory() {
+        return category;
+    }
+
+    /**
+     * @param enabled
+     *            Whether the option is enabled.
+     * @return The option string of a {@link JvmOptionType#BOOLEAN} option (e.g. <code>-XX:+UseG1GC</code> or
+     *         <code>-XX:-UseG1GC</code>).
+     */
+    public String getForm(boolean enabled) {
+        return enabled ? forms[0] : disabledForm;
+    }
+
+    /**
+     * @return The key used to group options, or null if the option string is itself the key.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    public JvmOptionType getType() {
+        return type;
+    }
+
+    /**
+     * @param index
+     *            The index of an allowed value.
+     * @return The allowed {@link JvmOptionType#ENUM} value at the index.
+     */
+    public String getValue(int index) {
+        return values[index];
+    }
+
+    /**
+     * @return True if disabling the option is covered by a specific analysis, false otherwise.
+     */
+    public boolean isAccounted() {
+        return accounted;
+    }
+
+    /**
+     * @param versionMajor
+     *            The JDK major version, or 0 if unknown.
+     * @return True if the JDK major version recognizes the option (or the version is unknown), false otherwise.
+     */
+    public boolean isRecognized(int versionMajor) {
+        return versionMajor <= 0 || (versionMajor >= jdkMin && versionMajor <= jdkMax);
+    }
+
+    /**
+     * @return True if every occurrence of the option is kept, not just the last, false otherwise.
+     */
+    public boolean isRepeatable() {
+        return repeatable;
+    }
+}
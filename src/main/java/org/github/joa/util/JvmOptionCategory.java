@@ -0,0 +1,39 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa.util;
+
+/**
+ * JVM option categories.
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public enum JvmOptionCategory {
+
+    /**
+     * Diagnostic option requiring <code>-XX:+UnlockDiagnosticVMOptions</code>.
+     */
+    DIAGNOSTIC,
+
+    /**
+     * Experimental option requiring <code>-XX:+UnlockExperimentalVMOptions</code>.
+     */
+    EXPERIMENTAL,
+
+    /**
+     * Option that does not need to be unlocked.
+     */
+    PRODUCT
+}
@@ -0,0 +1,206 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Parse cache for many command lines that share a common base (e.g. a fleet where every service has the same logging,
+ * heap dump, error file, and agent options, plus a few options of its own).
+ * </p>
+ *
+ * <p>
+ * The cache is a trie of options: each node is an option already identified and decoded (see
+ * {@link JvmOption#find(CharSequence)} and {@link JvmOption#decode(CharSequence)}), and its children are the options
+ * that have followed it. The longest prefix of a command line already in the trie is reused, and only the differing
+ * suffix is identified and decoded, then added to the trie. Only the identification is cached, and options are still
+ * stored in command line order, so options that override or duplicate earlier options are the same as without the
+ * cache.
+ * </p>
+ *
+ * <p>
+ * The cache is thread safe, so it can be shared by concurrent parsing (see {@link org.github.joa.JvmOptions}).
+ * Once the maximum number of nodes is reached, the trie stops growing, and options not in it are identified without
+ * the cache.
+ * </p>
+ *
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ *
+ */
+public class JvmOptionPrefixCache {
+
+    /**
+     * A trie node.
+     */
+    private static final class Node {
+
+        /**
+         * The options that have followed the option, or null if none.
+         */
+        private volatile ConcurrentHashMap<JvmOptionToken, Node> children;
+
+        /**
+         * The option, identified and decoded, or null for the root.
+         */
+        private final JvmOptionToken option;
+
+        /**
+         * @param option
+         *            The option, identified and decoded, or null for the root.
+         */
+        private Node(JvmOptionToken option) {
+            this.option = option;
+        }
+
+        /**
+         * @param option
+         *            An option.
+         * @return The child node of the option, or null if not cached.
+         */
+        private Node get(JvmOptionToken option) {
+            ConcurrentHashMap<JvmOptionToken, Node> map = children;
+            return map == null ? null : map.get(option);
+        }
+
+        /**
+         * @param child
+         *            The child node.
+         * @return The child node of the option, which is an existing node if the option was added concurrently.
+         */
+        private Node put(Node child) {
+            ConcurrentHashMap<JvmOptionToken, Node> map = children;
+            if (map == null) {
+                synchronized (this) {
+                    map = children;
+                    if (map == null) {
+                        map = new ConcurrentHashMap<JvmOptionToken, Node>(4);
+                        children = map;
+                    }
+                }
+            }
+            Node existing = map.putIfAbsent(child.option, child);
+            return existing == null ? child : existing;
+        }
+    }
+
+    /**
+     * The default maximum number of nodes.
+     */
+    public static final int DEFAULT_MAX_NODES = 65536;
+
+    /**
+     * The number of options reused from the cache.
+     */
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * The maximum number of nodes.
+     */
+    private final int maxNodes;
+
+    /**
+     * The number of options identified without the cache.
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * The number of nodes.
+     */
+    private final AtomicInteger nodeCount = new AtomicInteger();
+
+    /**
+     * The root of the trie.
+     */
+    private final Node root = new Node(null);
+
+    /**
+     * Cache with the {@link #DEFAULT_MAX_NODES}.
+     */
+    public JvmOptionPrefixCache() {
+        this(DEFAULT_MAX_NODES);
+    }
+
+    /**
+     * @param maxNodes
+     *            The maximum number of options cached.
+     */
+    public JvmOptionPrefixCache(int maxNodes) {
+        this.maxNodes = maxNodes;
+    }
+
+    /**
+     * @return The number of options reused from the cache.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return The number of options identified without the cache.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return The number of options cached.
+     */
+    public int getSize() {
+        return nodeCount.get();
+    }
+
+    /**
+     * Identify and decode options, reusing the longest cached prefix.
+     * 
+     * @param source
+     *            The JVM options.
+     * @param tokens
+     *            The begin/end indexes of the options in the source (see
+     *            {@link JvmOptionTokenizer#tokenize(CharSequence)}).
+     * @return The options, in order, identified and decoded.
+     */
+    public JvmOptionToken[] identify(String source, int[] tokens) {
+        JvmOptionToken[] options = new JvmOptionToken[tokens.length / 2];
+        Node node = root;
+        for (int i = 0; i < options.length; i++) {
+            int begin = tokens[2 * i];
+            int end = tokens[2 * i + 1];
+            Node child = node == null ? null : node.get(new JvmOptionToken(source, begin, end, null));
+            if (child != null) {
+                options[i] = new JvmOptionToken(source, begin, end, child.option.getJvmOption(),
+                        child.option.getValue());
+                hits.incrementAndGet();
+            } else {
+                options[i] = new JvmOptionToken(source, begin, end);
+                misses.incrementAndGet();
+                if (node != null && nodeCount.get() < maxNodes) {
+                    // Detached from the source, so the cache does not retain it
+                    String option = options[i].toString();
+                    Node added = new Node(new JvmOptionToken(option, 0, option.length(), options[i].getJvmOption(),
+                            options[i].getValue()));
+                    child = node.put(added);
+                    if (child == added) {
+                        nodeCount.incrementAndGet();
+                    }
+                }
+            }
+            node = child;
+        }
+        return options;
+    }
+}
@@ -0,0 +1,335 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa.util;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * <p>
+ * Streaming JVM options tokenizer for command lines too large to hold as one string (e.g. an expanded classpath of
+ * several megabytes).
+ * </p>
+ *
+ * <p>
+ * The options are consumed incrementally from a {@link Reader} or in chunks, and split at the same boundaries as
+ * {@link JvmOptionTokenizer#tokenize(CharSequence)}. Only a small window of the input is held at a time. Options are
+ * collected into a compact string of the options separated by a space, where an option longer than the maximum length
+ * is truncated and followed by its length and hash code. For example, a classpath of 4,500,000 characters with a
+ * maximum length of 16:
+ * </p>
+ *
+ * <pre>
+ * -classpath /opt/...[length=4500000,hash=1f2e3d4c]
+ * </pre>
+ *
+ * <p>
+ * The hash code is that of the whole option as a <code>String</code>. Memory is bounded by the number of options
+ * times the maximum length, regardless of the size of the input.
+ * </p>
+ *
+ * <p>
+ * A quoted value is buffered until the closing quote, as boundaries inside it are ignored only if the quote is closed.
+ * A quoted value longer than the maximum length is assumed to be closed.
+ * </p>
+ *
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ *
+ */
+public class JvmOptionStreamTokenizer {
+
+    /**
+     * The number of characters after a space needed to determine if it is an option boundary (the space followed by
+     * the longest {@link JdkRegEx#JVM_OPTION} prefix, <code>-enableassertions</code>).
+     */
+    private static final int LOOKAHEAD = 18;
+
+    /**
+     * The size of the buffer used to read options.
+     */
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    /**
+     * Whether the input is finished.
+     */
+    private boolean finished = false;
+
+    /**
+     * The index in {@link #options} of the first character of the option being collected.
+     */
+    private int kept;
+
+    /**
+     * The number of characters of the option being collected, up to and including the last character that is not
+     * whitespace.
+     */
+    private int length;
+
+    /**
+     * The hash code of the option being collected, up to and including the last character that is not whitespace.
+     */
+    private int hash;
+
+    /**
+     * The maximum length of an option kept, or 0 for no limit.
+     */
+    private final int maxOptionLength;
+
+    /**
+     * The collected options, separated by a space.
+     */
+    private final StringBuilder options = new StringBuilder();
+
+    /**
+     * Input not yet tokenized.
+     */
+    private final StringBuilder pending = new StringBuilder();
+
+    /**
+     * The position in the input of the first character in {@link #pending}.
+     */
+    private long position;
+
+    /**
+     * The input following an open quote, or null if not in a quoted value or the quoted value is too long to buffer.
+     */
+    private StringBuilder quoted;
+
+    /**
+     * The positions in {@link #quoted} of the spaces preceding the options that begin inside the quoted value.
+     */
+    private int[] quotedBoundaries = new int[4];
+
+    /**
+     * The number of {@link #quotedBoundaries}.
+     */
+    private int quotedBoundaryCount;
+
+    /**
+     * Whether in a quoted value.
+     */
+    private boolean quoting = false;
+
+    /**
+     * The number of characters of the option being collected, including trailing whitespace.
+     */
+    private int rawLength;
+
+    /**
+     * The hash code of the option being collected, including trailing whitespace.
+     */
+    private int rawHash;
+
+    /**
+     * The begin (inclusive) and end (exclusive) offsets in {@link #options} of each option in pairs.
+     */
+    private int[] tokens = new int[16];
+
+    /**
+     * The number of {@link #tokens} offsets.
+     */
+    private int tokenCount;
+
+    /**
+     * @param maxOptionLength
+     *            The maximum length of an option kept, or 0 for no limit.
+     */
+    public JvmOptionStreamTokenizer(int maxOptionLength) {
+        this.maxOptionLength = maxOptionLength;
+    }
+
+    /**
+     * Tokenize the next chunk of options.
+     *
+     * @param chunk
+     *            The options following the previous chunk.
+     */
+    public void append(final CharSequence chunk) {
+        if (finished) {
+            throw new IllegalStateException("Input finished.");
+        }
+        pending.append(chunk);
+        tokenize(pending.length() - LOOKAHEAD);
+    }
+
+    /**
+     * Collect a character of the option being collected.
+     *
+     * @param c
+     *            The character.
+     */
+    private void collect(final char c) {
+        if (c > ' ' || rawLength > 0) {
+            if (maxOptionLength <= 0 || options.length() - kept < maxOptionLength) {
+                options.append(c);
+            }
+            rawLength++;
+            rawHash = 31 * rawHash + c;
+            if (c > ' ') {
+                length = rawLength;
+                hash = rawHash;
+            }
+        }
+    }
+
+    /**
+     * Finish the input and the option being collected.
+     */
+    private void finish() {
+        if (!finished) {
+            tokenize(pending.length());
+            if (quoted != null) {
+                // A quote that is never closed is ignored, so the options inside the quoted value are split.
+                int begin = 0;
+                for (int i = 0; i <= quotedBoundaryCount; i++) {
+                    int end = i == quotedBoundaryCount ? quoted.length() : quotedBoundaries[i];
+                    if (i > 0) {
+                        nextOption();
+                    }
+                    for (int j = begin; j < end; j++) {
+                        collect(quoted.charAt(j));
+                    }
+                    begin = end;
+                }
+                quoted = null;
+            }
+            finishOption();
+            finished = true;
+        }
+    }
+
+    /**
+     * Finish the option being collected.
+     */
+    private void finishOption() {
+        if (maxOptionLength > 0 && length > maxOptionLength) {
+            options.setLength(kept + maxOptionLength);
+            options.append("...[length=").append(length).append(",hash=").append(Integer.toHexString(hash))
+                    .append(']');
+        } else {
+            options.setLength(kept + length);
+        }
+        if (tokenCount == tokens.length) {
+            int[] expanded = new int[tokenCount * 2];
+            System.arraycopy(tokens, 0, expanded, 0, tokenCount);
+            tokens = expanded;
+        }
+        tokens[tokenCount++] = kept;
+        tokens[tokenCount++] = options.length();
+    }
+
+    /**
+     * @return The collected options, separated by a space, with options longer than the maximum length truncated. The
+     *         input is finished.
+     */
+    public String getOptions() {
+        finish();
+        return options.toString();
+    }
+
+    /**
+     * @return The begin (inclusive) and end (exclusive) offsets of each option in {@link #getOptions()} in pairs, as
+     *         {@link JvmOptionTokenizer#tokenize(CharSequence)}. The input is finished.
+     */
+    public int[] getTokens() {
+        finish();
+        int[] finishedTokens = new int[tokenCount];
+        System.arraycopy(tokens, 0, finishedTokens, 0, tokenCount);
+        return finishedTokens;
+    }
+
+    /**
+     * Finish the option being collected and start the next option.
+     */
+    private void nextOption() {
+        finishOption();
+        options.append(' ');
+        kept = options.length();
+        length = 0;
+        hash = 0;
+        rawLength = 0;
+        rawHash = 0;
+    }
+
+    /**
+     * Tokenize the options from a reader until the end of the stream.
+     *
+     * @param reader
+     *            The options.
+     * @throws IOException
+     *             If the options cannot be read.
+     */
+    public void read(final Reader reader) throws IOException {
+        char[] buffer = new char[READ_BUFFER_SIZE];
+        int count;
+        while ((count = reader.read(buffer)) >= 0) {
+            if (finished) {
+                throw new IllegalStateException("Input finished.");
+            }
+            pending.append(buffer, 0, count);
+            tokenize(pending.length() - LOOKAHEAD);
+        }
+    }
+
+    /**
+     * Tokenize pending input.
+     *
+     * @param end
+     *            The index in {@link #pending} to tokenize up to (exclusive).
+     */
+    private void tokenize(final int end) {
+        int i = 0;
+        for (; i < end; i++) {
+            char c = pending.charAt(i);
+            boolean boundary = c == ' ' && (position > 0 || i > 0) && JvmOptionTokenizer.isBoundary(pending, i);
+            if (!quoting) {
+                if (boundary) {
+                    nextOption();
+                }
+                collect(c);
+                if (c == '"') {
+                    quoting = true;
+                    quoted = new StringBuilder();
+                    quotedBoundaryCount = 0;
+                }
+            } else if (quoted == null) {
+                // Too long to buffer, so assumed to be closed
+                collect(c);
+                quoting = c != '"';
+            } else {
+                if (boundary) {
+                    if (quotedBoundaryCount == quotedBoundaries.length) {
+                        int[] expanded = new int[quotedBoundaryCount * 2];
+                        System.arraycopy(quotedBoundaries, 0, expanded, 0, quotedBoundaryCount);
+                        quotedBoundaries = expanded;
+                    }
+                    quotedBoundaries[quotedBoundaryCount++] = quoted.length();
+                }
+                quoted.append(c);
+                if (c == '"' || (maxOptionLength > 0 && quoted.length() > maxOptionLength)) {
+                    for (int j = 0; j < quoted.length(); j++) {
+                        collect(quoted.charAt(j));
+                    }
+                    quoting = c != '"';
+                    quoted = null;
+                }
+            }
+        }
+        if (i > 0) {
+            pending.delete(0, i);
+            position += i;
+        }
+    }
+}
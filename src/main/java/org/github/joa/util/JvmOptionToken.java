@@ -0,0 +1,334 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A single JVM option, represented as begin and end offsets into the string of JVM options it was parsed from. A
+ * <code>String</code> is only created (and then cached) when {@link #toString()} is called.
+ * 
+ * Tokens with the same characters are equal and have the same hash code as the equivalent <code>String</code>.
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class JvmOptionToken implements CharSequence {
+
+    /**
+     * @param token
+     *            The token.
+     * @return The number of bytes of a {@link JvmOptionType#BYTES} option, or {@link Constants#UNKNOWN} if the token
+     *         is null.
+     */
+    public static final long getBytes(final JvmOptionToken token) {
+        return token == null ? Constants.UNKNOWN : token.value;
+    }
+
+    /**
+     * @param token
+     *            The token.
+     * @return The value of an {@link JvmOptionType#INTEGER} or {@link JvmOptionType#SIGNED_INTEGER} option, or
+     *         {@link Constants#UNKNOWN} if the token is null.
+     */
+    public static final long getInteger(final JvmOptionToken token) {
+        return token == null ? Constants.UNKNOWN : token.value;
+    }
+
+    /**
+     * @param token
+     *            The token.
+     * @return The fixed-point value (see {@link Constants#PERCENT_SCALE}) of a {@link JvmOptionType#PERCENT} option,
+     *         or {@link Constants#UNKNOWN} if the token is null.
+     */
+    public static final long getPercent(final JvmOptionToken token) {
+        return token == null ? Constants.UNKNOWN : token.value;
+    }
+
+    /**
+     * @param token
+     *            The token.
+     * @return True if the token is a disabled {@link JvmOptionType#BOOLEAN} option (e.g. <code>-XX:-UseG1GC</code>),
+     *         false otherwise.
+     */
+    public static final boolean isDisabled(final JvmOptionToken token) {
+        return token != null && token.jvmOption != null && token.jvmOption.getType() == JvmOptionType.BOOLEAN
+                && token.value == 0;
+    }
+
+    /**
+     * @param token
+     *            The token.
+     * @return True if the token is an enabled {@link JvmOptionType#BOOLEAN} option (e.g. <code>-XX:+UseG1GC</code>),
+     *         false otherwise.
+     */
+    public static final boolean isEnabled(final JvmOptionToken token) {
+        return token != null && token.jvmOption != null && token.jvmOption.getType() == JvmOptionType.BOOLEAN
+                && token.value == 1;
+    }
+
+    /**
+     * @param token
+     *            The token.
+     * @return The token <code>String</code>, or null if the token is null.
+     */
+    public static final String toString(final JvmOptionToken token) {
+        return token == null ? null : token.toString();
+    }
+
+    /**
+     * @param tokens
+     *            The tokens.
+     * @param strings
+     *            The strings.
+     * @return True if the tokens have the same characters as the strings, in the same order, false otherwise.
+     */
+    public static final boolean contentEquals(final List<JvmOptionToken> tokens, final List<String> strings) {
+        boolean equals = tokens.size() == strings.size();
+        for (int i = 0; equals && i < tokens.size(); i++) {
+            equals = strings.get(i) != null && tokens.get(i).contentEquals(strings.get(i));
+        }
+        return equals;
+    }
+
+    /**
+     * @param tokens
+     *            The tokens.
+     * @param option
+     *            The JVM option.
+     * @return The index of the first token with the same characters as the option, or -1 if there is none.
+     */
+    public static final int indexOf(final List<JvmOptionToken> tokens, final CharSequence option) {
+        int index = -1;
+        for (int i = 0; i < tokens.size() && index < 0; i++) {
+            if (tokens.get(i).contentEquals(option)) {
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * @param tokens
+     *            The tokens.
+     * @return A new <code>ArrayList</code> of the tokens as strings.
+     */
+    public static final ArrayList<String> toStrings(final List<JvmOptionToken> tokens) {
+        ArrayList<String> strings = new ArrayList<String>(tokens.size());
+        for (int i = 0; i < tokens.size(); i++) {
+            strings.add(tokens.get(i).toString());
+        }
+        return strings;
+    }
+
+    /**
+     * The offset of the first character in {@link #source}.
+     */
+    private final int begin;
+
+    /**
+     * The offset after the last character in {@link #source}.
+     */
+    private final int end;
+
+    /**
+     * The cached hash code, or 0 if not yet computed.
+     */
+    private int hash;
+
+    /**
+     * The <code>JvmOption</code> the token identifies, or null if the option is undefined.
+     */
+    private final JvmOption jvmOption;
+
+    /**
+     * The string of JVM options the token is parsed from.
+     */
+    private final String source;
+
+    /**
+     * The cached <code>String</code>, or null if not yet created.
+     */
+    private String string;
+
+    /**
+     * The value decoded when the token is created (see {@link JvmOption#decode(CharSequence)}).
+     */
+    private final long value;
+
+    /**
+     * @param option
+     *            The JVM option.
+     */
+    public JvmOptionToken(String option) {
+        this(option, 0, option.length());
+    }
+
+    /**
+     * @param source
+     *            The string of JVM options.
+     * @param begin
+     *            The offset of the first character of the option.
+     * @param end
+     *            The offset after the last character of the option.
+     */
+    public JvmOptionToken(String source, int begin, int end) {
+        this.source = source;
+        this.begin = begin;
+        this.end = end;
+        this.jvmOption = JvmOption.find(this);
+        this.value = jvmOption == null ? 0 : jvmOption.decode(this);
+    }
+
+    /**
+     * @param source
+     *            The string of JVM options.
+     * @param begin
+     *            The offset of the first character of the option.
+     * @param end
+     *            The offset after the last character of the option.
+     * @param jvmOption
+     *            The <code>JvmOption</code> the token identifies, or null if the option is undefined.
+     */
+    JvmOptionToken(String source, int begin, int end, JvmOption jvmOption) {
+        this(source, begin, end, jvmOption, 0);
+    }
+
+    /**
+     * Recreate the token of an option already identified and decoded.
+     * 
+     * @param source
+     *            The string of JVM options.
+     * @param begin
+     *            The offset of the first character of the option.
+     * @param end
+     *            The offset after the last character of the option.
+     * @param jvmOption
+     *            The <code>JvmOption</code> the token identifies.
+     * @param value
+     *            The decoded value (see {@link JvmOption#decode(CharSequence)}).
+     */
+    public JvmOptionToken(String source, int begin, int end, JvmOption jvmOption, long value) {
+        this.source = source;
+        this.begin = begin;
+        this.end = end;
+        this.jvmOption = jvmOption;
+        this.value = value;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length()) {
+            throw new StringIndexOutOfBoundsException(index);
+        }
+        return source.charAt(begin + index);
+    }
+
+    /**
+     * @param s
+     *            The characters to find.
+     * @return True if the token contains the characters, false otherwise.
+     */
+    public boolean contains(final CharSequence s) {
+        boolean contains = false;
+        for (int i = begin; !contains && i <= end - s.length(); i++) {
+            contains = true;
+            for (int j = 0; contains && j < s.length(); j++) {
+                contains = source.charAt(i + j) == s.charAt(j);
+            }
+        }
+        return contains;
+    }
+
+    /**
+     * @param s
+     *            The characters to compare.
+     * @return True if the token has the same characters, false otherwise.
+     */
+    public boolean contentEquals(final CharSequence s) {
+        boolean equals = s.length() == length();
+        for (int i = 0; equals && i < s.length(); i++) {
+            equals = s.charAt(i) == source.charAt(begin + i);
+        }
+        return equals;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || (obj instanceof JvmOptionToken && contentEquals((JvmOptionToken) obj));
+    }
+
+    /**
+     * @return The value of an {@link JvmOptionType#ENUM} option, or null if the token is not an enum option.
+     */
+    public String getEnumValue() {
+        return jvmOption != null && jvmOption.getType() == JvmOptionType.ENUM ? jvmOption.getValue((int) value)
+                : null;
+    }
+
+    public JvmOption getJvmOption() {
+        return jvmOption;
+    }
+
+    /**
+     * @return The value decoded when the token was created (see {@link JvmOption#decode(CharSequence)}).
+     */
+    public long getValue() {
+        return value;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            for (int i = begin; i < end; i++) {
+                h = 31 * h + source.charAt(i);
+            }
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public int length() {
+        return end - begin;
+    }
+
+    /**
+     * @param prefix
+     *            The prefix.
+     * @return True if the token starts with the prefix, false otherwise.
+     */
+    public boolean startsWith(final String prefix) {
+        return prefix.length() <= length() && source.startsWith(prefix, begin);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length() || start > end) {
+            throw new StringIndexOutOfBoundsException("begin " + start + ", end " + end + ", length " + length());
+        }
+        return new JvmOptionToken(source, begin + start, begin + end, null);
+    }
+
+    @Override
+    public String toString() {
+        if (string == null) {
+            string = source.substring(begin, end);
+        }
+        return string;
+    }
+}
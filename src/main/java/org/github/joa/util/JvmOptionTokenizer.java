@@ -0,0 +1,163 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa.util;
+
+/**
+ * Single pass JVM options tokenizer.
+ * 
+ * Splits a string of JVM options at the same boundaries as {@link JdkRegEx#JVM_OPTIONS} (a space followed by one of
+ * the {@link JdkRegEx#JVM_OPTION} prefixes, never at the start of the string), except boundaries inside a double
+ * quoted value are ignored. For example, the following is a single option:
+ * 
+ * <pre>
+ * -XX:OnOutOfMemoryError="kill -9 %p; -Xshare:dump"
+ * </pre>
+ * 
+ * A quote that is never closed is ignored. Each character is examined a constant number of times, so tokenizing is
+ * linear in the length of the input.
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class JvmOptionTokenizer {
+
+    /**
+     * Determine if an option boundary starts at a given position: a space followed by one of the
+     * {@link JdkRegEx#JVM_OPTION} prefixes.
+     * 
+     * @param options
+     *            The JVM options.
+     * @param i
+     *            The position of a space.
+     * @return True if an option starts after the space, false otherwise.
+     */
+    static boolean isBoundary(final CharSequence options, final int i) {
+        boolean boundary = false;
+        if (i + 2 < options.length() && options.charAt(i + 1) == '-') {
+            int j = i + 3;
+            switch (options.charAt(i + 2)) {
+            case '-':
+                boundary = regionMatches(options, j, "add");
+                break;
+            case 'D':
+            case 'X':
+                boundary = true;
+                break;
+            case 'a':
+                boundary = regionMatches(options, j, "gentlib") || regionMatches(options, j, "gentpath");
+                break;
+            case 'c':
+                boundary = regionMatches(options, j, "lasspath") || regionMatches(options, j, "lient");
+                break;
+            case 'd':
+                boundary = regionMatches(options, j, "32") || regionMatches(options, j, "64");
+                break;
+            case 'e':
+                boundary = regionMatches(options, j, "a") || regionMatches(options, j, "nableassertions");
+                break;
+            case 'j':
+                boundary = regionMatches(options, j, "avaagent");
+                break;
+            case 'm':
+                boundary = regionMatches(options, j, "s") || regionMatches(options, j, "x");
+                break;
+            case 'n':
+                boundary = regionMatches(options, j, "overify");
+                break;
+            case 's':
+                boundary = regionMatches(options, j, "erver");
+                break;
+            case 'v':
+                boundary = regionMatches(options, j, "erbose");
+                break;
+            default:
+                break;
+            }
+        }
+        return boundary;
+    }
+
+    /**
+     * @param s
+     *            The character sequence.
+     * @param offset
+     *            The position in the character sequence.
+     * @param prefix
+     *            The prefix to match.
+     * @return True if the character sequence contains the prefix at the given position, false otherwise.
+     */
+    private static boolean regionMatches(final CharSequence s, final int offset, final String prefix) {
+        boolean matches = offset + prefix.length() <= s.length();
+        for (int i = 0; matches && i < prefix.length(); i++) {
+            matches = s.charAt(offset + i) == prefix.charAt(i);
+        }
+        return matches;
+    }
+
+    /**
+     * Split JVM options into individual options.
+     * 
+     * @param options
+     *            The JVM options.
+     * @return The begin (inclusive) and end (exclusive) offsets of each option in pairs, with leading and trailing
+     *         whitespace excluded as by {@link String#trim()}. An empty string yields a single empty option.
+     */
+    public static final int[] tokenize(final CharSequence options) {
+        // Boundaries are the position of the space preceding each option after the first
+        int[] boundaries = new int[16];
+        int count = 0;
+        // The number of boundaries before an open quote, or -1 if not in a quoted value
+        int quoted = -1;
+        for (int i = 0; i < options.length(); i++) {
+            char c = options.charAt(i);
+            if (c == '"') {
+                if (quoted < 0) {
+                    quoted = count;
+                } else {
+                    count = quoted;
+                    quoted = -1;
+                }
+            } else if (c == ' ' && i > 0 && isBoundary(options, i)) {
+                if (count == boundaries.length) {
+                    int[] expanded = new int[count * 2];
+                    System.arraycopy(boundaries, 0, expanded, 0, count);
+                    boundaries = expanded;
+                }
+                boundaries[count++] = i;
+            }
+        }
+        int[] tokens = new int[(count + 1) * 2];
+        for (int i = 0; i <= count; i++) {
+            int begin = i == 0 ? 0 : boundaries[i - 1];
+            int end = i == count ? options.length() : boundaries[i];
+            while (begin < end && options.charAt(begin) <= ' ') {
+                begin++;
+            }
+            while (end > begin && options.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            tokens[i * 2] = begin;
+            tokens[i * 2 + 1] = end;
+        }
+        return tokens;
+    }
+
+    /**
+     * Make default constructor private so the class cannot be instantiated.
+     */
+    private JvmOptionTokenizer() {
+
+    }
+}
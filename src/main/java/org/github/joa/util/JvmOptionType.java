@@ -0,0 +1,114 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa.util;
+
+/**
+ * JVM option value types, describing what may follow the option name.
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public enum JvmOptionType {
+
+    /**
+     * Free-form, possibly empty, arguments. For example:
+     * 
+     * <pre>
+     * -ea:com.example...
+     * </pre>
+     */
+    ARGUMENTS,
+
+    /**
+     * Option enabled with "+" or disabled with "-". For example:
+     * 
+     * <pre>
+     * -XX:+UseG1GC
+     * </pre>
+     */
+    BOOLEAN,
+
+    /**
+     * Number of bytes with an optional unit (b, k, m, g, case insensitive). For example:
+     * 
+     * <pre>
+     * -Xmx1g
+     * </pre>
+     */
+    BYTES,
+
+    /**
+     * One of a fixed set of values. For example:
+     * 
+     * <pre>
+     * -XX:ShenandoahGCMode=satb
+     * </pre>
+     */
+    ENUM,
+
+    /**
+     * Option without a value. For example:
+     * 
+     * <pre>
+     * -server
+     * </pre>
+     */
+    FLAG,
+
+    /**
+     * Unsigned integer. For example:
+     * 
+     * <pre>
+     * -XX:ParallelGCThreads=4
+     * </pre>
+     */
+    INTEGER,
+
+    /**
+     * File path. For example:
+     * 
+     * <pre>
+     * -XX:HeapDumpPath=/tmp/heapdump.hprof
+     * </pre>
+     */
+    PATH,
+
+    /**
+     * Percent with an optional fractional part. For example:
+     * 
+     * <pre>
+     * -XX:MaxRAMPercentage=75.5
+     * </pre>
+     */
+    PERCENT,
+
+    /**
+     * Signed integer. For example:
+     * 
+     * <pre>
+     * -XX:ThreadPriorityPolicy=-1
+     * </pre>
+     */
+    SIGNED_INTEGER,
+
+    /**
+     * Non-empty string. For example:
+     * 
+     * <pre>
+     * -Xloggc:gc.log
+     * </pre>
+     */
+    STRING
+}
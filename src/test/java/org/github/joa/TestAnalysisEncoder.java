@@ -0,0 +1,130 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.github.joa.domain.JvmContext;
+import org.github.joa.util.Analysis;
+import org.github.joa.util.Constants;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class TestAnalysisEncoder {
+
+    @Test
+    void testConcatenated() throws IOException {
+        String[] opts = { "-Xss128k -Xss256k -Xmx2G", "", "-XX:MaxMetaspaceSize=256m -XX:-Mike -XX:-Mike2" };
+        AnalysisEncoder encoder = new AnalysisEncoder();
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        int[] sizes = new int[opts.length];
+        for (int i = 0; i < opts.length; i++) {
+            JvmOptions jvmOptions = new JvmOptions(new JvmContext(opts[i]));
+            jvmOptions.doAnalysis();
+            encoder.write(jvmOptions, records);
+            sizes[i] = jvmOptions.getAnalysis().size();
+        }
+        byte[] data = records.toByteArray();
+        AnalysisDecoder decoder = new AnalysisDecoder();
+        int offset = 0;
+        for (int i = 0; i < opts.length; i++) {
+            offset += decoder.decode(data, offset);
+            assertEquals(sizes[i], decoder.size(), "Record " + i + " size not correct.");
+        }
+        assertEquals(data.length, offset, "Records not all decoded.");
+    }
+
+    @Test
+    void testInvalid() {
+        JvmOptions jvmOptions = new JvmOptions(new JvmContext("-Xss128k -Xss256k"));
+        jvmOptions.doAnalysis();
+        byte[] record = new AnalysisEncoder().encode(jvmOptions);
+        AnalysisDecoder decoder = new AnalysisDecoder();
+        assertThrows(IllegalArgumentException.class, () -> decoder.decode(Arrays.copyOf(record, record.length - 1)),
+                "Truncated record not rejected.");
+        byte[] version = record.clone();
+        version[0] = 2;
+        assertThrows(IllegalArgumentException.class, () -> decoder.decode(version), "Version not rejected.");
+        byte[] catalog = record.clone();
+        catalog[1] ^= 1;
+        assertThrows(IllegalArgumentException.class, () -> decoder.decode(catalog), "Catalog not rejected.");
+    }
+
+    @Test
+    void testRoundTrip() {
+        String opts = "-Xss128k -Xss256k -XX:MaxMetaspaceSize=256m -XX:-Mike -XX:+UnlockDiagnosticVMOptions "
+                + "-XX:+PrintFlagsFinal -XX:+UseG1GC -Xmx2g";
+        JvmOptions jvmOptions = new JvmOptions(new JvmContext(opts));
+        jvmOptions.doAnalysis();
+        byte[] record = new AnalysisEncoder().encode(jvmOptions);
+        AnalysisDecoder decoder = new AnalysisDecoder();
+        assertEquals(record.length, decoder.decode(record), "Record length not correct.");
+        assertEquals(jvmOptions.getAnalysisSet(), decoder.getAnalysisSet(), "Analysis not correct.");
+        List<String[]> analysis = jvmOptions.getAnalysis();
+        assertEquals(analysis.size(), decoder.size(), "Size not correct.");
+        for (String[] item : analysis) {
+            assertEquals(item[1], decoder.getAnalysisLiteral(Analysis.fromKey(item[0])), item[0] + " not correct.");
+        }
+        assertTrue(decoder.contains(Analysis.WARN_DUPS), Analysis.WARN_DUPS + " analysis not identified.");
+        assertTrue(decoder.contains(Analysis.INFO_DIAGNOSTIC_VM_OPTIONS_ENABLED),
+                Analysis.INFO_DIAGNOSTIC_VM_OPTIONS_ENABLED + " analysis not identified.");
+        assertFalse(decoder.contains(Analysis.INFO_HEAP_MAX_MISSING),
+                Analysis.INFO_HEAP_MAX_MISSING + " analysis incorrectly identified.");
+        assertNull(decoder.getAnalysisLiteral(Analysis.INFO_HEAP_MAX_MISSING),
+                Analysis.INFO_HEAP_MAX_MISSING + " literal incorrectly identified.");
+        int count = 0;
+        for (int ordinal = decoder.nextOrdinal(0); ordinal >= 0; ordinal = decoder.nextOrdinal(ordinal + 1)) {
+            count++;
+        }
+        assertEquals(decoder.size(), count, "Ordinals not correct.");
+        assertTrue(record.length * 10 < jvmOptions.getAnalysis().stream().mapToInt(item -> item[1].length()).sum(),
+                "Record not compact: " + record.length + " bytes.");
+    }
+
+    @Test
+    void testSize() {
+        JvmOptions jvmOptions = new JvmOptions(new JvmContext("-XX:MaxMetaspaceSize=256m"));
+        jvmOptions.doAnalysis();
+        AnalysisDecoder decoder = new AnalysisDecoder();
+        decoder.decode(new AnalysisEncoder().encode(jvmOptions));
+        assertEquals(256L * 1024 * 1024, decoder.getSize(Analysis.WARN_METASPACE_LT_COMP_CLASS, 0),
+                "MaxMetaspaceSize not correct.");
+        assertEquals(248L * 1024 * 1024, decoder.getSize(Analysis.WARN_METASPACE_LT_COMP_CLASS, 2),
+                "CompressedClassSpaceSize not correct.");
+        assertArrayEquals(new Object[] { 256L * 1024 * 1024, 8L * 1024 * 1024, 248L * 1024 * 1024 },
+                decoder.getArguments(Analysis.INFO_METASPACE_CLASS_METADATA_AND_COMP_CLASS_SPACE),
+                "Arguments not correct.");
+        jvmOptions = new JvmOptions(new JvmContext("-Xmx1g"));
+        jvmOptions.doAnalysis();
+        decoder.decode(new AnalysisEncoder().encode(jvmOptions));
+        assertEquals(Constants.UNKNOWN, decoder.getSize(Analysis.INFO_METASPACE_CLASS_METADATA_AND_COMP_CLASS_SPACE, 0),
+                "Unlimited Metaspace not correct.");
+        assertThrows(IllegalArgumentException.class, () -> decoder.getSize(Analysis.WARN_DUPS, 0),
+                "Missing analysis not rejected.");
+    }
+}
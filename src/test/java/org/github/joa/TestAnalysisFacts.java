@@ -0,0 +1,78 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.github.joa.domain.GarbageCollector;
+import org.github.joa.domain.JvmContext;
+import org.github.joa.util.Constants;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class TestAnalysisFacts {
+
+    @Test
+    void testFacts() {
+        String opts = "-Xmx40g -XX:MaxMetaspaceSize=512m -XX:CompressedClassSpaceSize=256m -XX:+UseG1GC";
+        JvmContext context = new JvmContext(opts, 17);
+        JvmOptions jvmOptions = new JvmOptions(context);
+        AnalysisFacts facts = jvmOptions.getFacts();
+        assertEquals(new BigDecimal("40").multiply(Constants.GIGABYTE).longValue(), facts.getHeapMaxSize(),
+                "Heap max size not correct.");
+        assertEquals(new BigDecimal("512").multiply(Constants.MEGABYTE).longValue(), facts.getMaxMetaspaceSize(),
+                "Max metaspace size not correct.");
+        assertEquals(new BigDecimal("256").multiply(Constants.MEGABYTE).longValue(),
+                facts.getCompressedClassSpaceSize(), "Compressed class space size not correct.");
+        assertFalse(facts.isCompressedOops(), "Compressed oops not correct.");
+        assertTrue(facts.isCompressedClassPointers(), "Compressed class pointers not correct.");
+        assertTrue(facts.getGarbageCollectors().contains(GarbageCollector.G1), "Garbage collectors not correct.");
+        assertFalse(facts.usesZgc(), "ZGC not correct.");
+        assertSame(facts, jvmOptions.getFacts(), "Facts recomputed.");
+    }
+
+    @Test
+    void testInvalidated() {
+        String opts = "-XX:MaxRAMPercentage=50";
+        JvmContext context = new JvmContext(opts, 11);
+        BigDecimal tenGigabytes = new BigDecimal("10").multiply(Constants.GIGABYTE);
+        context.setMemory(tenGigabytes.longValue());
+        JvmOptions jvmOptions = new JvmOptions(context);
+        AnalysisFacts facts = jvmOptions.getFacts();
+        assertEquals(tenGigabytes.longValue() / 2, jvmOptions.getHeapMaxSize(), "Heap max size not correct.");
+        context.setMemory(tenGigabytes.longValue() * 2);
+        assertEquals(tenGigabytes.longValue(), jvmOptions.getHeapMaxSize(), "Heap max size not recomputed.");
+        assertNotSame(facts, jvmOptions.getFacts(), "Facts not recomputed.");
+        facts = jvmOptions.getFacts();
+        List<GarbageCollector> garbageCollectors = new ArrayList<GarbageCollector>();
+        garbageCollectors.add(GarbageCollector.ZGC_GENERATIONAL);
+        context.setGarbageCollectors(garbageCollectors);
+        assertFalse(jvmOptions.isCompressedOops(), "Compressed oops not recomputed.");
+        assertNotSame(facts, jvmOptions.getFacts(), "Facts not recomputed.");
+        assertEquals(garbageCollectors, jvmOptions.getFacts().getGarbageCollectors(),
+                "Garbage collectors not correct.");
+    }
+}
@@ -0,0 +1,110 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.github.joa.domain.JvmContext;
+import org.github.joa.util.Analysis;
+import org.github.joa.util.AnalysisSeverity;
+import org.github.joa.util.AnalysisTopic;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class TestAnalysisFilter {
+
+    /**
+     * @param opts
+     *            The JVM options.
+     * @param versionMajor
+     *            The JDK major version.
+     * @param filter
+     *            The analysis filter.
+     */
+    private static void assertFiltered(String opts, int versionMajor, AnalysisFilter filter) {
+        JvmOptions unfiltered = new JvmOptions(new JvmContext(opts, versionMajor));
+        unfiltered.doAnalysis();
+        List<String[]> expected = new ArrayList<String[]>();
+        for (String[] item : unfiltered.getAnalysis()) {
+            if (filter.accepts(Analysis.fromKey(item[0]))) {
+                expected.add(item);
+            }
+        }
+        JvmOptions filtered = new JvmOptions(new JvmContext(opts, versionMajor));
+        filtered.doAnalysis(filter);
+        List<String[]> actual = filtered.getAnalysis();
+        assertEquals(expected.size(), actual.size(), "Filtered analysis size not correct: " + opts);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i)[0], actual.get(i)[0], "Filtered analysis not correct: " + opts);
+            assertEquals(expected.get(i)[1], actual.get(i)[1], "Filtered analysis literal not correct: " + opts);
+        }
+    }
+
+    @Test
+    void testAccepts() {
+        AnalysisFilter filter = new AnalysisFilter(EnumSet.of(AnalysisSeverity.ERROR, AnalysisSeverity.WARN),
+                EnumSet.of(AnalysisTopic.GC));
+        assertTrue(filter.accepts(Analysis.ERROR_CMS_MISSING), "Error gc analysis not accepted.");
+        assertFalse(filter.accepts(Analysis.INFO_CMS_DISABLED), "Info gc analysis accepted.");
+        assertFalse(filter.accepts(Analysis.WARN_JDK8_GC_LOG_FILE_SIZE_SMALL), "Logging analysis accepted.");
+        AnalysisFilter all = new AnalysisFilter(EnumSet.noneOf(AnalysisSeverity.class),
+                EnumSet.noneOf(AnalysisTopic.class));
+        for (Analysis analysis : Analysis.values()) {
+            assertTrue(all.accepts(analysis), analysis + " not accepted.");
+        }
+    }
+
+    @Test
+    void testFilteredAnalysis() {
+        String[] opts = { "-Xms2g -Xmx2g -XX:+UseConcMarkSweepGC -XX:-UseParNewGC -XX:+DisableExplicitGC "
+                + "-XX:+ExplicitGCInvokesConcurrent -XX:+PrintGCDetails -Xloggc:/var/log/gc.log "
+                + "-XX:HeapDumpPath=/var/dump/heap.hprof -Dsun.rmi.dgc.client.gcInterval=14400000",
+                "-Xmx1g -XX:MaxMetaspaceSize=256m -XX:CompressedClassSpaceSize=512m -XX:+UseG1GC",
+                "-XX:+UseConcMarkSweepGC -XX:+CMSIncrementalMode -XX:CMSInitiatingOccupancyFraction=70",
+                "-agentlib:jdwp=transport=dt_socket,server=y,suspend=n,address=8787 -Xss128 -XX:+UseParallelGC" };
+        List<AnalysisFilter> filters = new ArrayList<AnalysisFilter>();
+        filters.add(new AnalysisFilter(EnumSet.of(AnalysisSeverity.ERROR), EnumSet.noneOf(AnalysisTopic.class)));
+        filters.add(new AnalysisFilter(EnumSet.of(AnalysisSeverity.WARN), EnumSet.noneOf(AnalysisTopic.class)));
+        filters.add(new AnalysisFilter(EnumSet.of(AnalysisSeverity.INFO), EnumSet.of(AnalysisTopic.HEAP)));
+        filters.add(new AnalysisFilter(EnumSet.noneOf(AnalysisSeverity.class), EnumSet.of(AnalysisTopic.GC,
+                AnalysisTopic.LOGGING, AnalysisTopic.SECURITY)));
+        for (String opt : opts) {
+            for (AnalysisFilter filter : filters) {
+                assertFiltered(opt, 8, filter);
+                assertFiltered(opt, 17, filter);
+            }
+        }
+    }
+
+    @Test
+    void testRuleSet() {
+        AnalysisFilter filter = new AnalysisFilter(EnumSet.of(AnalysisSeverity.ERROR),
+                EnumSet.of(AnalysisTopic.SECURITY));
+        for (AnalysisRule rule : AnalysisRule.values()) {
+            boolean evaluated = (filter.getRuleSet()[rule.ordinal() >>> 6] & (1L << rule.ordinal())) != 0;
+            assertEquals(rule == AnalysisRule.REMOTE_DEBUGGING || rule == AnalysisRule.TLS_DISABLED_ALGORITHMS,
+                    evaluated, rule + " selection not correct.");
+        }
+    }
+}
@@ -0,0 +1,275 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.github.joa.domain.Bit;
+import org.github.joa.domain.CollectorFamily;
+import org.github.joa.domain.GarbageCollector;
+import org.github.joa.domain.JvmContext;
+import org.github.joa.domain.JvmContextField;
+import org.github.joa.domain.Os;
+import org.github.joa.util.Analysis;
+import org.github.joa.util.AnalysisSeverity;
+import org.github.joa.util.JvmOption;
+import org.github.joa.util.JvmOptionType;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class TestAnalysisRule {
+
+    /**
+     * @param rules
+     *            Rules, a bit per rule ordinal.
+     * @param rule
+     *            A rule.
+     * @return True if the rule is set, false otherwise.
+     */
+    private static boolean contains(long[] rules, AnalysisRule rule) {
+        return (rules[rule.ordinal() >>> 6] & (1L << rule.ordinal())) != 0;
+    }
+
+    @Test
+    void testAnalysis() {
+        String opts = "-Xms2g -Xmx2g -XX:+UseConcMarkSweepGC -XX:-UseParNewGC -XX:+DisableExplicitGC "
+                + "-XX:+ExplicitGCInvokesConcurrent -XX:+PrintGCDetails -Xloggc:/var/log/gc.log "
+                + "-XX:HeapDumpPath=/var/dump/heap.hprof -Dsun.rmi.dgc.client.gcInterval=14400000";
+        JvmContext context = new JvmContext(opts, 8);
+        JvmOptions jvmOptions = new JvmOptions(context);
+        jvmOptions.doAnalysis();
+        assertTrue(jvmOptions.hasAnalysis(Analysis.ERROR_JDK8_CMS_PAR_NEW_DISABLED.getKey()),
+                Analysis.ERROR_JDK8_CMS_PAR_NEW_DISABLED + " analysis not identified.");
+        assertTrue(jvmOptions.hasAnalysis(Analysis.ERROR_EXPLICIT_GC_DISABLED_CONCURRENT.getKey()),
+                Analysis.ERROR_EXPLICIT_GC_DISABLED_CONCURRENT + " analysis not identified.");
+        assertTrue(jvmOptions.hasAnalysis(Analysis.INFO_RMI_DGC_CLIENT_GCINTERVAL_REDUNDANT.getKey()),
+                Analysis.INFO_RMI_DGC_CLIENT_GCINTERVAL_REDUNDANT + " analysis not identified.");
+        assertTrue(jvmOptions.hasAnalysis(Analysis.WARN_HEAP_DUMP_PATH_FILENAME.getKey()),
+                Analysis.WARN_HEAP_DUMP_PATH_FILENAME + " analysis not identified.");
+        assertTrue(jvmOptions.hasAnalysis(Analysis.INFO_HEAP_DUMP_ON_OOME_MISSING.getKey()),
+                Analysis.INFO_HEAP_DUMP_ON_OOME_MISSING + " analysis not identified.");
+        assertFalse(jvmOptions.hasAnalysis(Analysis.INFO_HEAP_MIN_NOT_EQUAL_MAX.getKey()),
+                Analysis.INFO_HEAP_MIN_NOT_EQUAL_MAX + " analysis incorrectly identified.");
+        assertFalse(jvmOptions.hasAnalysis(Analysis.INFO_GC_DEFAULT.getKey()),
+                Analysis.INFO_GC_DEFAULT + " analysis incorrectly identified.");
+    }
+
+    @Test
+    void testBudget() {
+        String opts = "-Xms1g -Xmx2g -XX:+UseParallelGC -XX:+PrintGCDetails -Xss128 -XX:-UseCompressedOops "
+                + "-agentlib:jdwp=transport=dt_socket,server=y,suspend=n,address=8787";
+        JvmOptions complete = new JvmOptions(new JvmContext(opts, 8));
+        complete.doAnalysis();
+        assertTrue(complete.isAnalysisComplete(), "Analysis not complete.");
+        JvmOptions none = new JvmOptions(new JvmContext(opts, 8));
+        assertFalse(none.doAnalysis(0), "Analysis complete.");
+        assertFalse(none.isAnalysisComplete(), "Analysis complete.");
+        assertTrue(none.getAnalysis().isEmpty(), "Analysis found.");
+        EnumSet<JvmOption> present = EnumSet.of(JvmOption.INITIAL_HEAP_SIZE, JvmOption.MAX_HEAP_SIZE,
+                JvmOption.USE_PARALLEL_GC, JvmOption.PRINT_GC_DETAILS, JvmOption.THREAD_STACK_SIZE,
+                JvmOption.USE_COMPRESSED_OOPS, JvmOption.AGENTLIB);
+        long[] rules = AnalysisRule.select(present, AnalysisRule.getRuleSet(8, CollectorFamily.PARALLEL));
+        int errorRules = 0;
+        for (AnalysisRule rule : AnalysisRule.values()) {
+            for (Analysis item : rule.getFindings()) {
+                if (contains(rules, rule) && item.getSeverity() == AnalysisSeverity.ERROR) {
+                    errorRules++;
+                    break;
+                }
+            }
+        }
+        JvmOptions errorFirst = new JvmOptions(new JvmContext(opts, 8));
+        assertFalse(errorFirst.doAnalysis(errorRules), "Analysis complete.");
+        assertTrue(errorFirst.hasAnalysis(Analysis.ERROR_REMOTE_DEBUGGING_ENABLED),
+                Analysis.ERROR_REMOTE_DEBUGGING_ENABLED + " analysis not identified first.");
+        for (Analysis item : errorFirst.getAnalysisSet()) {
+            assertEquals(AnalysisSeverity.ERROR, item.getSeverity(), item + " identified before errors.");
+        }
+        JvmOptions timed = new JvmOptions(new JvmContext(opts, 8));
+        assertTrue(timed.doAnalysis(1, TimeUnit.MINUTES), "Analysis not complete.");
+        assertEquals(new ArrayList<Analysis>(complete.getAnalysisSet()),
+                new ArrayList<Analysis>(timed.getAnalysisSet()), "Budgeted analysis not correct.");
+        AnalysisCost cost = new AnalysisCost();
+        JvmOptions measured = new JvmOptions(new JvmContext(opts, 8));
+        assertTrue(measured.doAnalysis(1, TimeUnit.MINUTES, cost), "Analysis not complete.");
+        assertEquals(1, cost.getSamples(AnalysisRule.REMOTE_DEBUGGING), "Rule cost not measured.");
+        JvmOptions ordered = new JvmOptions(new JvmContext(opts, 8));
+        assertTrue(ordered.doAnalysis(Integer.MAX_VALUE, cost), "Analysis not complete.");
+        assertEquals(new ArrayList<Analysis>(complete.getAnalysisSet()),
+                new ArrayList<Analysis>(ordered.getAnalysisSet()), "Budgeted analysis not correct.");
+        assertEquals(2, cost.getSamples(AnalysisRule.REMOTE_DEBUGGING), "Rule cost not measured.");
+        JvmOptions expired = new JvmOptions(new JvmContext(opts, 8));
+        assertFalse(expired.doAnalysis(-1, TimeUnit.MILLISECONDS), "Analysis complete.");
+    }
+
+    @Test
+    void testFindings() {
+        EnumSet<Analysis> reported = EnumSet.noneOf(Analysis.class);
+        for (AnalysisRule rule : AnalysisRule.values()) {
+            assertFalse(rule.getFindings().isEmpty(), rule + " reports no analysis.");
+            reported.addAll(rule.getFindings());
+        }
+        assertEquals(EnumSet.allOf(Analysis.class), reported, "Analysis not reported by any rule.");
+        assertTrue(AnalysisRule.CMS_INCREMENTAL_MODE.getFindings().contains(Analysis.INFO_CMS_INCREMENTAL_MODE),
+                "Rule finding missing.");
+    }
+
+    @Test
+    void testReadsDeclared() {
+        List<String> tokens = new ArrayList<String>(Arrays.asList("-Xms1g", "-Xms4g", "-Xmx1g", "-Xmx4g", "-Xmx64g",
+                "-Xss128", "-Xss64k", "-Xss4m", "-Xmn512m", "-Xloggc:gc.log", "-Xlog:gc*:file=gc.log:filecount=0",
+                "-Xlog:gc:file=gc.log::filesize=0", "-Xlog:gc*:file=gc%p.log:filesize=1k", "-Xlog:gc:stdout",
+                "-Xlog:gc*,classhisto*=trace:file=a.log", "-Xverify:none", "-Xdebug", "-Xbatch", "-Xcheck:jni",
+                "-Xrs", "-Xnoclassgc", "-Xincgc", "-verbose:class", "-verbose:gc", "-verbose:jni", "-d32", "-d64",
+                "-server", "-client", "-XX:MaxRAMPercentage=80", "-XX:InitialRAMPercentage=100",
+                "-XX:MinRAMPercentage=10", "-XX:MaxRAM=8g", "-XX:NewRatio=1", "-XX:MaxNewSize=2g",
+                "-XX:NewSize=1g", "-XX:ParallelGCThreads=1", "-XX:ConcGCThreads=2", "-XX:CICompilerCount=2",
+                "-XX:ThreadStackSize=1k", "-XX:ThreadPriorityPolicy=1", "-XX:MaxMetaspaceSize=256m",
+                "-XX:MetaspaceSize=128m", "-XX:CompressedClassSpaceSize=512m", "-XX:MaxPermSize=256m",
+                "-XX:PermSize=128m", "-XX:ReservedCodeCacheSize=256m", "-XX:MaxGCPauseMillis=100",
+                "-XX:GCTimeRatio=4", "-XX:MaxTenuringThreshold=0", "-XX:SurvivorRatio=6",
+                "-XX:CMSInitiatingOccupancyFraction=70", "-XX:InitiatingHeapOccupancyPercent=30",
+                "-XX:G1MixedGCLiveThresholdPercent=85", "-XX:G1HeapWastePercent=5", "-XX:G1HeapRegionSize=4m",
+                "-XX:G1SummarizeRSetStatsPeriod=1", "-XX:GCLogFileSize=1k", "-XX:NumberOfGCLogFiles=5",
+                "-XX:RefDiscoveryPolicy=0", "-XX:RefDiscoveryPolicy=1", "-XX:LargePageSizeInBytes=2m",
+                "-XX:GuaranteedSafepointInterval=9000", "-XX:TieredStopAtLevel=1", "-XX:CompileThreshold=1000",
+                "-XX:MinHeapDeltaBytes=1m", "-XX:SoftRefLRUPolicyMSPerMB=0", "-XX:ShenandoahGCMode=generational",
+                "-XX:HeapDumpPath=/var/dump/heap.hprof", "-XX:HeapDumpPath=/var/dump", "-XX:ErrorFile=/tmp/err.log",
+                "-XX:OnOutOfMemoryError=\"kill -9 %p\"", "-XX:OnOutOfMemoryError=/bin/oome.sh",
+                "-XX:NativeMemoryTracking=detail", "-XX:MaxJavaStackTraceDepth=0", "-XX:UseAVX=0",
+                "-XX:StartFlightRecording=duration=60s", "-XX:CompileCommand=exclude,java/lang/Object.wait",
+                "-XX:+UnlockDiagnosticVMOptions", "-XX:+UnlockExperimentalVMOptions", "-XX:+UseG1GC",
+                "-Djdk.tls.disabledAlgorithms=SSLv3", "-Dsun.rmi.dgc.client.gcInterval=100",
+                "-Dsun.rmi.dgc.server.gcInterval=999999999", "-Dcom.sun.management.jmxremote",
+                "-Djava.security.egd=file:/dev/./urandom", "-Dcatalina.base=/path/to/tomcat",
+                "-agentlib:jdwp=transport=dt_socket,server=y,suspend=n,address=8787",
+                "-Xrunjdwp:transport=dt_socket,server=y", "-agentpath:/path/to/agent.so", "-javaagent:agent.jar",
+                "-XX:Undefined", "-XX:+Undefined", "-XX:-Undefined", "-Xbootclasspath/a:/path/to/boot.jar",
+                "-classpath", "/path/to/app.jar", "--add-exports=java.base/sun.nio.ch=ALL-UNNAMED"));
+        for (JvmOption jvmOption : JvmOption.values()) {
+            if (jvmOption.getType() == JvmOptionType.BOOLEAN) {
+                tokens.add(jvmOption.getForm(true));
+                tokens.add(jvmOption.getForm(false));
+            }
+        }
+        int[] versions = { JvmContext.UNKNOWN, 0, 6, 7, 8, 11, 17, 21 };
+        Random random = new Random(0);
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder opts = new StringBuilder();
+            int count = 1 + random.nextInt(40);
+            for (int j = 0; j < count; j++) {
+                opts.append(j == 0 ? "" : " ").append(tokens.get(random.nextInt(tokens.size())));
+            }
+            JvmContext context = new JvmContext(opts.toString(), versions[random.nextInt(versions.length)],
+                    random.nextInt(4) == 0 ? JvmContext.UNKNOWN : random.nextInt(400));
+            context.setOs(Os.values()[random.nextInt(Os.values().length)]);
+            context.setBit(Bit.values()[random.nextInt(Bit.values().length)]);
+            context.setContainer(random.nextBoolean());
+            context.setMemory(random.nextBoolean() ? (1L + random.nextInt(300)) * 1024 * 1024 * 1024 : 0);
+            if (random.nextInt(3) == 0) {
+                context.setGarbageCollectors(Arrays.asList(
+                        GarbageCollector.values()[random.nextInt(GarbageCollector.values().length)]));
+            }
+            AnalysisRecord record = new JvmOptions(context).getRecord();
+            for (AnalysisRule rule : AnalysisRule.values()) {
+                if (record.isRecorded(rule)) {
+                    Set<JvmOption> optionsRead = EnumSet.copyOf(record.getOptionsRead(rule));
+                    optionsRead.removeAll(rule.getOptions());
+                    assertTrue(optionsRead.isEmpty(), rule + " read undeclared options " + optionsRead + ": " + opts);
+                    Set<JvmContextField> contextRead = EnumSet.copyOf(record.getContextRead(rule));
+                    contextRead.removeAll(rule.getContext());
+                    assertTrue(contextRead.isEmpty(),
+                            rule + " read undeclared JVM context fields " + contextRead + ": " + opts);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testRepeatedAnalysis() {
+        String opts = "-Xmx1g -XX:+UseConcMarkSweepGC -XX:+UseParNewGC -Xmx2g";
+        JvmContext context = new JvmContext(opts, 8);
+        JvmOptions jvmOptions = new JvmOptions(context);
+        jvmOptions.doAnalysis();
+        int size = jvmOptions.getAnalysis().size();
+        jvmOptions.doAnalysis();
+        assertEquals(size, jvmOptions.getAnalysis().size(), "Analysis duplicated.");
+    }
+
+    @Test
+    void testRuleSet() {
+        long[] ruleSet = AnalysisRule.getRuleSet(17, CollectorFamily.G1);
+        assertSame(ruleSet, AnalysisRule.getRuleSet(17, CollectorFamily.G1), "Rule set not cached.");
+        assertFalse(contains(ruleSet, AnalysisRule.PRINT_GC_DETAILS), "JDK8 rule applies.");
+        assertFalse(contains(ruleSet, AnalysisRule.GC_LOG_FILE_ROTATION_NOT_ENABLED), "JDK8 rule applies.");
+        assertTrue(contains(ruleSet, AnalysisRule.CMS_OPTIONS_IGNORED), "CMS options rule does not apply.");
+        assertFalse(contains(ruleSet, AnalysisRule.MAX_GC_PAUSE_MILLIS), "G1 pause rule applies.");
+        assertTrue(contains(ruleSet, AnalysisRule.EXPLICIT_GC_NOT_CONCURRENT), "G1 rule does not apply.");
+        assertTrue(contains(ruleSet, AnalysisRule.COMPRESSED_POINTERS), "Rule does not apply.");
+        long[] cmsRuleSet = AnalysisRule.getRuleSet(8, CollectorFamily.CMS);
+        assertTrue(contains(cmsRuleSet, AnalysisRule.PRINT_GC_DETAILS), "JDK8 rule does not apply.");
+        assertFalse(contains(cmsRuleSet, AnalysisRule.CMS_OPTIONS_IGNORED), "CMS options rule applies.");
+        long[] unknownRuleSet = AnalysisRule.getRuleSet(JvmContext.UNKNOWN, CollectorFamily.UNKNOWN);
+        assertTrue(contains(unknownRuleSet, AnalysisRule.G1_SUMMARIZE_RSET_STATS), "Rule does not apply.");
+        assertTrue(contains(unknownRuleSet, AnalysisRule.COMPRESSED_POINTERS), "Rule does not apply.");
+    }
+
+    @Test
+    void testSelect() {
+        EnumSet<JvmOption> present = EnumSet.of(JvmOption.INITIAL_HEAP_SIZE, JvmOption.MAX_HEAP_SIZE,
+                JvmOption.METASPACE_SIZE, JvmOption.MAX_METASPACE_SIZE, JvmOption.USE_G1_GC,
+                JvmOption.MAX_GC_PAUSE_MILLIS, JvmOption.HEAP_DUMP_ON_OUT_OF_MEMORY_ERROR, JvmOption.HEAP_DUMP_PATH,
+                JvmOption.LOG, JvmOption.SYSTEM_PROPERTY, JvmOption.JAVAAGENT, JvmOption.THREAD_STACK_SIZE,
+                JvmOption.USE_STRING_DEDUPLICATION, JvmOption.PARALLEL_GC_THREADS, JvmOption.CI_COMPILER_COUNT,
+                JvmOption.EXIT_ON_OUT_OF_MEMORY_ERROR, JvmOption.PRINT_GC_DETAILS, JvmOption.ALWAYS_PRE_TOUCH,
+                JvmOption.DISABLE_EXPLICIT_GC, JvmOption.CLASSPATH);
+        long[] rules = AnalysisRule.select(present);
+        int selected = 0;
+        for (long word : rules) {
+            selected += Long.bitCount(word);
+        }
+        assertTrue(selected < AnalysisRule.values().length / 2, "Too many rules selected: " + selected + ".");
+        for (AnalysisRule rule : AnalysisRule.values()) {
+            boolean triggered = rule.isAlways();
+            for (JvmOption jvmOption : rule.getOptions()) {
+                triggered = triggered || present.contains(jvmOption);
+            }
+            assertEquals(triggered, contains(rules, rule), rule + " selection not correct.");
+        }
+    }
+
+    @Test
+    void testTriggers() {
+        for (AnalysisRule rule : AnalysisRule.values()) {
+            assertTrue(rule.isAlways() || !rule.getOptions().isEmpty(), rule + " can never be triggered.");
+        }
+        assertTrue(AnalysisRule.HEAP_DUMP_ON_OOME.isAlways(), "Missing option rule not always evaluated.");
+        assertFalse(AnalysisRule.CHECK_JNI.isAlways(), "Option rule always evaluated.");
+    }
+}
@@ -0,0 +1,89 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.github.joa.domain.JvmContext;
+import org.github.joa.domain.JvmContextField;
+import org.github.joa.util.Analysis;
+import org.github.joa.util.JvmOption;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class TestAnalysisTrace {
+
+    @Test
+    void testNotTraced() {
+        JvmOptions jvmOptions = new JvmOptions(new JvmContext("-Xms1g -Xmx2g", 17));
+        jvmOptions.doAnalysis();
+        assertNull(jvmOptions.getTrace(), "Analysis traced.");
+    }
+
+    @Test
+    void testTrace() {
+        String opts = "-Xms1g -Xmx2g -XX:+UseG1GC";
+        JvmContext context = new JvmContext(opts, 17);
+        context.setTrace(true);
+        JvmOptions jvmOptions = new JvmOptions(context);
+        jvmOptions.doAnalysis();
+        JvmOptions untraced = new JvmOptions(new JvmContext(opts, 17));
+        untraced.doAnalysis();
+        assertEquals(untraced.getAnalysisSet(), jvmOptions.getAnalysisSet(), "Traced analysis not correct.");
+        AnalysisTrace trace = jvmOptions.getTrace();
+        assertEquals(AnalysisRule.values().length, trace.getRules().size(), "Rule trace count not correct.");
+        RuleTrace heap = trace.getRule(AnalysisRule.HEAP_MIN_NOT_EQUAL_MAX);
+        assertTrue(heap.isEvaluated(), AnalysisRule.HEAP_MIN_NOT_EQUAL_MAX + " not evaluated.");
+        assertFalse(heap.isReplayed(), AnalysisRule.HEAP_MIN_NOT_EQUAL_MAX + " replayed.");
+        assertTrue(heap.isFired(), AnalysisRule.HEAP_MIN_NOT_EQUAL_MAX + " not fired.");
+        assertTrue(heap.getFindings().contains(Analysis.INFO_HEAP_MIN_NOT_EQUAL_MAX), "Findings not correct.");
+        assertTrue(heap.getOptionsRead().contains(JvmOption.INITIAL_HEAP_SIZE), "Options read not correct.");
+        assertTrue(heap.getOptionsRead().contains(JvmOption.MAX_HEAP_SIZE), "Options read not correct.");
+        assertTrue(heap.getContextRead().contains(JvmContextField.CONTAINER), "JVM context read not correct.");
+        RuleTrace preTouch = trace.getRule(AnalysisRule.ALWAYS_PRE_TOUCH);
+        assertFalse(preTouch.isEvaluated(), AnalysisRule.ALWAYS_PRE_TOUCH + " evaluated.");
+        assertFalse(preTouch.isFired(), AnalysisRule.ALWAYS_PRE_TOUCH + " fired.");
+        assertEquals(0, preTouch.getNanos(), "Rule not evaluated timed.");
+        assertTrue(trace.getRulesEvaluated() > 0, "Rules evaluated not correct.");
+        assertTrue(trace.getNanos() > 0, "Rule time not measured.");
+    }
+
+    @Test
+    void testUpdateAnalysis() {
+        JvmContext context = new JvmContext("-Xms1g -Xmx2g -XX:+UseG1GC", 17);
+        context.setTrace(true);
+        JvmOptions jvmOptions = new JvmOptions(context);
+        jvmOptions.updateAnalysis();
+        context.setContainer(true);
+        int evaluated = jvmOptions.updateAnalysis();
+        AnalysisTrace trace = jvmOptions.getTrace();
+        assertEquals(evaluated, trace.getRulesEvaluated(), "Rules evaluated not correct.");
+        RuleTrace heap = trace.getRule(AnalysisRule.HEAP_MIN_NOT_EQUAL_MAX);
+        assertTrue(heap.isEvaluated(), AnalysisRule.HEAP_MIN_NOT_EQUAL_MAX + " not evaluated.");
+        assertFalse(heap.isFired(), AnalysisRule.HEAP_MIN_NOT_EQUAL_MAX + " fired.");
+        boolean replayed = false;
+        for (RuleTrace rule : trace.getRules()) {
+            replayed = replayed || rule.isReplayed();
+            assertFalse(rule.isEvaluated() && rule.isReplayed(), rule.getRule() + " evaluated and replayed.");
+        }
+        assertTrue(replayed, "No rule replayed.");
+    }
+}
@@ -0,0 +1,146 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.github.joa.domain.JvmContext;
+import org.junit.jupiter.api.Test;
+
+/**
+ * <p>
+ * Check the parse and rule methods are compiled by C2 (tier 4) once hot, so they are not left interpreted or C1
+ * compiled (e.g. by exceeding HotSpot inlining or huge method limits, see {@link TestMethodSize}).
+ * </p>
+ * 
+ * <p>
+ * The test runs the analysis of a 40 option command line in a separate JVM with <code>-XX:+PrintCompilation</code>
+ * and reads the highest tier each method is compiled at. Every rule <code>check</code> method compiled must reach
+ * tier 4 too. Run as an application to print the steady state time of an analysis:
+ * </p>
+ * 
+ * <pre>
+ * java -cp target/classes:target/test-classes org.github.joa.TestJitCompilation 200000
+ * </pre>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ */
+public class TestJitCompilation {
+
+    /**
+     * The command line analyzed.
+     */
+    private static final String OPTIONS = "-server -Xms4g -Xmx4g -Xss512k -XX:MetaspaceSize=256m "
+            + "-XX:MaxMetaspaceSize=512m -XX:+UseG1GC -XX:MaxGCPauseMillis=200 -XX:G1HeapRegionSize=16m "
+            + "-XX:InitiatingHeapOccupancyPercent=45 -XX:ParallelGCThreads=8 -XX:ConcGCThreads=2 "
+            + "-XX:+ParallelRefProcEnabled -XX:+DisableExplicitGC -XX:+HeapDumpOnOutOfMemoryError "
+            + "-XX:HeapDumpPath=/var/log/app -XX:+ExitOnOutOfMemoryError -XX:ErrorFile=/var/log/app/hs_err_%p.log "
+            + "-Xlog:gc*,safepoint:file=/var/log/app/gc.log:time,uptime:filecount=5,filesize=10m "
+            + "-XX:+UnlockDiagnosticVMOptions -XX:+PrintFlagsFinal -XX:-OmitStackTraceInFastThrow "
+            + "-XX:+AlwaysPreTouch -XX:ReservedCodeCacheSize=256m -XX:+UseStringDeduplication "
+            + "-XX:MaxDirectMemorySize=1g -XX:NativeMemoryTracking=summary -XX:+UseCompressedOops "
+            + "-XX:ActiveProcessorCount=4 -XX:+UseContainerSupport -XX:MaxRAMPercentage=75.0 "
+            + "-Djava.net.preferIPv4Stack=true -Dfile.encoding=UTF-8 -Djava.awt.headless=true "
+            + "-Dsun.rmi.dgc.client.gcInterval=3600000 -Dsun.rmi.dgc.server.gcInterval=3600000 "
+            + "-Djava.security.egd=file:/dev/./urandom -XX:+UseLargePages -XX:+UseNUMA -verbose:gc";
+
+    /**
+     * The methods that must reach tier 4.
+     */
+    private static final String[] HOT = { "org.github.joa.AnalysisRule::evaluate",
+            "org.github.joa.JvmOptions::doAnalysis", "org.github.joa.JvmOptions::parse",
+            "org.github.joa.util.JvmOption::find", "org.github.joa.util.JvmOptionTokenizer::tokenize" };
+
+    /**
+     * @param iterations
+     *            The number of analyses.
+     * @return The number of <code>Analysis</code> reported, so the analysis is not optimized away.
+     */
+    private static long analyze(int iterations) {
+        long reported = 0;
+        for (int i = 0; i < iterations; i++) {
+            JvmOptions jvmOptions = new JvmOptions(new JvmContext(OPTIONS, 17));
+            jvmOptions.doAnalysis();
+            reported += jvmOptions.getAnalysis().size();
+        }
+        return reported;
+    }
+
+    /**
+     * Analyze the command line, then print the steady state time of an analysis.
+     * 
+     * @param args
+     *            The number of analyses to warm up with and to time (default 20000).
+     */
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        long reported = analyze(iterations);
+        long start = System.nanoTime();
+        reported += analyze(iterations);
+        long nanos = System.nanoTime() - start;
+        System.out.println("analysis: " + (nanos / iterations / 1000.0) + " us (" + reported + " reported)");
+    }
+
+    @Test
+    void testTier4() throws IOException, InterruptedException {
+        List<String> command = new ArrayList<String>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.add("-XX:+PrintCompilation");
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(TestJitCompilation.class.getName());
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        Map<String, Integer> tiers = new HashMap<String, Integer>();
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(process.getInputStream(), "UTF-8"))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                // e.g. "  1234  567       4       org.github.joa.JvmOptions::parse (1520 bytes)"
+                String[] fields = line.trim().split("\\s+");
+                for (int i = 1; i < fields.length; i++) {
+                    if (fields[i].contains("::") && fields[i - 1].matches("[0-4]") && !line.contains(" % ")) {
+                        Integer tier = tiers.get(fields[i]);
+                        int level = Integer.parseInt(fields[i - 1]);
+                        if (tier == null || level > tier) {
+                            tiers.put(fields[i], level);
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+        assertEquals(0, process.waitFor(), "Analysis failed.");
+        for (String method : HOT) {
+            assertEquals(Integer.valueOf(4), tiers.get(method), method + " not compiled at tier 4.");
+        }
+        int checks = 0;
+        for (Map.Entry<String, Integer> entry : tiers.entrySet()) {
+            if (entry.getKey().startsWith("org.github.joa.AnalysisRule$") && entry.getKey().endsWith("::check")) {
+                assertEquals(Integer.valueOf(4), entry.getValue(), entry.getKey() + " not compiled at tier 4.");
+                checks++;
+            }
+        }
+        assertTrue(checks > 0, "No rule compiled.");
+    }
+}
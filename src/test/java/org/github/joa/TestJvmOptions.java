@@ -16,14 +16,22 @@ package org.github.joa;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.math.BigDecimal;
+import java.util.Arrays;
 
 import org.github.joa.domain.GarbageCollector;
 import org.github.joa.domain.JvmContext;
+import org.github.joa.domain.Os;
+import org.github.joa.util.Analysis;
 import org.github.joa.util.Constants;
+import org.github.joa.util.JvmOptionPrefixCache;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -88,6 +96,28 @@ public class TestJvmOptions {
                 "AllowUserSignalHandlers not correct.");
     }
 
+    @Test
+    void testAnalysisLiteralCached() {
+        String opts = "-Xss128k -Xss256k -XX:-Mike -Xmx2G";
+        JvmContext context = new JvmContext(opts);
+        JvmOptions jvmOptions = new JvmOptions(context);
+        jvmOptions.doAnalysis();
+        String dups = jvmOptions.getAnalysisLiteral(Analysis.WARN_DUPS);
+        assertEquals("Duplicate jvm options: -Xss128k -Xss256k.", dups, Analysis.WARN_DUPS + " not correct.");
+        assertSame(dups, jvmOptions.getAnalysisLiteral(Analysis.WARN_DUPS.getKey()), "Literal not cached.");
+        for (String[] item : jvmOptions.getAnalysis()) {
+            if (item[0].equals(Analysis.WARN_DUPS.getKey())) {
+                assertSame(dups, item[1], "Literal not cached.");
+            }
+        }
+        jvmOptions.removeAnalysis(Analysis.INFO_OPTS_UNDEFINED);
+        assertNull(jvmOptions.getAnalysisLiteral(Analysis.INFO_OPTS_UNDEFINED),
+                Analysis.INFO_OPTS_UNDEFINED + " incorrectly identified.");
+        String rendered = jvmOptions.getAnalysisLiteral(Analysis.WARN_DUPS);
+        assertNotSame(dups, rendered, "Literal not rendered after the analysis changed.");
+        assertEquals(dups, rendered, Analysis.WARN_DUPS + " not correct.");
+    }
+
     @Test
     void testBiasedLockingStartupDelay() {
         String opts = "-Xms1000m -XX:BiasedLockingStartupDelay=500 -Xmx1500m";
@@ -823,6 +853,40 @@ public class TestJvmOptions {
         assertEquals(0, jvmOptions.getUndefined().size(), "Undefined options not correct.");
     }
 
+    @Test
+    void testLazy() {
+        String opts = "-Xms1g -XX:+UseParallelOldGC -Xmx1g -XX:+UseConcMarkSweepGC -Xmx2g -Dfoo=bar -XX:+UseFooGC";
+        JvmContext context = new JvmContext(opts);
+        context.setLazy(true);
+        JvmOptions jvmOptions = new JvmOptions(context);
+        assertEquals(2147483648L, jvmOptions.getHeapMaxSize(), "Last occurrence not used.");
+        assertNull(jvmOptions.getUseParallelOldGc(), "UseParallelOldGC not overridden by CMS.");
+        assertEquals(1, jvmOptions.getSystemProperties().size(), "System properties not correct.");
+        assertEquals(1, jvmOptions.getUndefined().size(), "Undefined options not correct.");
+        assertEquals("-Xmx1g -Xmx2g", jvmOptions.getDuplicates(), "Duplicates not correct.");
+    }
+
+    @Test
+    void testLazyAnalysis() {
+        String opts = "-Xss128k -XX:+UseG1GC -XX:-UseCompressedOops -XX:G1HeapRegionSize=16m -XX:+DisableExplicitGC "
+                + "-Xms2g -Xmx4g -XX:+UnlockDiagnosticVMOptions -XX:+PrintFlagsFinal -Dsun.rmi.dgc.client.gcInterval=1";
+        JvmOptions eager = new JvmOptions(new JvmContext(opts, 17));
+        eager.doAnalysis();
+        JvmContext context = new JvmContext(opts, 17);
+        context.setLazy(true);
+        JvmOptions lazy = new JvmOptions(context);
+        assertEquals(eager.getExpectedGarbageCollectors(), lazy.getExpectedGarbageCollectors(),
+                "Expected garbage collectors not correct.");
+        assertFalse(lazy.isCompressedOops(), "Compressed oops not correct.");
+        lazy.doAnalysis();
+        assertEquals(eager.getAnalysis().size(), lazy.getAnalysis().size(), "Analysis not correct.");
+        for (int i = 0; i < eager.getAnalysis().size(); i++) {
+            assertEquals(eager.getAnalysis().get(i)[0], lazy.getAnalysis().get(i)[0], "Analysis not correct.");
+        }
+        assertEquals(eager.getOptions(), lazy.getOptions(), "Options not correct.");
+        assertEquals(eager.getDiagnostic(), lazy.getDiagnostic(), "Diagnostic options not correct.");
+    }
+
     @Test
     void testLog() {
         String opts = "-Xmx1g -Xlog:gc*:file=/path/to/gc.log:time,uptimemillis:filecount=5,filesize=3M";
@@ -1198,6 +1262,36 @@ public class TestJvmOptions {
                 "ParallelRefProcEnabled not correct.");
     }
 
+    @Test
+    void testParseCache() {
+        String base = "-Xlog:gc*:file=/var/log/gc.log -XX:HeapDumpPath=/var/dump -XX:+UseConcMarkSweepGC -Xmx1g "
+                + "-Dfoo=1";
+        String[] suffixes = { " -Xmx2g -XX:+UseParallelOldGC -Dfoo=2", " -XX:-UseConcMarkSweepGC -XX:+UseParallelOldGC",
+                " -Xms512m -XX:+Bogus", "" };
+        JvmOptionPrefixCache cache = new JvmOptionPrefixCache();
+        for (int i = 0; i < 2; i++) {
+            for (String suffix : suffixes) {
+                JvmOptions jvmOptions = new JvmOptions(new JvmContext(base + suffix), cache);
+                JvmOptions expected = new JvmOptions(new JvmContext(base + suffix));
+                assertEquals(expected.getHeapMaxSize(), jvmOptions.getHeapMaxSize(), "Max heap size not correct.");
+                assertEquals(expected.getUseParallelOldGc(), jvmOptions.getUseParallelOldGc(),
+                        "UseParallelOldGC not correct.");
+                assertEquals(expected.getSystemProperties(), jvmOptions.getSystemProperties(),
+                        "System properties not correct.");
+                assertEquals(expected.getDuplicates(), jvmOptions.getDuplicates(), "Duplicates not correct.");
+                assertEquals(expected.getUndefined(), jvmOptions.getUndefined(), "Undefined not correct.");
+                assertEquals(expected.getExpectedGarbageCollectors(), jvmOptions.getExpectedGarbageCollectors(),
+                        "Garbage collectors not correct.");
+                assertEquals(expected.isOverriding("-Xmx1g", "-Xmx2g"), jvmOptions.isOverriding("-Xmx1g", "-Xmx2g"),
+                        "Overriding not correct.");
+                expected.doAnalysis();
+                jvmOptions.doAnalysis();
+                assertEquals(expected.getAnalysis().size(), jvmOptions.getAnalysis().size(), "Analysis not correct.");
+            }
+        }
+        assertEquals(42, cache.getHits(), "Hits not correct.");
+    }
+
     @Test
     void testPerMethodRecompilationCutoff() {
         String opts = "-Xmx1g -XX:PerMethodRecompilationCutoff=10000 -XX:G1NewSizePercent=1";
@@ -1273,6 +1367,40 @@ public class TestJvmOptions {
         assertEquals(0, jvmOptions.getUndefined().size(), "Undefined options not correct.");
     }
 
+    @Test
+    void testReader() throws IOException {
+        StringBuilder classpath = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            classpath.append("/opt/lib/lib" + i + ".jar:");
+        }
+        String opts = "-Xms1g -XX:+UseG1GC -classpath " + classpath + " -XX:OnOutOfMemoryError=\"kill -9 %p\" -Xmx1g";
+        JvmContext context = new JvmContext(null);
+        context.setMaxOptionLength(64);
+        JvmOptions jvmOptions = new JvmOptions(context, new StringReader(opts));
+        JvmOptions expected = new JvmOptions(new JvmContext(opts));
+        assertTrue(context.getOptions().length() < 200, "Options not compacted.");
+        assertEquals(expected.getHeapInitialSize(), jvmOptions.getHeapInitialSize(), "Initial heap size not correct.");
+        assertEquals(expected.getHeapMaxSize(), jvmOptions.getHeapMaxSize(), "Max heap size not correct.");
+        assertEquals(expected.getOnOutOfMemoryError(), jvmOptions.getOnOutOfMemoryError(),
+                "OnOutOfMemoryError not correct.");
+        assertTrue(jvmOptions.getClasspath().endsWith("[length=" + (11 + classpath.length()) + ",hash="
+                + Integer.toHexString(expected.getClasspath().hashCode()) + "]"), "Classpath not correct.");
+        assertEquals(expected.getExpectedGarbageCollectors(), jvmOptions.getExpectedGarbageCollectors(),
+                "Garbage collectors not correct.");
+        expected.doAnalysis();
+        jvmOptions.doAnalysis();
+        assertEquals(expected.getAnalysis().size(), jvmOptions.getAnalysis().size(), "Analysis not correct.");
+        for (int i = 0; i < expected.getAnalysis().size(); i++) {
+            assertEquals(expected.getAnalysis().get(i)[1], jvmOptions.getAnalysis().get(i)[1], "Analysis not correct.");
+        }
+        JvmOptions chunked = new JvmOptions(new JvmContext(null),
+                Arrays.asList("-Xms1g -XX:+Use", "G1GC -", "Xmx1g"));
+        assertEquals("-Xms1g -XX:+UseG1GC -Xmx1g", chunked.getJvmContext().getOptions(), "Options not correct.");
+        assertEquals("-XX:+UseG1GC", chunked.getUseG1Gc(), "UseG1GC not correct.");
+        JvmOptions whole = new JvmOptions(new JvmContext(null), new StringReader(opts));
+        assertEquals(expected.getClasspath(), whole.getClasspath(), "Classpath truncated by default.");
+    }
+
     @Test
     void testResizePlab() {
         String opts = "-Xms1g -XX:-ResizePLAB -Xmx1g";
@@ -1406,6 +1534,19 @@ public class TestJvmOptions {
         assertEquals(3, jvmOptions.getOptions().size(), "JVM options count not correct.");
     }
 
+    @Test
+    void testSystemPropertiesUpdated() {
+        String opts = "-Xmx1500m -Xms1000m -Dcatalina.base=/path/to/tomcat -Xss512k";
+        JvmContext context = new JvmContext(opts);
+        JvmOptions jvmOptions = new JvmOptions(context);
+        assertSame(jvmOptions.getSystemProperties(), jvmOptions.getSystemProperties(),
+                "System properties list not reused.");
+        jvmOptions.getSystemProperties().add("-Dcom.sun.management.jmxremote");
+        jvmOptions.doAnalysis();
+        assertTrue(jvmOptions.hasAnalysis(Analysis.INFO_JMX_ENABLED.getKey()),
+                Analysis.INFO_JMX_ENABLED + " analysis not identified.");
+    }
+
     @Test
     void testTlabSize() {
         String opts = "-Xms1g -XX:TLABSize=64k -Xmx1g";
@@ -1431,6 +1572,15 @@ public class TestJvmOptions {
                 "TraceClassUnloading not correct.");
     }
 
+    @Test
+    void testUnaccountedDisabledOptions() {
+        String opts = "-XX:-UseLargePagesIndividualAllocation -XX:-UseLargePages -XX:-PrintGCDetails";
+        JvmContext context = new JvmContext(opts);
+        JvmOptions jvmOptions = new JvmOptions(context);
+        assertEquals("-XX:-UseLargePages", jvmOptions.getUnaccountedDisabledOptions(),
+                "Unaccounted disabled options incorrect.");
+    }
+
     @Test
     void testUnknownOptions() {
         String opts = "-Xms1g -XX:+ParallelRefProcEnabled -XX:+UseTLAB -XX:-UseGCOverheadLimit "
@@ -1450,6 +1600,71 @@ public class TestJvmOptions {
                 "UnlockCommercialFeatures not correct.");
     }
 
+    @Test
+    void testUpdateAnalysis() {
+        String opts = "-Xms1g -Xmx2g -XX:+AlwaysPreTouch -XX:MaxRAMPercentage=75.0";
+        JvmContext context = new JvmContext(opts, 11);
+        JvmOptions jvmOptions = new JvmOptions(context);
+        int evaluated = jvmOptions.updateAnalysis();
+        assertTrue(jvmOptions.hasAnalysis(Analysis.INFO_HEAP_MIN_NOT_EQUAL_MAX.getKey()),
+                Analysis.INFO_HEAP_MIN_NOT_EQUAL_MAX + " analysis not identified.");
+        assertFalse(jvmOptions.hasAnalysis(Analysis.WARN_ALWAYS_PRE_TOUCH_CONTAINER.getKey()),
+                Analysis.WARN_ALWAYS_PRE_TOUCH_CONTAINER + " analysis incorrectly identified.");
+        context.setContainer(true);
+        int updated = jvmOptions.updateAnalysis();
+        assertTrue(updated > 0 && updated < evaluated, "Rules evaluated not correct: " + updated);
+        assertFalse(jvmOptions.hasAnalysis(Analysis.INFO_HEAP_MIN_NOT_EQUAL_MAX.getKey()),
+                Analysis.INFO_HEAP_MIN_NOT_EQUAL_MAX + " analysis not removed.");
+        assertTrue(jvmOptions.hasAnalysis(Analysis.WARN_ALWAYS_PRE_TOUCH_CONTAINER.getKey()),
+                Analysis.WARN_ALWAYS_PRE_TOUCH_CONTAINER + " analysis not identified.");
+        context.setOs(Os.LINUX);
+        jvmOptions.updateAnalysis();
+        JvmContext freshContext = new JvmContext(opts, 11);
+        freshContext.setContainer(true);
+        freshContext.setOs(Os.LINUX);
+        JvmOptions fresh = new JvmOptions(freshContext);
+        fresh.doAnalysis();
+        assertEquals(fresh.getAnalysisSet(), jvmOptions.getAnalysisSet(), "Updated analysis not correct.");
+        assertEquals(0, jvmOptions.updateAnalysis(), "Rules evaluated without a change.");
+    }
+
+    @Test
+    void testUpdateAnalysisMemory() {
+        JvmContext context = new JvmContext("-XX:MaxRAMPercentage=75.0", 11);
+        JvmOptions jvmOptions = new JvmOptions(context);
+        jvmOptions.updateAnalysis();
+        assertFalse(jvmOptions.hasAnalysis(Analysis.WARN_MAX_RAM_LIMIT.getKey()),
+                Analysis.WARN_MAX_RAM_LIMIT + " analysis incorrectly identified.");
+        context.setMemory(new BigDecimal("256").multiply(Constants.GIGABYTE).longValue());
+        jvmOptions.updateAnalysis();
+        assertTrue(jvmOptions.hasAnalysis(Analysis.WARN_MAX_RAM_LIMIT.getKey()),
+                Analysis.WARN_MAX_RAM_LIMIT + " analysis not identified.");
+        context.setMemory(new BigDecimal("64").multiply(Constants.GIGABYTE).longValue());
+        jvmOptions.updateAnalysis();
+        assertFalse(jvmOptions.hasAnalysis(Analysis.WARN_MAX_RAM_LIMIT.getKey()),
+                Analysis.WARN_MAX_RAM_LIMIT + " analysis not removed.");
+    }
+
+    @Test
+    void testUpdateAnalysisSharedContext() {
+        JvmContext context = new JvmContext("-Xms1g -Xmx2g -XX:+AlwaysPreTouch", 11);
+        JvmOptions jvmOptions1 = new JvmOptions(context);
+        JvmOptions jvmOptions2 = new JvmOptions(context);
+        jvmOptions1.updateAnalysis();
+        jvmOptions2.updateAnalysis();
+        context.setContainer(true);
+        jvmOptions1.updateAnalysis();
+        jvmOptions2.updateAnalysis();
+        JvmContext freshContext = new JvmContext("-Xms1g -Xmx2g -XX:+AlwaysPreTouch", 11);
+        freshContext.setContainer(true);
+        JvmOptions fresh = new JvmOptions(freshContext);
+        fresh.doAnalysis();
+        assertTrue(fresh.hasAnalysis(Analysis.WARN_ALWAYS_PRE_TOUCH_CONTAINER.getKey()),
+                Analysis.WARN_ALWAYS_PRE_TOUCH_CONTAINER + " analysis not identified.");
+        assertEquals(fresh.getAnalysisSet(), jvmOptions1.getAnalysisSet(), "Updated analysis not correct.");
+        assertEquals(fresh.getAnalysisSet(), jvmOptions2.getAnalysisSet(), "Updated analysis not correct.");
+    }
+
     @Test
     void testUseAvx() {
         String opts = "-Xms1000m -XX:UseAVX=0 -Xmx1500m";
@@ -0,0 +1,98 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.github.joa.domain.JvmContext;
+import org.github.joa.util.Analysis;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class TestJvmOptionsJsonWriter {
+
+    @Test
+    void testEscape() throws IOException {
+        JvmContext context = new JvmContext("-XX:+Mi\\ke\"x -XX:+UseG1GC");
+        JvmOptions jvmOptions = new JvmOptions(context);
+        jvmOptions.doAnalysis();
+        StringBuilder json = new StringBuilder();
+        jvmOptions.writeJson(json);
+        assertTrue(json.toString().startsWith("{\"options\":{\"count\":2,\"undefined\":[\"-XX:+Mi\\\\ke\\\"x\"],"
+                + "\"garbageCollectors\":[\"G1\"],\"heapInitialSize\":null,\"heapMaxSize\":null},\"analysis\":[{"
+                + "\"key\":\"info.opts.undefined\",\"severity\":\"INFO\",\"topic\":\"RUNTIME\","
+                + "\"text\":\"Undefined JVM option(s): -XX:+Mi\\\\ke\\\"x.\"}"), "JSON not escaped: " + json);
+    }
+
+    @Test
+    void testNoOptions() throws IOException {
+        JvmOptions jvmOptions = new JvmOptions(new JvmContext(null));
+        jvmOptions.doAnalysis();
+        StringBuilder json = new StringBuilder();
+        jvmOptions.writeJson(json);
+        assertEquals("{\"options\":{\"count\":0,\"undefined\":[],\"garbageCollectors\":[\"UNKNOWN\"],"
+                + "\"heapInitialSize\":null,\"heapMaxSize\":null},\"analysis\":[]}", json.toString(),
+                "JSON not correct.");
+    }
+
+    @Test
+    void testWriteJson() throws IOException {
+        JvmContext context = new JvmContext("-Xss128k -Xss256k -Xms1g -Xmx2G -XX:+UseG1GC");
+        JvmOptions jvmOptions = new JvmOptions(context);
+        jvmOptions.doAnalysis();
+        StringBuilder json = new StringBuilder();
+        jvmOptions.writeJson(json);
+        StringBuilder expected = new StringBuilder("{\"options\":{\"count\":5,\"undefined\":[],"
+                + "\"garbageCollectors\":[\"G1\"],\"heapInitialSize\":1073741824,\"heapMaxSize\":2147483648},"
+                + "\"analysis\":[");
+        boolean first = true;
+        for (String[] item : jvmOptions.getAnalysis()) {
+            Analysis analysis = Analysis.fromKey(item[0]);
+            expected.append(first ? "" : ",").append("{\"key\":\"").append(item[0]).append("\",\"severity\":\"")
+                    .append(analysis.getSeverity()).append("\",\"topic\":\"").append(analysis.getTopic())
+                    .append("\",\"text\":\"").append(item[1]).append("\"}");
+            first = false;
+        }
+        expected.append("]}");
+        assertTrue(jvmOptions.hasAnalysis(Analysis.WARN_DUPS), Analysis.WARN_DUPS + " analysis not identified.");
+        assertEquals(expected.toString(), json.toString(), "JSON not correct.");
+    }
+
+    @Test
+    void testWriteLine() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        JvmOptionsJsonWriter writer = new JvmOptionsJsonWriter(bytes);
+        StringBuilder expected = new StringBuilder();
+        String[] opts = { "-Xss128k -XX:-Mike -Xmx2G", "-Xms1g -XX:+UseG1GC -Dcaf\u00e9=\u00fc", "-Xss128k -Xss128k" };
+        for (String opt : opts) {
+            JvmOptions jvmOptions = new JvmOptions(new JvmContext(opt));
+            jvmOptions.doAnalysis();
+            writer.writeLine(jvmOptions);
+            jvmOptions.writeJson(expected);
+            expected.append('\n');
+        }
+        writer.flush();
+        assertEquals(expected.toString(), new String(bytes.toByteArray(), StandardCharsets.UTF_8),
+                "NDJSON not correct.");
+    }
+}
@@ -0,0 +1,162 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.github.joa.domain.JvmContext;
+import org.github.joa.util.Analysis;
+import org.github.joa.util.Constants;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class TestJvmOptionsOverlay {
+
+    /**
+     * @param overlay
+     *            The overlay.
+     * @param opts
+     *            The JVM options of the variant.
+     * @param versionMajor
+     *            The JDK major version.
+     * @return The difference between the analysis of the JVM options and the variant.
+     */
+    private static AnalysisDelta assertVariant(JvmOptionsOverlay overlay, String opts, int versionMajor) {
+        AnalysisDelta delta = overlay.doAnalysis();
+        JvmOptions variant = overlay.getJvmOptions();
+        assertEquals(opts, variant.getJvmContext().getOptions(), "Variant options not correct.");
+        JvmOptions fresh = new JvmOptions(new JvmContext(opts, versionMajor));
+        fresh.doAnalysis();
+        List<String[]> expected = fresh.getAnalysis();
+        List<String[]> actual = variant.getAnalysis();
+        assertEquals(expected.size(), actual.size(), "Variant analysis size not correct: " + opts);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i)[0], actual.get(i)[0], "Variant analysis not correct: " + opts);
+            assertEquals(expected.get(i)[1], actual.get(i)[1], "Variant analysis literal not correct: " + opts);
+        }
+        return delta;
+    }
+
+    @Test
+    void testAdd() {
+        JvmOptions jvmOptions = new JvmOptions(new JvmContext("-Xms1g -Xmx1g", 17));
+        jvmOptions.doAnalysis();
+        JvmOptionsOverlay overlay = new JvmOptionsOverlay(jvmOptions).add("-XX:+HeapDumpOnOutOfMemoryError");
+        AnalysisDelta delta = assertVariant(overlay, "-Xms1g -Xmx1g -XX:+HeapDumpOnOutOfMemoryError", 17);
+        assertTrue(delta.getRemoved().contains(Analysis.INFO_HEAP_DUMP_ON_OOME_MISSING),
+                Analysis.INFO_HEAP_DUMP_ON_OOME_MISSING + " not removed.");
+        assertFalse(delta.getAdded().contains(Analysis.INFO_HEAP_DUMP_ON_OOME_MISSING),
+                Analysis.INFO_HEAP_DUMP_ON_OOME_MISSING + " added.");
+        assertEquals("-Xms1g -Xmx1g", jvmOptions.getJvmContext().getOptions(), "JVM options modified.");
+        assertTrue(jvmOptions.hasAnalysis(Analysis.INFO_HEAP_DUMP_ON_OOME_MISSING.getKey()),
+                "JVM options analysis modified.");
+    }
+
+    @Test
+    void testChained() {
+        JvmOptions jvmOptions = new JvmOptions(new JvmContext("-Xss128k -XX:+UseConcMarkSweepGC -Xmx2g", 8));
+        JvmOptionsOverlay overlay = new JvmOptionsOverlay(jvmOptions).replace("-XX:+UseConcMarkSweepGC",
+                "-XX:+UseG1GC");
+        assertVariant(overlay, "-Xss128k -XX:+UseG1GC -Xmx2g", 8);
+        JvmOptionsOverlay chained = new JvmOptionsOverlay(overlay.getJvmOptions()).remove("-Xss128k")
+                .add("-XX:MaxGCPauseMillis=200");
+        assertVariant(chained, "-XX:+UseG1GC -Xmx2g -XX:MaxGCPauseMillis=200", 8);
+    }
+
+    @Test
+    void testEmpty() {
+        JvmOptions jvmOptions = new JvmOptions(new JvmContext(null, 17));
+        assertThrows(IllegalArgumentException.class, () -> new JvmOptionsOverlay(jvmOptions),
+                "Overlay of no JVM options allowed.");
+    }
+
+    @Test
+    void testMemory() {
+        JvmOptions jvmOptions = new JvmOptions(new JvmContext("-XX:+UseG1GC -XX:MaxRAMPercentage=75.0", 11));
+        jvmOptions.doAnalysis();
+        JvmOptionsOverlay overlay = new JvmOptionsOverlay(jvmOptions)
+                .setMemory(256 * Constants.GIGABYTE.longValue());
+        AnalysisDelta delta = overlay.doAnalysis();
+        assertTrue(delta.getAdded().contains(Analysis.WARN_MAX_RAM_LIMIT), Analysis.WARN_MAX_RAM_LIMIT + " not added.");
+        assertTrue(delta.getRulesEvaluated() < AnalysisRule.values().length / 4,
+                "Too many rules evaluated: " + delta.getRulesEvaluated());
+        assertEquals(Long.MIN_VALUE, jvmOptions.getJvmContext().getMemory(), "JVM context modified.");
+    }
+
+    @Test
+    void testModes() {
+        JvmContext jvmContext = new JvmContext("-Xms1g -Xmx1g", 17);
+        jvmContext.setLazy(true);
+        jvmContext.setMaxOptionLength(64);
+        jvmContext.setTrace(true);
+        JvmOptions jvmOptions = new JvmOptions(jvmContext);
+        jvmOptions.doAnalysis();
+        JvmOptionsOverlay overlay = new JvmOptionsOverlay(jvmOptions).add("-XX:+HeapDumpOnOutOfMemoryError");
+        overlay.doAnalysis();
+        JvmContext variant = overlay.getJvmOptions().getJvmContext();
+        assertTrue(variant.isLazy(), "Variant lazy flag not copied.");
+        assertEquals(64, variant.getMaxOptionLength(), "Variant maximum option length not copied.");
+        assertTrue(variant.isTrace(), "Variant trace flag not copied.");
+        assertTrue(overlay.getJvmOptions().getTrace() != null, "Variant analysis not traced.");
+    }
+
+    @Test
+    void testRemove() {
+        JvmOptions jvmOptions = new JvmOptions(new JvmContext("-Xmx1g -XX:+UseParallelGC -XX:-UseParallelOldGC "
+                + "-XX:+DisableExplicitGC -XX:+DisableExplicitGC", 8));
+        jvmOptions.doAnalysis();
+        JvmOptionsOverlay overlay = new JvmOptionsOverlay(jvmOptions).remove("-XX:+DisableExplicitGC");
+        AnalysisDelta delta = assertVariant(overlay, "-Xmx1g -XX:+UseParallelGC -XX:-UseParallelOldGC", 8);
+        assertTrue(delta.getRemoved().contains(Analysis.WARN_EXPLICIT_GC_DISABLED),
+                Analysis.WARN_EXPLICIT_GC_DISABLED + " not removed.");
+        assertTrue(delta.getRemoved().contains(Analysis.WARN_DUPS),
+                Analysis.WARN_DUPS + " not removed.");
+    }
+
+    @Test
+    void testReplace() {
+        JvmOptions jvmOptions = new JvmOptions(new JvmContext("-Xss128k -XX:+UseConcMarkSweepGC -Xmx2g", 8));
+        jvmOptions.doAnalysis();
+        JvmOptionsOverlay overlay = new JvmOptionsOverlay(jvmOptions).replace("-XX:+UseConcMarkSweepGC",
+                "-XX:+UseG1GC");
+        AnalysisDelta delta = assertVariant(overlay, "-Xss128k -XX:+UseG1GC -Xmx2g", 8);
+        List<Analysis> changed = new ArrayList<Analysis>(delta.getAdded());
+        changed.addAll(delta.getRemoved());
+        assertFalse(changed.isEmpty(), "Collector change has no delta.");
+        assertFalse(changed.contains(Analysis.WARN_THREAD_STACK_SIZE_SMALL), "Thread stack size analysis changed.");
+    }
+
+    @Test
+    void testRulesEvaluated() {
+        JvmOptions jvmOptions = new JvmOptions(new JvmContext("-Xms2g -Xmx2g -XX:+UseG1GC "
+                + "-XX:+HeapDumpOnOutOfMemoryError -XX:HeapDumpPath=/var/dump -Xlog:gc*:file=gc.log", 17));
+        jvmOptions.doAnalysis();
+        JvmOptionsOverlay overlay = new JvmOptionsOverlay(jvmOptions).replace("-XX:HeapDumpPath=/var/dump",
+                "-XX:HeapDumpPath=/tmp/dump");
+        AnalysisDelta delta = assertVariant(overlay, "-Xms2g -Xmx2g -XX:+UseG1GC -XX:+HeapDumpOnOutOfMemoryError "
+                + "-XX:HeapDumpPath=/tmp/dump -Xlog:gc*:file=gc.log", 17);
+        assertTrue(delta.getRulesEvaluated() < AnalysisRule.values().length / 2,
+                "Too many rules evaluated: " + delta.getRulesEvaluated());
+    }
+}
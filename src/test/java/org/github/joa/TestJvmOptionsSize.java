@@ -0,0 +1,305 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.github.joa.domain.JvmContext;
+import org.github.joa.util.JvmOption;
+import org.github.joa.util.JvmOptionType;
+import org.junit.jupiter.api.Test;
+
+/**
+ * <p>
+ * Measure the retained size of a <code>JvmOptions</code>: the objects reachable from it and not from its
+ * <code>JvmContext</code> (e.g. the options string), static fields, enum constants or <code>Class</code> objects.
+ * </p>
+ * 
+ * <p>
+ * The size is estimated from the field layout of a 64-bit HotSpot JVM with compressed oops and class pointers (the
+ * default for heaps under 32 GB): a 12 byte object header, a 16 byte array header, 4 byte references, and objects
+ * aligned to 8 bytes. The fields of JDK classes that are not open to reflection (e.g. <code>ArrayList</code> on JDK 9+)
+ * are not followed; the elements of a <code>Collection</code> or <code>Map</code> are followed instead, and its backing
+ * array counted as one reference per element.
+ * </p>
+ * 
+ * <p>
+ * Run as an application to print the sizes:
+ * </p>
+ * 
+ * <pre>
+ * java -cp target/classes:target/test-classes org.github.joa.TestJvmOptionsSize
+ * </pre>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ */
+public class TestJvmOptionsSize {
+
+    /**
+     * Array header size.
+     */
+    private static final int ARRAY_HEADER = 16;
+
+    /**
+     * Object header size.
+     */
+    private static final int OBJECT_HEADER = 12;
+
+    /**
+     * Reference size.
+     */
+    private static final int REFERENCE = 4;
+
+    /**
+     * @param size
+     *            An object size.
+     * @return The size aligned to 8 bytes.
+     */
+    private static long align(long size) {
+        return (size + 7) / 8 * 8;
+    }
+
+    /**
+     * A large command line: the first options of each {@link JvmOptionType} in the option catalog, up to 120 options.
+     * 
+     * @return The JVM options.
+     */
+    static String getLargeOptions() {
+        StringBuilder options = new StringBuilder();
+        int count = 0;
+        for (JvmOption jvmOption : JvmOption.values()) {
+            if (count == 120) {
+                break;
+            }
+            String option = jvmOption.getForm(true) + getValue(jvmOption);
+            if (jvmOption.isRecognized(17) && jvmOption.accepts(option) && JvmOption.find(option) == jvmOption) {
+                if (count > 0) {
+                    options.append(' ');
+                }
+                options.append(option);
+                count++;
+            }
+        }
+        return options.toString();
+    }
+
+    /**
+     * A small command line.
+     * 
+     * @return The JVM options.
+     */
+    static String getSmallOptions() {
+        return "-Xms1g -Xmx1g -XX:+UseG1GC -XX:MaxGCPauseMillis=200 -Xlog:gc*:file=gc.log -Dfoo=bar "
+                + "-XX:+HeapDumpOnOutOfMemoryError";
+    }
+
+    /**
+     * @param jvmOption
+     *            An option.
+     * @return A value of the option type.
+     */
+    private static String getValue(JvmOption jvmOption) {
+        switch (jvmOption.getType()) {
+        case BOOLEAN:
+        case FLAG:
+            return "";
+        case BYTES:
+            return "512m";
+        case ENUM:
+            return jvmOption.getValue(0);
+        case INTEGER:
+        case PERCENT:
+            return "50";
+        case PATH:
+            return "/tmp/joa";
+        case SIGNED_INTEGER:
+            return "-1";
+        case ARGUMENTS:
+        case STRING:
+        default:
+            return "joa";
+        }
+    }
+
+    /**
+     * Print the retained size of <code>JvmOptions</code> for the command lines measured by the test.
+     * 
+     * @param args
+     *            Not used.
+     * @throws IllegalAccessException
+     *             If a field cannot be read.
+     */
+    public static void main(String[] args) throws IllegalAccessException {
+        for (String options : new String[] { getSmallOptions(), getLargeOptions() }) {
+            JvmContext jvmContext = new JvmContext(options, 17);
+            JvmOptions jvmOptions = new JvmOptions(jvmContext);
+            System.out.println(options.split(" ").length + " options: " + retainedSize(jvmOptions, jvmContext)
+                    + " bytes");
+        }
+    }
+
+    /**
+     * @param pending
+     *            The objects to walk.
+     * @param object
+     *            An object to walk, or null.
+     */
+    private static void push(Deque<Object> pending, Object object) {
+        if (object != null) {
+            pending.push(object);
+        }
+    }
+
+    /**
+     * @param root
+     *            The object measured.
+     * @param exclude
+     *            An object whose retained objects are not counted.
+     * @return The estimated size of the objects reachable from the root and not from the excluded object.
+     * @throws IllegalAccessException
+     *             If a field cannot be read.
+     */
+    static long retainedSize(Object root, Object exclude) throws IllegalAccessException {
+        IdentityHashMap<Object, Boolean> seen = new IdentityHashMap<Object, Boolean>();
+        if (exclude != null) {
+            walk(exclude, seen);
+        }
+        return walk(root, seen);
+    }
+
+    /**
+     * @param type
+     *            A field or array component type.
+     * @return The size of the field or array element.
+     */
+    private static int sizeOf(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        } else if (type == byte.class || type == boolean.class) {
+            return 1;
+        } else {
+            return REFERENCE;
+        }
+    }
+
+    /**
+     * @param root
+     *            The object walked.
+     * @param seen
+     *            The objects already counted. The objects walked are added.
+     * @return The estimated size of the objects reachable from the root and not already counted.
+     * @throws IllegalAccessException
+     *             If a field cannot be read.
+     */
+    private static long walk(Object root, IdentityHashMap<Object, Boolean> seen) throws IllegalAccessException {
+        long size = 0;
+        Deque<Object> pending = new ArrayDeque<Object>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Object object = pending.pop();
+            if (seen.put(object, Boolean.TRUE) != null || object instanceof Enum || object instanceof Class) {
+                continue;
+            }
+            Class<?> type = object.getClass();
+            long shallow;
+            if (type.isArray()) {
+                int length = Array.getLength(object);
+                shallow = ARRAY_HEADER + (long) length * sizeOf(type.getComponentType());
+                if (!type.getComponentType().isPrimitive()) {
+                    for (int i = 0; i < length; i++) {
+                        push(pending, Array.get(object, i));
+                    }
+                }
+            } else {
+                shallow = OBJECT_HEADER;
+                boolean opaque = false;
+                for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                    for (Field field : c.getDeclaredFields()) {
+                        if (Modifier.isStatic(field.getModifiers())) {
+                            continue;
+                        }
+                        shallow += sizeOf(field.getType());
+                        if (!field.getType().isPrimitive()) {
+                            try {
+                                field.setAccessible(true);
+                                push(pending, field.get(object));
+                            } catch (RuntimeException e) {
+                                // Not open to reflection
+                                opaque = true;
+                            }
+                        }
+                    }
+                }
+                if (opaque && object instanceof Collection) {
+                    Collection<?> collection = (Collection<?>) object;
+                    size += align(ARRAY_HEADER + (long) collection.size() * REFERENCE);
+                    for (Object element : collection) {
+                        push(pending, element);
+                    }
+                } else if (opaque && object instanceof Map) {
+                    for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                        size += align(OBJECT_HEADER + 4 + 3 * REFERENCE);
+                        push(pending, entry.getKey());
+                        push(pending, entry.getValue());
+                    }
+                }
+            }
+            size += align(shallow);
+        }
+        return size;
+    }
+
+    @Test
+    void testLargeOptions() throws IllegalAccessException {
+        String options = getLargeOptions();
+        JvmContext jvmContext = new JvmContext(options, 17);
+        JvmOptions jvmOptions = new JvmOptions(jvmContext);
+        assertEquals(120, options.split(" ").length, "Option count not correct.");
+        assertEquals(0, jvmOptions.getUndefined().size(), "Undefined options: " + jvmOptions.getUndefined());
+        long size = retainedSize(jvmOptions, jvmContext);
+        assertTrue(size < 8 * 1024, "Retained size of 120 options too large: " + size + " bytes.");
+    }
+
+    @Test
+    void testRetainedSize() throws IllegalAccessException {
+        int[] value = new int[3];
+        assertEquals(ARRAY_HEADER + 16, retainedSize(value, null), "Array size not correct.");
+        String shared = "shared";
+        Object[] pair = { shared, new long[1] };
+        assertEquals(ARRAY_HEADER + 8 + ARRAY_HEADER + 8, retainedSize(pair, shared), "Excluded object counted.");
+    }
+
+    @Test
+    void testSmallOptions() throws IllegalAccessException {
+        JvmContext jvmContext = new JvmContext(getSmallOptions(), 17);
+        JvmOptions jvmOptions = new JvmOptions(jvmContext);
+        long size = retainedSize(jvmOptions, jvmContext);
+        assertTrue(size < 1024, "Retained size of 7 options too large: " + size + " bytes.");
+    }
+}
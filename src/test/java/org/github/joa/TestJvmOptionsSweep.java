@@ -0,0 +1,114 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.github.joa.domain.JvmContext;
+import org.github.joa.util.Analysis;
+import org.github.joa.util.Constants;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class TestJvmOptionsSweep {
+
+    private static final long GIGABYTE = Constants.GIGABYTE.longValue();
+
+    @Test
+    void testHeapSize() {
+        JvmOptions jvmOptions = new JvmOptions(new JvmContext("-XX:+UseZGC -Xmx4g -Xmx8g", 17));
+        JvmOptionsSweep sweep = new JvmOptionsSweep(jvmOptions);
+        List<SweepBoundary> boundaries = sweep.sweep(SweepParameter.MAX_HEAP_SIZE, GIGABYTE, 64 * GIGABYTE,
+                GIGABYTE);
+        SweepBoundary zgc = null;
+        for (SweepBoundary boundary : boundaries) {
+            if (boundary.getRemoved().contains(Analysis.WARN_ZGC_HEAP_32G_LT)) {
+                zgc = boundary;
+            }
+        }
+        assertTrue(zgc != null, Analysis.WARN_ZGC_HEAP_32G_LT + " boundary not found.");
+        assertEquals(SweepParameter.MAX_HEAP_SIZE, zgc.getParameter(), "Parameter not correct.");
+        assertEquals(32 * GIGABYTE + 1, zgc.getValue(), "Boundary not correct.");
+        JvmOptions below = new JvmOptions(new JvmContext("-XX:+UseZGC -Xmx" + (32 * GIGABYTE), 17));
+        below.doAnalysis();
+        assertTrue(below.hasAnalysis(Analysis.WARN_ZGC_HEAP_32G_LT.getKey()),
+                Analysis.WARN_ZGC_HEAP_32G_LT + " analysis not identified below the boundary.");
+        JvmOptions at = new JvmOptions(new JvmContext("-XX:+UseZGC -Xmx" + (32 * GIGABYTE + 1), 17));
+        at.doAnalysis();
+        assertFalse(at.hasAnalysis(Analysis.WARN_ZGC_HEAP_32G_LT.getKey()),
+                Analysis.WARN_ZGC_HEAP_32G_LT + " analysis identified at the boundary.");
+        assertTrue(sweep.getRulesEvaluated() < (long) sweep.getValuesAnalyzed() * AnalysisRule.values().length / 4,
+                "Too many rules evaluated: " + sweep.getRulesEvaluated());
+    }
+
+    @Test
+    void testInvalid() {
+        JvmOptionsSweep sweep = new JvmOptionsSweep(new JvmOptions(new JvmContext("-Xmx1g", 17)));
+        assertThrows(IllegalArgumentException.class, () -> sweep.sweep(SweepParameter.MAX_HEAP_SIZE, 2, 1, 1),
+                "Descending range allowed.");
+        assertThrows(IllegalArgumentException.class, () -> sweep.sweep(SweepParameter.MAX_HEAP_SIZE, 1, 2, 0),
+                "Zero step allowed.");
+    }
+
+    @Test
+    void testMemory() {
+        JvmContext jvmContext = new JvmContext("-XX:MaxRAMPercentage=75.0", 11);
+        JvmOptionsSweep sweep = new JvmOptionsSweep(new JvmOptions(jvmContext));
+        List<SweepBoundary> boundaries = sweep.sweep(SweepParameter.MEMORY, 64 * GIGABYTE, 256 * GIGABYTE,
+                16 * GIGABYTE);
+        assertEquals(1, boundaries.size(), "Boundary count not correct.");
+        assertEquals(128 * GIGABYTE + 1, boundaries.get(0).getValue(), "Boundary not correct.");
+        assertTrue(boundaries.get(0).getAdded().contains(Analysis.WARN_MAX_RAM_LIMIT),
+                Analysis.WARN_MAX_RAM_LIMIT + " not added.");
+        assertEquals(Long.MIN_VALUE, jvmContext.getMemory(), "JVM context modified.");
+    }
+
+    @Test
+    void testOption() {
+        assertEquals("-Xmx4g", SweepParameter.MAX_HEAP_SIZE.getOption(4 * GIGABYTE), "Option not correct.");
+        assertEquals("-Xms1536m", SweepParameter.INITIAL_HEAP_SIZE.getOption(1536L * 1024 * 1024),
+                "Option not correct.");
+        assertEquals("-Xmx1025", SweepParameter.MAX_HEAP_SIZE.getOption(1025), "Option not correct.");
+        assertEquals("-XX:MaxRAMPercentage=75.0", SweepParameter.MAX_RAM_PERCENTAGE.getOption(75),
+                "Option not correct.");
+        assertEquals(null, SweepParameter.MEMORY.getOption(75), "Option not correct.");
+    }
+
+    @Test
+    void testVersionMajor() {
+        JvmOptionsSweep sweep = new JvmOptionsSweep(new JvmOptions(new JvmContext("-XX:+UseBiasedLocking", 8)));
+        List<SweepBoundary> boundaries = sweep.sweep(SweepParameter.VERSION_MAJOR, 8, 21, 1);
+        boolean added = false;
+        boolean removed = false;
+        for (SweepBoundary boundary : boundaries) {
+            if (boundary.getValue() == 17 && boundary.getAdded().contains(Analysis.INFO_BIASED_LOCKING_ENABLED)) {
+                added = true;
+            } else if (boundary.getValue() == 18
+                    && boundary.getRemoved().contains(Analysis.INFO_BIASED_LOCKING_ENABLED)) {
+                removed = true;
+            }
+        }
+        assertTrue(added, Analysis.INFO_BIASED_LOCKING_ENABLED + " not added at 17.");
+        assertTrue(removed, Analysis.INFO_BIASED_LOCKING_ENABLED + " not removed at 18.");
+    }
+}
@@ -0,0 +1,154 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * HotSpot does not JIT compile methods with more than 8000 bytes of bytecode (<code>-XX:+DontCompileHugeMethods</code>),
+ * so they are interpreted forever. Check the size of the code of every method in the compiled classes.
+ */
+public class TestMethodSize {
+
+    /**
+     * HotSpot <code>HugeMethodLimit</code>.
+     */
+    private static final int HUGE_METHOD_LIMIT = 8000;
+
+    /**
+     * @param file
+     *            A class file.
+     * @param huge
+     *            The methods with code larger than {@link #HUGE_METHOD_LIMIT}.
+     * @throws IOException
+     *             if the class file cannot be read.
+     */
+    private static void checkClass(File file, List<String> huge) throws IOException {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            in.readInt();
+            in.readUnsignedShort();
+            in.readUnsignedShort();
+            int count = in.readUnsignedShort();
+            String[] utf8 = new String[count];
+            for (int i = 1; i < count; i++) {
+                int tag = in.readUnsignedByte();
+                switch (tag) {
+                case 1:
+                    utf8[i] = in.readUTF();
+                    break;
+                case 5:
+                case 6:
+                    in.readLong();
+                    i++;
+                    break;
+                case 7:
+                case 8:
+                case 16:
+                case 19:
+                case 20:
+                    in.readUnsignedShort();
+                    break;
+                case 15:
+                    in.readUnsignedByte();
+                    in.readUnsignedShort();
+                    break;
+                default:
+                    in.readInt();
+                }
+            }
+            in.readUnsignedShort();
+            in.readUnsignedShort();
+            in.readUnsignedShort();
+            in.skipBytes(2 * in.readUnsignedShort());
+            int fields = in.readUnsignedShort();
+            for (int i = 0; i < fields; i++) {
+                in.skipBytes(6);
+                skipAttributes(in);
+            }
+            int methods = in.readUnsignedShort();
+            for (int i = 0; i < methods; i++) {
+                in.readUnsignedShort();
+                String name = utf8[in.readUnsignedShort()];
+                in.readUnsignedShort();
+                int attributes = in.readUnsignedShort();
+                for (int j = 0; j < attributes; j++) {
+                    String attribute = utf8[in.readUnsignedShort()];
+                    int length = in.readInt();
+                    if (attribute.equals("Code")) {
+                        in.skipBytes(4);
+                        int codeLength = in.readInt();
+                        // Static initializers run once
+                        if (codeLength > HUGE_METHOD_LIMIT && !name.equals("<clinit>")) {
+                            huge.add(file.getName() + " " + name + " (" + codeLength + " bytes)");
+                        }
+                        in.skipBytes(length - 8);
+                    } else {
+                        in.skipBytes(length);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @param directory
+     *            A directory of class files.
+     * @param huge
+     *            The methods with code larger than {@link #HUGE_METHOD_LIMIT}.
+     * @throws IOException
+     *             if a class file cannot be read.
+     */
+    private static void checkDirectory(File directory, List<String> huge) throws IOException {
+        for (File file : directory.listFiles()) {
+            if (file.isDirectory()) {
+                checkDirectory(file, huge);
+            } else if (file.getName().endsWith(".class")) {
+                checkClass(file, huge);
+            }
+        }
+    }
+
+    /**
+     * @param in
+     *            The class file.
+     * @throws IOException
+     *             if the class file cannot be read.
+     */
+    private static void skipAttributes(DataInputStream in) throws IOException {
+        int attributes = in.readUnsignedShort();
+        for (int i = 0; i < attributes; i++) {
+            in.readUnsignedShort();
+            in.skipBytes(in.readInt());
+        }
+    }
+
+    @Test
+    void testNoHugeMethods() throws IOException, URISyntaxException {
+        File classes = new File(JvmOptions.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        List<String> huge = new ArrayList<String>();
+        checkDirectory(classes, huge);
+        assertTrue(huge.isEmpty(), "Methods not JIT compiled: " + huge);
+    }
+}
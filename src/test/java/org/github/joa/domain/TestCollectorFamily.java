@@ -0,0 +1,70 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class TestCollectorFamily {
+
+    @Test
+    void testCms() {
+        assertEquals(CollectorFamily.CMS, CollectorFamily.of(
+                Arrays.asList(GarbageCollector.PAR_NEW, GarbageCollector.CMS, GarbageCollector.SERIAL_OLD)),
+                "Family not correct.");
+    }
+
+    @Test
+    void testMixed() {
+        assertEquals(CollectorFamily.UNKNOWN, CollectorFamily.of(Arrays.asList(GarbageCollector.G1,
+                GarbageCollector.PARALLEL_SCAVENGE, GarbageCollector.PARALLEL_OLD)), "Family not correct.");
+    }
+
+    @Test
+    void testParallel() {
+        assertEquals(CollectorFamily.PARALLEL,
+                CollectorFamily.of(Arrays.asList(GarbageCollector.PARALLEL_SCAVENGE, GarbageCollector.PARALLEL_OLD)),
+                "Family not correct.");
+    }
+
+    @Test
+    void testSerial() {
+        assertEquals(CollectorFamily.SERIAL,
+                CollectorFamily.of(Arrays.asList(GarbageCollector.PAR_NEW, GarbageCollector.SERIAL_OLD)),
+                "Family not correct.");
+    }
+
+    @Test
+    void testUnknown() {
+        assertEquals(CollectorFamily.UNKNOWN, CollectorFamily.of(new ArrayList<GarbageCollector>()),
+                "Family not correct.");
+        assertEquals(CollectorFamily.UNKNOWN, CollectorFamily.of(Arrays.asList(GarbageCollector.UNKNOWN)),
+                "Family not correct.");
+    }
+
+    @Test
+    void testZgc() {
+        assertEquals(CollectorFamily.ZGC, CollectorFamily.of(Arrays.asList(GarbageCollector.ZGC_GENERATIONAL)),
+                "Family not correct.");
+    }
+}
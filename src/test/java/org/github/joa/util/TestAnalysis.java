@@ -22,7 +22,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.ResourceBundle;
 
 import org.github.joa.JvmOptions;
 import org.github.joa.domain.Bit;
@@ -3142,6 +3144,31 @@ public class TestAnalysis {
                 Analysis.WARN_JDK8_USE_VM_INTERRUPTIBLE_IO + " analysis not identified.");
     }
 
+    @Test
+    void testValues() {
+        for (Analysis analysis : Analysis.values()) {
+            assertEquals(JoaUtil.getPropertyValue(Constants.ANALYSIS_PROPERTY_FILE, analysis.getKey()),
+                    analysis.getValue(), analysis + " value not correct.");
+        }
+        ResourceBundle bundle = ResourceBundle.getBundle("org.github.joa." + Constants.ANALYSIS_PROPERTY_FILE);
+        for (String key : bundle.keySet()) {
+            assertNotNull(Analysis.fromKey(key), "Property without an Analysis: " + key);
+        }
+    }
+
+    @Test
+    void testValuesWithoutPlaceholders() {
+        for (Analysis analysis : Analysis.values()) {
+            assertTrue(AnalysisTemplate.compile(analysis.getValue()).isLiteral(),
+                    analysis + " value has placeholders.");
+        }
+        assertEquals("Undefined JVM option(s):", Analysis.INFO_OPTS_UNDEFINED.getValue(),
+                Analysis.INFO_OPTS_UNDEFINED + " value not correct.");
+        assertEquals("Undefined JVM option(s): -XX:Foo.",
+                Analysis.INFO_OPTS_UNDEFINED.getTemplate().format(Arrays.asList("-XX:Foo")),
+                Analysis.INFO_OPTS_UNDEFINED + " template not correct.");
+    }
+
     @Test
     void testVerboseClass() {
         String opts = "-Xss128k -verbose:class -Xmx2G";
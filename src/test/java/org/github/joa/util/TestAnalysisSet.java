@@ -0,0 +1,85 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class TestAnalysisSet {
+
+    @Test
+    void testBitmap() {
+        AnalysisSet jvm1 = new AnalysisSet(Arrays.asList(Analysis.WARN_VERIFY_NONE, Analysis.INFO_JFR));
+        AnalysisSet jvm2 = new AnalysisSet(Arrays.asList(Analysis.INFO_JFR, Analysis.WARN_VERIFY_NONE));
+        AnalysisSet jvm3 = new AnalysisSet(Arrays.asList(Analysis.ERROR_CMS_MISSING));
+        assertArrayEquals(jvm1.toBitmap(), jvm2.toBitmap(), "Bitmap not correct.");
+        assertEquals(jvm1, jvm2, "Sets not equal.");
+        assertEquals(jvm1.hashCode(), jvm2.hashCode(), "Hash code not correct.");
+        assertTrue(jvm1.containsAll(jvm2), "Set not contained.");
+        assertTrue(jvm1.intersects(jvm2), "Sets do not intersect.");
+        assertFalse(jvm1.intersects(jvm3), "Sets intersect.");
+        assertFalse(jvm1.containsAll(jvm3), "Set contained.");
+        long[] bitmap = jvm1.toBitmap();
+        int ordinal = Analysis.INFO_JFR.ordinal();
+        assertTrue((bitmap[ordinal / 64] & (1L << (ordinal % 64))) != 0, "Bit not set.");
+        assertEquals(2, Long.bitCount(bitmap[0]) + Long.bitCount(bitmap[1]) + Long.bitCount(bitmap[2])
+                + Long.bitCount(bitmap[3]), "Bit count not correct.");
+    }
+
+    @Test
+    void testContainsKey() {
+        AnalysisSet analysis = new AnalysisSet();
+        analysis.add(Analysis.WARN_DUPS);
+        assertTrue(analysis.containsKey("warn.dups"), "Key not found.");
+        assertFalse(analysis.containsKey("info.jfr"), "Key found.");
+        assertFalse(analysis.containsKey("not.a.key"), "Undefined key found.");
+        assertEquals(Analysis.WARN_DUPS, Analysis.fromKey("warn.dups"), "Analysis not correct.");
+    }
+
+    @Test
+    void testInsertionOrder() {
+        AnalysisSet analysis = new AnalysisSet();
+        assertTrue(analysis.add(Analysis.WARN_VERIFY_NONE), "Analysis not added.");
+        assertTrue(analysis.add(Analysis.ERROR_CMS_MISSING), "Analysis not added.");
+        assertTrue(analysis.add(Analysis.INFO_JFR), "Analysis not added.");
+        assertFalse(analysis.add(Analysis.WARN_VERIFY_NONE), "Duplicate analysis added.");
+        assertEquals(Arrays.asList(Analysis.WARN_VERIFY_NONE, Analysis.ERROR_CMS_MISSING, Analysis.INFO_JFR),
+                new ArrayList<Analysis>(analysis), "Order not correct.");
+        assertTrue(analysis.remove(Analysis.ERROR_CMS_MISSING), "Analysis not removed.");
+        assertFalse(analysis.remove(Analysis.ERROR_CMS_MISSING), "Analysis removed twice.");
+        analysis.add(Analysis.ERROR_CMS_MISSING);
+        assertEquals(Arrays.asList(Analysis.WARN_VERIFY_NONE, Analysis.INFO_JFR, Analysis.ERROR_CMS_MISSING),
+                new ArrayList<Analysis>(analysis), "Order not correct after removal.");
+        Iterator<Analysis> iterator = analysis.iterator();
+        iterator.next();
+        iterator.remove();
+        assertEquals(Arrays.asList(Analysis.INFO_JFR, Analysis.ERROR_CMS_MISSING), new ArrayList<Analysis>(analysis),
+                "Order not correct after iterator removal.");
+        assertEquals(Analysis.INFO_JFR, iterator.next(), "Next not correct after iterator removal.");
+        assertEquals(2, analysis.size(), "Size not correct.");
+    }
+}
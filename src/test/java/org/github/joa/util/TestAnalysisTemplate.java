@@ -0,0 +1,92 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class TestAnalysisTemplate {
+
+    @Test
+    void testInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> AnalysisTemplate.compile("Options {0"),
+                "Unclosed placeholder not rejected.");
+        assertThrows(IllegalArgumentException.class, () -> AnalysisTemplate.compile("Options {0,date}."),
+                "Unexpected type not rejected.");
+        assertThrows(IllegalArgumentException.class, () -> AnalysisTemplate.compile("Options {x}."),
+                "Unexpected index not rejected.");
+        assertThrows(IllegalArgumentException.class, () -> AnalysisTemplate.compile("{0} {1}").format("a"),
+                "Missing argument not rejected.");
+    }
+
+    @Test
+    void testList() {
+        AnalysisTemplate template = AnalysisTemplate.compile("Undefined JVM option(s):{0,list}.");
+        assertEquals(1, template.getParameterCount(), "Parameter count not correct.");
+        assertEquals("Undefined JVM option(s): -XX:-Mike -XX:+Mike.",
+                template.format(Arrays.asList("-XX:-Mike", "-XX:+Mike")), "List not correct.");
+        assertEquals("Undefined JVM option(s):.", template.format(Collections.emptyList()), "Empty list not correct.");
+    }
+
+    @Test
+    void testLiteral() {
+        AnalysisTemplate template = AnalysisTemplate.compile("No placeholders.");
+        assertTrue(template.isLiteral(), "Template not literal.");
+        assertEquals(0, template.getParameterCount(), "Parameter count not correct.");
+        assertEquals("No placeholders.", template.format(), "Literal not correct.");
+    }
+
+    @Test
+    void testParameterType() {
+        AnalysisTemplate template = AnalysisTemplate.compile("{0,size} {2} {0,size} {1,list}");
+        assertEquals(3, template.getParameterCount(), "Parameter count not correct.");
+        assertEquals(AnalysisParameterType.SIZE, template.getParameterType(0), "Type not correct.");
+        assertEquals(AnalysisParameterType.LIST, template.getParameterType(1), "Type not correct.");
+        assertEquals(AnalysisParameterType.TEXT, template.getParameterType(2), "Type not correct.");
+        assertThrows(IllegalArgumentException.class, () -> AnalysisTemplate.compile("{0,size} {0,list}"),
+                "Conflicting types not rejected.");
+    }
+
+    @Test
+    void testRenderReused() {
+        AnalysisTemplate template = AnalysisTemplate.compile("Duplicate jvm options: {0}.");
+        assertFalse(template.isLiteral(), "Template literal.");
+        StringBuilder out = new StringBuilder("[");
+        template.render(out, "-Xss128k -Xss256k");
+        template.render(out, (Object) null);
+        assertEquals("[Duplicate jvm options: -Xss128k -Xss256k.Duplicate jvm options: null.", out.toString(),
+                "Rendering not appended.");
+    }
+
+    @Test
+    void testSize() {
+        AnalysisTemplate template = AnalysisTemplate.compile("Metaspace({0,size}) = Class Metadata({1,size}).");
+        assertEquals("Metaspace(unlimited) = Class Metadata(unlimited).", template.format(null, null),
+                "Unlimited not correct.");
+        long[] bytes = { 0, 1, 524287, 524288, 524289, 1048576, 1572864, 2621440, 268435456, -524288, -1572864,
+                -4194304, 3865051136L };
+        for (long b : bytes) {
+            assertEquals("Metaspace(" + JdkUtil.convertSize(b, 'B', 'M') + "M) = Class Metadata(0M).",
+                    template.format(b, 0L), "Size not correct for " + b + " bytes.");
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class TestJvmOption {
+
+    @Test
+    void testAccounted() {
+        assertTrue(JvmOption.USE_PARALLEL_OLD_GC.isAccounted(), "Option not accounted.");
+        assertFalse(JvmOption.USE_LARGE_PAGES.isAccounted(), "Option accounted.");
+    }
+
+    @Test
+    void testBoolean() {
+        assertEquals(JvmOption.USE_G1_GC, JvmOption.find("-XX:+UseG1GC"), "Option not identified.");
+        assertEquals(JvmOption.USE_G1_GC, JvmOption.find("-XX:-UseG1GC"), "Option not identified.");
+        assertNull(JvmOption.find("-XX:UseG1GC"), "Option missing sign identified.");
+        assertNull(JvmOption.find("-XX:+UseG1GC=true"), "Option with value identified.");
+    }
+
+    @Test
+    void testBytes() {
+        assertEquals(JvmOption.MAX_HEAP_SIZE, JvmOption.find("-Xmx2g"), "Option not identified.");
+        assertEquals(JvmOption.MAX_HEAP_SIZE, JvmOption.find("-mx2048M"), "Option not identified.");
+        assertEquals(JvmOption.MAX_HEAP_SIZE, JvmOption.find("-XX:MaxHeapSize=7730102272"), "Option not identified.");
+        assertNull(JvmOption.find("-Xmx2x"), "Option with invalid unit identified.");
+        assertNull(JvmOption.find("-Xmxg"), "Option without size identified.");
+    }
+
+    @Test
+    void testCatalog() {
+        for (JvmOption jvmOption : JvmOption.values()) {
+            for (String form : JvmOptionCatalog.FORMS[jvmOption.ordinal()]) {
+                int[] candidates = JvmOptionCatalog.getCandidates(new JvmOptionToken(JvmOption.getName(form)));
+                assertNotNull(candidates, "Form " + form + " not dispatched.");
+                boolean dispatched = false;
+                for (int i = 0; i < candidates.length; i++) {
+                    dispatched = dispatched || candidates[i] == jvmOption.ordinal();
+                }
+                assertTrue(dispatched, "Form " + form + " not dispatched to " + jvmOption + ".");
+            }
+        }
+        assertNull(JvmOptionCatalog.getCandidates(new JvmOptionToken("UseG1GCX")), "Name dispatched.");
+    }
+
+    @Test
+    void testCategory() {
+        assertEquals(JvmOptionCategory.DIAGNOSTIC, JvmOption.find("-XX:+LogVMOutput").getCategory(),
+                "Category not correct.");
+        assertEquals(JvmOptionCategory.EXPERIMENTAL, JvmOption.find("-XX:G1NewSizePercent=10").getCategory(),
+                "Category not correct.");
+        assertEquals(JvmOptionCategory.PRODUCT, JvmOption.find("-XX:+UseG1GC").getCategory(),
+                "Category not correct.");
+    }
+
+    @Test
+    void testEnum() {
+        assertEquals(JvmOption.VERIFY, JvmOption.find("-Xverify"), "Option not identified.");
+        assertEquals(JvmOption.VERIFY, JvmOption.find("-Xverify:none"), "Option not identified.");
+        assertNull(JvmOption.find("-Xverify:some"), "Option with invalid value identified.");
+        assertEquals(JvmOption.SHENANDOAH_GC_MODE, JvmOption.find("-XX:ShenandoahGCMode=satb"),
+                "Option not identified.");
+        assertNull(JvmOption.find("-XX:ShenandoahGCMode=iu"), "Option with invalid value identified.");
+    }
+
+    @Test
+    void testInteger() {
+        assertEquals(JvmOption.G1_HEAP_WASTE_PERCENT, JvmOption.find("-XX:G1HeapWastePercent=5"),
+                "Option not identified.");
+        assertNull(JvmOption.find("-XX:G1HeapWastePercent=1000"), "Option with too many digits identified.");
+        assertEquals(JvmOption.THREAD_PRIORITY_POLICY, JvmOption.find("-XX:ThreadPriorityPolicy=-1"),
+                "Option not identified.");
+        assertNull(JvmOption.find("-XX:ParallelGCThreads=-1"), "Option with negative value identified.");
+    }
+
+    @Test
+    void testKey() {
+        assertEquals("UseG1GC", JvmOption.USE_G1_GC.getKey(), "Key not correct.");
+        assertNull(JvmOption.ADD_OPENS.getKey(), "Key not correct.");
+    }
+
+    @Test
+    void testName() {
+        assertEquals("UseG1GC", JvmOption.getName("-XX:+UseG1GC"), "Name not correct.");
+        assertEquals("MaxHeapSize", JvmOption.getName("-XX:MaxHeapSize=1g"), "Name not correct.");
+        assertEquals("StartFlightRecording", JvmOption.getName("-XX:StartFlightRecording:filename=recording.jfr"),
+                "Name not correct.");
+        assertEquals("--add-opens", JvmOption.getName("--add-opens=java.base/java.lang=ALL-UNNAMED"),
+                "Name not correct.");
+        assertEquals("-D", JvmOption.getName("-Dcatalina.base=/opt/tomcat"), "Name not correct.");
+        assertEquals("-Xmx", JvmOption.getName("-Xmx1g"), "Name not correct.");
+        assertEquals("-verbose", JvmOption.getName("-verbose:gc"), "Name not correct.");
+        assertNull(JvmOption.getName("foo"), "Name not correct.");
+    }
+
+    @Test
+    void testPercent() {
+        assertEquals(JvmOption.MAX_RAM_PERCENTAGE, JvmOption.find("-XX:MaxRAMPercentage=75.5"),
+                "Option not identified.");
+        assertEquals(JvmOption.MAX_RAM_PERCENTAGE, JvmOption.find("-XX:MaxRAMPercentage=80"), "Option not identified.");
+        assertNull(JvmOption.find("-XX:MaxRAMPercentage=80."), "Option with empty fraction identified.");
+    }
+
+    @Test
+    void testPrefix() {
+        assertEquals(JvmOption.ENABLE_ASSERTIONS, JvmOption.find("-ea"), "Option not identified.");
+        assertEquals(JvmOption.ENABLE_ASSERTIONS, JvmOption.find("-ea:com.example..."), "Option not identified.");
+        assertEquals(JvmOption.ENABLE_ASSERTIONS, JvmOption.find("-enableassertions"), "Option not identified.");
+        assertEquals(JvmOption.BOOTCLASSPATH, JvmOption.find("-Xbootclasspath/p:/path/to/lib.jar"),
+                "Option not identified.");
+        assertEquals(JvmOption.CLASSPATH, JvmOption.find("-classpath /path/to/lib.jar"), "Option not identified.");
+    }
+
+    @Test
+    void testRecognized() {
+        assertTrue(JvmOption.USE_CONC_MARK_SWEEP_GC.isRecognized(13), "Option not recognized.");
+        assertFalse(JvmOption.USE_CONC_MARK_SWEEP_GC.isRecognized(14), "Option recognized.");
+        assertFalse(JvmOption.LOG.isRecognized(8), "Option recognized.");
+        assertTrue(JvmOption.LOG.isRecognized(9), "Option not recognized.");
+        assertTrue(JvmOption.USE_G1_GC.isRecognized(21), "Option not recognized.");
+        assertTrue(JvmOption.MAX_PERM_SIZE.isRecognized(0), "Option not recognized.");
+    }
+
+    @Test
+    void testRepeatable() {
+        assertTrue(JvmOption.SYSTEM_PROPERTY.isRepeatable(), "Option not repeatable.");
+        assertFalse(JvmOption.MAX_HEAP_SIZE.isRepeatable(), "Option repeatable.");
+    }
+
+    @Test
+    void testUndefined() {
+        assertNull(JvmOption.find(""), "Empty option identified.");
+        assertNull(JvmOption.find("-XX:+UseFooGC"), "Unknown option identified.");
+        assertNull(JvmOption.find("-D"), "System property without name identified.");
+    }
+}
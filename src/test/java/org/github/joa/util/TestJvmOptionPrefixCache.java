@@ -0,0 +1,81 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+public class TestJvmOptionPrefixCache {
+
+    private static final String BASE = "-Xlog:gc*:file=/var/log/gc.log -XX:HeapDumpPath=/var/dump "
+            + "-XX:ErrorFile=/var/log/hs_err_%p.log -javaagent:/opt/agent.jar";
+
+    /**
+     * @param cache
+     *            The cache.
+     * @param options
+     *            The JVM options.
+     * @return The options identified with the cache.
+     */
+    private static JvmOptionToken[] identify(JvmOptionPrefixCache cache, String options) {
+        return cache.identify(options, JvmOptionTokenizer.tokenize(options));
+    }
+
+    @Test
+    void testIdentified() {
+        JvmOptionPrefixCache cache = new JvmOptionPrefixCache();
+        identify(cache, BASE + " -Xmx1g");
+        String options = BASE + "  -Xmx2g -Dfoo=bar -XX:+Bogus";
+        JvmOptionToken[] tokens = identify(cache, options);
+        int[] offsets = JvmOptionTokenizer.tokenize(options);
+        for (int i = 0; i < tokens.length; i++) {
+            JvmOptionToken expected = new JvmOptionToken(options, offsets[2 * i], offsets[2 * i + 1]);
+            assertEquals(expected.toString(), tokens[i].toString(), "Option not correct.");
+            assertEquals(expected.getJvmOption(), tokens[i].getJvmOption(), "Option not identified.");
+            assertEquals(expected.getValue(), tokens[i].getValue(), "Value not correct.");
+        }
+        assertEquals(JvmOption.MAX_HEAP_SIZE, tokens[4].getJvmOption(), "Option not identified.");
+        assertEquals(2L * 1024 * 1024 * 1024, tokens[4].getValue(), "Value not correct.");
+        assertNull(tokens[6].getJvmOption(), "Undefined option identified.");
+    }
+
+    @Test
+    void testMaxNodes() {
+        JvmOptionPrefixCache cache = new JvmOptionPrefixCache(3);
+        identify(cache, BASE + " -Xmx1g");
+        assertEquals(3, cache.getSize(), "Size not correct.");
+        identify(cache, BASE + " -Xmx1g");
+        assertEquals(3, cache.getHits(), "Hits not correct.");
+        assertEquals(7, cache.getMisses(), "Misses not correct.");
+    }
+
+    @Test
+    void testSharedPrefix() {
+        JvmOptionPrefixCache cache = new JvmOptionPrefixCache();
+        identify(cache, BASE + " -Xmx1g");
+        assertEquals(0, cache.getHits(), "Hits not correct.");
+        assertEquals(5, cache.getMisses(), "Misses not correct.");
+        identify(cache, BASE + " -Xmx2g -Xss512k");
+        assertEquals(4, cache.getHits(), "Hits not correct.");
+        assertEquals(7, cache.getMisses(), "Misses not correct.");
+        assertEquals(7, cache.getSize(), "Size not correct.");
+        // Only a prefix is shared
+        identify(cache, "-Xmx2g " + BASE);
+        assertEquals(4, cache.getHits(), "Hits not correct.");
+        assertEquals(12, cache.getMisses(), "Misses not correct.");
+    }
+}
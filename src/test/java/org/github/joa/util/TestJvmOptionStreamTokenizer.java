@@ -0,0 +1,153 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TestJvmOptionStreamTokenizer {
+
+    private static final String OPTIONS = "  -Xss128k -XX:+UseG1GC -Dcatalina.base=/opt/tomcat -classpath "
+            + "/opt/lib.jar:/opt/lib2.jar -javaagent:/opt/agent.jar  -verbose:gc -d64 -ea -enableassertions -ms1g "
+            + "-mx1g -server -client -noverify --add-opens=java.base/java.lang=ALL-UNNAMED "
+            + "-XX:OnOutOfMemoryError=\"kill -9 %p; -Xshare:dump\" -agentlib:jdwp=transport=dt_socket "
+            + "-agentpath:/opt/lib.so -Xbootclasspath/a:/opt/boot.jar -d32 -XX:OnError=foo -e -m -a  ";
+
+    /**
+     * @param options
+     *            The JVM options.
+     * @param chunkSize
+     *            The size of the chunks the options are streamed in.
+     * @param maxOptionLength
+     *            The maximum option length.
+     * @return The options split by {@link JvmOptionStreamTokenizer}.
+     */
+    private static List<String> stream(String options, int chunkSize, int maxOptionLength) {
+        JvmOptionStreamTokenizer tokenizer = new JvmOptionStreamTokenizer(maxOptionLength);
+        for (int i = 0; i < options.length(); i += chunkSize) {
+            tokenizer.append(options.substring(i, Math.min(i + chunkSize, options.length())));
+        }
+        return toList(tokenizer);
+    }
+
+    /**
+     * @param options
+     *            The JVM options.
+     * @return The options split by {@link JvmOptionTokenizer#tokenize(CharSequence)}.
+     */
+    private static List<String> tokenize(String options) {
+        int[] tokens = JvmOptionTokenizer.tokenize(options);
+        List<String> list = new ArrayList<String>();
+        for (int i = 0; i < tokens.length; i += 2) {
+            list.add(options.substring(tokens[i], tokens[i + 1]));
+        }
+        return list;
+    }
+
+    /**
+     * @param tokenizer
+     *            The tokenizer.
+     * @return The options collected by the tokenizer.
+     */
+    private static List<String> toList(JvmOptionStreamTokenizer tokenizer) {
+        String options = tokenizer.getOptions();
+        int[] tokens = tokenizer.getTokens();
+        List<String> list = new ArrayList<String>();
+        for (int i = 0; i < tokens.length; i += 2) {
+            list.add(options.substring(tokens[i], tokens[i + 1]));
+        }
+        return list;
+    }
+
+    @Test
+    void testAppendAfterFinish() {
+        JvmOptionStreamTokenizer tokenizer = new JvmOptionStreamTokenizer(0);
+        tokenizer.append("-Xmx1g");
+        tokenizer.getOptions();
+        assertThrows(IllegalStateException.class, () -> tokenizer.append(" -Xms1g"), "Append not rejected.");
+    }
+
+    @Test
+    void testChunks() {
+        for (int chunkSize = 1; chunkSize <= OPTIONS.length(); chunkSize++) {
+            assertEquals(tokenize(OPTIONS), stream(OPTIONS, chunkSize, 0),
+                    "Options not correct with chunk size " + chunkSize + ".");
+        }
+    }
+
+    @Test
+    void testCompacted() {
+        JvmOptionStreamTokenizer tokenizer = new JvmOptionStreamTokenizer(0);
+        tokenizer.append(" -Xms1g   -Xmx1g ");
+        assertEquals("-Xms1g -Xmx1g", tokenizer.getOptions(), "Options not correct.");
+        assertEquals("[0, 6, 7, 13]", Arrays.toString(tokenizer.getTokens()), "Tokens not correct.");
+    }
+
+    @Test
+    void testEmpty() {
+        assertEquals(Arrays.asList(""), stream("", 1, 0), "Options not correct.");
+        assertEquals(Arrays.asList(""), stream("   ", 1, 0), "Options not correct.");
+    }
+
+    @Test
+    void testMaxOptionLength() {
+        String options = "-Xms1g -Dfoo=0123456789 -Xmx1g";
+        assertEquals(tokenize(options), stream(options, 3, 16), "Options not correct.");
+        assertEquals(Arrays.asList("-Xms1g", "-Dfoo=0123...[length=16,hash=" + Integer.toHexString(
+                "-Dfoo=0123456789".hashCode()) + "]", "-Xmx1g"), stream(options, 3, 10), "Options not correct.");
+    }
+
+    @Test
+    void testQuoteNotClosed() {
+        String options = "-Xms1g -XX:OnOutOfMemoryError=\"kill -9 %p -Xmx1g -Xss512k";
+        for (int chunkSize = 1; chunkSize <= options.length(); chunkSize++) {
+            assertEquals(tokenize(options), stream(options, chunkSize, 0),
+                    "Options not correct with chunk size " + chunkSize + ".");
+        }
+        assertEquals(Arrays.asList("-Xms1g", "-XX:OnOutOfMemoryError=\"kill -9 %p", "-Xmx1g", "-Xss512k"),
+                stream(options, 5, 0), "Options not correct.");
+    }
+
+    @Test
+    void testQuoteTooLong() {
+        String options = "-Xms1g -XX:OnError=\"kill -9 %p -Xmx1g";
+        assertEquals(Arrays.asList("-Xms1g", "-XX:OnError=\"kil...[length=30,hash="
+                + Integer.toHexString("-XX:OnError=\"kill -9 %p -Xmx1g".hashCode()) + "]"), stream(options, 4, 16),
+                "Options not correct.");
+    }
+
+    @Test
+    void testReader() throws IOException {
+        StringBuilder classpath = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            classpath.append("/opt/lib/lib" + i + ".jar:");
+        }
+        String options = "-Xms1g -classpath " + classpath + " -Xmx1g";
+        JvmOptionStreamTokenizer tokenizer = new JvmOptionStreamTokenizer(16);
+        tokenizer.read(new StringReader(options));
+        String truncated = "-classpath /opt/...[length=" + (11 + classpath.length()) + ",hash="
+                + Integer.toHexString(("-classpath " + classpath).hashCode()) + "]";
+        assertEquals("-Xms1g " + truncated + " -Xmx1g", tokenizer.getOptions(), "Options not correct.");
+        assertEquals(Arrays.asList("-Xms1g", truncated, "-Xmx1g"), toList(tokenizer), "Options not correct.");
+    }
+}
@@ -0,0 +1,104 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TestJvmOptionToken {
+
+    @Test
+    void testCharSequence() {
+        String options = "-Xms1g -XX:+UseG1GC -Xmx1g";
+        JvmOptionToken token = new JvmOptionToken(options, 7, 19);
+        assertEquals(12, token.length(), "Length not correct.");
+        assertEquals('+', token.charAt(4), "Character not correct.");
+        assertEquals("UseG1GC", token.subSequence(5, 12).toString(), "Subsequence not correct.");
+        assertEquals(JvmOption.USE_G1_GC, token.getJvmOption(), "Option not identified.");
+        assertTrue(token.startsWith("-XX:+"), "Prefix not matched.");
+        assertTrue(token.contains("G1"), "Characters not found.");
+        assertFalse(token.contains("Xmx"), "Characters outside the token found.");
+    }
+
+    @Test
+    void testDecode() {
+        assertEquals(2147483648L, JvmOptionToken.getBytes(new JvmOptionToken("-Xmx2g")), "Bytes not correct.");
+        assertEquals(75500000L, JvmOptionToken.getPercent(new JvmOptionToken("-XX:MaxRAMPercentage=75.5")),
+                "Percent not correct.");
+        assertEquals(-1L, new JvmOptionToken("-XX:ThreadPriorityPolicy=-1").getValue(), "Signed value not correct.");
+        assertEquals(Constants.UNKNOWN,
+                JvmOptionToken.getInteger(new JvmOptionToken("-XX:ParallelGCThreads=99999999999999999999")),
+                "Overflow not handled.");
+        assertEquals(Constants.UNKNOWN, JvmOptionToken.getBytes(null), "Null token not handled.");
+        JvmOptionToken mode = new JvmOptionToken("-XX:ShenandoahGCMode=satb");
+        assertEquals(1L, mode.getValue(), "Enum index not correct.");
+        assertEquals("satb", mode.getEnumValue(), "Enum value not correct.");
+    }
+
+    @Test
+    void testEnabled() {
+        assertTrue(JvmOptionToken.isEnabled(new JvmOptionToken("-XX:+UseG1GC")), "Option not enabled.");
+        assertTrue(JvmOptionToken.isDisabled(new JvmOptionToken("-XX:-UseG1GC")), "Option not disabled.");
+        assertFalse(JvmOptionToken.isEnabled(null), "Missing option enabled.");
+        assertFalse(JvmOptionToken.isDisabled(null), "Missing option disabled.");
+    }
+
+    @Test
+    void testEquals() {
+        JvmOptionToken token = new JvmOptionToken("-Xss256k -XX:+UseG1GC", 9, 21);
+        JvmOptionToken other = new JvmOptionToken("-XX:+UseG1GC");
+        assertEquals(other, token, "Tokens with the same characters not equal.");
+        assertEquals("-XX:+UseG1GC".hashCode(), token.hashCode(), "Hash code not String compatible.");
+        assertTrue(token.contentEquals("-XX:+UseG1GC"), "Content not equal.");
+    }
+
+    @Test
+    void testToString() {
+        String options = "-Xms1g -Xmx1g";
+        JvmOptionToken token = new JvmOptionToken(options, 7, 13);
+        assertEquals("-Xmx1g", token.toString(), "String not correct.");
+        assertSame(token.toString(), token.toString(), "String not cached.");
+        assertSame(options, new JvmOptionToken(options).toString(), "Whole string copied.");
+        assertNull(JvmOptionToken.toString(null), "Null token not handled.");
+    }
+
+    @Test
+    void testToStrings() {
+        List<JvmOptionToken> tokens = new ArrayList<JvmOptionToken>();
+        tokens.add(new JvmOptionToken("-Dfoo=bar"));
+        ArrayList<String> strings = JvmOptionToken.toStrings(tokens);
+        assertEquals("-Dfoo=bar", strings.get(0), "String not correct.");
+        assertTrue(JvmOptionToken.contentEquals(tokens, strings), "Content not equal.");
+        strings.add("-Dbaz=qux");
+        assertEquals(1, tokens.size(), "Add written through.");
+        assertFalse(JvmOptionToken.contentEquals(tokens, strings), "Content equal.");
+        tokens.add(new JvmOptionToken("-Dbaz=qux"));
+        assertTrue(JvmOptionToken.contentEquals(tokens, strings), "Content not equal.");
+        assertEquals(1, JvmOptionToken.indexOf(tokens, "-Dbaz=qux"), "Index not correct.");
+    }
+
+    @Test
+    void testUndefined() {
+        assertNull(new JvmOptionToken("-XX:+UseFooGC").getJvmOption(), "Undefined option identified.");
+    }
+}
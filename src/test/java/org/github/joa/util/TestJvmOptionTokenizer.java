@@ -0,0 +1,93 @@
+/**********************************************************************************************************************
+ * JVM Options Analyzer                                                                                               *
+ *                                                                                                                    *
+ * Copyright (c) 2022-2025 Mike Millson                                                                                    *
+ *                                                                                                                    *
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       *
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.joa.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TestJvmOptionTokenizer {
+
+    /**
+     * @param options
+     *            The JVM options.
+     * @return The options split by {@link JvmOptionTokenizer#tokenize(CharSequence)}.
+     */
+    private static List<String> tokenize(String options) {
+        int[] tokens = JvmOptionTokenizer.tokenize(options);
+        List<String> list = new ArrayList<String>();
+        for (int i = 0; i < tokens.length; i += 2) {
+            list.add(options.substring(tokens[i], tokens[i + 1]));
+        }
+        return list;
+    }
+
+    /**
+     * @param options
+     *            The JVM options.
+     * @return The options split by {@link JdkRegEx#JVM_OPTIONS}.
+     */
+    private static List<String> split(String options) {
+        List<String> list = new ArrayList<String>();
+        for (String option : options.split(JdkRegEx.JVM_OPTIONS)) {
+            list.add(option.trim());
+        }
+        return list;
+    }
+
+    @Test
+    void testEmpty() {
+        assertEquals(Arrays.asList(""), tokenize(""), "Options not correct.");
+        assertEquals(Arrays.asList(""), tokenize("   "), "Options not correct.");
+    }
+
+    @Test
+    void testLeadingSpace() {
+        String options = " -Xms1g -Xmx1g";
+        assertEquals(split(options), tokenize(options), "Options not correct.");
+    }
+
+    @Test
+    void testMatchesRegEx() {
+        String options = "-Xss128k -XX:+UseG1GC -Dcatalina.base=/opt/tomcat -classpath /opt/lib.jar:/opt/lib2.jar "
+                + "-javaagent:/opt/agent.jar  -verbose:gc -d64 -ea -enableassertions -ms1g -mx1g -server -client "
+                + "-noverify --add-opens=java.base/java.lang=ALL-UNNAMED -agentlib:jdwp=transport=dt_socket "
+                + "-agentpath:/opt/lib.so -Xbootclasspath/a:/opt/boot.jar -d32 -XX:OnError=foo -e -m -a";
+        assertEquals(split(options), tokenize(options), "Options not correct.");
+        assertEquals(20, tokenize(options).size(), "Number of options not correct.");
+    }
+
+    @Test
+    void testNoBoundaryWithoutSpace() {
+        assertEquals(Arrays.asList("-Dfoo=bar-Xmx1g"), tokenize("-Dfoo=bar-Xmx1g"), "Options not correct.");
+    }
+
+    @Test
+    void testQuoted() {
+        String options = "-Xms1g -XX:OnOutOfMemoryError=\"kill -9 %p; -Xshare:dump\" -Xmx1g";
+        assertEquals(Arrays.asList("-Xms1g", "-XX:OnOutOfMemoryError=\"kill -9 %p; -Xshare:dump\"", "-Xmx1g"),
+                tokenize(options), "Options not correct.");
+    }
+
+    @Test
+    void testQuoteNotClosed() {
+        String options = "-Xms1g -XX:OnOutOfMemoryError=\"kill -9 %p -Xmx1g";
+        assertEquals(split(options), tokenize(options), "Options not correct.");
+    }
+}